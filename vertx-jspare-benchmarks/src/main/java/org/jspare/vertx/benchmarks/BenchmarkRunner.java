@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, reporting the throughput together with the allocation rate and the
+ * bytes allocated per operation (<code>gc.alloc.rate.norm</code>) of each benchmark.
+ *
+ * <p>The arguments are regular expressions selecting the benchmarks, all of them are run when none is given:</p>
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar org.jspare.vertx.benchmarks.BenchmarkRunner RouterDispatch JsonBenchmark
+ * </pre>
+ *
+ * <p>The JMH command line of the shaded jar stays available for any other option, use <code>-prof gc</code> to
+ * get the same report.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+  }
+
+  /**
+   * The main method.
+   *
+   * @param args the benchmark patterns
+   * @throws RunnerException the runner exception
+   */
+  public static void main(String[] args) throws RunnerException {
+
+    ChainedOptionsBuilder options = new OptionsBuilder().addProfiler(GCProfiler.class);
+    if (args.length == 0) {
+
+      options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+    }
+    for (String pattern : args) {
+
+      options.include(pattern);
+    }
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks.builder;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.builder.EventBusData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivery of one message to the consumer handler created by {@link EventBusData#wrap()}, for consumers with and
+ * without the message argument.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusDataBenchmark {
+
+  private Consumers consumers;
+  private Message<JsonObject> message;
+  private Handler<Message<JsonObject>> withMessage;
+  private Handler<Message<JsonObject>> withoutMessage;
+  private Method reflective;
+
+  @Setup
+  public void setup() throws NoSuchMethodException {
+
+    consumers = new Consumers();
+    message = new StubMessage(new JsonObject().put("id", 42));
+
+    reflective = Consumers.class.getDeclaredMethod("onMessage", Message.class);
+    withMessage = new EventBusData(consumers, reflective, "benchmark.address").wrap();
+    withoutMessage = new EventBusData(consumers, Consumers.class.getDeclaredMethod("onSignal"), "benchmark.signal").wrap();
+  }
+
+  @Benchmark
+  public int wrapWithMessage() {
+
+    withMessage.handle(message);
+    return consumers.received;
+  }
+
+  @Benchmark
+  public int wrapWithoutMessage() {
+
+    withoutMessage.handle(message);
+    return consumers.received;
+  }
+
+  @Benchmark
+  public int reflection() throws Exception {
+
+    reflective.invoke(consumers, message);
+    return consumers.received;
+  }
+
+  /**
+   * Message delivered to the consumers, a plain class so its calls allocate nothing.
+   */
+  private static class StubMessage implements Message<JsonObject> {
+
+    private final JsonObject body;
+    private final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+
+    StubMessage(JsonObject body) {
+      this.body = body;
+    }
+
+    @Override
+    public String address() {
+      return "benchmark.address";
+    }
+
+    @Override
+    public MultiMap headers() {
+      return headers;
+    }
+
+    @Override
+    public JsonObject body() {
+      return body;
+    }
+
+    @Override
+    public String replyAddress() {
+      return null;
+    }
+
+    @Override
+    public boolean isSend() {
+      return false;
+    }
+
+    @Override
+    public void reply(Object message) {
+    }
+
+    @Override
+    public <R> void reply(Object message, Handler<AsyncResult<Message<R>>> replyHandler) {
+    }
+
+    @Override
+    public void reply(Object message, DeliveryOptions options) {
+    }
+
+    @Override
+    public <R> void reply(Object message, DeliveryOptions options, Handler<AsyncResult<Message<R>>> replyHandler) {
+    }
+
+    @Override
+    public void fail(int failureCode, String message) {
+    }
+  }
+
+  /**
+   * Consumers used as delivery target.
+   */
+  public static class Consumers {
+
+    private int received;
+
+    public void onMessage(Message<JsonObject> message) {
+      received += message.body().size();
+    }
+
+    public void onSignal() {
+      received++;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks.builder;
+
+import org.jspare.vertx.builder.MethodInvoker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective {@link Method#invoke(Object, Object...)} path used before with the
+ * {@link MethodInvoker}s linked by the builders, for public (generated class) and non public
+ * (method handle) handler methods.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodInvokerBenchmark {
+
+  private Route route;
+  private Method method;
+  private MethodInvoker invoker;
+  private MethodInvoker handleInvoker;
+  private Object[] args;
+
+  @Setup
+  public void setup() throws NoSuchMethodException {
+
+    route = new Route();
+    method = Route.class.getDeclaredMethod("handle", String.class, Integer.class, long.class);
+    method.setAccessible(true);
+    invoker = MethodInvoker.of(method);
+    handleInvoker = MethodInvoker.of(Route.class.getDeclaredMethod("hidden", String.class, Integer.class, long.class));
+    args = new Object[]{"name", 42, 7L};
+  }
+
+  @Benchmark
+  public Object reflection() throws Exception {
+
+    return method.invoke(route, args);
+  }
+
+  @Benchmark
+  public Object methodInvoker() throws Throwable {
+
+    return invoker.invoke(route, args);
+  }
+
+  @Benchmark
+  public Object methodHandleInvoker() throws Throwable {
+
+    return handleInvoker.invoke(route, args);
+  }
+
+  @Benchmark
+  public Object direct() {
+
+    return route.handle((String) args[0], (Integer) args[1], (Long) args[2]);
+  }
+
+  /**
+   * Handler used as invocation target.
+   */
+  public static class Route {
+
+    private int counter;
+
+    public Object handle(String name, Integer id, long version) {
+      counter++;
+      return counter + id + version > 0 ? name : null;
+    }
+
+    Object hidden(String name, Integer id, long version) {
+      return handle(name, id, version);
+    }
+  }
+}
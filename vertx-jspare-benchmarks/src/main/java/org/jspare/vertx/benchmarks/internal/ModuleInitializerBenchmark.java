@@ -0,0 +1,159 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks.internal;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.Setter;
+import org.jspare.core.Environment;
+import org.jspare.vertx.AbstractModule;
+import org.jspare.vertx.Modularized;
+import org.jspare.vertx.annotation.Module;
+import org.jspare.vertx.annotation.Modules;
+import org.jspare.vertx.cdi.EnvironmentLoader;
+import org.jspare.vertx.internal.ModuleInitializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup of one modularized instance by the {@link ModuleInitializer}, with N non persistent modules loaded
+ * on every operation.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModuleInitializerBenchmark {
+
+  @Param({ "1", "4", "16" })
+  private int modules;
+
+  private Vertx vertx;
+  private ModuleInitializer initializer;
+  private Modularized modularized;
+
+  @Setup
+  public void setup() {
+
+    EnvironmentLoader.setup();
+    vertx = Vertx.vertx();
+    EnvironmentLoader.bindInterfaces(vertx);
+    initializer = Environment.my(ModuleInitializer.class);
+
+    switch (modules) {
+      case 1:
+        modularized = new OneModule();
+        break;
+      case 4:
+        modularized = new FourModules();
+        break;
+      case 16:
+        modularized = new SixteenModules();
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported number of modules: " + modules);
+    }
+    modularized.setConfig(new JsonObject().put("benchmark", true));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+
+    vertx.close();
+  }
+
+  @Benchmark
+  public Future<Void> initialize() {
+
+    Future<Void> future = initializer.initialize(modularized);
+    if (future.failed() || !future.isComplete()) {
+
+      throw new IllegalStateException("Modules not initialized", future.cause());
+    }
+    return future;
+  }
+
+  /**
+   * Module without work, measures only the framework.
+   */
+  public static class NoopModule extends AbstractModule {
+  }
+
+  /**
+   * Base of modularized fixtures.
+   */
+  public abstract static class Fixture implements Modularized {
+
+    @Getter
+    private Vertx vertx;
+
+    @Getter
+    @Setter
+    private JsonObject config = new JsonObject();
+  }
+
+  /**
+   * One module.
+   */
+  @Modules({ @Module(value = NoopModule.class, persistent = false) })
+  public static class OneModule extends Fixture {
+  }
+
+  /**
+   * Four modules.
+   */
+  @Modules({
+    @Module(value = NoopModule.class, persistent = false), @Module(value = NoopModule.class, persistent = false),
+    @Module(value = NoopModule.class, persistent = false), @Module(value = NoopModule.class, persistent = false)
+  })
+  public static class FourModules extends Fixture {
+  }
+
+  /**
+   * Sixteen modules.
+   */
+  @Modules({
+    @Module(value = NoopModule.class, persistent = false), @Module(value = NoopModule.class, persistent = false),
+    @Module(value = NoopModule.class, persistent = false), @Module(value = NoopModule.class, persistent = false),
+    @Module(value = NoopModule.class, persistent = false), @Module(value = NoopModule.class, persistent = false),
+    @Module(value = NoopModule.class, persistent = false), @Module(value = NoopModule.class, persistent = false),
+    @Module(value = NoopModule.class, persistent = false), @Module(value = NoopModule.class, persistent = false),
+    @Module(value = NoopModule.class, persistent = false), @Module(value = NoopModule.class, persistent = false),
+    @Module(value = NoopModule.class, persistent = false), @Module(value = NoopModule.class, persistent = false),
+    @Module(value = NoopModule.class, persistent = false), @Module(value = NoopModule.class, persistent = false)
+  })
+  public static class SixteenModules extends Fixture {
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks.json;
+
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.DataObjectConverter;
+import org.jspare.vertx.cdi.EnvironmentLoader;
+import org.jspare.vertx.ext.jackson.datatype.ObjectMarshaller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions between data objects and JSON: the {@link DataObjectConverter} used by the framework, the
+ * {@link ObjectMarshaller} walking the {@link JsonObject} tree with
+ * {@link org.jspare.vertx.ext.jackson.datatype.parser.JsonElementParser} and
+ * {@link org.jspare.vertx.ext.jackson.datatype.generator.JsonElementGenerator}, against plain
+ * {@link Json#encode(Object)} and {@link Json#decodeValue(String, Class)}.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+  private ObjectMarshaller marshaller;
+  private Payload payload;
+  private JsonObject json;
+  private String encoded;
+
+  @Setup
+  public void setup() {
+
+    // Same mapper configuration of one application
+    EnvironmentLoader.setup();
+    marshaller = new ObjectMarshaller(Json.mapper);
+    payload = Payload.sample();
+    json = DataObjectConverter.toJson(payload);
+    encoded = Json.encode(payload);
+  }
+
+  @Benchmark
+  public String jsonEncode() {
+
+    return Json.encode(payload);
+  }
+
+  @Benchmark
+  public Payload jsonDecodeValue() {
+
+    return Json.decodeValue(encoded, Payload.class);
+  }
+
+  @Benchmark
+  public Payload jsonRoundTrip() {
+
+    return Json.decodeValue(Json.encode(payload), Payload.class);
+  }
+
+  @Benchmark
+  public JsonObject converterToJson() {
+
+    return DataObjectConverter.toJson(payload);
+  }
+
+  @Benchmark
+  public Payload converterFromJson() {
+
+    return DataObjectConverter.fromJson(json, Payload.class);
+  }
+
+  @Benchmark
+  public Payload converterRoundTrip() {
+
+    return DataObjectConverter.fromJson(DataObjectConverter.toJson(payload), Payload.class);
+  }
+
+  @Benchmark
+  public JsonObject marshallerMarshall() throws IOException {
+
+    return marshaller.marshall(payload);
+  }
+
+  @Benchmark
+  public Payload marshallerUnmarshall() throws IOException {
+
+    return marshaller.unmarshall(json, Payload.class);
+  }
+
+  @Benchmark
+  public Payload marshallerRoundTrip() throws IOException {
+
+    return marshaller.unmarshall(marshaller.<JsonObject>marshall(payload), Payload.class);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks.json;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data object shared by the JSON benchmarks, a small mix of scalar, list and map fields.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Data
+@Accessors(chain = true)
+public class Payload {
+
+  private long id;
+  private String name;
+  private boolean active;
+  private double score;
+  private List<String> tags = new ArrayList<>();
+  private Map<String, Integer> counters = new LinkedHashMap<>();
+  private Payload parent;
+
+  /**
+   * Sample payload.
+   *
+   * @return the payload
+   */
+  public static Payload sample() {
+
+    Payload payload = new Payload().setId(42L).setName("jspare").setActive(true).setScore(9.75);
+    for (int i = 0; i < 8; i++) {
+
+      payload.getTags().add("tag-" + i);
+      payload.getCounters().put("counter-" + i, i);
+    }
+    payload.setParent(new Payload().setId(1L).setName("parent"));
+    return payload;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks.web;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.benchmarks.json.Payload;
+import org.jspare.vertx.web.handler.APIHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON responses written by the helpers of {@link APIHandler}.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class APIHandlerBenchmark {
+
+  private FakeExchange exchange;
+  private Responder responder;
+  private Payload payload;
+  private JsonObject json;
+
+  @Setup
+  public void setup() {
+
+    exchange = new FakeExchange();
+    responder = new Responder();
+    responder.setReq(exchange.request());
+    responder.setRes(exchange.response());
+    payload = Payload.sample();
+    json = JsonObject.mapFrom(payload);
+  }
+
+  @Benchmark
+  public long okObject() {
+
+    exchange.reset(HttpMethod.GET, "/");
+    responder.okObject(payload);
+    return exchange.bytesWritten();
+  }
+
+  @Benchmark
+  public long okJsonObject() {
+
+    exchange.reset(HttpMethod.GET, "/");
+    responder.okObject(json);
+    return exchange.bytesWritten();
+  }
+
+  @Benchmark
+  public long okString() {
+
+    exchange.reset(HttpMethod.GET, "/");
+    responder.okString("pong");
+    return exchange.bytesWritten();
+  }
+
+  /**
+   * Exposes the protected helpers of {@link APIHandler}.
+   */
+  public static class Responder extends APIHandler {
+
+    void okObject(Object object) {
+      ok(object);
+    }
+
+    void okString(String content) {
+      ok(content);
+    }
+  }
+}
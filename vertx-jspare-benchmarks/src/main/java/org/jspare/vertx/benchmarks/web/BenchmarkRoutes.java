@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks.web;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.handling.Parameter;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.handler.APIHandler;
+
+/**
+ * Routes dispatched by {@link RouterDispatchBenchmark}, one instance per request.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class BenchmarkRoutes extends APIHandler {
+
+  /**
+   * Plain handler, only the context.
+   *
+   * @param ctx the ctx
+   */
+  @Handler
+  @Get("/bench/plain")
+  public void plain(RoutingContext ctx) {
+
+    ctx.response().end("pong");
+  }
+
+  /**
+   * Handler with converted parameters and a JSON response.
+   *
+   * @param id   the id
+   * @param name the name
+   */
+  @Handler
+  @Get("/bench/json/:id")
+  public void json(@Parameter("id") long id, @Parameter("name") String name) {
+
+    ok(new JsonObject().put("id", id).put("name", name));
+  }
+}
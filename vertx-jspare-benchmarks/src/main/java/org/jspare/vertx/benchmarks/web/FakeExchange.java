@@ -0,0 +1,658 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks.web;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpFrame;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.StreamPriority;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.SocketAddress;
+
+import javax.net.ssl.SSLSession;
+import javax.security.cert.X509Certificate;
+import java.nio.charset.Charset;
+
+/**
+ * One in memory request and response pair, used to feed a {@link io.vertx.ext.web.Router} without sockets.
+ *
+ * <p>The request and response are plain classes, so calling them allocates nothing that would show in the
+ * allocation profile: fluent methods return the instance itself, headers and parameters are kept in plain
+ * {@link MultiMap}s and the response only counts the written bytes. The pair is
+ * reused between operations with {@link #reset(HttpMethod, String)} so the benchmark measures the framework
+ * and not the fixture.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class FakeExchange {
+
+  private final HttpServerRequest request;
+  private final HttpServerResponse response;
+
+  private final MultiMap requestHeaders = MultiMap.caseInsensitiveMultiMap();
+  private final MultiMap params = MultiMap.caseInsensitiveMultiMap();
+  private final MultiMap formAttributes = MultiMap.caseInsensitiveMultiMap();
+  private final MultiMap responseHeaders = MultiMap.caseInsensitiveMultiMap();
+  private final MultiMap trailers = MultiMap.caseInsensitiveMultiMap();
+
+  private HttpMethod method = HttpMethod.GET;
+  private String uri = "/";
+  private String path = "/";
+  private String query;
+
+  private int statusCode;
+  private boolean chunked;
+  private boolean ended;
+  private long bytesWritten;
+  private Handler<Void> headersEndHandler;
+  private Handler<Void> bodyEndHandler;
+
+  /**
+   * Instantiates a new fake exchange.
+   */
+  public FakeExchange() {
+
+    request = new FakeRequest();
+    response = new FakeResponse();
+  }
+
+  /**
+   * Prepare the pair for one new request.
+   *
+   * @param method the method
+   * @param uri    the uri
+   * @return the fake exchange
+   */
+  public FakeExchange reset(HttpMethod method, String uri) {
+
+    this.method = method;
+    this.uri = uri;
+    int index = uri.indexOf('?');
+    path = index < 0 ? uri : uri.substring(0, index);
+    query = index < 0 ? null : uri.substring(index + 1);
+
+    params.clear();
+    if (query != null) {
+
+      for (String pair : query.split("&")) {
+
+        int eq = pair.indexOf('=');
+        params.add(eq < 0 ? pair : pair.substring(0, eq), eq < 0 ? "" : pair.substring(eq + 1));
+      }
+    }
+    requestHeaders.clear();
+    formAttributes.clear();
+    responseHeaders.clear();
+    trailers.clear();
+    statusCode = 200;
+    chunked = false;
+    ended = false;
+    bytesWritten = 0;
+    headersEndHandler = null;
+    bodyEndHandler = null;
+    return this;
+  }
+
+  /**
+   * The request.
+   *
+   * @return the request
+   */
+  public HttpServerRequest request() {
+    return request;
+  }
+
+  /**
+   * The response.
+   *
+   * @return the response
+   */
+  public HttpServerResponse response() {
+    return response;
+  }
+
+  /**
+   * The request headers.
+   *
+   * @return the headers
+   */
+  public MultiMap requestHeaders() {
+    return requestHeaders;
+  }
+
+  /**
+   * The status code written.
+   *
+   * @return the status code
+   */
+  public int statusCode() {
+    return statusCode;
+  }
+
+  /**
+   * The bytes written to the response.
+   *
+   * @return the bytes written
+   */
+  public long bytesWritten() {
+    return bytesWritten;
+  }
+
+  /**
+   * Whether the response was ended.
+   *
+   * @return true if ended
+   */
+  public boolean ended() {
+    return ended;
+  }
+
+  private void end() {
+
+    if (ended) {
+
+      throw new IllegalStateException("Response has already been written");
+    }
+    if (headersEndHandler != null) {
+
+      headersEndHandler.handle(null);
+    }
+    ended = true;
+    if (bodyEndHandler != null) {
+
+      bodyEndHandler.handle(null);
+    }
+  }
+
+  /**
+   * The in memory request.
+   */
+  private class FakeRequest implements HttpServerRequest {
+
+    @Override
+    public HttpServerRequest exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public HttpServerRequest handler(Handler<Buffer> handler) {
+      return this;
+    }
+
+    @Override
+    public HttpServerRequest pause() {
+      return this;
+    }
+
+    @Override
+    public HttpServerRequest resume() {
+      return this;
+    }
+
+    @Override
+    public HttpServerRequest fetch(long amount) {
+      return this;
+    }
+
+    @Override
+    public HttpServerRequest endHandler(Handler<Void> endHandler) {
+      return this;
+    }
+
+    @Override
+    public HttpVersion version() {
+      return HttpVersion.HTTP_1_1;
+    }
+
+    @Override
+    public HttpMethod method() {
+      return method;
+    }
+
+    @Override
+    public String rawMethod() {
+      return method.name();
+    }
+
+    @Override
+    public boolean isSSL() {
+      return false;
+    }
+
+    @Override
+    public String scheme() {
+      return "http";
+    }
+
+    @Override
+    public String uri() {
+      return uri;
+    }
+
+    @Override
+    public String path() {
+      return path;
+    }
+
+    @Override
+    public String query() {
+      return query;
+    }
+
+    @Override
+    public String host() {
+      return "localhost";
+    }
+
+    @Override
+    public long bytesRead() {
+      return 0;
+    }
+
+    @Override
+    public HttpServerResponse response() {
+      return response;
+    }
+
+    @Override
+    public MultiMap headers() {
+      return requestHeaders;
+    }
+
+    @Override
+    public String getHeader(String headerName) {
+      return requestHeaders.get(headerName);
+    }
+
+    @Override
+    public String getHeader(CharSequence headerName) {
+      return requestHeaders.get(headerName);
+    }
+
+    @Override
+    public MultiMap params() {
+      return params;
+    }
+
+    @Override
+    public String getParam(String paramName) {
+      return params.get(paramName);
+    }
+
+    @Override
+    public SocketAddress remoteAddress() {
+      return null;
+    }
+
+    @Override
+    public SocketAddress localAddress() {
+      return null;
+    }
+
+    @Override
+    public SSLSession sslSession() {
+      return null;
+    }
+
+    @Override
+    public X509Certificate[] peerCertificateChain() {
+      return null;
+    }
+
+    @Override
+    public String absoluteURI() {
+      return "http://localhost" + uri;
+    }
+
+    @Override
+    public NetSocket netSocket() {
+      return null;
+    }
+
+    @Override
+    public HttpServerRequest setExpectMultipart(boolean expect) {
+      return this;
+    }
+
+    @Override
+    public boolean isExpectMultipart() {
+      return false;
+    }
+
+    @Override
+    public HttpServerRequest uploadHandler(Handler<HttpServerFileUpload> uploadHandler) {
+      return this;
+    }
+
+    @Override
+    public MultiMap formAttributes() {
+      return formAttributes;
+    }
+
+    @Override
+    public String getFormAttribute(String attributeName) {
+      return formAttributes.get(attributeName);
+    }
+
+    @Override
+    public ServerWebSocket upgrade() {
+      return null;
+    }
+
+    @Override
+    public boolean isEnded() {
+      return true;
+    }
+
+    @Override
+    public HttpServerRequest customFrameHandler(Handler<HttpFrame> handler) {
+      return this;
+    }
+
+    @Override
+    public HttpConnection connection() {
+      return null;
+    }
+
+    @Override
+    public HttpServerRequest streamPriorityHandler(Handler<StreamPriority> handler) {
+      return this;
+    }
+  }
+
+  /**
+   * The in memory response, counting the written bytes.
+   */
+  private class FakeResponse implements HttpServerResponse {
+
+    @Override
+    public HttpServerResponse exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse write(Buffer data) {
+
+      bytesWritten += data.length();
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse setWriteQueueMaxSize(int maxSize) {
+      return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return false;
+    }
+
+    @Override
+    public HttpServerResponse drainHandler(Handler<Void> handler) {
+      return this;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public HttpServerResponse setStatusCode(int statusCode) {
+
+      FakeExchange.this.statusCode = statusCode;
+      return this;
+    }
+
+    @Override
+    public String getStatusMessage() {
+      return "OK";
+    }
+
+    @Override
+    public HttpServerResponse setStatusMessage(String statusMessage) {
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse setChunked(boolean chunked) {
+
+      FakeExchange.this.chunked = chunked;
+      return this;
+    }
+
+    @Override
+    public boolean isChunked() {
+      return chunked;
+    }
+
+    @Override
+    public MultiMap headers() {
+      return responseHeaders;
+    }
+
+    @Override
+    public HttpServerResponse putHeader(String name, String value) {
+
+      responseHeaders.set(name, value);
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse putHeader(CharSequence name, CharSequence value) {
+
+      responseHeaders.set(name, value);
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse putHeader(String name, Iterable<String> values) {
+
+      responseHeaders.set(name, values);
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse putHeader(CharSequence name, Iterable<CharSequence> values) {
+
+      responseHeaders.set(name, values);
+      return this;
+    }
+
+    @Override
+    public MultiMap trailers() {
+      return trailers;
+    }
+
+    @Override
+    public HttpServerResponse putTrailer(String name, String value) {
+
+      trailers.set(name, value);
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse putTrailer(CharSequence name, CharSequence value) {
+
+      trailers.set(name, value);
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse putTrailer(String name, Iterable<String> values) {
+
+      trailers.set(name, values);
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse putTrailer(CharSequence name, Iterable<CharSequence> value) {
+
+      trailers.set(name, value);
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse closeHandler(Handler<Void> handler) {
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse endHandler(Handler<Void> handler) {
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse write(String chunk, String enc) {
+
+      bytesWritten += chunk.getBytes(Charset.forName(enc)).length;
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse write(String chunk) {
+
+      bytesWritten += chunk.length();
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse writeContinue() {
+      return this;
+    }
+
+    @Override
+    public void end(String chunk) {
+
+      write(chunk);
+      end();
+    }
+
+    @Override
+    public void end(String chunk, String enc) {
+
+      write(chunk, enc);
+      end();
+    }
+
+    @Override
+    public void end(Buffer chunk) {
+
+      write(chunk);
+      end();
+    }
+
+    @Override
+    public void end() {
+      FakeExchange.this.end();
+    }
+
+    @Override
+    public HttpServerResponse sendFile(String filename, long offset, long length) {
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse sendFile(String filename, long offset, long length,
+                                       Handler<AsyncResult<Void>> resultHandler) {
+      return this;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public boolean ended() {
+      return ended;
+    }
+
+    @Override
+    public boolean closed() {
+      return false;
+    }
+
+    @Override
+    public boolean headWritten() {
+      return ended;
+    }
+
+    @Override
+    public HttpServerResponse headersEndHandler(Handler<Void> handler) {
+
+      headersEndHandler = handler;
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse bodyEndHandler(Handler<Void> handler) {
+
+      bodyEndHandler = handler;
+      return this;
+    }
+
+    @Override
+    public long bytesWritten() {
+      return bytesWritten;
+    }
+
+    @Override
+    public int streamId() {
+      return 0;
+    }
+
+    @Override
+    public HttpServerResponse push(HttpMethod method, String host, String path,
+                                   Handler<AsyncResult<HttpServerResponse>> handler) {
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse push(HttpMethod method, String path, MultiMap headers,
+                                   Handler<AsyncResult<HttpServerResponse>> handler) {
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse push(HttpMethod method, String path, Handler<AsyncResult<HttpServerResponse>> handler) {
+      return this;
+    }
+
+    @Override
+    public HttpServerResponse push(HttpMethod method, String host, String path, MultiMap headers,
+                                   Handler<AsyncResult<HttpServerResponse>> handler) {
+      return this;
+    }
+
+    @Override
+    public void reset(long code) {
+    }
+
+    @Override
+    public HttpServerResponse writeCustomFrame(int type, int flags, Buffer payload) {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks.web;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.jspare.vertx.cdi.EnvironmentLoader;
+import org.jspare.vertx.web.builder.HandlerData;
+import org.jspare.vertx.web.builder.HandlerType;
+import org.jspare.vertx.web.builder.RouteChain;
+import org.jspare.vertx.web.builder.RouteDispatcher;
+import org.jspare.vertx.web.handler.DefaultHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of matching the last of many routes, with one compiled route per handler, with the split layout of one
+ * registration, one auth and one handler route per handler, or with all routes compiled into one
+ * {@link RouteDispatcher}.
+ *
+ * <p>In the compiled and split layouts every handler has one pass-through step standing for its auth handler, so
+ * both run the same handlers and differ only in the routes evaluated by the router.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteScalingBenchmark {
+
+  @Param({ "10", "100", "500" })
+  private int routes;
+
+  @Param({ "compiled", "split", "dispatch" })
+  private String layout;
+
+  private Vertx vertx;
+  private Router router;
+  private FakeExchange exchange;
+  private String uri;
+
+  @Setup
+  public void setup() throws NoSuchMethodException {
+
+    EnvironmentLoader.setup();
+    vertx = Vertx.vertx();
+    EnvironmentLoader.bindInterfaces(vertx);
+    router = Router.router(vertx);
+    exchange = new FakeExchange();
+
+    Handler<RoutingContext> auth = RoutingContext::next;
+    RouteDispatcher dispatcher = new RouteDispatcher();
+    if ("dispatch".equals(layout)) {
+
+      router.route().handler(dispatcher);
+    }
+    for (int i = 0; i < routes; i++) {
+
+      String path = "/routes/" + i + "/plain";
+      HandlerData data = new HandlerData().clazz(BenchmarkRoutes.class)
+        .method(BenchmarkRoutes.class.getMethod("plain", RoutingContext.class))
+        .handlerType(HandlerType.HANDLER).order(Integer.MIN_VALUE).path(path).httpMethod(HttpMethod.GET.name());
+      DefaultHandler handler = new DefaultHandler(data);
+
+      if ("dispatch".equals(layout)) {
+
+        dispatcher.add(data.routeHandlerClass(DefaultHandler.class));
+      } else if ("compiled".equals(layout)) {
+
+        router.get(path).handler(new RouteChain(data, Arrays.asList(auth, handler)));
+      } else {
+
+        router.get(path).order(Integer.MIN_VALUE).handler(ctx -> {
+
+          ctx.put(DefaultHandler.HANDLER_DATA, data);
+          ctx.next();
+        });
+        router.get(path).handler(auth);
+        router.get(path).handler(handler);
+      }
+    }
+    uri = "/routes/" + (routes - 1) + "/plain";
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+
+    vertx.close();
+  }
+
+  @Benchmark
+  public long dispatchLast() {
+
+    router.handle(exchange.reset(HttpMethod.GET, uri).request());
+    if (!exchange.ended()) {
+
+      throw new IllegalStateException("Response not ended for " + uri);
+    }
+    return exchange.bytesWritten();
+  }
+}
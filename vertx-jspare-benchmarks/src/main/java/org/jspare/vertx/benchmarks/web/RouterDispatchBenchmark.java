@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.benchmarks.web;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Router;
+import org.jspare.vertx.cdi.EnvironmentLoader;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch of one request through a {@link Router} built by {@link RouterBuilder}, from route matching to the
+ * end of response written by the {@link org.jspare.vertx.web.handler.DefaultHandler}.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouterDispatchBenchmark {
+
+  @Param({ "/bench/plain", "/bench/json/42?name=jspare" })
+  private String uri;
+
+  private Vertx vertx;
+  private Router router;
+  private FakeExchange exchange;
+
+  @Setup
+  public void setup() {
+
+    EnvironmentLoader.setup();
+    vertx = Vertx.vertx();
+    EnvironmentLoader.bindInterfaces(vertx);
+    router = RouterBuilder.create(vertx).addRoute(BenchmarkRoutes.class).build();
+    exchange = new FakeExchange();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+
+    vertx.close();
+  }
+
+  @Benchmark
+  public long dispatch() {
+
+    router.handle(exchange.reset(HttpMethod.GET, uri).request());
+    if (!exchange.ended()) {
+
+      throw new IllegalStateException("Response not ended for " + uri);
+    }
+    return exchange.bytesWritten();
+  }
+}
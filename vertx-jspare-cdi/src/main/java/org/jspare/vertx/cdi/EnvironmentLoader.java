@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -36,7 +37,20 @@ public class EnvironmentLoader {
     Environment.create();
 
     // Set default Json Mapper options
-    Json.mapper
+    configure(Json.mapper);
+  }
+
+  /**
+   * Apply the default options and modules of {@link Json#mapper} to one mapper, used by the mappers of other data
+   * formats so they bind the same way as json.
+   *
+   * @param <T>    the mapper type
+   * @param mapper the mapper
+   * @return the mapper
+   */
+  public <T extends ObjectMapper> T configure(T mapper) {
+
+    mapper
       .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY).setSerializationInclusion(JsonInclude.Include.NON_NULL)
       .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
       .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
@@ -46,6 +60,7 @@ public class EnvironmentLoader {
       .registerModule(new JavaTimeModule())
       .registerModule(new ParameterNamesModule())
       .registerModule(new VertxJsonModule());
+    return mapper;
   }
 
   public void bindInterfaces(Vertx vertx){
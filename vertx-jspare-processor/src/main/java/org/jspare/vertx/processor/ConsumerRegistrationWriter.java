@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Writes the <code>ConsumerRegistration</code> of one class declaring event bus consumers.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+class ConsumerRegistrationWriter extends RegistrationWriter {
+
+  /**
+   * Instantiates a new consumer registration writer.
+   *
+   * @param env the processing environment
+   */
+  ConsumerRegistrationWriter(ProcessingEnvironment env) {
+    super(env);
+  }
+
+  @Override
+  String suffix() {
+    return "_ConsumerRegistration";
+  }
+
+  @Override
+  String registrationInterface() {
+    return "org.jspare.vertx.builder.ConsumerRegistration";
+  }
+
+  @Override
+  void writeMethod(StringBuilder out, TypeElement type, ExecutableElement method, String methodVar, String invokerVar) {
+
+    String address = (String) value(annotation(method, RegistrationProcessor.CONSUMER), "value");
+    out.append("    registrar.consumer(").append(methodVar).append(", ").append(invokerVar).append(", ")
+      .append(literal(address)).append(");\n");
+  }
+}
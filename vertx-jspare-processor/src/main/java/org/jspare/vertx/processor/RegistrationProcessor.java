@@ -0,0 +1,286 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the registration of route and consumer classes at compile time.
+ *
+ * <p>For each class declaring handler methods, annotated with <code>@Handler</code>, <code>@BlockingHandler</code>,
+ * <code>@FailureHandler</code>, <code>@SockJsHandler</code> or <code>@SseHandler</code>, one <code>&lt;Class&gt;_RouteRegistration</code> is
+ * written with the literal paths, orders and content types of every route and one direct invoker per method. For
+ * each class declaring <code>@Consumer</code> methods one <code>&lt;Class&gt;_ConsumerRegistration</code> is written
+ * in the same way. The collectors of routes and consumers use these classes when present, otherwise they keep
+ * discovering the handlers by reflection.</p>
+ *
+ * <p>The classes declaring these methods, along with the classes annotated with <code>@Resource</code>, are listed on
+ * the <code>META-INF/jspare/index</code> resource, read instead of scanning the classpath when the
+ * <code>jspare.classpath.index</code> system property is enabled. The index already on the class output is merged,
+ * so incremental builds compiling only some sources keep the classes not compiled again while they still exist.</p>
+ *
+ * <p>The processor depends only on the annotation names, it is enabled by adding this module to the compile
+ * classpath.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class RegistrationProcessor extends AbstractProcessor {
+
+  /**
+   * The Constant ROUTE_HANDLERS, in the order of route handler types.
+   */
+  static final List<String> ROUTE_HANDLERS = Arrays.asList(
+    "org.jspare.vertx.web.annotation.handler.Handler",
+    "org.jspare.vertx.web.annotation.handler.BlockingHandler",
+    "org.jspare.vertx.web.annotation.handler.FailureHandler",
+    "org.jspare.vertx.web.annotation.handler.SockJsHandler",
+    "org.jspare.vertx.web.annotation.handler.SseHandler");
+
+  /**
+   * The Constant CONSUMER.
+   */
+  static final String CONSUMER = "org.jspare.vertx.annotation.Consumer";
+
+  /**
+   * The Constant RESOURCE.
+   */
+  static final String RESOURCE = "javax.annotation.Resource";
+
+  /**
+   * The Constant INDEX, location of the index of annotated classes.
+   */
+  static final String INDEX = "META-INF/jspare/index";
+
+  /**
+   * The indexed classes by annotation, collected over all rounds.
+   */
+  private final Map<String, Set<String>> index = new LinkedHashMap<>();
+
+  /**
+   * The binary names of the classes compiled, collected over all rounds.
+   */
+  private final Set<String> compiled = new HashSet<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+
+    Set<String> types = new LinkedHashSet<>(ROUTE_HANDLERS);
+    types.add(CONSUMER);
+    types.add(RESOURCE);
+    return types;
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+    roundEnv.getRootElements().forEach(this::compiled);
+
+    Map<TypeElement, Set<ExecutableElement>> routes = new LinkedHashMap<>();
+    Map<TypeElement, Set<ExecutableElement>> consumers = new LinkedHashMap<>();
+    for (TypeElement annotation : annotations) {
+
+      String name = annotation.getQualifiedName().toString();
+      if (RESOURCE.equals(name)) {
+
+        roundEnv.getElementsAnnotatedWith(annotation).stream()
+          .filter(e -> e.getKind().isClass() || e.getKind().isInterface())
+          .forEach(e -> index(name, (TypeElement) e));
+        continue;
+      }
+
+      Map<TypeElement, Set<ExecutableElement>> target = CONSUMER.equals(name) ? consumers : routes;
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+
+        if (element.getKind() == ElementKind.METHOD) {
+
+          TypeElement type = (TypeElement) element.getEnclosingElement();
+          target.computeIfAbsent(type, t -> new LinkedHashSet<>()).add((ExecutableElement) element);
+          index(name, type);
+        }
+      }
+    }
+
+    routes.forEach((type, methods) -> generate(type, methods, new RouteRegistrationWriter(processingEnv)));
+    consumers.forEach((type, methods) -> generate(type, methods, new ConsumerRegistrationWriter(processingEnv)));
+
+    if (roundEnv.processingOver() && !index.isEmpty()) {
+
+      writeIndex();
+    }
+    return false;
+  }
+
+  private void index(String annotation, TypeElement type) {
+
+    index.computeIfAbsent(annotation, a -> new LinkedHashSet<>())
+      .add(processingEnv.getElementUtils().getBinaryName(type).toString());
+  }
+
+  private void compiled(Element element) {
+
+    if (element instanceof TypeElement) {
+
+      compiled.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+      element.getEnclosedElements().forEach(this::compiled);
+    }
+  }
+
+  private void writeIndex() {
+
+    Map<String, Set<String>> merged = readIndex();
+    index.forEach((annotation, types) -> merged.computeIfAbsent(annotation, a -> new LinkedHashSet<>()).addAll(types));
+    try {
+
+      FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+      try (Writer out = file.openWriter()) {
+
+        out.write("# Generated by " + RegistrationProcessor.class.getName() + ", do not edit.\n");
+        for (Map.Entry<String, Set<String>> entry : merged.entrySet()) {
+
+          for (String type : entry.getValue()) {
+
+            out.write(entry.getKey() + "=" + type + "\n");
+          }
+        }
+      }
+    } catch (IOException e) {
+
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("Cannot write %s: %s", INDEX, e.getMessage()));
+    }
+  }
+
+  /**
+   * Read the index left by a previous build, without the classes compiled now, indexed again if still annotated, and
+   * without the classes that no longer exist.
+   *
+   * @return the indexed classes by annotation
+   */
+  private Map<String, Set<String>> readIndex() {
+
+    Map<String, Set<String>> previous = new LinkedHashMap<>();
+    try {
+
+      FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+      try (Reader reader = file.openReader(true); BufferedReader in = new BufferedReader(reader)) {
+
+        String line;
+        while ((line = in.readLine()) != null) {
+
+          int separator = line.indexOf('=');
+          if (line.startsWith("#") || separator < 0) {
+
+            continue;
+          }
+          String type = line.substring(separator + 1).trim();
+          if (!compiled.contains(type) && processingEnv.getElementUtils().getTypeElement(type.replace('$', '.')) != null) {
+
+            previous.computeIfAbsent(line.substring(0, separator).trim(), a -> new LinkedHashSet<>()).add(type);
+          }
+        }
+      }
+    } catch (IOException | IllegalArgumentException e) {
+
+      // No index of previous build
+    }
+    return previous;
+  }
+
+  private void generate(TypeElement type, Set<ExecutableElement> methods, RegistrationWriter writer) {
+
+    if (!isAccessible(type)) {
+
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+        "Registration not generated for non accessible class, it will be collected by reflection", type);
+      return;
+    }
+
+    // Keep the declaration order of the methods
+    List<ExecutableElement> declared = type.getEnclosedElements().stream()
+      .filter(methods::contains)
+      .map(ExecutableElement.class::cast)
+      .collect(Collectors.toList());
+
+    String packageName = packageOf(type).getQualifiedName().toString();
+    String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+      + writer.suffix();
+    String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+    try {
+
+      JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+      try (Writer out = file.openWriter()) {
+
+        out.write(writer.write(type, packageName, simpleName, declared));
+      }
+    } catch (IOException e) {
+
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+        String.format("Cannot write %s: %s", qualifiedName, e.getMessage()), type);
+    }
+  }
+
+  private boolean isAccessible(TypeElement type) {
+
+    Element element = type;
+    while (element instanceof TypeElement) {
+
+      TypeElement current = (TypeElement) element;
+      if (current.getModifiers().contains(Modifier.PRIVATE) || current.getNestingKind() == NestingKind.LOCAL
+        || current.getNestingKind() == NestingKind.ANONYMOUS) {
+
+        return false;
+      }
+      element = current.getEnclosingElement();
+    }
+    return true;
+  }
+
+  private PackageElement packageOf(Element element) {
+
+    return processingEnv.getElementUtils().getPackageOf(element);
+  }
+}
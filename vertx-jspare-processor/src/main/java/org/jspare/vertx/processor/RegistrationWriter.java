@@ -0,0 +1,246 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the source of one registration class.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+abstract class RegistrationWriter {
+
+  /**
+   * The processing environment.
+   */
+  protected final ProcessingEnvironment env;
+
+  /**
+   * Instantiates a new registration writer.
+   *
+   * @param env the processing environment
+   */
+  RegistrationWriter(ProcessingEnvironment env) {
+    this.env = env;
+  }
+
+  /**
+   * The suffix of generated class.
+   *
+   * @return the suffix
+   */
+  abstract String suffix();
+
+  /**
+   * The qualified name of the implemented registration interface.
+   *
+   * @return the interface name
+   */
+  abstract String registrationInterface();
+
+  /**
+   * Write the registration of one method.
+   *
+   * @param out     the output
+   * @param type    the registered type
+   * @param method  the method
+   * @param methodVar the variable holding the method
+   * @param invokerVar the variable holding the invoker
+   */
+  abstract void writeMethod(StringBuilder out, TypeElement type, ExecutableElement method, String methodVar, String invokerVar);
+
+  /**
+   * Write the source of registration class.
+   *
+   * @param type        the registered type
+   * @param packageName the package name
+   * @param simpleName  the simple name of generated class
+   * @param methods     the methods to register
+   * @return the source
+   */
+  String write(TypeElement type, String packageName, String simpleName, List<ExecutableElement> methods) {
+
+    StringBuilder out = new StringBuilder();
+    if (!packageName.isEmpty()) {
+
+      out.append("package ").append(packageName).append(";\n\n");
+    }
+    out.append("/**\n")
+      .append(" * Registration of {@link ").append(type.getQualifiedName()).append("}.\n")
+      .append(" *\n")
+      .append(" * <p>Generated by ").append(RegistrationProcessor.class.getName()).append(", do not edit.</p>\n")
+      .append(" */\n")
+      .append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n")
+      .append("public final class ").append(simpleName).append(" implements ").append(registrationInterface()).append(" {\n\n")
+      .append("  @Override\n")
+      .append("  public void register(Registrar registrar) throws NoSuchMethodException {\n");
+
+    for (int i = 0; i < methods.size(); i++) {
+
+      ExecutableElement method = methods.get(i);
+      String methodVar = "method" + i;
+      String invokerVar = "invoker" + i;
+      out.append("\n    java.lang.reflect.Method ").append(methodVar).append(" = ").append(methodLookup(type, method)).append(";\n");
+      out.append("    org.jspare.vertx.builder.MethodInvoker ").append(invokerVar).append(" = ").append(invoker(type, method)).append(";\n");
+      writeMethod(out, type, method, methodVar, invokerVar);
+    }
+    out.append("  }\n}\n");
+    return out.toString();
+  }
+
+  /**
+   * Expression looking up the reflective method, kept for parameter metadata.
+   *
+   * @param type   the type
+   * @param method the method
+   * @return the expression
+   */
+  String methodLookup(TypeElement type, ExecutableElement method) {
+
+    StringBuilder lookup = new StringBuilder();
+    lookup.append(type.getQualifiedName()).append(".class.getDeclaredMethod(").append(literal(method.getSimpleName().toString()));
+    for (VariableElement parameter : method.getParameters()) {
+
+      lookup.append(", ").append(erasure(parameter.asType())).append(".class");
+    }
+    return lookup.append(")").toString();
+  }
+
+  /**
+   * Expression of one direct invoker, null for private methods that fall back to reflective linking.
+   *
+   * @param type   the type
+   * @param method the method
+   * @return the expression
+   */
+  String invoker(TypeElement type, ExecutableElement method) {
+
+    if (method.getModifiers().contains(Modifier.PRIVATE)) {
+
+      return "null";
+    }
+
+    String target = method.getModifiers().contains(Modifier.STATIC) ? type.getQualifiedName().toString()
+      : "((" + type.getQualifiedName() + ") instance)";
+    List<? extends VariableElement> parameters = method.getParameters();
+    StringBuilder args = new StringBuilder();
+    for (int i = 0; i < parameters.size(); i++) {
+
+      if (i > 0) {
+
+        args.append(", ");
+      }
+      args.append("(").append(boxedErasure(parameters.get(i).asType())).append(") args[").append(i).append("]");
+    }
+
+    String call = target + "." + method.getSimpleName() + "(" + args + ")";
+    if (method.getReturnType().getKind() == TypeKind.VOID) {
+
+      return "(instance, args) -> {\n      " + call + ";\n      return null;\n    }";
+    }
+    return "(instance, args) -> " + call;
+  }
+
+  /**
+   * Find one annotation on element.
+   *
+   * @param element the element
+   * @param name    the qualified name of annotation
+   * @return the annotation mirror, null if not present
+   */
+  AnnotationMirror annotation(Element element, String name) {
+
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+
+      TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+      if (annotationType.getQualifiedName().contentEquals(name)) {
+
+        return mirror;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Value of one annotation attribute, including defaults.
+   *
+   * @param mirror    the annotation mirror
+   * @param attribute the attribute
+   * @return the value
+   */
+  Object value(AnnotationMirror mirror, String attribute) {
+
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+      : env.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+
+      if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+
+        return entry.getValue().getValue();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Values of one array attribute.
+   *
+   * @param mirror    the annotation mirror
+   * @param attribute the attribute
+   * @return the values
+   */
+  List<Object> values(AnnotationMirror mirror, String attribute) {
+
+    Object value = value(mirror, attribute);
+    return ((List<?>) value).stream().map(v -> ((AnnotationValue) v).getValue()).collect(Collectors.toList());
+  }
+
+  /**
+   * Java literal of one constant.
+   *
+   * @param value the value
+   * @return the literal
+   */
+  String literal(Object value) {
+    return env.getElementUtils().getConstantExpression(value);
+  }
+
+  private String erasure(TypeMirror type) {
+    return env.getTypeUtils().erasure(type).toString();
+  }
+
+  private String boxedErasure(TypeMirror type) {
+
+    if (type.getKind().isPrimitive()) {
+
+      return env.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+    }
+    return erasure(type);
+  }
+}
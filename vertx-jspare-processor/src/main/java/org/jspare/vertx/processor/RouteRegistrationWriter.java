@@ -0,0 +1,183 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the <code>RouteRegistration</code> of one route class, mirroring the routes collected by reflection.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+class RouteRegistrationWriter extends RegistrationWriter {
+
+  /**
+   * The Constant ANNOTATION_PACKAGE.
+   */
+  private static final String ANNOTATION_PACKAGE = "org.jspare.vertx.web.annotation.";
+
+  /**
+   * The Constant HTTP_METHODS, in the order of http method types.
+   */
+  private static final List<String> HTTP_METHODS = Arrays.asList("All", "Connect", "Delete", "Get", "Head",
+    "Options", "Other", "Patch", "Post", "Put", "Trace");
+
+  /**
+   * The Constant HANDLER_TYPES, handler type of each route handler annotation.
+   */
+  private static final List<String> HANDLER_TYPES = Arrays.asList("HANDLER", "BLOCKING_HANDLER", "HANDLER",
+    "SOCKETJS_HANDLER", "SSE_HANDLER");
+
+  /**
+   * The Constant HANDLER_DATA.
+   */
+  private static final String HANDLER_DATA = "org.jspare.vertx.web.builder.HandlerData";
+
+  /**
+   * The Constant HANDLER_TYPE.
+   */
+  private static final String HANDLER_TYPE = "org.jspare.vertx.web.builder.HandlerType";
+
+  /**
+   * Instantiates a new route registration writer.
+   *
+   * @param env the processing environment
+   */
+  RouteRegistrationWriter(ProcessingEnvironment env) {
+    super(env);
+  }
+
+  @Override
+  String suffix() {
+    return "_RouteRegistration";
+  }
+
+  @Override
+  String registrationInterface() {
+    return "org.jspare.vertx.web.builder.RouteRegistration";
+  }
+
+  @Override
+  void writeMethod(StringBuilder out, TypeElement type, ExecutableElement method, String methodVar, String invokerVar) {
+
+    String consumes = stringValue(method, ANNOTATION_PACKAGE + "content.Consumes");
+    String produces = stringValue(method, ANNOTATION_PACKAGE + "content.Produces");
+    String auth = auth(type, method);
+
+    // Http methods of the method replace the http methods of the class
+    List<AnnotationMirror> httpMethods = httpMethods(method);
+    if (httpMethods.isEmpty()) {
+
+      httpMethods = httpMethods(type);
+    }
+
+    String prefix = "";
+    AnnotationMirror subRouter = annotation(type, ANNOTATION_PACKAGE + "subrouter.SubRouter");
+    if (subRouter != null && annotation(method, ANNOTATION_PACKAGE + "subrouter.IgnoreSubRouter") == null) {
+
+      prefix = (String) value(subRouter, "value");
+    }
+
+    for (int i = 0; i < RegistrationProcessor.ROUTE_HANDLERS.size(); i++) {
+
+      AnnotationMirror handler = annotation(method, RegistrationProcessor.ROUTE_HANDLERS.get(i));
+      if (handler == null) {
+
+        continue;
+      }
+
+      String common = "new " + HANDLER_DATA + "().method(" + methodVar + ").invoker(" + invokerVar + ")"
+        + ".consumes(" + literal(consumes) + ").produces(" + literal(produces) + ")"
+        + ".handlerType(" + HANDLER_TYPE + "." + HANDLER_TYPES.get(i) + ")";
+
+      if ("SOCKETJS_HANDLER".equals(HANDLER_TYPES.get(i))) {
+
+        route(out, common + ".path(" + literal(value(handler, "value")) + ")", auth);
+        continue;
+      }
+      if ("SSE_HANDLER".equals(HANDLER_TYPES.get(i))) {
+
+        route(out, common + ".path(" + literal(value(handler, "value")) + ").httpMethod(\"GET\")", auth);
+        continue;
+      }
+
+      common += ".order(" + literal(value(handler, "order")) + ")";
+      if (httpMethods.isEmpty()) {
+
+        route(out, common, auth);
+        continue;
+      }
+      for (AnnotationMirror httpMethod : httpMethods) {
+
+        String name = ((TypeElement) httpMethod.getAnnotationType().asElement()).getSimpleName().toString();
+        String data = common + ".path(" + literal(prefix + value(httpMethod, "value")) + ")"
+          + ".pathRegex(" + literal(value(httpMethod, "regex")) + ")";
+        if (!"All".equals(name)) {
+
+          data += ".httpMethod(" + literal(name.toUpperCase()) + ")";
+        }
+        route(out, data, auth);
+      }
+    }
+  }
+
+  private void route(StringBuilder out, String handlerData, String auth) {
+    out.append("    registrar.route(").append(handlerData).append(", ").append(auth).append(");\n");
+  }
+
+  private List<AnnotationMirror> httpMethods(Element element) {
+
+    List<AnnotationMirror> mirrors = new ArrayList<>();
+    for (String httpMethod : HTTP_METHODS) {
+
+      AnnotationMirror mirror = annotation(element, ANNOTATION_PACKAGE + "method." + httpMethod);
+      if (mirror != null) {
+
+        mirrors.add(mirror);
+      }
+    }
+    return mirrors;
+  }
+
+  private String auth(TypeElement type, ExecutableElement method) {
+
+    AnnotationMirror auth = annotation(method, ANNOTATION_PACKAGE + "auth.Auth");
+    if (auth == null) {
+
+      auth = annotation(type, ANNOTATION_PACKAGE + "auth.Auth");
+    }
+    if (auth == null || annotation(method, ANNOTATION_PACKAGE + "auth.IgnoreAuth") != null) {
+
+      return "null, null";
+    }
+    String authorities = values(auth, "value").stream().map(this::literal).collect(Collectors.joining(", "));
+    return literal(value(auth, "authHandler")) + ", new String[] { " + authorities + " }";
+  }
+
+  private String stringValue(ExecutableElement method, String annotationName) {
+
+    AnnotationMirror mirror = annotation(method, annotationName);
+    return mirror != null ? (String) value(mirror, "value") : "";
+  }
+}
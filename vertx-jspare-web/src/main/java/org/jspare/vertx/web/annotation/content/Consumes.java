@@ -31,7 +31,7 @@ import java.lang.annotation.Target;
 public @interface Consumes {
 
   /**
-   * Value.
+   * Value, several media types are separated by comma.
    *
    * @return the string
    */
@@ -15,6 +15,8 @@
  */
 package org.jspare.vertx.web.annotation.handler;
 
+import org.jspare.vertx.annotation.SharedWorkerExecutor;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -23,6 +25,9 @@ import java.lang.annotation.Target;
 /**
  * The Interface BlockingHandler.
  *
+ * <p>Routes executed on worker threads, of the global worker pool or of the named pool of {@link #worker()} so one
+ * slow kind of route does not starve the others.</p>
+ *
  * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -35,4 +40,18 @@ public @interface BlockingHandler {
    * @return the int
    */
   int order() default Integer.MIN_VALUE;
+
+  /**
+   * The named worker pool executing the route, the global worker pool when empty.
+   *
+   * @return the shared worker executor
+   */
+  SharedWorkerExecutor[] worker() default {};
+
+  /**
+   * Execute the requests received on the same event loop in order.
+   *
+   * @return true, if ordered
+   */
+  boolean ordered() default false;
 }
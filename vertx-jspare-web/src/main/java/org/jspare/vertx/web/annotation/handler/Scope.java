@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.annotation.handler;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The Interface Scope.
+ *
+ * <p>Defines how instances of one route class are created. Classes without this annotation keep the
+ * {@link Type#REQUEST} scope, a new injected instance per request.</p>
+ *
+ * <p>Instances shared between requests, {@link Type#SINGLETON} and {@link Type#EVENT_LOOP}, must be
+ * stateless and receive the request state as method parameters, like {@link io.vertx.ext.web.RoutingContext}.
+ * Subclasses of {@link org.jspare.vertx.web.handler.APIHandler} hold the request state on the instance and are
+ * rejected with these scopes when their routes are collected.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface Scope {
+
+  /**
+   * The scope type.
+   *
+   * @return the type
+   */
+  Type value() default Type.REQUEST;
+
+  /**
+   * Max idle instances kept by the {@link Type#POOLED} scope.
+   *
+   * @return the int
+   */
+  int poolSize() default 64;
+
+  /**
+   * The Enum Type.
+   */
+  enum Type {
+
+    /** One instance shared by all requests. */
+    SINGLETON,
+
+    /** One instance per Vert.x context, used only by its event loop. */
+    EVENT_LOOP,
+
+    /** Instances reused once the response of the request holding them is ended. */
+    POOLED,
+
+    /** One new instance per request. */
+    REQUEST
+  }
+}
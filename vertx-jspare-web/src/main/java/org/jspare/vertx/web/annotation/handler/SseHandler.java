@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.annotation.handler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The Interface SseHandler.
+ *
+ * <p>Maps one method to a <code>GET</code> route answering with a Server-Sent Events stream. The method receives
+ * one {@link org.jspare.vertx.web.handler.SseEmitter} parameter, open until the client disconnects, to send events
+ * or subscribe the connection to event bus addresses.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface SseHandler {
+
+  /**
+   * Value.
+   *
+   * @return the path
+   */
+  String value();
+
+  /**
+   * Interval in milliseconds between keep-alive comments sent on idle connections, zero disables them.
+   *
+   * @return the keep alive
+   */
+  long keepAlive() default 15000;
+
+  /**
+   * Events queued on a connection whose write queue is full, once exceeded the slow connection is closed and the
+   * client is expected to reconnect with <code>Last-Event-ID</code>.
+   *
+   * @return the max pending
+   */
+  int maxPending() default 256;
+}
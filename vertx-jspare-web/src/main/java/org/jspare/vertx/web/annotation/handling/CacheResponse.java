@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.annotation.handling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Interface CacheResponse.
+ *
+ * <p>Caches the encoded responses of one idempotent route method. The first request of each key runs the method and
+ * the response written through {@link org.jspare.vertx.web.handler.APIHandler} or returned by the method is kept,
+ * with its status, headers and one ETag computed once. The next requests of the same key are answered from the cache
+ * until the entry expires, with 304 when <code>If-None-Match</code> matches the ETag. Only 200 responses without
+ * cookies and not marked <code>private</code> or <code>no-store</code> are cached. The responses of authenticated
+ * requests are cached per user.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+public @interface CacheResponse {
+
+  /**
+   * Time to live of each entry.
+   *
+   * @return the long
+   */
+  long ttl() default 60;
+
+  /**
+   * Unit of time to live.
+   *
+   * @return the time unit
+   */
+  TimeUnit unit() default TimeUnit.SECONDS;
+
+  /**
+   * Request parameters composing the key, the whole uri is used when empty.
+   *
+   * @return the string[]
+   */
+  String[] params() default {};
+
+  /**
+   * Request headers composing the key, like <code>Accept-Language</code>.
+   *
+   * @return the string[]
+   */
+  String[] headers() default {};
+
+  /**
+   * Max entries kept, the least recently used are evicted.
+   *
+   * @return the int
+   */
+  int maxEntries() default 1024;
+}
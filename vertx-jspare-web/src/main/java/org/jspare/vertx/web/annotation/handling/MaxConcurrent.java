@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.annotation.handling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The Interface MaxConcurrent.
+ *
+ * <p>Caps the requests of one route, or of each route of one class, handled at the same time. A request is in flight
+ * until its response is ended or closed, the requests over the cap are answered with 503 and
+ * <code>Retry-After</code> before the auth handler, the body decoding and the instantiation of route class.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface MaxConcurrent {
+
+  /**
+   * Max requests in flight.
+   *
+   * @return the int
+   */
+  int value();
+
+  /**
+   * Seconds sent on <code>Retry-After</code> of rejected requests.
+   *
+   * @return the long
+   */
+  long retryAfter() default 1;
+}
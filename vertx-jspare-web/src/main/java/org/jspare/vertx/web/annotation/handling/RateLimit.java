@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.annotation.handling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Interface RateLimit.
+ *
+ * <p>Limits the requests accepted by one route, or by each route of one class, to <code>value</code> per period. The
+ * requests over the limit are answered with 429 and <code>Retry-After</code> before the auth handler, the body
+ * decoding and the instantiation of route class. The limit is kept by one lock-free generic cell rate algorithm,
+ * for all clients together or for each client ip or header value.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface RateLimit {
+
+  /**
+   * The key of limited requests.
+   */
+  enum Key {
+
+    /**
+     * One limit for all requests.
+     */
+    GLOBAL,
+
+    /**
+     * One limit by client ip.
+     */
+    IP,
+
+    /**
+     * One limit by value of {@link RateLimit#header()}.
+     */
+    HEADER
+  }
+
+  /**
+   * Requests accepted by period.
+   *
+   * @return the long
+   */
+  long value();
+
+  /**
+   * The period.
+   *
+   * @return the long
+   */
+  long period() default 1;
+
+  /**
+   * Unit of period.
+   *
+   * @return the time unit
+   */
+  TimeUnit unit() default TimeUnit.SECONDS;
+
+  /**
+   * Requests accepted at once, the requests of one whole period when zero.
+   *
+   * @return the int
+   */
+  int burst() default 0;
+
+  /**
+   * The key of limited requests.
+   *
+   * @return the key
+   */
+  Key key() default Key.GLOBAL;
+
+  /**
+   * Header holding the key, when keyed by {@link Key#HEADER}.
+   *
+   * @return the string
+   */
+  String header() default "";
+
+  /**
+   * Max keys tracked, the keys over it share one limit.
+   *
+   * @return the int
+   */
+  int maxKeys() default 10000;
+}
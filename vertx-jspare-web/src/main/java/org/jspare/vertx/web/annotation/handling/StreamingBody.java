@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.annotation.handling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The Interface StreamingBody.
+ *
+ * <p>Binds the json body of one route method while it is received. The {@link org.jspare.vertx.web.annotation.module.BodyHandler}
+ * module does not buffer the body of these routes, each chunk is fed to a non-blocking parser as it arrives and the
+ * method is called once the body ends.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+public @interface StreamingBody {
+
+  /**
+   * Max size in bytes of the body, larger bodies are answered with 413.
+   *
+   * @return the long
+   */
+  long maxSize() default 10 * 1024 * 1024;
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.annotation.handling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The Interface Timeout.
+ *
+ * <p>Limits the time of one route, or of each route of one class. The requests not answered in time are answered with
+ * 503 and their context is marked cancelled, see {@link org.jspare.vertx.web.handler.DefaultHandler#isCancelled}. The
+ * deadline of the request is carried on the messages sent over the event bus while the route method runs, see
+ * {@link org.jspare.vertx.concurrent.Deadline}.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface Timeout {
+
+  /**
+   * Millis to answer the request.
+   *
+   * @return the long
+   */
+  long value();
+}
@@ -0,0 +1,48 @@
+package org.jspare.vertx.web.annotation.module;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limit the requests in flight of every route without {@link org.jspare.vertx.web.annotation.handling.MaxConcurrent}
+ * by one limit adjusted from the observed latency, see
+ * {@link org.jspare.vertx.web.handler.AdaptiveConcurrencyLimiter}. The requests over the limit are answered with 503
+ * and <code>Retry-After</code>.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AdaptiveConcurrency {
+
+  /**
+   * The algorithms adjusting the limit.
+   */
+  enum Algorithm {
+
+    /**
+     * Follow the gradient between the long term and the current latency.
+     */
+    GRADIENT,
+
+    /**
+     * Estimate the queued requests from the latency without load.
+     */
+    VEGAS
+  }
+
+  Algorithm algorithm() default Algorithm.GRADIENT;
+
+  int initialLimit() default 20;
+
+  int minLimit() default 1;
+
+  int maxLimit() default 1000;
+
+  /**
+   * Seconds sent on <code>Retry-After</code> of rejected requests.
+   *
+   * @return the long
+   */
+  long retryAfter() default 1;
+}
@@ -3,6 +3,7 @@ package org.jspare.vertx.web.annotation.module;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 import org.jspare.vertx.Modularized;
+import org.jspare.vertx.web.handler.DefaultHandler;
 import org.jspare.vertx.web.module.AnnotationHandlerFactory;
 
 import java.lang.annotation.ElementType;
@@ -26,7 +27,18 @@ public @interface BodyHandler {
     public Handler<RoutingContext> factory(BodyHandler bodyHandler, Modularized instance) {
 
       String uploadDirectory = bodyHandler.uploadDirectory();
-      return io.vertx.ext.web.handler.BodyHandler.create(uploadDirectory);
+      io.vertx.ext.web.handler.BodyHandler handler = io.vertx.ext.web.handler.BodyHandler.create(uploadDirectory);
+      return ctx -> {
+
+        if (ctx.get(DefaultHandler.STREAMING_BODY) != null) {
+
+          // The body of streaming routes is read by its handler, its request is paused until then
+          ctx.next();
+        } else {
+
+          handler.handle(ctx);
+        }
+      };
     }
   }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.annotation.module;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Options of the http servers started by {@link org.jspare.vertx.web.module.HttpServerModule}.
+ *
+ * <p>The routes are collected once by the first router and reused by the routers of every instance, also by
+ * the instances of verticle deployed several times, until one of them is undeployed. With more than one
+ * instance each one is deployed on its own event loop, with its own router, listening on the port of the first
+ * one.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface HttpServer {
+
+  /**
+   * One instance by available processor.
+   */
+  int CORES = 0;
+
+  /**
+   * The instances of server, {@link #CORES} for one by available processor.
+   *
+   * @return the instances
+   */
+  int instances() default 1;
+}
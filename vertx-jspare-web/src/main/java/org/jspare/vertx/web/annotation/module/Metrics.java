@@ -0,0 +1,63 @@
+package org.jspare.vertx.web.annotation.module;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import org.jspare.vertx.Modularized;
+import org.jspare.vertx.concurrent.WorkerPools;
+import org.jspare.vertx.web.metrics.RouteMetrics;
+import org.jspare.vertx.web.metrics.RouteMetricsRegistry;
+import org.jspare.vertx.web.module.AnnotationHandlerFactory;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static org.jspare.core.Environment.my;
+
+/**
+ * Record the metrics of every route, see {@link RouteMetrics}, and expose them as json on {@link #path()}.
+ *
+ * <p>Declare it before the other handlers, the routing phase is measured from this handler. The metrics of the named
+ * worker pools, see {@link WorkerPools}, are exposed on {@link #workersPath()}.</p>
+ */
+@HandlerAware
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Metrics {
+
+  String path() default "/metrics";
+
+  String workersPath() default "/metrics/workers";
+
+  class MetricsFactory implements AnnotationHandlerFactory<Metrics> {
+
+    @Override
+    public Handler<RoutingContext> factory(Metrics metrics, Modularized instance) {
+
+      String path = metrics.path();
+      String workersPath = metrics.workersPath();
+      return ctx -> {
+
+        if (HttpMethod.GET.equals(ctx.request().method()) && path.equals(ctx.normalisedPath())) {
+
+          ctx.response()
+            .putHeader(HttpHeaderNames.CONTENT_TYPE, "application/json")
+            .end(my(RouteMetricsRegistry.class).toJson().encode());
+          return;
+        }
+        if (HttpMethod.GET.equals(ctx.request().method()) && workersPath.equals(ctx.normalisedPath())) {
+
+          ctx.response()
+            .putHeader(HttpHeaderNames.CONTENT_TYPE, "application/json")
+            .end(my(WorkerPools.class).toJson(instance.getVertx()).encode());
+          return;
+        }
+        ctx.put(RouteMetrics.START, System.nanoTime());
+        ctx.next();
+      };
+    }
+  }
+}
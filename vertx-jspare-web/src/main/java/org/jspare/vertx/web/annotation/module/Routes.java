@@ -14,6 +14,13 @@ public @interface Routes {
 
   boolean scanClasspath() default false;
 
+  /**
+   * Compile the routes into one radix tree dispatcher, see {@link org.jspare.vertx.web.builder.RouteDispatcher}.
+   *
+   * @return true, if routes are compiled
+   */
+  boolean fastDispatch() default false;
+
   Class<?>[] routes() default {};
 
   Class<?>[] skipRoutes() default {};
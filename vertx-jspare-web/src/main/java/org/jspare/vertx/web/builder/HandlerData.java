@@ -25,6 +25,16 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import org.apache.commons.lang.StringUtils;
+import org.jspare.vertx.builder.MethodInvoker;
+import org.jspare.vertx.concurrent.WorkerPool;
+import org.jspare.vertx.web.annotation.handling.StreamingBody;
+import org.jspare.vertx.web.handler.ConcurrencyLimiter;
+import org.jspare.vertx.web.handler.InstanceProvider;
+import org.jspare.vertx.web.handler.InstanceProviders;
+import org.jspare.vertx.web.handler.ParameterResolver;
+import org.jspare.vertx.web.handler.ParameterResolvers;
+import org.jspare.vertx.web.handler.RateLimiter;
+import org.jspare.vertx.web.handler.ResponseCache;
 
 import java.lang.reflect.Method;
 
@@ -66,6 +76,14 @@ import java.lang.reflect.Method;
  *          the produces
  * @param authHandler
  *          the auth handler
+ * @param invoker
+ *          the invoker
+ * @param parameterResolvers
+ *          the parameter resolvers
+ * @param instanceProvider
+ *          the instance provider
+ * @param streamingBody
+ *          the streaming body
  * @param documentation
  *          the documentation
  */
@@ -75,6 +93,8 @@ import java.lang.reflect.Method;
  * (non-Javadoc)
  *
  * @see java.lang.Object#hashCode()
+ *
+ * Routes are equal by their description, the state linked or created for their dispatch is excluded.
  */
 @EqualsAndHashCode
 public class HandlerData implements Cloneable {
@@ -139,6 +159,110 @@ public class HandlerData implements Cloneable {
    */
   private AuthHandler authHandler;
 
+  /**
+   * The invoker.
+   */
+  @EqualsAndHashCode.Exclude
+  private volatile MethodInvoker invoker;
+
+  /**
+   * The parameter resolvers.
+   */
+  @EqualsAndHashCode.Exclude
+  private volatile ParameterResolver[] parameterResolvers;
+
+  /**
+   * The instance provider.
+   */
+  @EqualsAndHashCode.Exclude
+  private volatile InstanceProvider instanceProvider;
+
+  /**
+   * The streaming body, null when the body is buffered.
+   */
+  private StreamingBody streamingBody;
+
+  /**
+   * The response cache, null when responses are not cached.
+   */
+  @EqualsAndHashCode.Exclude
+  private ResponseCache responseCache;
+
+  /**
+   * The rate limiter, null when requests are not rate limited.
+   */
+  @EqualsAndHashCode.Exclude
+  private RateLimiter rateLimiter;
+
+  /**
+   * The concurrency limiter, null when requests in flight are not limited.
+   */
+  @EqualsAndHashCode.Exclude
+  private ConcurrencyLimiter concurrencyLimiter;
+
+  /**
+   * The worker pool of blocking handler, null for the global worker pool.
+   */
+  @EqualsAndHashCode.Exclude
+  private WorkerPool workerPool;
+
+  /**
+   * The ordered execution of blocking handler.
+   */
+  private boolean orderedBlocking;
+
+  /**
+   * The execution on virtual threads, see {@link org.jspare.vertx.annotation.VirtualThread}.
+   */
+  private boolean virtualThread;
+
+  /**
+   * The timeout in millis, 0 when requests are not timed out.
+   */
+  private long timeout;
+
+  /**
+   * Invoker of the method, linked on first access when not prepared by {@link RouterBuilder}.
+   *
+   * @return the method invoker
+   */
+  public MethodInvoker invoker() {
+    MethodInvoker current = invoker;
+    if (current == null && method != null) {
+      current = MethodInvoker.of(method);
+      invoker = current;
+    }
+    return current;
+  }
+
+  /**
+   * Resolvers of method parameters, planned on first access when not prepared by {@link RouteCollector}.
+   *
+   * @return the parameter resolvers
+   */
+  public ParameterResolver[] parameterResolvers() {
+    ParameterResolver[] current = parameterResolvers;
+    if (current == null && method != null) {
+      current = ParameterResolvers.plan(method);
+      parameterResolvers = current;
+    }
+    return current;
+  }
+
+  /**
+   * Provider of route class instances, created on first access when not shared by {@link RouteCollector}.
+   *
+   * @return the instance provider
+   */
+  public InstanceProvider instanceProvider() {
+    InstanceProvider current = instanceProvider;
+    if (current == null && clazz != null) {
+      current = InstanceProviders.of(clazz);
+      instanceProvider = current;
+    }
+    return current;
+  }
+
   /**
    * To string line.
    *
@@ -1,15 +1,22 @@
 package org.jspare.vertx.web.builder;
 
+import io.vertx.core.Vertx;
 import lombok.Getter;
 
 import javax.annotation.Resource;
 import javax.inject.Singleton;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * <p>Handler Holder is used to hold Handlers mapped by RouterBuilder</p>
  *
+ * <p>Routers may be built concurrently by verticles deployed on several event loops, both maps are safe for
+ * concurrent access.</p>
+ *
  * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
  */
 @Resource
@@ -19,7 +26,41 @@ public class HandlerHolder {
   @Getter
   private Map<String, HandlerMap> handlerMap;
 
+  /**
+   * The collected routes shared by key within one vertx, see {@link RouterBuilder#routesKey(String)}. The routes hold
+   * the handlers, pools and limiters built for their vertx, so they are never shared with another one.
+   */
+  private final Map<Vertx, Map<String, List<HandlerData>>> routes;
+
   public HandlerHolder() {
-    this.handlerMap = new HashMap<>();
+    this.handlerMap = new ConcurrentHashMap<>();
+    this.routes = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * The routes shared by one key on one vertx, collected by the first caller while the others wait for them.
+   *
+   * @param vertx     the vertx
+   * @param key       the key
+   * @param collector the collector of routes
+   * @return the routes
+   */
+  public List<HandlerData> routes(Vertx vertx, String key, Supplier<List<HandlerData>> collector) {
+    return routes.computeIfAbsent(vertx, v -> new ConcurrentHashMap<>())
+      .computeIfAbsent(key, k -> Collections.unmodifiableList(collector.get()));
+  }
+
+  /**
+   * Forget the routes shared by one key on one vertx, the next router built with the key on it collects them again.
+   *
+   * @param vertx the vertx
+   * @param key   the key
+   */
+  public void release(Vertx vertx, String key) {
+    routes.computeIfPresent(vertx, (v, shared) -> {
+
+      shared.remove(key);
+      return shared.isEmpty() ? null : shared;
+    });
   }
 }
@@ -19,6 +19,7 @@ import org.jspare.vertx.web.annotation.handler.BlockingHandler;
 import org.jspare.vertx.web.annotation.handler.FailureHandler;
 import org.jspare.vertx.web.annotation.handler.Handler;
 import org.jspare.vertx.web.annotation.handler.SockJsHandler;
+import org.jspare.vertx.web.annotation.handler.SseHandler;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -38,7 +39,9 @@ public enum HandlerType {
   /** The failure handler. */
   FAILURE_HANDLER(FailureHandler.class),
   /** The socketjs handler. */
-  SOCKETJS_HANDLER(SockJsHandler.class);
+  SOCKETJS_HANDLER(SockJsHandler.class),
+  /** The server-sent events handler. */
+  SSE_HANDLER(SseHandler.class);
 
   /**
    * Gets the handler class.
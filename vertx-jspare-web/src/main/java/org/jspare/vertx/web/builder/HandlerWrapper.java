@@ -20,14 +20,21 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.BlockingHandlerDecorator;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.lang.StringUtils;
+import org.jspare.vertx.web.handler.AdmissionHandler;
 import org.jspare.vertx.web.handler.DefaultSockJSHandler;
+import org.jspare.vertx.web.handler.ResponseCacheHandler;
+import org.jspare.vertx.web.handler.WorkerPoolHandler;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
-import static org.jspare.vertx.web.handler.DefaultHandler.HANDLER_DATA;
+import static org.jspare.vertx.web.handler.DefaultHandler.STREAMING_BODY;
 
 /**
  * Instantiates a new handler wrapper.
@@ -100,46 +107,121 @@ public class HandlerWrapper {
    * @param route the route
    */
   protected void setConsumes(HandlerData data, Route route) {
-    route.consumes(data.consumes());
+    for (String consumes : StringUtils.split(data.consumes(), ',')) {
+
+      route.consumes(consumes.trim());
+    }
   }
 
   /**
-   * Sets the handler.
+   * Sets the handler, one route per handler data chaining the auth, response cache and route handlers.
    *
    * @param router the router
    * @param data   the data
    */
   protected void setHandler(Router router, HandlerData data) {
 
-    // Create auth handler if is setted
-    if (data.authHandler() != null) {
+    Route route = createRoute(router, data);
+    if (HandlerType.FAILURE_HANDLER.equals(data.handlerType())) {
 
-      Route authRoute = createRoute(router, data);
-      authRoute.handler(data.authHandler());
+      route.failureHandler(new RouteChain(data, Collections.singletonList(prepareHandler(data))));
+      return;
     }
+    route.handler(chain(data));
+  }
 
-    // Create route handler
-    Route hdRegRoute = createRoute(router, data);
-    Route route = createRoute(router, data);
+  /**
+   * Compile the steps of one handler data running before the global handlers into the dispatcher of these steps,
+   * registered once by {@link RouterBuilder}. Handler data not matched by dispatcher, as the ones with a regex path,
+   * keep their own route before the global handlers.
+   *
+   * @param router     the router
+   * @param dispatcher the dispatcher of steps
+   * @param data       the data
+   */
+  void before(Router router, RouteDispatcher dispatcher, HandlerData data) {
+
+    Handler<RoutingContext> step = before(data);
+    if (step == null) {
 
-    hdRegRoute.order(Integer.MIN_VALUE).handler(ctx -> {
-      ctx.put(HANDLER_DATA, data);
-      ctx.next();
-    });
+      return;
+    }
+    if (RouteDispatcher.matches(data)) {
+
+      dispatcher.before(data, step);
+    } else {
+
+      createRoute(router, data).order(Integer.MIN_VALUE).handler(step);
+    }
+  }
 
-    if (HandlerType.HANDLER.equals(data.handlerType())) {
+  /**
+   * The step running before the global handlers. Streaming routes are flagged, so the body handler leaves their body
+   * unread, and their request is paused until the route handler reads it, so no chunk is lost while asynchronous
+   * steps, as the auth, run. The requests of limited routes are then admitted, so rejected requests are answered
+   * before the body handler reads their body.
+   *
+   * @param data the data
+   * @return the step, null without streaming body nor limits
+   */
+  Handler<RoutingContext> before(HandlerData data) {
 
-      route.handler(prepareHandler(data));
-    } else if (HandlerType.FAILURE_HANDLER.equals(data.handlerType())) {
+    boolean streaming = data.streamingBody() != null;
+    AdmissionHandler admission = (data.rateLimiter() != null || data.concurrencyLimiter() != null)
+      && !HandlerType.FAILURE_HANDLER.equals(data.handlerType())
+      ? new AdmissionHandler(data.rateLimiter(), data.concurrencyLimiter()) : null;
+    if (!streaming && admission == null) {
 
-      route.failureHandler(prepareHandler(data));
-    } else if (HandlerType.BLOCKING_HANDLER.equals(data.handlerType())) {
+      return null;
+    }
+    return ctx -> {
 
-      route.blockingHandler(prepareHandler(data), false);
+      if (streaming) {
+
+        ctx.put(STREAMING_BODY, true);
+        ctx.request().pause();
+        ctx.addHeadersEndHandler(v -> ctx.request().resume());
+      }
+      if (admission != null) {
+
+        admission.handle(ctx);
+      } else {
+
+        ctx.next();
+      }
+    };
+  }
+
+  /**
+   * Chain the auth, response cache and route handlers of one handler data.
+   *
+   * @param data the data
+   * @return the route chain
+   */
+  RouteChain chain(HandlerData data) {
+
+    List<Handler<RoutingContext>> steps = new ArrayList<>(3);
+    if (data.authHandler() != null) {
+
+      steps.add(data.authHandler());
+    }
+    if (data.responseCache() != null) {
+
+      steps.add(new ResponseCacheHandler(data.responseCache()));
+    }
+    // Virtual thread routes are dispatched out of the event loop by the route handler itself
+    if (HandlerType.BLOCKING_HANDLER.equals(data.handlerType()) && !data.virtualThread()) {
+
+      steps.add(data.workerPool() != null ? new WorkerPoolHandler(data.workerPool(), prepareHandler(data), data.orderedBlocking())
+        : new BlockingHandlerDecorator(prepareHandler(data), data.orderedBlocking()));
     } else if (HandlerType.SOCKETJS_HANDLER.equals(data.handlerType())) {
 
-      route.handler(prepareSockJsHandler(data));
+      steps.add(prepareSockJsHandler(data));
+    } else {
+
+      steps.add(prepareHandler(data));
     }
+    return new RouteChain(data, steps);
   }
 
   /**
@@ -175,7 +257,10 @@ public class HandlerWrapper {
    * @param route the route
    */
   protected void setProduces(HandlerData data, Route route) {
-    route.produces(data.produces());
+    for (String produces : StringUtils.split(data.produces(), ',')) {
+
+      route.produces(produces.trim());
+    }
   }
 
   /**
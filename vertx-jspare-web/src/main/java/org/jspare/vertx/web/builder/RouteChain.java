@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.RoutingContextDecorator;
+import org.jspare.vertx.web.metrics.RouteMetrics;
+import org.jspare.vertx.web.metrics.RouteMetricsRegistry;
+
+import java.util.List;
+
+import static org.jspare.core.Environment.my;
+import static org.jspare.vertx.web.handler.DefaultHandler.HANDLER_DATA;
+
+/**
+ * Handler of the single route compiled for one {@link HandlerData}.
+ *
+ * <p>The handler data is put on the context, then the steps of route, as the auth, response cache and route
+ * handlers, run in order: each step continues to the next one by calling {@link RoutingContext#next()}. The last
+ * step receives the context of router itself, so its <code>next()</code> continues to the following routes. The
+ * path, method and content types of route are matched once for all steps.</p>
+ *
+ * <p>When the request is measured by {@link org.jspare.vertx.web.annotation.module.Metrics} the chain starts the
+ * {@link RouteMetrics} of route and records the time spent by the auth handler.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class RouteChain implements Handler<RoutingContext> {
+
+  /**
+   * The handler data.
+   */
+  private final HandlerData data;
+
+  /**
+   * The steps.
+   */
+  private final Handler<RoutingContext>[] steps;
+
+  /**
+   * The index of auth handler, -1 without auth.
+   */
+  private final int authIndex;
+
+  /**
+   * The metrics, resolved on first measured request.
+   */
+  private volatile RouteMetrics metrics;
+
+  /**
+   * Instantiates a new route chain.
+   *
+   * @param data  the handler data
+   * @param steps the steps, at least one
+   */
+  @SuppressWarnings("unchecked")
+  public RouteChain(HandlerData data, List<Handler<RoutingContext>> steps) {
+
+    if (steps.isEmpty()) {
+
+      throw new IllegalArgumentException("Route chain without steps");
+    }
+    this.data = data;
+    this.steps = steps.toArray(new Handler[0]);
+    this.authIndex = data.authHandler() != null ? steps.indexOf(data.authHandler()) : -1;
+  }
+
+  @Override
+  public void handle(RoutingContext context) {
+
+    context.put(HANDLER_DATA, data);
+    if (context.get(RouteMetrics.START) != null) {
+
+      metrics().begin(context);
+    }
+    proceed(context, 0);
+  }
+
+  /**
+   * Count the steps.
+   *
+   * @return the steps
+   */
+  public int size() {
+    return steps.length;
+  }
+
+  private RouteMetrics metrics() {
+
+    if (metrics == null) {
+
+      metrics = my(RouteMetricsRegistry.class).of(data);
+    }
+    return metrics;
+  }
+
+  private void proceed(RoutingContext context, int index) {
+
+    if (index == steps.length - 1) {
+
+      steps[index].handle(context);
+    } else {
+
+      steps[index].handle(new StepContext(context, index));
+    }
+  }
+
+  /**
+   * Context of one step, continuing to the next step.
+   */
+  private class StepContext extends RoutingContextDecorator {
+
+    private final RoutingContext context;
+    private final int index;
+    private final long started;
+
+    StepContext(RoutingContext context, int index) {
+
+      super(context.currentRoute(), context);
+      this.context = context;
+      this.index = index;
+      this.started = index == authIndex ? System.nanoTime() : 0L;
+    }
+
+    @Override
+    public void next() {
+
+      RouteMetrics routeMetrics = RouteMetrics.of(context);
+      if (index == authIndex && routeMetrics != null) {
+
+        routeMetrics.record(RouteMetrics.Phase.AUTH, System.nanoTime() - started);
+      }
+      proceed(context, index + 1);
+    }
+  }
+}
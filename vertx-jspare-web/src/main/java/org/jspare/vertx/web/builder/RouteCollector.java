@@ -22,13 +22,19 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang.StringUtils;
+import org.jspare.core.Environment;
 import org.jspare.vertx.builder.Collector;
+import org.jspare.vertx.builder.Registrations;
+import org.jspare.vertx.concurrent.VirtualThreads;
+import org.jspare.vertx.concurrent.WorkerPools;
 import org.jspare.vertx.web.annotation.auth.Auth;
 import org.jspare.vertx.web.annotation.auth.IgnoreAuth;
 import org.jspare.vertx.web.annotation.content.Consumes;
@@ -36,11 +42,25 @@ import org.jspare.vertx.web.annotation.content.Produces;
 import org.jspare.vertx.web.annotation.handler.BlockingHandler;
 import org.jspare.vertx.web.annotation.handler.FailureHandler;
 import org.jspare.vertx.web.annotation.handler.SockJsHandler;
+import org.jspare.vertx.web.annotation.handler.SseHandler;
+import org.jspare.vertx.web.annotation.handling.CacheResponse;
+import org.jspare.vertx.web.annotation.handling.MaxConcurrent;
+import org.jspare.vertx.web.annotation.handling.RateLimit;
+import org.jspare.vertx.web.annotation.handling.StreamingBody;
+import org.jspare.vertx.web.annotation.handling.Timeout;
 import org.jspare.vertx.web.annotation.method.All;
 import org.jspare.vertx.web.annotation.subrouter.IgnoreSubRouter;
 import org.jspare.vertx.web.annotation.subrouter.SubRouter;
+import org.jspare.vertx.web.handler.ConcurrencyLimiter;
+import org.jspare.vertx.web.handler.InstanceProvider;
+import org.jspare.vertx.web.handler.InstanceProviders;
+import org.jspare.vertx.web.handler.ParameterResolver;
+import org.jspare.vertx.web.handler.ParameterResolvers;
+import org.jspare.vertx.web.handler.RateLimiter;
+import org.jspare.vertx.web.handler.ResponseCache;
 
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.AuthHandler;
 import io.vertx.ext.web.handler.sockjs.SockJSHandler;
@@ -68,16 +88,97 @@ public class RouteCollector implements Collector<Collection<HandlerData>> {
 
     final RouterBuilder builder = (RouterBuilder) args[0];
 
+    RouteRegistration registration = Registrations.find(clazz, RouteRegistration.SUFFIX, RouteRegistration.class);
+    if (registration != null) {
+
+      return collectRegistered(clazz, builder, registration);
+    }
+    return collectDeclared(clazz, builder);
+  }
+
+  /**
+   * Collect the routes of one generated registration.
+   *
+   * @param clazz        the clazz
+   * @param builder      the builder
+   * @param registration the registration
+   * @return the collection
+   */
+  protected Collection<HandlerData> collectRegistered(Class<?> clazz, RouterBuilder builder, RouteRegistration registration) {
+
+    List<HandlerData> collectedHandlers = new ArrayList<>();
+    InstanceProvider instanceProvider = InstanceProviders.of(clazz);
+    Map<Method, ParameterResolver[]> parameterResolvers = new HashMap<>();
+    Map<Method, Optional<AuthHandler>> authHandlers = new HashMap<>();
+    Map<Method, Optional<ResponseCache>> responseCaches = new HashMap<>();
+    Map<Method, Optional<RateLimiter>> rateLimiters = new HashMap<>();
+    Map<Method, Optional<ConcurrencyLimiter>> concurrencyLimiters = new HashMap<>();
+    try {
+
+      registration.register((handlerData, authIdentity, authorities) -> {
+
+        Method method = handlerData.method();
+        handlerData.clazz(clazz)
+          .routeHandlerClass(builder.handlerClass())
+          .parameterResolvers(parameterResolvers.computeIfAbsent(method, ParameterResolvers::plan))
+          .instanceProvider(instanceProvider)
+          .streamingBody(method.getAnnotation(StreamingBody.class))
+          .responseCache(responseCaches
+            .computeIfAbsent(method, m -> Optional.ofNullable(createResponseCache(m)))
+            .orElse(null))
+          .rateLimiter(rateLimiters
+            .computeIfAbsent(method, m -> Optional.ofNullable(createRateLimiter(clazz, m)))
+            .orElse(null))
+          .concurrencyLimiter(concurrencyLimiters
+            .computeIfAbsent(method, m -> Optional.ofNullable(createConcurrencyLimiter(clazz, m)))
+            .orElse(null))
+          .virtualThread(VirtualThreads.isAnnotated(method))
+          .timeout(getTimeout(clazz, method));
+
+        if (authIdentity != null) {
+
+          handlerData.authHandler(authHandlers
+            .computeIfAbsent(method, m -> Optional.ofNullable(createAuthHandler(builder, authIdentity, authorities)))
+            .orElse(null));
+        }
+        if (HandlerType.SOCKETJS_HANDLER.equals(handlerData.handlerType())) {
+
+          handlerData.sockJSHandler(createSockJSHandler(builder));
+        }
+        if (HandlerType.BLOCKING_HANDLER.equals(handlerData.handlerType())) {
+
+          setWorker(builder, handlerData, method.getAnnotation(BlockingHandler.class));
+        }
+        collectedHandlers.add(handlerData);
+      });
+    } catch (NoSuchMethodException e) {
+
+      throw new IllegalStateException(String.format("Registration of [%s] is outdated, recompile it", clazz.getName()), e);
+    }
+    return collectedHandlers;
+  }
+
+  /**
+   * Collect the routes of one class from its declared methods and annotations.
+   *
+   * @param clazz   the clazz
+   * @param builder the builder
+   * @return the collection
+   */
+  protected Collection<HandlerData> collectDeclared(Class<?> clazz, RouterBuilder builder) {
+
     // Retrieve required parameters to collect handlers
 
     final Class<? extends Handler<RoutingContext>> routeHandlerClass = builder.handlerClass();
-    final SockJSHandlerOptions sockJSHandlerOptions = builder.sockJSHandlerOptions();
 
     // Initialize collected handlers
 
     List<HandlerData> collectedHandlers = new ArrayList<>();
     List<Annotation> httpMethodsAnnotations = new ArrayList<>(getHttpMethodsPresents(clazz));
 
+    // One provider per class, shared by all routes of the class
+    InstanceProvider instanceProvider = InstanceProviders.of(clazz);
+
     for (Method method : clazz.getDeclaredMethods()) {
 
       if (!isHandler(method)) {
@@ -101,25 +202,20 @@ public class RouteCollector implements Collector<Collection<HandlerData>> {
         // Retrieve auth metadata
         Auth auth = method.isAnnotationPresent(Auth.class) ? getAuth(method) : getAuth(clazz);
 
-        // Retrieve auth identity
-        String identity = auth.authHandler();
-
-        // Get authHandler from RouterBuilderAware
-        Optional<Supplier<AuthHandler>> oAuthHandler = Optional.ofNullable(builder.authHandlerMap().get(identity));
-
-        // Add authorities if is present on metadata
-        if (oAuthHandler.isPresent()) {
-
-          Supplier<AuthHandler> authHandlerSupplier = oAuthHandler.get();
-          authHandler = authHandlerSupplier.get();
-          authHandler.addAuthorities(
-              Arrays.asList(auth.value()).stream().filter(a -> StringUtils.isNotEmpty(a)).collect(Collectors.toSet()));
-        }
+        authHandler = createAuthHandler(builder, auth.authHandler(), auth.value());
       }
 
       HandlerData defaultHandlerData = new HandlerData().clazz(clazz).method(method).consumes(consumes)
           .produces(produces).authHandler(authHandler)
-          .routeHandlerClass(routeHandlerClass);
+          .routeHandlerClass(routeHandlerClass)
+          .parameterResolvers(ParameterResolvers.plan(method))
+          .instanceProvider(instanceProvider)
+          .streamingBody(method.getAnnotation(StreamingBody.class))
+          .responseCache(createResponseCache(method))
+          .rateLimiter(createRateLimiter(clazz, method))
+          .concurrencyLimiter(createConcurrencyLimiter(clazz, method))
+          .virtualThread(VirtualThreads.isAnnotated(method))
+          .timeout(getTimeout(clazz, method));
 
       if (hasHttpMethodsPresents(method)) {
 
@@ -140,12 +236,20 @@ public class RouteCollector implements Collector<Collection<HandlerData>> {
             // If SockJs type set other attributes and add to
             // collection
             handlerData.handlerType(HandlerType.SOCKETJS_HANDLER);
-            handlerData.sockJSHandler(SockJSHandler.create(builder.vertx(),
-                sockJSHandlerOptions != null ? sockJSHandlerOptions : new SockJSHandlerOptions()));
+            handlerData.sockJSHandler(createSockJSHandler(builder));
             handlerData.path(method.getAnnotation(SockJsHandler.class).value());
             collectedHandlers.add(handlerData);
             return;
 
+          } else if (isHandlerAnnotation(handlerType, SseHandler.class)) {
+
+            // Server-Sent Events are one GET route on its own path
+            handlerData.handlerType(HandlerType.SSE_HANDLER);
+            handlerData.path(method.getAnnotation(SseHandler.class).value());
+            handlerData.httpMethod(HttpMethod.GET.name());
+            collectedHandlers.add(handlerData);
+            return;
+
           } else if (isHandlerAnnotation(handlerType, org.jspare.vertx.web.annotation.handler.Handler.class)) {
 
             handlerData.handlerType(HandlerType.HANDLER);
@@ -155,6 +259,7 @@ public class RouteCollector implements Collector<Collection<HandlerData>> {
           } else if (isHandlerAnnotation(handlerType, BlockingHandler.class)) {
 
             handlerData.handlerType(HandlerType.BLOCKING_HANDLER);
+            setWorker(builder, handlerData, (BlockingHandler) handlerType);
           }
 
           // Extract order from Handler, all Hanlder having order()
@@ -180,6 +285,113 @@ public class RouteCollector implements Collector<Collection<HandlerData>> {
     return collectedHandlers;
   }
 
+  /**
+   * Creates the auth handler of one route.
+   *
+   * @param builder     the builder
+   * @param identity    the identity of auth handler
+   * @param authorities the authorities
+   * @return the auth handler, null if no auth handler is registered with identity
+   */
+  protected AuthHandler createAuthHandler(RouterBuilder builder, String identity, String[] authorities) {
+
+    // Get authHandler from RouterBuilderAware
+    Optional<Supplier<AuthHandler>> oAuthHandler = Optional.ofNullable(builder.authHandlerMap().get(identity));
+
+    // Add authorities if is present on metadata
+    if (oAuthHandler.isPresent()) {
+
+      AuthHandler authHandler = oAuthHandler.get().get();
+      authHandler.addAuthorities(
+          Arrays.asList(authorities).stream().filter(a -> StringUtils.isNotEmpty(a)).collect(Collectors.toSet()));
+      return authHandler;
+    }
+    return null;
+  }
+
+  /**
+   * Creates the response cache of one route method.
+   *
+   * @param method the method
+   * @return the response cache, null if the method is not annotated with {@link CacheResponse}
+   */
+  protected ResponseCache createResponseCache(Method method) {
+
+    CacheResponse cacheResponse = method.getAnnotation(CacheResponse.class);
+    return cacheResponse != null ? new ResponseCache(cacheResponse) : null;
+  }
+
+  /**
+   * The timeout of one route method, annotated on the method or else on its class.
+   *
+   * @param clazz  the clazz
+   * @param method the method
+   * @return the timeout in millis, 0 if neither is annotated with {@link Timeout}
+   */
+  protected long getTimeout(Class<?> clazz, Method method) {
+
+    Timeout timeout = method.isAnnotationPresent(Timeout.class) ? method.getAnnotation(Timeout.class)
+      : clazz.getAnnotation(Timeout.class);
+    return timeout != null ? timeout.value() : 0L;
+  }
+
+  /**
+   * Creates the rate limiter of one route method, annotated on the method or else on its class.
+   *
+   * @param clazz  the clazz
+   * @param method the method
+   * @return the rate limiter, null if neither is annotated with {@link RateLimit}
+   */
+  protected RateLimiter createRateLimiter(Class<?> clazz, Method method) {
+
+    RateLimit rateLimit = method.isAnnotationPresent(RateLimit.class) ? method.getAnnotation(RateLimit.class)
+        : clazz.getAnnotation(RateLimit.class);
+    return rateLimit != null ? new RateLimiter(rateLimit) : null;
+  }
+
+  /**
+   * Creates the concurrency limiter of one route method, annotated on the method or else on its class.
+   *
+   * @param clazz  the clazz
+   * @param method the method
+   * @return the concurrency limiter, null if neither is annotated with {@link MaxConcurrent}
+   */
+  protected ConcurrencyLimiter createConcurrencyLimiter(Class<?> clazz, Method method) {
+
+    MaxConcurrent maxConcurrent = method.isAnnotationPresent(MaxConcurrent.class)
+        ? method.getAnnotation(MaxConcurrent.class) : clazz.getAnnotation(MaxConcurrent.class);
+    return maxConcurrent != null ? new ConcurrencyLimiter(maxConcurrent.value(), maxConcurrent.retryAfter()) : null;
+  }
+
+  /**
+   * Sets the worker pool and ordering of one blocking route.
+   *
+   * @param builder     the builder
+   * @param handlerData the handler data
+   * @param blocking    the blocking handler
+   */
+  protected void setWorker(RouterBuilder builder, HandlerData handlerData, BlockingHandler blocking) {
+
+    handlerData.orderedBlocking(blocking.ordered());
+    if (blocking.worker().length > 0) {
+
+      handlerData.workerPool(Environment.my(WorkerPools.class).pool(builder.vertx(), blocking.worker()[0]));
+    }
+  }
+
+  /**
+   * Creates the sock JS handler of one route.
+   *
+   * @param builder the builder
+   * @return the sock JS handler
+   */
+  protected SockJSHandler createSockJSHandler(RouterBuilder builder) {
+
+    SockJSHandlerOptions sockJSHandlerOptions = builder.sockJSHandlerOptions();
+    return SockJSHandler.create(builder.vertx(),
+        sockJSHandlerOptions != null ? sockJSHandlerOptions : new SockJSHandlerOptions());
+  }
+
   /**
    * Annotation method.
    *
@@ -0,0 +1,631 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.net.impl.URIDecoder;
+import io.vertx.ext.web.MIMEHeader;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.ParsableMIMEValue;
+import io.vertx.ext.web.impl.RoutingContextDecorator;
+import org.apache.commons.lang.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Dispatcher of the routes compiled into one radix tree per http method.
+ *
+ * <p>{@link io.vertx.ext.web.Router} tests its routes one after the other, so the cost of matching grows with the
+ * number of routes. The dispatcher is registered as one route of router and resolves the handlers it holds in one
+ * walk of the tree: static segments are shared between paths, whole segments declared as <code>:name</code> are
+ * captured as path parameters and a trailing <code>*</code> matches the rest of path. The matched handlers run in the
+ * order they were added, each one continuing to the next with {@link RoutingContext#next()}; the last one, or a
+ * request without match, continues to the routes of router. The walk collects the matches into one small array per
+ * request, ordered as added, keeping the bounds of parameter values on the path until a matched route runs.</p>
+ *
+ * <p>The path, method and content types follow the rules of router routes. Handler data with a regex path, an
+ * explicit order, a parameter not spanning a whole segment, as well as failure and SockJS handlers, are not accepted
+ * and keep their own route on router. {@link RouterBuilder} compiles each run of consecutive accepted routes into one
+ * dispatcher registered at the place of its first route, so the routes keep their order relative to the routes left
+ * to router; a route added to router with an explicit order falling within one run is matched before or after the
+ * whole run, as the first route of run.</p>
+ *
+ * <p>The steps running before the global handlers, as the admission of limited routes, are compiled with
+ * {@link #before(HandlerData, Handler)} into one dispatcher registered first on router, so one route matches the
+ * requests of all routes holding such steps.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class RouteDispatcher implements Handler<RoutingContext> {
+
+  /**
+   * The Constant PARAMETER, the name of one path parameter as accepted by router.
+   */
+  private static final Pattern PARAMETER = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
+
+  /**
+   * The Constant REGEX_CHARS, characters of a path with parameters that router handles as regex.
+   */
+  private static final String REGEX_CHARS = "[]{}?^|\\*";
+
+  /**
+   * The roots of routes by http method.
+   */
+  private final Map<HttpMethod, Node> roots = new EnumMap<>(HttpMethod.class);
+
+  /**
+   * The root of routes matching any http method.
+   */
+  private final Node anyMethod = new Node(StringUtils.EMPTY);
+
+  /**
+   * The number of compiled routes.
+   */
+  private int size;
+
+  /**
+   * Check if one handler data can be compiled by dispatcher.
+   *
+   * @param data the data
+   * @return true, if accepted
+   */
+  public static boolean accepts(HandlerData data) {
+
+    if (data.order() != Integer.MIN_VALUE || HandlerType.FAILURE_HANDLER.equals(data.handlerType())
+      || HandlerType.SOCKETJS_HANDLER.equals(data.handlerType())) {
+
+      return false;
+    }
+    return matches(data);
+  }
+
+  /**
+   * Check if the path of one handler data can be matched by dispatcher, the order and type of handler aside.
+   *
+   * @param data the data
+   * @return true, if matched
+   */
+  public static boolean matches(HandlerData data) {
+
+    if (data.pathRegex() || data.path() == null || !data.path().startsWith("/")) {
+
+      return false;
+    }
+    return parse(data.path()) != null;
+  }
+
+  /**
+   * Compile one handler data.
+   *
+   * @param data the data
+   * @return the route dispatcher
+   */
+  public RouteDispatcher add(HandlerData data) {
+
+    if (!accepts(data)) {
+
+      throw new IllegalArgumentException(String.format("Route %s not accepted by dispatcher", data.toStringLine()));
+    }
+
+    insert(data, new Entry(size++, HandlerWrapper.chain(data), data));
+    return this;
+  }
+
+  /**
+   * Compile one step running before the global handlers for the requests of one handler data. The path parameters
+   * are left to the route itself.
+   *
+   * @param data the data
+   * @param step the step, continuing with {@link RoutingContext#next()}
+   * @return the route dispatcher
+   */
+  public RouteDispatcher before(HandlerData data, Handler<RoutingContext> step) {
+
+    if (!matches(data)) {
+
+      throw new IllegalArgumentException(String.format("Route %s not matched by dispatcher", data.toStringLine()));
+    }
+
+    Entry entry = new Entry(size++, step, data);
+    entry.step = true;
+    insert(data, entry);
+    return this;
+  }
+
+  private void insert(HandlerData data, Entry entry) {
+
+    Node root = anyMethod;
+    if (StringUtils.isNotEmpty(data.httpMethod())) {
+
+      root = roots.computeIfAbsent(HttpMethod.valueOf(data.httpMethod()), m -> new Node(StringUtils.EMPTY));
+    }
+
+    String path = data.path();
+    List<String> tokens = parse(path);
+    boolean parameters = path.indexOf(':') != -1;
+    boolean wildcard = path.endsWith("*");
+
+    if (!parameters && !wildcard) {
+
+      // Exact paths ignore the trailing slash
+      entry.trailingSlash = true;
+      root.insert(removeTrailing(path)).entries.add(entry);
+      return;
+    }
+
+    Node node = root;
+    for (String token : tokens) {
+
+      if (token.charAt(0) == ':') {
+
+        entry.parameters.add(token.substring(1));
+        node = node.parameter();
+      } else {
+
+        node = node.insert(token);
+      }
+    }
+
+    if (wildcard) {
+
+      node.wildcard.add(entry);
+      String prefix = tokens.isEmpty() ? StringUtils.EMPTY : tokens.get(tokens.size() - 1);
+      if (!parameters && prefix.endsWith("/")) {
+
+        // As router, the prefix without its trailing slash is matched too
+        root.insert(removeTrailing(prefix)).entries.add(entry);
+      }
+    } else {
+
+      node.entries.add(entry);
+    }
+  }
+
+  /**
+   * Count the compiled routes.
+   *
+   * @return the size
+   */
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void handle(RoutingContext context) {
+
+    String path = context.normalisedPath();
+    String mountPoint = context.mountPoint();
+    if (mountPoint != null && path.startsWith(mountPoint)) {
+
+      path = path.substring(mountPoint.length());
+    }
+
+    Matches matches = new Matches(path);
+    Node root = roots.get(context.request().method());
+    if (root != null) {
+
+      root.collect(path, 0, matches);
+    }
+    anyMethod.collect(path, 0, matches);
+
+    if (matches.size == 0) {
+
+      context.next();
+      return;
+    }
+    dispatch(context, matches, 0);
+  }
+
+  private void dispatch(RoutingContext context, Matches matches, int index) {
+
+    for (int i = index; i < matches.size; i++) {
+
+      Entry entry = matches.entries[i];
+      if (entry.matches(context)) {
+
+        if (!entry.step) {
+
+          matches.addParameters(context, i);
+        }
+        if (i == matches.size - 1) {
+
+          entry.chain.handle(context);
+        } else {
+
+          entry.chain.handle(new NextMatchContext(context, matches, i + 1));
+        }
+        return;
+      }
+    }
+    context.next();
+  }
+
+  /**
+   * Split one path into static tokens and <code>:name</code> tokens, without the trailing <code>*</code>.
+   *
+   * @param path the path
+   * @return the tokens, null if the path is not accepted
+   */
+  private static List<String> parse(String path) {
+
+    String body = path.endsWith("*") ? path.substring(0, path.length() - 1) : path;
+    if (path.indexOf(':') == -1) {
+
+      return body.isEmpty() ? Collections.emptyList() : Collections.singletonList(body);
+    }
+
+    List<String> tokens = new ArrayList<>();
+    Set<String> names = new LinkedHashSet<>();
+    int start = 0;
+    while (start < body.length()) {
+
+      int colon = body.indexOf(':', start);
+      int end = colon == -1 ? body.length() : colon;
+      String text = body.substring(start, end);
+      if (StringUtils.containsAny(text, REGEX_CHARS)) {
+
+        return null;
+      }
+      if (!text.isEmpty()) {
+
+        tokens.add(text);
+      }
+      if (colon == -1) {
+
+        break;
+      }
+
+      // Parameters must span one whole segment
+      int slash = body.indexOf('/', colon);
+      int nameEnd = slash == -1 ? body.length() : slash;
+      String name = body.substring(colon + 1, nameEnd);
+      if (body.charAt(colon - 1) != '/' || !PARAMETER.matcher(name).matches() || !names.add(name)) {
+
+        return null;
+      }
+      tokens.add(":" + name);
+      start = nameEnd;
+    }
+    return tokens;
+  }
+
+  private static String removeTrailing(String path) {
+
+    return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+  }
+
+  /**
+   * One compiled route.
+   */
+  private static final class Entry {
+
+    private final int index;
+    private final Handler<RoutingContext> chain;
+    private final List<String> parameters = new ArrayList<>(2);
+    private final Set<MIMEHeader> consumes = new LinkedHashSet<>();
+    private final Set<MIMEHeader> produces = new LinkedHashSet<>();
+    private boolean trailingSlash;
+    private boolean step;
+
+    Entry(int index, Handler<RoutingContext> chain, HandlerData data) {
+
+      this.index = index;
+      this.chain = chain;
+      if (StringUtils.isNotEmpty(data.consumes())) {
+
+        for (String consumes : StringUtils.split(data.consumes(), ',')) {
+
+          this.consumes.add(new ParsableMIMEValue(consumes.trim()).forceParse());
+        }
+      }
+      if (StringUtils.isNotEmpty(data.produces())) {
+
+        for (String produces : StringUtils.split(data.produces(), ',')) {
+
+          this.produces.add(new ParsableMIMEValue(produces.trim()).forceParse());
+        }
+      }
+    }
+
+    /**
+     * Match the content types, as router routes do.
+     */
+    boolean matches(RoutingContext context) {
+
+      if (!consumes.isEmpty() && context.parsedHeaders().contentType().findMatchedBy(consumes) == null) {
+
+        return false;
+      }
+      List<MIMEHeader> accept = context.parsedHeaders().accept();
+      if (!produces.isEmpty() && !accept.isEmpty()) {
+
+        MIMEHeader selected = context.parsedHeaders().findBestUserAcceptedIn(accept, produces);
+        if (selected == null) {
+
+          return false;
+        }
+        context.setAcceptableContentType(selected.rawValue());
+      }
+      return true;
+    }
+  }
+
+  /**
+   * The routes matched by one path, ordered as added, with the bounds of their parameter values on the path.
+   */
+  private static final class Matches {
+
+    private static final int[] NO_BOUNDS = new int[0];
+
+    private final String path;
+    private Entry[] entries = new Entry[2];
+    private int[] offsets = new int[2];
+    private int size;
+
+    /**
+     * The start and end of parameter values, by pairs, from the offset of each match.
+     */
+    private int[] bounds = NO_BOUNDS;
+    private int boundsSize;
+
+    /**
+     * The start and end of parameter values captured by the walk up to the current node.
+     */
+    private int[] captured = NO_BOUNDS;
+    private int depth;
+
+    Matches(String path) {
+      this.path = path;
+    }
+
+    void push(int start, int end) {
+
+      if (captured.length < depth * 2 + 2) {
+
+        captured = Arrays.copyOf(captured, depth * 2 + 4);
+      }
+      captured[depth * 2] = start;
+      captured[depth * 2 + 1] = end;
+      depth++;
+    }
+
+    void pop() {
+      depth--;
+    }
+
+    /**
+     * Add one matched route with the values captured so far, once even when reached twice.
+     */
+    void add(Entry entry) {
+
+      int at = size;
+      for (int i = 0; i < size; i++) {
+
+        if (entries[i].index == entry.index) {
+
+          return;
+        }
+        if (entries[i].index > entry.index) {
+
+          at = i;
+          break;
+        }
+      }
+      if (size == entries.length) {
+
+        entries = Arrays.copyOf(entries, size * 2);
+        offsets = Arrays.copyOf(offsets, size * 2);
+      }
+      System.arraycopy(entries, at, entries, at + 1, size - at);
+      System.arraycopy(offsets, at, offsets, at + 1, size - at);
+      entries[at] = entry;
+      offsets[at] = boundsSize;
+      size++;
+
+      if (depth > 0) {
+
+        if (bounds.length < boundsSize + depth * 2) {
+
+          bounds = Arrays.copyOf(bounds, Math.max(bounds.length * 2, boundsSize + depth * 2));
+        }
+        System.arraycopy(captured, 0, bounds, boundsSize, depth * 2);
+        boundsSize += depth * 2;
+      }
+    }
+
+    void addParameters(RoutingContext context, int match) {
+
+      Entry entry = entries[match];
+      int offset = offsets[match];
+      for (int i = 0; i < entry.parameters.size(); i++) {
+
+        String name = entry.parameters.get(i);
+        String value = URIDecoder.decodeURIComponent(path.substring(bounds[offset + i * 2], bounds[offset + i * 2 + 1]),
+          false);
+        if (!context.request().params().contains(name)) {
+
+          context.request().params().add(name, value);
+        }
+        context.pathParams().put(name, value);
+      }
+    }
+  }
+
+  /**
+   * One node of tree, holding the routes ending at its prefix.
+   */
+  private static final class Node {
+
+    private String prefix;
+    private List<Node> children = new ArrayList<>(2);
+    private Node parameter;
+    private List<Entry> entries = new ArrayList<>(1);
+    private List<Entry> wildcard = new ArrayList<>(1);
+
+    Node(String prefix) {
+      this.prefix = prefix;
+    }
+
+    /**
+     * Walk the static text from this node, splitting and adding nodes as needed.
+     */
+    Node insert(String text) {
+
+      Node node = this;
+      int i = 0;
+      while (i < text.length()) {
+
+        Node child = node.child(text.charAt(i));
+        if (child == null) {
+
+          child = new Node(text.substring(i));
+          node.children.add(child);
+          return child;
+        }
+
+        int common = 0;
+        int max = Math.min(child.prefix.length(), text.length() - i);
+        while (common < max && child.prefix.charAt(common) == text.charAt(i + common)) {
+
+          common++;
+        }
+        if (common < child.prefix.length()) {
+
+          child.split(common);
+        }
+        i += common;
+        node = child;
+      }
+      return node;
+    }
+
+    Node parameter() {
+
+      if (parameter == null) {
+
+        parameter = new Node(StringUtils.EMPTY);
+      }
+      return parameter;
+    }
+
+    Node child(char c) {
+
+      for (int i = 0; i < children.size(); i++) {
+
+        Node child = children.get(i);
+        if (child.prefix.charAt(0) == c) {
+
+          return child;
+        }
+      }
+      return null;
+    }
+
+    void split(int at) {
+
+      Node tail = new Node(prefix.substring(at));
+      tail.children = children;
+      tail.parameter = parameter;
+      tail.entries = entries;
+      tail.wildcard = wildcard;
+
+      prefix = prefix.substring(0, at);
+      children = new ArrayList<>(2);
+      children.add(tail);
+      parameter = null;
+      entries = new ArrayList<>(1);
+      wildcard = new ArrayList<>(1);
+    }
+
+    /**
+     * Collect the routes matching the path from one position, the prefix of node already matched.
+     */
+    void collect(String path, int position, Matches matches) {
+
+      for (int i = 0; i < wildcard.size(); i++) {
+
+        matches.add(wildcard.get(i));
+      }
+
+      int remaining = path.length() - position;
+      if (remaining == 0 || remaining == 1 && path.charAt(position) == '/') {
+
+        for (int i = 0; i < entries.size(); i++) {
+
+          Entry entry = entries.get(i);
+          if (remaining == 0 || entry.trailingSlash) {
+
+            matches.add(entry);
+          }
+        }
+      }
+      if (remaining == 0) {
+
+        return;
+      }
+
+      Node child = child(path.charAt(position));
+      if (child != null && path.startsWith(child.prefix, position)) {
+
+        child.collect(path, position + child.prefix.length(), matches);
+      }
+
+      if (parameter != null) {
+
+        int end = path.indexOf('/', position);
+        end = end == -1 ? path.length() : end;
+        if (end > position) {
+
+          matches.push(position, end);
+          parameter.collect(path, end, matches);
+          matches.pop();
+        }
+      }
+    }
+  }
+
+  /**
+   * Context of one matched route, continuing to the next matched route.
+   */
+  private class NextMatchContext extends RoutingContextDecorator {
+
+    private final RoutingContext context;
+    private final Matches matches;
+    private final int index;
+
+    NextMatchContext(RoutingContext context, Matches matches, int index) {
+
+      super(context.currentRoute(), context);
+      this.context = context;
+      this.matches = matches;
+      this.index = index;
+    }
+
+    @Override
+    public void next() {
+      dispatch(context, matches, index);
+    }
+  }
+}
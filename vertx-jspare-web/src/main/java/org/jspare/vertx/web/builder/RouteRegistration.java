@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder;
+
+/**
+ * Registration of the routes of one class, generated at compile time. When present it is used by
+ * {@link RouteCollector} instead of scanning the declared methods and annotations of the class.
+ *
+ * <p>Each generated {@link HandlerData} carries its method, invoker, handler type, order, http method, path and
+ * content types, the collector completes it with the state owned by the {@link RouterBuilder}.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public interface RouteRegistration {
+
+  /**
+   * The Constant SUFFIX.
+   */
+  String SUFFIX = "_RouteRegistration";
+
+  /**
+   * Register all routes.
+   *
+   * @param registrar the registrar
+   * @throws NoSuchMethodException if the class changed after the registration was generated
+   */
+  void register(Registrar registrar) throws NoSuchMethodException;
+
+  /**
+   * Receives each route.
+   */
+  @FunctionalInterface
+  interface Registrar {
+
+    /**
+     * Register one route.
+     *
+     * @param handlerData the handler data
+     * @param authHandler the identity of auth handler, null if the route has no auth
+     * @param authorities the authorities required by auth
+     */
+    void route(HandlerData handlerData, String authHandler, String[] authorities);
+  }
+}
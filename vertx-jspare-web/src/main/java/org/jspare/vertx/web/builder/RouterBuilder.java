@@ -15,7 +15,6 @@
  */
 package org.jspare.vertx.web.builder;
 
-import io.github.lukehutch.fastclasspathscanner.matchprocessor.MethodAnnotationMatchProcessor;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.Route;
@@ -29,9 +28,14 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import org.jspare.vertx.builder.AbstractBuilder;
+import org.jspare.vertx.builder.MethodInvoker;
+import org.jspare.vertx.concurrent.Deadline;
 import org.jspare.vertx.utils.ClasspathScannerUtils;
+import org.jspare.vertx.web.handler.ConcurrencyLimiter;
 import org.jspare.vertx.web.handler.DefaultHandler;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -59,9 +63,15 @@ public class RouterBuilder extends AbstractBuilder<Router> {
   public static final String DEFAULT_AUTH_HANDLER_KEY = "default-auth-handler";
 
   /**
-   * The Constant NUMBER_CLASSPATH_SCANNER_THREADS.
+   * The Constant ROUTE_HANDLERS, annotations of the methods of route classes.
    */
-  private static final int NUMBER_CLASSPATH_SCANNER_THREADS = 3;
+  private static final List<Class<? extends Annotation>> ROUTE_HANDLERS = Arrays.asList(
+    org.jspare.vertx.web.annotation.handler.Handler.class,
+    org.jspare.vertx.web.annotation.handler.FailureHandler.class,
+    org.jspare.vertx.web.annotation.handler.BlockingHandler.class,
+    org.jspare.vertx.web.annotation.handler.SockJsHandler.class,
+    org.jspare.vertx.web.annotation.handler.SseHandler.class);
+
   /**
    * Vertx.
    *
@@ -101,6 +111,42 @@ public class RouterBuilder extends AbstractBuilder<Router> {
    */
   @Setter
   private boolean scanClasspath;
+  /**
+   * Compile the routes into {@link RouteDispatcher}s, matched in one walk of a radix tree instead of one router
+   * route each. Each run of consecutive compiled routes shares one dispatcher registered at the place of its first
+   * route, so the routes keep their order relative to the routes left to router.
+   *
+   * @return true, if routes are compiled
+   */
+  @Getter
+
+  /**
+   * Compile the routes into one {@link RouteDispatcher}.
+   *
+   * @param fastDispatch
+   *          the fast dispatch
+   * @return the router builder
+   */
+  @Setter
+  private boolean fastDispatch;
+  /**
+   * Key of the routes shared by the routers built with the same key on the same vertx: the first builder collects them,
+   * the next ones reuse its {@link HandlerData}, see {@link HandlerHolder#routes(Vertx, String, Supplier)}. Null to
+   * collect on every build.
+   *
+   * @return the routes key
+   */
+  @Getter
+
+  /**
+   * Key of the routes shared by the routers built with the same key.
+   *
+   * @param routesKey
+   *          the routes key
+   * @return the router builder
+   */
+  @Setter
+  private String routesKey;
   /**
    * Handlers.
    *
@@ -156,6 +202,23 @@ public class RouterBuilder extends AbstractBuilder<Router> {
    */
   @Setter
   private SockJSHandlerOptions sockJSHandlerOptions;
+  /**
+   * Supplier of the concurrency limiter of routes without their own limit, one limiter per route method. Null to
+   * leave them unlimited.
+   *
+   * @return the concurrency limiter supplier
+   */
+  @Getter
+
+  /**
+   * Supplier of the concurrency limiter of routes without their own limit.
+   *
+   * @param concurrencyLimiter
+   *          the concurrency limiter supplier
+   * @return the router builder
+   */
+  @Setter
+  private Supplier<ConcurrencyLimiter> concurrencyLimiter;
   /**
    * Auth handler map.
    *
@@ -335,21 +398,46 @@ public class RouterBuilder extends AbstractBuilder<Router> {
       map.add((Class<Handler<RoutingContext>>) h.getClass());
     });
 
-    collectRoutes();
+    List<HandlerData> handlerDataList = routesKey != null
+      ? my(HandlerHolder.class).routes(vertx, routesKey, this::collectHandlerData)
+      : collectHandlerData();
 
-    List<HandlerData> handlerDataList = new ArrayList<>();
-    routes
-      .stream()
-      .filter(c -> !skipRoutes.contains(c)).collect(Collectors.toSet())
-      .forEach(c -> handlerDataList.addAll(my(RouteCollector.class).collect(c, this)));
+    // The deadline of timed out routes is carried on the messages they send
+    if (handlerDataList.stream().anyMatch(hd -> hd.timeout() > 0)) {
+
+      Deadline.propagate(vertx);
+    }
 
-    handlerDataList.forEach(hd -> {
+    // The steps running before the global handlers, as the admission, share one route
+    RouteDispatcher before = new RouteDispatcher();
+    RouteDispatcher dispatcher = null;
+
+    for (HandlerData hd : handlerDataList) {
       if (log.isDebugEnabled()) {
         log.debug("Routing handler {}", hd.toStringLine());
       }
-      HandlerWrapper.prepareHandler(router, hd);
+      HandlerWrapper.before(router, before, hd);
+      if (fastDispatch && RouteDispatcher.accepts(hd)) {
+
+        // Each run of compiled routes takes the place of its first route, keeping the order of routes
+        if (dispatcher == null) {
+
+          dispatcher = new RouteDispatcher();
+          router.route().handler(dispatcher);
+        }
+        dispatcher.add(hd);
+      } else {
+
+        HandlerWrapper.prepareHandler(router, hd);
+        dispatcher = null;
+      }
       map.add(hd);
-    });
+    }
+
+    if (before.size() > 0) {
+
+      router.route().order(Integer.MIN_VALUE).handler(before);
+    }
 
     my(HandlerHolder.class).getHandlerMap()
       .put(name, map);
@@ -394,6 +482,37 @@ public class RouterBuilder extends AbstractBuilder<Router> {
     return this;
   }
 
+  /**
+   * Collect the handler data of routes, linking one invoker per method.
+   *
+   * @return the handler data
+   */
+  private List<HandlerData> collectHandlerData() {
+
+    collectRoutes();
+
+    List<HandlerData> handlerDataList = new ArrayList<>();
+    routes
+      .stream()
+      .filter(c -> !skipRoutes.contains(c)).collect(Collectors.toSet())
+      .forEach(c -> handlerDataList.addAll(my(RouteCollector.class).collect(c, this)));
+
+    // Link one invoker per method, shared by all HandlerData collected from it, generated invokers are kept
+    Map<Method, MethodInvoker> invokers = new HashMap<>();
+    handlerDataList.forEach(hd -> hd.invoker(invokers.computeIfAbsent(hd.method(), m -> hd.invoker())));
+
+    // Long lived sse and sockjs requests are not limited, they would hold their permits
+    if (concurrencyLimiter != null) {
+
+      Map<Method, ConcurrencyLimiter> limiters = new HashMap<>();
+      handlerDataList.stream()
+        .filter(hd -> hd.concurrencyLimiter() == null)
+        .filter(hd -> HandlerType.HANDLER.equals(hd.handlerType()) || HandlerType.BLOCKING_HANDLER.equals(hd.handlerType()))
+        .forEach(hd -> hd.concurrencyLimiter(limiters.computeIfAbsent(hd.method(), m -> concurrencyLimiter.get())));
+    }
+    return handlerDataList;
+  }
+
   /**
    * Collect routes.
    */
@@ -407,17 +526,8 @@ public class RouterBuilder extends AbstractBuilder<Router> {
       routePackages.add(".*");
     }
 
-    // Iterate routePackages scannig and adding classes to
-    // routes
-    MethodAnnotationMatchProcessor processor = (c, m) -> routes.add(c);
-    routePackages.forEach(scanSpec -> {
-
-      ClasspathScannerUtils.scanner(scanSpec)
-        .matchClassesWithMethodAnnotation(org.jspare.vertx.web.annotation.handler.Handler.class, processor)
-        .matchClassesWithMethodAnnotation(org.jspare.vertx.web.annotation.handler.FailureHandler.class, processor)
-        .matchClassesWithMethodAnnotation(org.jspare.vertx.web.annotation.handler.BlockingHandler.class, processor)
-        .matchClassesWithMethodAnnotation(org.jspare.vertx.web.annotation.handler.SockJsHandler.class, processor)
-        .scan(NUMBER_CLASSPATH_SCANNER_THREADS);
-    });
+    // Iterate routePackages adding classes to routes, read from the shared scan result or the build time index
+    routePackages.forEach(scanSpec -> ROUTE_HANDLERS
+      .forEach(annotation -> routes.addAll(ClasspathScannerUtils.classesWithMethodAnnotation(scanSpec, annotation))));
   }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Codec of request and response bodies of one media type.
+ *
+ * <p>Bodies are parsed by the Jackson {@link JsonFactory} of codec into the tokens bound by
+ * {@link org.jspare.vertx.web.handler.BodyDecoder}, so any data format with a Jackson backend binds parameters
+ * exactly as json. Codecs are registered on {@link BodyCodecs}.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public interface BodyCodec {
+
+  /**
+   * The media type, without parameters.
+   *
+   * @return the media type
+   */
+  String mediaType();
+
+  /**
+   * The factory of parsers of the data format.
+   *
+   * @return the json factory
+   */
+  JsonFactory factory();
+
+  /**
+   * Encode one value.
+   *
+   * @param value the value
+   * @return the buffer, owned by the caller until written
+   * @throws io.vertx.core.json.EncodeException if the value cannot be encoded
+   */
+  Buffer encode(Object value);
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.MIMEHeader;
+import io.vertx.ext.web.ParsedHeaderValues;
+import io.vertx.ext.web.RoutingContext;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.jspare.vertx.cdi.EnvironmentLoader;
+import org.jspare.vertx.web.handler.JsonEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of body codecs keyed by media type.
+ *
+ * <p>Json is always registered and is the default of requests and responses, CBOR and Smile are registered with
+ * mappers configured as {@link Json#mapper} by {@link EnvironmentLoader#configure(ObjectMapper)}, MessagePack is
+ * registered when <code>jackson-dataformat-msgpack</code> is on the classpath.</p>
+ *
+ * <p>The codec of a request body is the one of its <code>Content-Type</code>. The codec of a response is the one of
+ * the content type matched by the <code>@Produces</code> of route when present, otherwise the first type of the
+ * <code>Accept</code> header of request with one registered codec, in order of preference.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Slf4j
+@UtilityClass
+public class BodyCodecs {
+
+  /**
+   * The Constant APPLICATION_CBOR.
+   */
+  public static final String APPLICATION_CBOR = "application/cbor";
+
+  /**
+   * The Constant APPLICATION_SMILE.
+   */
+  public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+  /**
+   * The Constant APPLICATION_MSGPACK.
+   */
+  public static final String APPLICATION_MSGPACK = "application/x-msgpack";
+
+  /**
+   * The Constant JSON, encoding with {@link JsonEncoder}.
+   */
+  public static final BodyCodec JSON = new BodyCodec() {
+
+    @Override
+    public String mediaType() {
+      return JsonEncoder.APPLICATION_JSON;
+    }
+
+    @Override
+    public JsonFactory factory() {
+      return Json.mapper.getFactory();
+    }
+
+    @Override
+    public Buffer encode(Object value) {
+      return JsonEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+  };
+
+  private static final String MSGPACK_FACTORY = "org.msgpack.jackson.dataformat.MessagePackFactory";
+
+  private static final Map<String, BodyCodec> CODECS = new ConcurrentHashMap<>();
+
+  static {
+
+    register(JSON);
+    register(new JacksonBodyCodec(APPLICATION_CBOR, EnvironmentLoader.configure(new ObjectMapper(new CBORFactory()))));
+    register(new JacksonBodyCodec(APPLICATION_SMILE, EnvironmentLoader.configure(new ObjectMapper(new SmileFactory()))));
+    try {
+
+      JsonFactory factory = (JsonFactory) Class.forName(MSGPACK_FACTORY).newInstance();
+      register(new JacksonBodyCodec(APPLICATION_MSGPACK, EnvironmentLoader.configure(new ObjectMapper(factory))));
+    } catch (ClassNotFoundException e) {
+
+      log.debug("MessagePack codec not registered, {} is not on classpath", MSGPACK_FACTORY);
+    } catch (ReflectiveOperationException | LinkageError e) {
+
+      log.warn("MessagePack codec not registered", e);
+    }
+  }
+
+  /**
+   * Register one codec, replacing the codec of the same media type.
+   *
+   * @param codec the codec
+   */
+  public void register(BodyCodec codec) {
+
+    CODECS.put(normalize(codec.mediaType()), codec);
+  }
+
+  /**
+   * The codec of one media type, parameters as charset are ignored.
+   *
+   * @param mediaType the media type
+   * @return the body codec, null if none is registered
+   */
+  public BodyCodec of(String mediaType) {
+
+    return mediaType != null ? CODECS.get(normalize(mediaType)) : null;
+  }
+
+  /**
+   * The codec of request body.
+   *
+   * @param context the routing context
+   * @return the body codec, json when the content type has no codec
+   */
+  public BodyCodec forRequest(RoutingContext context) {
+
+    BodyCodec codec = of(context.request().getHeader(HttpHeaderNames.CONTENT_TYPE));
+    return codec != null ? codec : JSON;
+  }
+
+  /**
+   * The codec of response.
+   *
+   * @param context the routing context
+   * @return the body codec, json when no accepted type has a codec
+   */
+  public BodyCodec forResponse(RoutingContext context) {
+
+    // Content type matched by the route produces
+    String acceptable = context.getAcceptableContentType();
+    if (acceptable != null) {
+
+      BodyCodec codec = of(acceptable);
+      return codec != null ? codec : JSON;
+    }
+
+    ParsedHeaderValues parsedHeaders = context.parsedHeaders();
+    if (parsedHeaders == null) {
+
+      return JSON;
+    }
+    // Accepted types are sorted by preference
+    for (MIMEHeader accept : parsedHeaders.accept()) {
+
+      BodyCodec codec = CODECS.get(normalize(accept.value()));
+      if (codec != null) {
+
+        return codec;
+      }
+      if ("*".equals(accept.component()) || "*".equals(accept.subComponent())) {
+
+        return JSON;
+      }
+    }
+    return JSON;
+  }
+
+  private String normalize(String mediaType) {
+
+    int end = mediaType.indexOf(';');
+    return (end < 0 ? mediaType : mediaType.substring(0, end)).trim().toLowerCase(Locale.ROOT);
+  }
+}
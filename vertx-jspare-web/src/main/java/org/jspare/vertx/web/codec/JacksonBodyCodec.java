@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.EncodeException;
+import lombok.AllArgsConstructor;
+
+import java.io.OutputStream;
+
+/**
+ * Codec backed by one Jackson {@link ObjectMapper}, values are encoded straight into one heap {@link ByteBuf}.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@AllArgsConstructor
+public class JacksonBodyCodec implements BodyCodec {
+
+  /**
+   * The media type.
+   */
+  private final String mediaType;
+
+  /**
+   * The mapper.
+   */
+  private final ObjectMapper mapper;
+
+  @Override
+  public String mediaType() {
+    return mediaType;
+  }
+
+  @Override
+  public JsonFactory factory() {
+    return mapper.getFactory();
+  }
+
+  @Override
+  public Buffer encode(Object value) {
+
+    ByteBuf buf = Unpooled.buffer();
+    try (OutputStream out = new ByteBufOutputStream(buf)) {
+
+      mapper.writeValue(out, value);
+    } catch (Exception e) {
+
+      throw new EncodeException(String.format("Failed to encode as %s: %s", mediaType, e.getMessage()), e);
+    }
+    return Buffer.buffer(buf);
+  }
+}
@@ -17,12 +17,17 @@ package org.jspare.vertx.web.handler;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jspare.vertx.concurrent.FutureSupplier;
+import org.jspare.vertx.web.codec.BodyCodec;
+import org.jspare.vertx.web.codec.BodyCodecs;
+import org.jspare.vertx.web.metrics.RouteMetrics;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
@@ -34,6 +39,7 @@ import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.auth.User;
 import io.vertx.ext.web.Cookie;
 import io.vertx.ext.web.FileUpload;
@@ -48,6 +54,28 @@ import lombok.Setter;
  */
 public abstract class APIHandler {
 
+  /**
+   * The classes overriding {@link #transform(Object)}.
+   */
+  private static final ClassValue<Boolean> TRANSFORM_OVERRIDDEN = new ClassValue<Boolean>() {
+
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+
+      for (Class<?> current = type; current != APIHandler.class; current = current.getSuperclass()) {
+        try {
+
+          current.getDeclaredMethod("transform", Object.class);
+          return true;
+        } catch (NoSuchMethodException e) {
+
+          // Not declared on this class
+        }
+      }
+      return false;
+    }
+  };
+
   @Setter
   protected Vertx vertx;
 
@@ -67,7 +95,8 @@ public abstract class APIHandler {
    * Accepted.
    */
   protected void accepted() {
-    status(HttpResponseStatus.ACCEPTED).end();
+    status(HttpResponseStatus.ACCEPTED);
+    end();
   }
 
   /**
@@ -77,7 +106,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void accepted(Buffer buffer) {
-    status(HttpResponseStatus.ACCEPTED).end(buffer);
+    status(HttpResponseStatus.ACCEPTED);
+    end(buffer);
   }
 
   /**
@@ -100,9 +130,7 @@ public abstract class APIHandler {
    */
   protected void accepted(Object object, Charset charset) {
     status(HttpResponseStatus.ACCEPTED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -128,16 +156,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Bad gateway.
    */
   protected void badGateway() {
-    status(HttpResponseStatus.BAD_GATEWAY).end();
+    status(HttpResponseStatus.BAD_GATEWAY);
+    end();
   }
 
   /**
@@ -147,7 +174,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void badGateway(Buffer buffer) {
-    status(HttpResponseStatus.BAD_GATEWAY).end(buffer);
+    status(HttpResponseStatus.BAD_GATEWAY);
+    end(buffer);
   }
 
   /**
@@ -170,9 +198,7 @@ public abstract class APIHandler {
    */
   protected void badGateway(Object object, Charset charset) {
     status(HttpResponseStatus.BAD_GATEWAY);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -198,16 +224,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Bad request.
    */
   protected void badRequest() {
-    status(HttpResponseStatus.BAD_REQUEST).end();
+    status(HttpResponseStatus.BAD_REQUEST);
+    end();
   }
 
   /**
@@ -217,7 +242,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void badRequest(Buffer buffer) {
-    status(HttpResponseStatus.BAD_REQUEST).end(buffer);
+    status(HttpResponseStatus.BAD_REQUEST);
+    end(buffer);
   }
 
   /**
@@ -240,9 +266,7 @@ public abstract class APIHandler {
    */
   protected void badRequest(Object object, Charset charset) {
     status(HttpResponseStatus.BAD_REQUEST);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -268,9 +292,7 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
@@ -283,11 +305,22 @@ public abstract class APIHandler {
     return context.getBodyAsString();
   }
 
+  /**
+   * Cancelled, the request was answered by the {@link org.jspare.vertx.web.annotation.handling.Timeout} of route.
+   *
+   * @return true, if cancelled
+   */
+  protected boolean cancelled() {
+
+    return DefaultHandler.isCancelled(context);
+  }
+
   /**
    * Conflict.
    */
   protected void conflict() {
-    status(HttpResponseStatus.CONFLICT).end();
+    status(HttpResponseStatus.CONFLICT);
+    end();
   }
 
   /**
@@ -297,7 +330,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void conflict(Buffer buffer) {
-    status(HttpResponseStatus.CONFLICT).end(buffer);
+    status(HttpResponseStatus.CONFLICT);
+    end(buffer);
   }
 
   /**
@@ -320,9 +354,7 @@ public abstract class APIHandler {
    */
   protected void conflict(Object object, Charset charset) {
     status(HttpResponseStatus.CONFLICT);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -348,9 +380,7 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
@@ -361,7 +391,12 @@ public abstract class APIHandler {
    * @return the http server response
    */
   protected HttpServerResponse contentType(String contentType) {
-    res.putHeader("content-type", contentType);
+
+    // The response may be ended already, as by the timeout of route
+    if (!res.ended()) {
+
+      res.putHeader("content-type", contentType);
+    }
     return res;
   }
 
@@ -369,7 +404,8 @@ public abstract class APIHandler {
    * Continue it.
    */
   protected void continueIt() {
-    status(HttpResponseStatus.CONTINUE).end();
+    status(HttpResponseStatus.CONTINUE);
+    end();
   }
 
   /**
@@ -379,7 +415,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void continueIt(Buffer buffer) {
-    status(HttpResponseStatus.CONTINUE).end(buffer);
+    status(HttpResponseStatus.CONTINUE);
+    end(buffer);
   }
 
   /**
@@ -402,9 +439,7 @@ public abstract class APIHandler {
    */
   protected void continueIt(Object object, Charset charset) {
     status(HttpResponseStatus.CONTINUE);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -430,9 +465,7 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
@@ -449,7 +482,8 @@ public abstract class APIHandler {
    * Created.
    */
   protected void created() {
-    status(HttpResponseStatus.CREATED).end();
+    status(HttpResponseStatus.CREATED);
+    end();
   }
 
   /**
@@ -459,7 +493,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void created(Buffer buffer) {
-    status(HttpResponseStatus.CREATED).end(buffer);
+    status(HttpResponseStatus.CREATED);
+    end(buffer);
   }
 
   /**
@@ -482,9 +517,7 @@ public abstract class APIHandler {
    */
   protected void created(Object object, Charset charset) {
     status(HttpResponseStatus.CREATED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -510,9 +543,7 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
@@ -540,6 +571,48 @@ public abstract class APIHandler {
     }
   }
 
+  /**
+   * End with the object encoded by the codec negotiated with the request, sent with its exact length. Json is
+   * encoded on the charset with {@link #transformToBuffer(Object, Charset)}, see {@link BodyCodecs#forResponse}.
+   *
+   * @param object
+   *          the object
+   * @param charset
+   *          the charset
+   */
+  protected void end(Object object, Charset charset) {
+
+    if (!res.ended()) {
+
+      RouteMetrics metrics = context != null ? RouteMetrics.of(context) : null;
+      long started = metrics != null ? System.nanoTime() : 0L;
+      BodyCodec codec = context != null ? BodyCodecs.forResponse(context) : BodyCodecs.JSON;
+      Buffer buffer = codec != BodyCodecs.JSON ? codec.encode(object) : transformToBuffer(object, charset);
+      if (metrics != null) {
+
+        metrics.record(RouteMetrics.Phase.SERIALIZATION, System.nanoTime() - started);
+      }
+      contentType(codec != BodyCodecs.JSON ? codec.mediaType() : JsonEncoder.contentType(charset));
+      JsonEncoder.end(res, buffer);
+    }
+  }
+
+  /**
+   * End with the content encoded on the charset, sent with its exact length.
+   *
+   * @param content
+   *          the content
+   * @param charset
+   *          the charset
+   */
+  protected void end(String content, Charset charset) {
+
+    if (!res.ended()) {
+
+      res.setChunked(false).end(content, charset.name());
+    }
+  }
+
   /**
    * End.
    *
@@ -619,7 +692,8 @@ public abstract class APIHandler {
    * Expectation failed.
    */
   protected void expectationFailed() {
-    status(HttpResponseStatus.EXPECTATION_FAILED).end();
+    status(HttpResponseStatus.EXPECTATION_FAILED);
+    end();
   }
 
   /**
@@ -629,7 +703,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void expectationFailed(Buffer buffer) {
-    status(HttpResponseStatus.EXPECTATION_FAILED).end(buffer);
+    status(HttpResponseStatus.EXPECTATION_FAILED);
+    end(buffer);
   }
 
   /**
@@ -652,9 +727,7 @@ public abstract class APIHandler {
    */
   protected void expectationFailed(Object object, Charset charset) {
     status(HttpResponseStatus.EXPECTATION_FAILED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -680,16 +753,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Failed dependency.
    */
   protected void failedDependency() {
-    status(HttpResponseStatus.FAILED_DEPENDENCY).end();
+    status(HttpResponseStatus.FAILED_DEPENDENCY);
+    end();
   }
 
   /**
@@ -699,7 +771,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void failedDependency(Buffer buffer) {
-    status(HttpResponseStatus.FAILED_DEPENDENCY).end(buffer);
+    status(HttpResponseStatus.FAILED_DEPENDENCY);
+    end(buffer);
   }
 
   /**
@@ -722,9 +795,7 @@ public abstract class APIHandler {
    */
   protected void failedDependency(Object object, Charset charset) {
     status(HttpResponseStatus.FAILED_DEPENDENCY);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -750,9 +821,7 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
@@ -769,7 +838,8 @@ public abstract class APIHandler {
    * Forbidden.
    */
   protected void forbidden() {
-    status(HttpResponseStatus.FORBIDDEN).end();
+    status(HttpResponseStatus.FORBIDDEN);
+    end();
   }
 
   /**
@@ -779,7 +849,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void forbidden(Buffer buffer) {
-    status(HttpResponseStatus.FORBIDDEN).end(buffer);
+    status(HttpResponseStatus.FORBIDDEN);
+    end(buffer);
   }
 
   /**
@@ -802,9 +873,7 @@ public abstract class APIHandler {
    */
   protected void forbidden(Object object, Charset charset) {
     status(HttpResponseStatus.FORBIDDEN);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -830,16 +899,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Found.
    */
   protected void found() {
-    status(HttpResponseStatus.FOUND).end();
+    status(HttpResponseStatus.FOUND);
+    end();
   }
 
   /**
@@ -849,7 +917,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void found(Buffer buffer) {
-    status(HttpResponseStatus.FOUND).end(buffer);
+    status(HttpResponseStatus.FOUND);
+    end(buffer);
   }
 
   /**
@@ -872,9 +941,7 @@ public abstract class APIHandler {
    */
   protected void found(Object object, Charset charset) {
     status(HttpResponseStatus.FOUND);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -900,16 +967,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Gateway timeout.
    */
   protected void gatewayTimeout() {
-    status(HttpResponseStatus.GATEWAY_TIMEOUT).end();
+    status(HttpResponseStatus.GATEWAY_TIMEOUT);
+    end();
   }
 
   /**
@@ -919,7 +985,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void gatewayTimeout(Buffer buffer) {
-    status(HttpResponseStatus.GATEWAY_TIMEOUT).end(buffer);
+    status(HttpResponseStatus.GATEWAY_TIMEOUT);
+    end(buffer);
   }
 
   /**
@@ -942,9 +1009,7 @@ public abstract class APIHandler {
    */
   protected void gatewayTimeout(Object object, Charset charset) {
     status(HttpResponseStatus.GATEWAY_TIMEOUT);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -970,9 +1035,7 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
@@ -1039,7 +1102,8 @@ public abstract class APIHandler {
    * Gone.
    */
   protected void gone() {
-    status(HttpResponseStatus.GONE).end();
+    status(HttpResponseStatus.GONE);
+    end();
   }
 
   /**
@@ -1049,7 +1113,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void gone(Buffer buffer) {
-    status(HttpResponseStatus.GONE).end(buffer);
+    status(HttpResponseStatus.GONE);
+    end(buffer);
   }
 
   /**
@@ -1072,9 +1137,7 @@ public abstract class APIHandler {
    */
   protected void gone(Object object, Charset charset) {
     status(HttpResponseStatus.GONE);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1100,16 +1163,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Http version not supported.
    */
   protected void httpVersionNotSupported() {
-    status(HttpResponseStatus.HTTP_VERSION_NOT_SUPPORTED).end();
+    status(HttpResponseStatus.HTTP_VERSION_NOT_SUPPORTED);
+    end();
   }
 
   /**
@@ -1119,7 +1181,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void httpVersionNotSupported(Buffer buffer) {
-    status(HttpResponseStatus.HTTP_VERSION_NOT_SUPPORTED).end(buffer);
+    status(HttpResponseStatus.HTTP_VERSION_NOT_SUPPORTED);
+    end(buffer);
   }
 
   /**
@@ -1142,9 +1205,7 @@ public abstract class APIHandler {
    */
   protected void httpVersionNotSupported(Object object, Charset charset) {
     status(HttpResponseStatus.HTTP_VERSION_NOT_SUPPORTED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1170,16 +1231,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Insufficient storage.
    */
   protected void insufficientStorage() {
-    status(HttpResponseStatus.INSUFFICIENT_STORAGE).end();
+    status(HttpResponseStatus.INSUFFICIENT_STORAGE);
+    end();
   }
 
   /**
@@ -1189,7 +1249,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void insufficientStorage(Buffer buffer) {
-    status(HttpResponseStatus.INSUFFICIENT_STORAGE).end(buffer);
+    status(HttpResponseStatus.INSUFFICIENT_STORAGE);
+    end(buffer);
   }
 
   /**
@@ -1212,9 +1273,7 @@ public abstract class APIHandler {
    */
   protected void insufficientStorage(Object object, Charset charset) {
     status(HttpResponseStatus.INSUFFICIENT_STORAGE);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1240,16 +1299,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Internal server error.
    */
   protected void internalServerError() {
-    status(HttpResponseStatus.INTERNAL_SERVER_ERROR).end();
+    status(HttpResponseStatus.INTERNAL_SERVER_ERROR);
+    end();
   }
 
   /**
@@ -1259,7 +1317,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void internalServerError(Buffer buffer) {
-    status(HttpResponseStatus.INTERNAL_SERVER_ERROR).end(buffer);
+    status(HttpResponseStatus.INTERNAL_SERVER_ERROR);
+    end(buffer);
   }
 
   /**
@@ -1282,9 +1341,7 @@ public abstract class APIHandler {
    */
   protected void internalServerError(Object object, Charset charset) {
     status(HttpResponseStatus.INTERNAL_SERVER_ERROR);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1310,9 +1367,7 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
@@ -1388,7 +1443,8 @@ public abstract class APIHandler {
    * Length required.
    */
   protected void lengthRequired() {
-    status(HttpResponseStatus.LENGTH_REQUIRED).end();
+    status(HttpResponseStatus.LENGTH_REQUIRED);
+    end();
   }
 
   /**
@@ -1398,7 +1454,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void lengthRequired(Buffer buffer) {
-    status(HttpResponseStatus.LENGTH_REQUIRED).end(buffer);
+    status(HttpResponseStatus.LENGTH_REQUIRED);
+    end(buffer);
   }
 
   /**
@@ -1421,9 +1478,7 @@ public abstract class APIHandler {
    */
   protected void lengthRequired(Object object, Charset charset) {
     status(HttpResponseStatus.LENGTH_REQUIRED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1449,16 +1504,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Locked.
    */
   protected void locked() {
-    status(HttpResponseStatus.LOCKED).end();
+    status(HttpResponseStatus.LOCKED);
+    end();
   }
 
   /**
@@ -1468,7 +1522,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void locked(Buffer buffer) {
-    status(HttpResponseStatus.LOCKED).end(buffer);
+    status(HttpResponseStatus.LOCKED);
+    end(buffer);
   }
 
   /**
@@ -1491,9 +1546,7 @@ public abstract class APIHandler {
    */
   protected void locked(Object object, Charset charset) {
     status(HttpResponseStatus.LOCKED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1519,16 +1572,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Method not allowed.
    */
   protected void methodNotAllowed() {
-    status(HttpResponseStatus.METHOD_NOT_ALLOWED).end();
+    status(HttpResponseStatus.METHOD_NOT_ALLOWED);
+    end();
   }
 
   /**
@@ -1538,7 +1590,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void methodNotAllowed(Buffer buffer) {
-    status(HttpResponseStatus.METHOD_NOT_ALLOWED).end(buffer);
+    status(HttpResponseStatus.METHOD_NOT_ALLOWED);
+    end(buffer);
   }
 
   /**
@@ -1561,9 +1614,7 @@ public abstract class APIHandler {
    */
   protected void methodNotAllowed(Object object, Charset charset) {
     status(HttpResponseStatus.METHOD_NOT_ALLOWED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1589,16 +1640,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Misdirected request.
    */
   protected void misdirectedRequest() {
-    status(HttpResponseStatus.MISDIRECTED_REQUEST).end();
+    status(HttpResponseStatus.MISDIRECTED_REQUEST);
+    end();
   }
 
   /**
@@ -1608,7 +1658,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void misdirectedRequest(Buffer buffer) {
-    status(HttpResponseStatus.MISDIRECTED_REQUEST).end(buffer);
+    status(HttpResponseStatus.MISDIRECTED_REQUEST);
+    end(buffer);
   }
 
   /**
@@ -1631,9 +1682,7 @@ public abstract class APIHandler {
    */
   protected void misdirectedRequest(Object object, Charset charset) {
     status(HttpResponseStatus.MISDIRECTED_REQUEST);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1659,16 +1708,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Moved permanently.
    */
   protected void movedPermanently() {
-    status(HttpResponseStatus.MOVED_PERMANENTLY).end();
+    status(HttpResponseStatus.MOVED_PERMANENTLY);
+    end();
   }
 
   /**
@@ -1678,7 +1726,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void movedPermanently(Buffer buffer) {
-    status(HttpResponseStatus.MOVED_PERMANENTLY).end(buffer);
+    status(HttpResponseStatus.MOVED_PERMANENTLY);
+    end(buffer);
   }
 
   /**
@@ -1701,9 +1750,7 @@ public abstract class APIHandler {
    */
   protected void movedPermanently(Object object, Charset charset) {
     status(HttpResponseStatus.MOVED_PERMANENTLY);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1729,16 +1776,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Multiple choices.
    */
   protected void multipleChoices() {
-    status(HttpResponseStatus.MULTIPLE_CHOICES).end();
+    status(HttpResponseStatus.MULTIPLE_CHOICES);
+    end();
   }
 
   /**
@@ -1748,7 +1794,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void multipleChoices(Buffer buffer) {
-    status(HttpResponseStatus.MULTIPLE_CHOICES).end(buffer);
+    status(HttpResponseStatus.MULTIPLE_CHOICES);
+    end(buffer);
   }
 
   /**
@@ -1771,9 +1818,7 @@ public abstract class APIHandler {
    */
   protected void multipleChoices(Object object, Charset charset) {
     status(HttpResponseStatus.MULTIPLE_CHOICES);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1799,16 +1844,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Multi status.
    */
   protected void multiStatus() {
-    status(HttpResponseStatus.MULTI_STATUS).end();
+    status(HttpResponseStatus.MULTI_STATUS);
+    end();
   }
 
   /**
@@ -1818,7 +1862,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void multiStatus(Buffer buffer) {
-    status(HttpResponseStatus.MULTI_STATUS).end(buffer);
+    status(HttpResponseStatus.MULTI_STATUS);
+    end(buffer);
   }
 
   /**
@@ -1841,9 +1886,7 @@ public abstract class APIHandler {
    */
   protected void multiStatus(Object object, Charset charset) {
     status(HttpResponseStatus.MULTI_STATUS);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1869,16 +1912,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Network authentication required.
    */
   protected void networkAuthenticationRequired() {
-    status(HttpResponseStatus.NETWORK_AUTHENTICATION_REQUIRED).end();
+    status(HttpResponseStatus.NETWORK_AUTHENTICATION_REQUIRED);
+    end();
   }
 
   /**
@@ -1888,7 +1930,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void networkAuthenticationRequired(Buffer buffer) {
-    status(HttpResponseStatus.NETWORK_AUTHENTICATION_REQUIRED).end(buffer);
+    status(HttpResponseStatus.NETWORK_AUTHENTICATION_REQUIRED);
+    end(buffer);
   }
 
   /**
@@ -1911,9 +1954,7 @@ public abstract class APIHandler {
    */
   protected void networkAuthenticationRequired(Object object, Charset charset) {
     status(HttpResponseStatus.NETWORK_AUTHENTICATION_REQUIRED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -1939,16 +1980,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * No content.
    */
   protected void noContent() {
-    status(HttpResponseStatus.NO_CONTENT).end();
+    status(HttpResponseStatus.NO_CONTENT);
+    end();
   }
 
   /**
@@ -1958,7 +1998,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void noContent(Buffer buffer) {
-    status(HttpResponseStatus.NO_CONTENT).end(buffer);
+    status(HttpResponseStatus.NO_CONTENT);
+    end(buffer);
   }
 
   /**
@@ -1981,9 +2022,7 @@ public abstract class APIHandler {
    */
   protected void noContent(Object object, Charset charset) {
     status(HttpResponseStatus.NO_CONTENT);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2009,16 +2048,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Non authoratitative information.
    */
   protected void nonAuthoratitativeInformation() {
-    status(HttpResponseStatus.NON_AUTHORITATIVE_INFORMATION).end();
+    status(HttpResponseStatus.NON_AUTHORITATIVE_INFORMATION);
+    end();
   }
 
   /**
@@ -2028,7 +2066,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void nonAuthoratitativeInformation(Buffer buffer) {
-    status(HttpResponseStatus.NON_AUTHORITATIVE_INFORMATION).end(buffer);
+    status(HttpResponseStatus.NON_AUTHORITATIVE_INFORMATION);
+    end(buffer);
   }
 
   /**
@@ -2051,9 +2090,7 @@ public abstract class APIHandler {
    */
   protected void nonAuthoratitativeInformation(Object object, Charset charset) {
     status(HttpResponseStatus.NON_AUTHORITATIVE_INFORMATION);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2079,16 +2116,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Not acceptable.
    */
   protected void notAcceptable() {
-    status(HttpResponseStatus.NOT_ACCEPTABLE).end();
+    status(HttpResponseStatus.NOT_ACCEPTABLE);
+    end();
   }
 
   /**
@@ -2098,7 +2134,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void notAcceptable(Buffer buffer) {
-    status(HttpResponseStatus.NOT_ACCEPTABLE).end(buffer);
+    status(HttpResponseStatus.NOT_ACCEPTABLE);
+    end(buffer);
   }
 
   /**
@@ -2121,9 +2158,7 @@ public abstract class APIHandler {
    */
   protected void notAcceptable(Object object, Charset charset) {
     status(HttpResponseStatus.NOT_ACCEPTABLE);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2149,16 +2184,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Not extended.
    */
   protected void notExtended() {
-    status(HttpResponseStatus.NOT_EXTENDED).end();
+    status(HttpResponseStatus.NOT_EXTENDED);
+    end();
   }
 
   /**
@@ -2168,7 +2202,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void notExtended(Buffer buffer) {
-    status(HttpResponseStatus.NOT_EXTENDED).end(buffer);
+    status(HttpResponseStatus.NOT_EXTENDED);
+    end(buffer);
   }
 
   /**
@@ -2191,9 +2226,7 @@ public abstract class APIHandler {
    */
   protected void notExtended(Object object, Charset charset) {
     status(HttpResponseStatus.NOT_EXTENDED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2219,16 +2252,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Not found.
    */
   protected void notFound() {
-    status(HttpResponseStatus.NOT_FOUND).end();
+    status(HttpResponseStatus.NOT_FOUND);
+    end();
   }
 
   /**
@@ -2238,7 +2270,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void notFound(Buffer buffer) {
-    status(HttpResponseStatus.NOT_FOUND).end(buffer);
+    status(HttpResponseStatus.NOT_FOUND);
+    end(buffer);
   }
 
   /**
@@ -2261,9 +2294,7 @@ public abstract class APIHandler {
    */
   protected void notFound(Object object, Charset charset) {
     status(HttpResponseStatus.NOT_FOUND);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2289,16 +2320,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Not implemented.
    */
   protected void notImplemented() {
-    status(HttpResponseStatus.NOT_IMPLEMENTED).end();
+    status(HttpResponseStatus.NOT_IMPLEMENTED);
+    end();
   }
 
   /**
@@ -2308,7 +2338,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void notImplemented(Buffer buffer) {
-    status(HttpResponseStatus.NOT_IMPLEMENTED).end(buffer);
+    status(HttpResponseStatus.NOT_IMPLEMENTED);
+    end(buffer);
   }
 
   /**
@@ -2331,9 +2362,7 @@ public abstract class APIHandler {
    */
   protected void notImplemented(Object object, Charset charset) {
     status(HttpResponseStatus.NOT_IMPLEMENTED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2359,16 +2388,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Not modified.
    */
   protected void notModified() {
-    status(HttpResponseStatus.NOT_MODIFIED).end();
+    status(HttpResponseStatus.NOT_MODIFIED);
+    end();
   }
 
   /**
@@ -2378,7 +2406,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void notModified(Buffer buffer) {
-    status(HttpResponseStatus.NOT_MODIFIED).end(buffer);
+    status(HttpResponseStatus.NOT_MODIFIED);
+    end(buffer);
   }
 
   /**
@@ -2401,9 +2430,7 @@ public abstract class APIHandler {
    */
   protected void notModified(Object object, Charset charset) {
     status(HttpResponseStatus.NOT_MODIFIED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2429,9 +2456,7 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
@@ -2499,7 +2524,8 @@ public abstract class APIHandler {
    * Partial content.
    */
   protected void partialContent() {
-    status(HttpResponseStatus.PARTIAL_CONTENT).end();
+    status(HttpResponseStatus.PARTIAL_CONTENT);
+    end();
   }
 
   /**
@@ -2509,7 +2535,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void partialContent(Buffer buffer) {
-    status(HttpResponseStatus.PARTIAL_CONTENT).end(buffer);
+    status(HttpResponseStatus.PARTIAL_CONTENT);
+    end(buffer);
   }
 
   /**
@@ -2532,9 +2559,7 @@ public abstract class APIHandler {
    */
   protected void partialContent(Object object, Charset charset) {
     status(HttpResponseStatus.PARTIAL_CONTENT);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2560,16 +2585,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Payment required.
    */
   protected void paymentRequired() {
-    status(HttpResponseStatus.PAYMENT_REQUIRED).end();
+    status(HttpResponseStatus.PAYMENT_REQUIRED);
+    end();
   }
 
   /**
@@ -2579,7 +2603,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void paymentRequired(Buffer buffer) {
-    status(HttpResponseStatus.PAYMENT_REQUIRED).end(buffer);
+    status(HttpResponseStatus.PAYMENT_REQUIRED);
+    end(buffer);
   }
 
   /**
@@ -2602,9 +2627,7 @@ public abstract class APIHandler {
    */
   protected void paymentRequired(Object object, Charset charset) {
     status(HttpResponseStatus.PAYMENT_REQUIRED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2630,16 +2653,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Pre condition failed.
    */
   protected void preConditionFailed() {
-    status(HttpResponseStatus.PRECONDITION_FAILED).end();
+    status(HttpResponseStatus.PRECONDITION_FAILED);
+    end();
   }
 
   /**
@@ -2649,7 +2671,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void preConditionFailed(Buffer buffer) {
-    status(HttpResponseStatus.PRECONDITION_FAILED).end(buffer);
+    status(HttpResponseStatus.PRECONDITION_FAILED);
+    end(buffer);
   }
 
   /**
@@ -2672,9 +2695,7 @@ public abstract class APIHandler {
    */
   protected void preConditionFailed(Object object, Charset charset) {
     status(HttpResponseStatus.PRECONDITION_FAILED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2700,16 +2721,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Precondition required.
    */
   protected void preconditionRequired() {
-    status(HttpResponseStatus.PRECONDITION_REQUIRED).end();
+    status(HttpResponseStatus.PRECONDITION_REQUIRED);
+    end();
   }
 
   /**
@@ -2719,7 +2739,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void preconditionRequired(Buffer buffer) {
-    status(HttpResponseStatus.PRECONDITION_REQUIRED).end(buffer);
+    status(HttpResponseStatus.PRECONDITION_REQUIRED);
+    end(buffer);
   }
 
   /**
@@ -2742,9 +2763,7 @@ public abstract class APIHandler {
    */
   protected void preconditionRequired(Object object, Charset charset) {
     status(HttpResponseStatus.PRECONDITION_REQUIRED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2770,16 +2789,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Processing.
    */
   protected void processing() {
-    status(HttpResponseStatus.PROCESSING).end();
+    status(HttpResponseStatus.PROCESSING);
+    end();
   }
 
   /**
@@ -2789,7 +2807,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void processing(Buffer buffer) {
-    status(HttpResponseStatus.PROCESSING).end(buffer);
+    status(HttpResponseStatus.PROCESSING);
+    end(buffer);
   }
 
   /**
@@ -2812,9 +2831,7 @@ public abstract class APIHandler {
    */
   protected void processing(Object object, Charset charset) {
     status(HttpResponseStatus.PROCESSING);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2840,16 +2857,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Proxy authentication required.
    */
   protected void proxyAuthenticationRequired() {
-    status(HttpResponseStatus.PROXY_AUTHENTICATION_REQUIRED).end();
+    status(HttpResponseStatus.PROXY_AUTHENTICATION_REQUIRED);
+    end();
   }
 
   /**
@@ -2859,7 +2875,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void proxyAuthenticationRequired(Buffer buffer) {
-    status(HttpResponseStatus.PROXY_AUTHENTICATION_REQUIRED).end(buffer);
+    status(HttpResponseStatus.PROXY_AUTHENTICATION_REQUIRED);
+    end(buffer);
   }
 
   /**
@@ -2882,9 +2899,7 @@ public abstract class APIHandler {
    */
   protected void proxyAuthenticationRequired(Object object, Charset charset) {
     status(HttpResponseStatus.PROXY_AUTHENTICATION_REQUIRED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2910,16 +2925,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Request model too large.
    */
   protected void requestEntityTooLarge() {
-    status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE).end();
+    status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
+    end();
   }
 
   /**
@@ -2929,7 +2943,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void requestEntityTooLarge(Buffer buffer) {
-    status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE).end(buffer);
+    status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
+    end(buffer);
   }
 
   /**
@@ -2952,9 +2967,7 @@ public abstract class APIHandler {
    */
   protected void requestEntityTooLarge(Object object, Charset charset) {
     status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -2980,16 +2993,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Request header fields too large.
    */
   protected void requestHeaderFieldsTooLarge() {
-    status(HttpResponseStatus.REQUEST_HEADER_FIELDS_TOO_LARGE).end();
+    status(HttpResponseStatus.REQUEST_HEADER_FIELDS_TOO_LARGE);
+    end();
   }
 
   /**
@@ -2999,7 +3011,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void requestHeaderFieldsTooLarge(Buffer buffer) {
-    status(HttpResponseStatus.REQUEST_HEADER_FIELDS_TOO_LARGE).end(buffer);
+    status(HttpResponseStatus.REQUEST_HEADER_FIELDS_TOO_LARGE);
+    end(buffer);
   }
 
   /**
@@ -3022,9 +3035,7 @@ public abstract class APIHandler {
    */
   protected void requestHeaderFieldsTooLarge(Object object, Charset charset) {
     status(HttpResponseStatus.REQUEST_HEADER_FIELDS_TOO_LARGE);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3050,16 +3061,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Request range not satisfiable.
    */
   protected void requestRangeNotSatisfiable() {
-    status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE).end();
+    status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+    end();
   }
 
   /**
@@ -3069,7 +3079,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void requestRangeNotSatisfiable(Buffer buffer) {
-    status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE).end(buffer);
+    status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+    end(buffer);
   }
 
   /**
@@ -3092,9 +3103,7 @@ public abstract class APIHandler {
    */
   protected void requestRangeNotSatisfiable(Object object, Charset charset) {
     status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3120,16 +3129,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Request timeout.
    */
   protected void requestTimeout() {
-    status(HttpResponseStatus.REQUEST_TIMEOUT).end();
+    status(HttpResponseStatus.REQUEST_TIMEOUT);
+    end();
   }
 
   /**
@@ -3139,7 +3147,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void requestTimeout(Buffer buffer) {
-    status(HttpResponseStatus.REQUEST_TIMEOUT).end(buffer);
+    status(HttpResponseStatus.REQUEST_TIMEOUT);
+    end(buffer);
   }
 
   /**
@@ -3162,9 +3171,7 @@ public abstract class APIHandler {
    */
   protected void requestTimeout(Object object, Charset charset) {
     status(HttpResponseStatus.REQUEST_TIMEOUT);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3190,16 +3197,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Request uti too long.
    */
   protected void requestUtiTooLong() {
-    status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE).end();
+    status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
+    end();
   }
 
   /**
@@ -3209,7 +3215,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void requestUtiTooLong(Buffer buffer) {
-    status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE).end(buffer);
+    status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
+    end(buffer);
   }
 
   /**
@@ -3232,9 +3239,7 @@ public abstract class APIHandler {
    */
   protected void requestUtiTooLong(Object object, Charset charset) {
     status(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3260,16 +3265,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Reset content.
    */
   protected void resetContent() {
-    status(HttpResponseStatus.RESET_CONTENT).end();
+    status(HttpResponseStatus.RESET_CONTENT);
+    end();
   }
 
   /**
@@ -3279,7 +3283,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void resetContent(Buffer buffer) {
-    status(HttpResponseStatus.RESET_CONTENT).end(buffer);
+    status(HttpResponseStatus.RESET_CONTENT);
+    end(buffer);
   }
 
   /**
@@ -3302,9 +3307,7 @@ public abstract class APIHandler {
    */
   protected void resetContent(Object object, Charset charset) {
     status(HttpResponseStatus.RESET_CONTENT);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3330,16 +3333,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * See other.
    */
   protected void seeOther() {
-    status(HttpResponseStatus.SEE_OTHER).end();
+    status(HttpResponseStatus.SEE_OTHER);
+    end();
   }
 
   /**
@@ -3349,7 +3351,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void seeOther(Buffer buffer) {
-    status(HttpResponseStatus.SEE_OTHER).end(buffer);
+    status(HttpResponseStatus.SEE_OTHER);
+    end(buffer);
   }
 
   /**
@@ -3372,9 +3375,7 @@ public abstract class APIHandler {
    */
   protected void seeOther(Object object, Charset charset) {
     status(HttpResponseStatus.SEE_OTHER);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3400,16 +3401,40 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
+  }
+
+  /**
+   * Send the file, see {@link FileSender}.
+   *
+   * @param path
+   *          the path
+   */
+  protected void sendFile(String path) {
+    sendFile(path, 0, Long.MAX_VALUE);
+  }
+
+  /**
+   * Send one region of the file without reading it into memory, answering ranges, conditional requests and 404 when
+   * the file does not exist, see {@link FileSender}.
+   *
+   * @param path
+   *          the path
+   * @param offset
+   *          the offset
+   * @param length
+   *          the length, {@link Long#MAX_VALUE} up to the end of file
+   */
+  protected void sendFile(String path, long offset, long length) {
+    FileSender.send(vertx != null ? vertx : context.vertx(), req, res, path, offset, length);
   }
 
   /**
    * Service unavailable.
    */
   protected void serviceUnavailable() {
-    status(HttpResponseStatus.SERVICE_UNAVAILABLE).end();
+    status(HttpResponseStatus.SERVICE_UNAVAILABLE);
+    end();
   }
 
   /**
@@ -3419,7 +3444,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void serviceUnavailable(Buffer buffer) {
-    status(HttpResponseStatus.SERVICE_UNAVAILABLE).end(buffer);
+    status(HttpResponseStatus.SERVICE_UNAVAILABLE);
+    end(buffer);
   }
 
   /**
@@ -3442,9 +3468,7 @@ public abstract class APIHandler {
    */
   protected void serviceUnavailable(Object object, Charset charset) {
     status(HttpResponseStatus.SERVICE_UNAVAILABLE);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3470,9 +3494,7 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
@@ -3483,16 +3505,88 @@ public abstract class APIHandler {
    * @return the http server response
    */
   protected HttpServerResponse status(HttpResponseStatus status) {
-    res.setStatusCode(status.code());
-    res.setStatusMessage(status.reasonPhrase());
+
+    // The response may be ended already, as by the timeout of route
+    if (!res.ended()) {
+
+      res.setStatusCode(status.code());
+      res.setStatusMessage(status.reasonPhrase());
+    }
     return res;
   }
 
+  /**
+   * Stream the elements as one json array.
+   *
+   * @param iterator
+   *          the iterator
+   */
+  protected void stream(Iterator<?> iterator) {
+    stream(iterator, StreamFormat.JSON_ARRAY);
+  }
+
+  /**
+   * Stream the elements, encoded while the response is written.
+   *
+   * @param iterator
+   *          the iterator
+   * @param format
+   *          the format
+   */
+  protected void stream(Iterator<?> iterator, StreamFormat format) {
+    JsonStreamWriter.write(res, iterator, format, null);
+  }
+
+  /**
+   * Stream the elements as one json array.
+   *
+   * @param stream
+   *          the stream
+   */
+  protected void stream(Stream<?> stream) {
+    stream(stream, StreamFormat.JSON_ARRAY);
+  }
+
+  /**
+   * Stream the elements, encoded while the response is written. The stream is closed once written.
+   *
+   * @param stream
+   *          the stream
+   * @param format
+   *          the format
+   */
+  protected void stream(Stream<?> stream, StreamFormat format) {
+    JsonStreamWriter.write(res, stream.iterator(), format, stream::close);
+  }
+
+  /**
+   * Stream the elements as one json array.
+   *
+   * @param readStream
+   *          the read stream
+   */
+  protected void stream(ReadStream<?> readStream) {
+    stream(readStream, StreamFormat.JSON_ARRAY);
+  }
+
+  /**
+   * Stream the elements while they are read, the read stream is paused while the response is full.
+   *
+   * @param readStream
+   *          the read stream
+   * @param format
+   *          the format
+   */
+  protected void stream(ReadStream<?> readStream, StreamFormat format) {
+    JsonStreamWriter.pipe(res, readStream, format);
+  }
+
   /**
    * Success.
    */
   protected void success() {
-    status(HttpResponseStatus.OK).end();
+    status(HttpResponseStatus.OK);
+    end();
   }
 
   /**
@@ -3502,7 +3596,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void success(Buffer buffer) {
-    status(HttpResponseStatus.OK).end(buffer);
+    status(HttpResponseStatus.OK);
+    end(buffer);
   }
 
   /**
@@ -3525,9 +3620,7 @@ public abstract class APIHandler {
    */
   protected void success(Object object, Charset charset) {
     status(HttpResponseStatus.OK);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3553,16 +3646,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Switching protocols.
    */
   protected void switchingProtocols() {
-    status(HttpResponseStatus.SWITCHING_PROTOCOLS).end();
+    status(HttpResponseStatus.SWITCHING_PROTOCOLS);
+    end();
   }
 
   /**
@@ -3572,7 +3664,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void switchingProtocols(Buffer buffer) {
-    status(HttpResponseStatus.SWITCHING_PROTOCOLS).end(buffer);
+    status(HttpResponseStatus.SWITCHING_PROTOCOLS);
+    end(buffer);
   }
 
   /**
@@ -3595,9 +3688,7 @@ public abstract class APIHandler {
    */
   protected void switchingProtocols(Object object, Charset charset) {
     status(HttpResponseStatus.SWITCHING_PROTOCOLS);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3623,16 +3714,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Temporary redirect.
    */
   protected void temporaryRedirect() {
-    status(HttpResponseStatus.TEMPORARY_REDIRECT).end();
+    status(HttpResponseStatus.TEMPORARY_REDIRECT);
+    end();
   }
 
   /**
@@ -3642,7 +3732,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void temporaryRedirect(Buffer buffer) {
-    status(HttpResponseStatus.TEMPORARY_REDIRECT).end(buffer);
+    status(HttpResponseStatus.TEMPORARY_REDIRECT);
+    end(buffer);
   }
 
   /**
@@ -3665,9 +3756,7 @@ public abstract class APIHandler {
    */
   protected void temporaryRedirect(Object object, Charset charset) {
     status(HttpResponseStatus.TEMPORARY_REDIRECT);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3693,16 +3782,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Too many request.
    */
   protected void tooManyRequest() {
-    status(HttpResponseStatus.TOO_MANY_REQUESTS).end();
+    status(HttpResponseStatus.TOO_MANY_REQUESTS);
+    end();
   }
 
   /**
@@ -3712,7 +3800,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void tooManyRequest(Buffer buffer) {
-    status(HttpResponseStatus.TOO_MANY_REQUESTS).end(buffer);
+    status(HttpResponseStatus.TOO_MANY_REQUESTS);
+    end(buffer);
   }
 
   /**
@@ -3735,9 +3824,7 @@ public abstract class APIHandler {
    */
   protected void tooManyRequest(Object object, Charset charset) {
     status(HttpResponseStatus.TOO_MANY_REQUESTS);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3763,13 +3850,12 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
-   * Transform.
+   * Transform. Subclasses overriding it keep encoding the object responses, otherwise they are encoded with
+   * {@link #transformToBuffer(Object, Charset)}.
    *
    * @param object
    *          the object
@@ -3780,11 +3866,31 @@ public abstract class APIHandler {
     return Json.encode(object);
   }
 
+  /**
+   * Transform the object to the json buffer written by the object responses, with {@link #transform(Object)} when it
+   * is overridden.
+   *
+   * @param object
+   *          the object
+   * @param charset
+   *          the charset
+   * @return the buffer
+   */
+  protected Buffer transformToBuffer(Object object, Charset charset) {
+
+    if (TRANSFORM_OVERRIDDEN.get(getClass())) {
+
+      return Buffer.buffer(transform(object), charset.name());
+    }
+    return JsonEncoder.encode(object, charset);
+  }
+
   /**
    * Unauthorized.
    */
   protected void unauthorized() {
-    status(HttpResponseStatus.UNAUTHORIZED).end();
+    status(HttpResponseStatus.UNAUTHORIZED);
+    end();
   }
 
   /**
@@ -3794,7 +3900,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void unauthorized(Buffer buffer) {
-    status(HttpResponseStatus.UNAUTHORIZED).end(buffer);
+    status(HttpResponseStatus.UNAUTHORIZED);
+    end(buffer);
   }
 
   /**
@@ -3817,9 +3924,7 @@ public abstract class APIHandler {
    */
   protected void unauthorized(Object object, Charset charset) {
     status(HttpResponseStatus.UNAUTHORIZED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3845,16 +3950,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Unordered collection.
    */
   protected void unorderedCollection() {
-    status(HttpResponseStatus.UNORDERED_COLLECTION).end();
+    status(HttpResponseStatus.UNORDERED_COLLECTION);
+    end();
   }
 
   /**
@@ -3864,7 +3968,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void unorderedCollection(Buffer buffer) {
-    status(HttpResponseStatus.UNORDERED_COLLECTION).end(buffer);
+    status(HttpResponseStatus.UNORDERED_COLLECTION);
+    end(buffer);
   }
 
   /**
@@ -3887,9 +3992,7 @@ public abstract class APIHandler {
    */
   protected void unorderedCollection(Object object, Charset charset) {
     status(HttpResponseStatus.UNORDERED_COLLECTION);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3915,16 +4018,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Unprocessable model.
    */
   protected void unprocessableEntity() {
-    status(HttpResponseStatus.UNPROCESSABLE_ENTITY).end();
+    status(HttpResponseStatus.UNPROCESSABLE_ENTITY);
+    end();
   }
 
   /**
@@ -3934,7 +4036,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void unprocessableEntity(Buffer buffer) {
-    status(HttpResponseStatus.UNPROCESSABLE_ENTITY).end(buffer);
+    status(HttpResponseStatus.UNPROCESSABLE_ENTITY);
+    end(buffer);
   }
 
   /**
@@ -3957,9 +4060,7 @@ public abstract class APIHandler {
    */
   protected void unprocessableEntity(Object object, Charset charset) {
     status(HttpResponseStatus.UNPROCESSABLE_ENTITY);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -3985,16 +4086,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Unsupported media type.
    */
   protected void unsupportedMediaType() {
-    status(HttpResponseStatus.UNSUPPORTED_MEDIA_TYPE).end();
+    status(HttpResponseStatus.UNSUPPORTED_MEDIA_TYPE);
+    end();
   }
 
   /**
@@ -4004,7 +4104,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void unsupportedMediaType(Buffer buffer) {
-    status(HttpResponseStatus.UNSUPPORTED_MEDIA_TYPE).end(buffer);
+    status(HttpResponseStatus.UNSUPPORTED_MEDIA_TYPE);
+    end(buffer);
   }
 
   /**
@@ -4027,9 +4128,7 @@ public abstract class APIHandler {
    */
   protected void unsupportedMediaType(Object object, Charset charset) {
     status(HttpResponseStatus.UNSUPPORTED_MEDIA_TYPE);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -4055,16 +4154,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Upgrade required.
    */
   protected void upgradeRequired() {
-    status(HttpResponseStatus.UPGRADE_REQUIRED).end();
+    status(HttpResponseStatus.UPGRADE_REQUIRED);
+    end();
   }
 
   /**
@@ -4074,7 +4172,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void upgradeRequired(Buffer buffer) {
-    status(HttpResponseStatus.UPGRADE_REQUIRED).end(buffer);
+    status(HttpResponseStatus.UPGRADE_REQUIRED);
+    end(buffer);
   }
 
   /**
@@ -4097,9 +4196,7 @@ public abstract class APIHandler {
    */
   protected void upgradeRequired(Object object, Charset charset) {
     status(HttpResponseStatus.UPGRADE_REQUIRED);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -4125,16 +4222,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Use proxy.
    */
   protected void useProxy() {
-    status(HttpResponseStatus.USE_PROXY).end();
+    status(HttpResponseStatus.USE_PROXY);
+    end();
   }
 
   /**
@@ -4144,7 +4240,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void useProxy(Buffer buffer) {
-    status(HttpResponseStatus.USE_PROXY).end(buffer);
+    status(HttpResponseStatus.USE_PROXY);
+    end(buffer);
   }
 
   /**
@@ -4167,9 +4264,7 @@ public abstract class APIHandler {
    */
   protected void useProxy(Object object, Charset charset) {
     status(HttpResponseStatus.USE_PROXY);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -4195,16 +4290,15 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
   /**
    * Variant also negotiates.
    */
   protected void variantAlsoNegotiates() {
-    status(HttpResponseStatus.VARIANT_ALSO_NEGOTIATES).end();
+    status(HttpResponseStatus.VARIANT_ALSO_NEGOTIATES);
+    end();
   }
 
   /**
@@ -4214,7 +4308,8 @@ public abstract class APIHandler {
    *          the buffer
    */
   protected void variantAlsoNegotiates(Buffer buffer) {
-    status(HttpResponseStatus.VARIANT_ALSO_NEGOTIATES).end(buffer);
+    status(HttpResponseStatus.VARIANT_ALSO_NEGOTIATES);
+    end(buffer);
   }
 
   /**
@@ -4237,9 +4332,7 @@ public abstract class APIHandler {
    */
   protected void variantAlsoNegotiates(Object object, Charset charset) {
     status(HttpResponseStatus.VARIANT_ALSO_NEGOTIATES);
-    contentType("application/json");
-    res.setChunked(true).write(transform(object), StandardCharsets.UTF_8.name());
-    end();
+    end(object, charset);
   }
 
   /**
@@ -4265,9 +4358,7 @@ public abstract class APIHandler {
     if (isValidJson(content)) {
       contentType("application/json");
     }
-    res.setChunked(true);
-    res.write(content, charset.name());
-    end();
+    end(content, charset);
   }
 
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import org.jspare.vertx.web.annotation.module.AdaptiveConcurrency;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Concurrency limit of one route adjusted from the time its requests take.
+ *
+ * <p>Each released request is one latency sample. With {@link AdaptiveConcurrency.Algorithm#GRADIENT} the limit
+ * follows the ratio between the long term average latency and the sample, growing by its square root while the
+ * latency holds and shrinking as soon as requests get much slower, the long term latency moves slowly so lasting
+ * overload keeps the limit down. With {@link AdaptiveConcurrency.Algorithm#VEGAS} the
+ * requests queued are estimated from the lowest latency observed, the limit grows while few requests are queued and
+ * shrinks when too many are.</p>
+ *
+ * <p>The limit is only grown by samples taken while the requests in flight used at least half of it. Samples are
+ * applied by one thread at a time, the samples released while another one is applied are dropped, so requests never
+ * wait on a lock.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class AdaptiveConcurrencyLimiter extends ConcurrencyLimiter {
+
+  /**
+   * Smoothing of the long term latency, about the last 600 samples.
+   */
+  private static final double LONG_TERM_SMOOTHING = 1.0 / 600;
+
+  /**
+   * Latency above the long term one tolerated before the limit shrinks.
+   */
+  private static final double TOLERANCE = 1.5;
+
+  /**
+   * Smoothing of the limit.
+   */
+  private static final double LIMIT_SMOOTHING = 0.2;
+
+  /**
+   * Samples after which the latency without load is observed again, so it follows lasting changes.
+   */
+  private static final int NO_LOAD_RESET = 1000;
+
+  private final AdaptiveConcurrency config;
+  private final AtomicBoolean updating = new AtomicBoolean();
+  private volatile int limit;
+  private double estimatedLimit;
+  private double longTermRtt;
+  private long noLoadRtt = Long.MAX_VALUE;
+  private int samples;
+
+  /**
+   * Instantiates a new adaptive concurrency limiter.
+   *
+   * @param config the config
+   */
+  public AdaptiveConcurrencyLimiter(AdaptiveConcurrency config) {
+
+    super(config.initialLimit(), config.retryAfter());
+    if (config.minLimit() <= 0 || config.maxLimit() < config.minLimit()) {
+
+      throw new IllegalArgumentException("Adaptive concurrency requires 0 < minLimit <= maxLimit");
+    }
+    this.config = config;
+    this.limit = clamp(config.initialLimit());
+    this.estimatedLimit = limit;
+  }
+
+  @Override
+  public int limit() {
+    return limit;
+  }
+
+  @Override
+  public void release(long nanos) {
+
+    int inFlight = inFlight();
+    super.release(nanos);
+    if (nanos > 0 && updating.compareAndSet(false, true)) {
+      try {
+
+        sample(nanos, inFlight);
+      } finally {
+
+        updating.set(false);
+      }
+    }
+  }
+
+  private void sample(long rtt, int inFlight) {
+
+    double next = config.algorithm() == AdaptiveConcurrency.Algorithm.VEGAS ? vegas(rtt) : gradient(rtt);
+
+    // One route using a small part of its limit tells nothing about a higher one
+    if (next > estimatedLimit && inFlight * 2 < estimatedLimit) {
+
+      return;
+    }
+    estimatedLimit = Math.max(config.minLimit(), Math.min(config.maxLimit(), next));
+    limit = clamp((int) estimatedLimit);
+  }
+
+  private double gradient(long rtt) {
+
+    longTermRtt = longTermRtt == 0 ? rtt : longTermRtt * (1 - LONG_TERM_SMOOTHING) + rtt * LONG_TERM_SMOOTHING;
+    if (longTermRtt > 2.0 * rtt) {
+
+      // The load is gone, recover faster than the long term average would
+      longTermRtt *= 0.95;
+    }
+    double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longTermRtt / rtt));
+    double next = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    return estimatedLimit * (1 - LIMIT_SMOOTHING) + next * LIMIT_SMOOTHING;
+  }
+
+  private double vegas(long rtt) {
+
+    if (++samples >= NO_LOAD_RESET) {
+
+      samples = 0;
+      noLoadRtt = rtt;
+    }
+    noLoadRtt = Math.min(noLoadRtt, rtt);
+
+    double queued = estimatedLimit * (1 - (double) noLoadRtt / rtt);
+    double step = Math.max(1.0, Math.log10(estimatedLimit));
+    if (queued < 3 * step) {
+
+      return estimatedLimit + step;
+    }
+    if (queued > 6 * step) {
+
+      return estimatedLimit - step;
+    }
+    return estimatedLimit;
+  }
+
+  private int clamp(int value) {
+    return Math.max(config.minLimit(), Math.min(config.maxLimit(), value));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits the requests of one route, routed before any other route of router so it runs before the body handler, the
+ * auth handler and the instantiation of route class.
+ *
+ * <p>Requests over the {@link RateLimiter} are answered with 429 and requests over the {@link ConcurrencyLimiter}
+ * with 503, both with <code>Retry-After</code>. An admitted request holds its concurrency permit until the response
+ * is ended or closed: the permit is released by one body end handler of context and by both the end and the close
+ * handlers of response, the first to run releasing it, so it is still released once the route replaces one of them,
+ * as the streaming responses replacing the close handler.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@AllArgsConstructor
+public class AdmissionHandler implements Handler<RoutingContext> {
+
+  /**
+   * The rate limiter, null without rate limit.
+   */
+  private final RateLimiter rateLimiter;
+
+  /**
+   * The concurrency limiter, null without concurrency limit.
+   */
+  private final ConcurrencyLimiter concurrencyLimiter;
+
+  @Override
+  public void handle(RoutingContext context) {
+
+    if (rateLimiter != null) {
+
+      long wait = rateLimiter.acquire(context);
+      if (wait > 0) {
+
+        reject(context, HttpResponseStatus.TOO_MANY_REQUESTS, seconds(wait));
+        return;
+      }
+    }
+
+    if (concurrencyLimiter != null) {
+
+      if (!concurrencyLimiter.tryAcquire()) {
+
+        reject(context, HttpResponseStatus.SERVICE_UNAVAILABLE, concurrencyLimiter.retryAfter());
+        return;
+      }
+
+      long started = System.nanoTime();
+      AtomicBoolean released = new AtomicBoolean();
+      Handler<Void> release = v -> {
+
+        if (released.compareAndSet(false, true)) {
+
+          concurrencyLimiter.release(System.nanoTime() - started);
+        }
+      };
+      HttpServerResponse response = context.response();
+      response.endHandler(release).closeHandler(release);
+      context.addBodyEndHandler(release);
+    }
+    context.next();
+  }
+
+  private long seconds(long nanos) {
+    return Math.max(1L, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+  }
+
+  private void reject(RoutingContext context, HttpResponseStatus status, long retryAfter) {
+
+    context.response()
+      .putHeader(HttpHeaderNames.RETRY_AFTER, String.valueOf(retryAfter))
+      .setStatusCode(status.code())
+      .setStatusMessage(status.reasonPhrase())
+      .end();
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import lombok.experimental.UtilityClass;
+import org.jspare.vertx.web.codec.BodyCodecs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the request body straight from the bytes of the {@link Buffer}.
+ *
+ * <p>The body is parsed once into a {@link TokenBuffer} kept on the {@link RoutingContext}, every parameter and
+ * later handler of the same request binds its value from these tokens without parsing or building a
+ * {@link String} of the body again. Bodies are parsed by the codec of their content type, see
+ * {@link BodyCodecs}.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@UtilityClass
+public class BodyDecoder {
+
+  /**
+   * The Constant BODY_TOKENS.
+   */
+  public static final String BODY_TOKENS = "__BODY_TOKENS_CTX";
+
+  /**
+   * Returns true if the request has no body content, neither buffered nor streamed.
+   *
+   * @param context the routing context
+   * @return true if empty
+   */
+  public boolean isEmpty(RoutingContext context) {
+
+    if (context.get(BODY_TOKENS) != null) {
+
+      return false;
+    }
+    Buffer body = context.getBody();
+    return body == null || body.length() == 0;
+  }
+
+  /**
+   * Returns the parsed tokens of the body, parsing it on first call.
+   *
+   * @param context the routing context
+   * @return the token buffer, null if the body is empty
+   * @throws DecodeException if the body is not valid on its content type
+   */
+  public TokenBuffer tokens(RoutingContext context) {
+
+    TokenBuffer tokens = context.get(BODY_TOKENS);
+    if (tokens == null && !isEmpty(context)) {
+
+      tokens = parse(BodyCodecs.forRequest(context).factory(), context.getBody());
+      context.put(BODY_TOKENS, tokens);
+    }
+    return tokens;
+  }
+
+  /**
+   * Decode the body to one type.
+   *
+   * @param <T>     the generic type
+   * @param context the routing context
+   * @param type    the type
+   * @return the value, null if the body is empty
+   * @throws DecodeException if the body cannot be decoded to the type
+   */
+  public <T> T decode(RoutingContext context, JavaType type) {
+
+    TokenBuffer tokens = tokens(context);
+    if (tokens == null) {
+
+      return null;
+    }
+    try (JsonParser parser = tokens.asParser(Json.mapper)) {
+
+      return Json.mapper.readValue(parser, type);
+    } catch (IOException e) {
+
+      throw new DecodeException("Failed to decode:" + e.getMessage());
+    }
+  }
+
+  /**
+   * Decode the body to one class.
+   *
+   * @param <T>     the generic type
+   * @param context the routing context
+   * @param clazz   the class
+   * @return the value, null if the body is empty
+   */
+  public <T> T decode(RoutingContext context, Class<T> clazz) {
+
+    return decode(context, Json.mapper.constructType(clazz));
+  }
+
+  /**
+   * Decode the body as {@link JsonObject}.
+   *
+   * @param context the routing context
+   * @return the json object, null if the body is empty
+   */
+  @SuppressWarnings("unchecked")
+  public JsonObject asJsonObject(RoutingContext context) {
+
+    Map<String, Object> map = decode(context, Map.class);
+    return map == null ? null : new JsonObject(map);
+  }
+
+  /**
+   * Decode the body as {@link JsonArray}.
+   *
+   * @param context the routing context
+   * @return the json array, null if the body is empty
+   */
+  @SuppressWarnings("rawtypes")
+  public JsonArray asJsonArray(RoutingContext context) {
+
+    List list = decode(context, List.class);
+    return list == null ? null : new JsonArray(list);
+  }
+
+  private TokenBuffer parse(JsonFactory factory, Buffer body) {
+
+    ByteBuf buf = body.getByteBuf();
+    try (JsonParser parser = buf.hasArray()
+      ? factory.createParser(buf.array(), buf.arrayOffset() + buf.readerIndex(), buf.readableBytes())
+      : factory.createParser((InputStream) new ByteBufInputStream(buf))) {
+
+      TokenBuffer tokens = new TokenBuffer(parser);
+      if (parser.nextToken() == null) {
+
+        throw new DecodeException("Failed to decode: no content");
+      }
+      tokens.copyCurrentStructure(parser);
+      return tokens;
+    } catch (IOException e) {
+
+      throw new DecodeException("Failed to decode:" + e.getMessage());
+    }
+  }
+}
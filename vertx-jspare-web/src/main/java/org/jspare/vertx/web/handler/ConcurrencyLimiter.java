@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limit of the requests of one route handled at the same time.
+ *
+ * <p>Permits are taken by compare and set while the requests in flight are under the limit and released with the
+ * time the request took, so subclasses may adjust the limit from the observed latency.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class ConcurrencyLimiter {
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final int limit;
+  private final long retryAfter;
+
+  /**
+   * Instantiates a new concurrency limiter.
+   *
+   * @param limit      the max requests in flight
+   * @param retryAfter the seconds sent on <code>Retry-After</code> of rejected requests
+   */
+  public ConcurrencyLimiter(int limit, long retryAfter) {
+
+    if (limit <= 0) {
+
+      throw new IllegalArgumentException("Concurrency limit must be positive");
+    }
+    this.limit = limit;
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * Take one permit.
+   *
+   * @return true if the request is accepted
+   */
+  public boolean tryAcquire() {
+
+    while (true) {
+
+      int current = inFlight.get();
+      if (current >= limit()) {
+
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Release one permit.
+   *
+   * @param nanos the time the request took
+   */
+  public void release(long nanos) {
+    inFlight.decrementAndGet();
+  }
+
+  /**
+   * The max requests in flight.
+   *
+   * @return the limit
+   */
+  public int limit() {
+    return limit;
+  }
+
+  /**
+   * The requests in flight.
+   *
+   * @return the in flight
+   */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * The seconds sent on <code>Retry-After</code> of rejected requests.
+   *
+   * @return the retry after
+   */
+  public long retryAfter() {
+    return retryAfter;
+  }
+}
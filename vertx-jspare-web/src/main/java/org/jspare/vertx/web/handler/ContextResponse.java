@@ -0,0 +1,515 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpFrame;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.StreamPriority;
+
+/**
+ * Response delegating to the response of one request written from another thread, as the virtual thread of one
+ * route, see {@link org.jspare.vertx.annotation.VirtualThread}.
+ *
+ * <p>The calls changing the response run on the context of request, in the order they were made: on the thread of
+ * context they run at once, from other threads they are posted to the context. The end, the status code and the headers
+ * are tracked as the calls are made, so the thread writing the response reads them as written even while the calls are
+ * still posted, and ending twice fails on this thread; the headers are copied on the response before its head is
+ * written. The other getters read the response as written so far, the calls still posted aside.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class ContextResponse implements HttpServerResponse {
+
+  private final HttpServerResponse delegate;
+  private final Context context;
+  private final Thread thread;
+  private final MultiMap headers;
+  private volatile int statusCode;
+  private volatile boolean ended;
+  private volatile boolean headFlushed;
+
+  /**
+   * Instantiates a new context response, on the thread of context.
+   *
+   * @param delegate the delegate
+   * @param context  the context of request
+   */
+  public ContextResponse(HttpServerResponse delegate, Context context) {
+    this.delegate = delegate;
+    this.context = context;
+    this.thread = Thread.currentThread();
+    this.headers = MultiMap.caseInsensitiveMultiMap().setAll(delegate.headers());
+    this.statusCode = delegate.getStatusCode();
+    this.ended = delegate.ended();
+  }
+
+  /**
+   * The response of request.
+   *
+   * @return the delegate
+   */
+  public HttpServerResponse delegate() {
+    return delegate;
+  }
+
+  private void run(Runnable action) {
+
+    if (Thread.currentThread() == thread) {
+
+      action.run();
+    } else {
+
+      context.runOnContext(v -> action.run());
+    }
+  }
+
+  /**
+   * Run one call writing the response, copying the headers on it first when its head was not written yet.
+   *
+   * @param action the call
+   */
+  private void flush(Runnable action) {
+
+    if (ended()) {
+
+      throw new IllegalStateException("Response has already been written");
+    }
+    if (headFlushed) {
+
+      run(action);
+      return;
+    }
+    headFlushed = true;
+    MultiMap head;
+    synchronized (headers) {
+
+      head = MultiMap.caseInsensitiveMultiMap().setAll(headers);
+    }
+    run(() -> {
+
+      if (!delegate.headWritten()) {
+
+        delegate.headers().setAll(head);
+      }
+      action.run();
+    });
+  }
+
+  /**
+   * Run one call ending the response.
+   *
+   * @param action the call
+   */
+  private void finish(Runnable action) {
+
+    flush(action);
+    ended = true;
+  }
+
+  @Override
+  public HttpServerResponse exceptionHandler(Handler<Throwable> handler) {
+
+    run(() -> delegate.exceptionHandler(handler));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse write(Buffer data) {
+
+    flush(() -> delegate.write(data));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse setWriteQueueMaxSize(int maxSize) {
+
+    run(() -> delegate.setWriteQueueMaxSize(maxSize));
+    return this;
+
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+
+    return delegate.writeQueueFull();
+
+  }
+
+  @Override
+  public HttpServerResponse drainHandler(Handler<Void> handler) {
+
+    run(() -> delegate.drainHandler(handler));
+    return this;
+
+  }
+
+  @Override
+  public int getStatusCode() {
+
+    return statusCode;
+
+  }
+
+  @Override
+  public HttpServerResponse setStatusCode(int statusCode) {
+
+    this.statusCode = statusCode;
+    run(() -> delegate.setStatusCode(statusCode));
+    return this;
+
+  }
+
+  @Override
+  public String getStatusMessage() {
+
+    return delegate.getStatusMessage();
+
+  }
+
+  @Override
+  public HttpServerResponse setStatusMessage(String statusMessage) {
+
+    run(() -> delegate.setStatusMessage(statusMessage));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse setChunked(boolean chunked) {
+
+    run(() -> delegate.setChunked(chunked));
+    return this;
+
+  }
+
+  @Override
+  public boolean isChunked() {
+
+    return delegate.isChunked();
+
+  }
+
+  @Override
+  public MultiMap headers() {
+
+    return headers;
+
+  }
+
+  @Override
+  public HttpServerResponse putHeader(String name, String value) {
+
+    synchronized (headers) {
+
+      headers.set(name, value);
+    }
+    run(() -> delegate.putHeader(name, value));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse putHeader(CharSequence name, CharSequence value) {
+
+    synchronized (headers) {
+
+      headers.set(name, value);
+    }
+    run(() -> delegate.putHeader(name, value));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse putHeader(String name, Iterable<String> values) {
+
+    synchronized (headers) {
+
+      headers.set(name, values);
+    }
+    run(() -> delegate.putHeader(name, values));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse putHeader(CharSequence name, Iterable<CharSequence> values) {
+
+    synchronized (headers) {
+
+      headers.set(name, values);
+    }
+    run(() -> delegate.putHeader(name, values));
+    return this;
+
+  }
+
+  @Override
+  public MultiMap trailers() {
+
+    return delegate.trailers();
+
+  }
+
+  @Override
+  public HttpServerResponse putTrailer(String name, String value) {
+
+    run(() -> delegate.putTrailer(name, value));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse putTrailer(CharSequence name, CharSequence value) {
+
+    run(() -> delegate.putTrailer(name, value));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse putTrailer(String name, Iterable<String> values) {
+
+    run(() -> delegate.putTrailer(name, values));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse putTrailer(CharSequence name, Iterable<CharSequence> value) {
+
+    run(() -> delegate.putTrailer(name, value));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse closeHandler(Handler<Void> handler) {
+
+    run(() -> delegate.closeHandler(handler));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse endHandler(Handler<Void> handler) {
+
+    run(() -> delegate.endHandler(handler));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse write(String chunk, String enc) {
+
+    flush(() -> delegate.write(chunk, enc));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse write(String chunk) {
+
+    flush(() -> delegate.write(chunk));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse writeContinue() {
+
+    run(() -> delegate.writeContinue());
+    return this;
+
+  }
+
+  @Override
+  public void end(String chunk) {
+
+    finish(() -> delegate.end(chunk));
+
+  }
+
+  @Override
+  public void end(String chunk, String enc) {
+
+    finish(() -> delegate.end(chunk, enc));
+
+  }
+
+  @Override
+  public void end(Buffer chunk) {
+
+    finish(() -> delegate.end(chunk));
+
+  }
+
+  @Override
+  public void end() {
+
+    finish(() -> delegate.end());
+
+  }
+
+  @Override
+  public HttpServerResponse sendFile(String filename, long offset, long length) {
+
+    finish(() -> delegate.sendFile(filename, offset, length));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse sendFile(String filename, long offset, long length,
+                                     Handler<AsyncResult<Void>> resultHandler) {
+
+    finish(() -> delegate.sendFile(filename, offset, length, resultHandler));
+    return this;
+
+  }
+
+  @Override
+  public void close() {
+
+    run(() -> delegate.close());
+
+  }
+
+  @Override
+  public boolean ended() {
+
+    return ended || delegate.ended();
+
+  }
+
+  @Override
+  public boolean closed() {
+
+    return delegate.closed();
+
+  }
+
+  @Override
+  public boolean headWritten() {
+
+    return delegate.headWritten();
+
+  }
+
+  @Override
+  public HttpServerResponse headersEndHandler(Handler<Void> handler) {
+
+    run(() -> delegate.headersEndHandler(handler));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse bodyEndHandler(Handler<Void> handler) {
+
+    run(() -> delegate.bodyEndHandler(handler));
+    return this;
+
+  }
+
+  @Override
+  public long bytesWritten() {
+
+    return delegate.bytesWritten();
+
+  }
+
+  @Override
+  public int streamId() {
+
+    return delegate.streamId();
+
+  }
+
+  @Override
+  public HttpServerResponse push(HttpMethod method, String host, String path,
+                                 Handler<AsyncResult<HttpServerResponse>> handler) {
+
+    run(() -> delegate.push(method, host, path, handler));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse push(HttpMethod method, String path, MultiMap headers,
+                                 Handler<AsyncResult<HttpServerResponse>> handler) {
+
+    run(() -> delegate.push(method, path, headers, handler));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse push(HttpMethod method, String path, Handler<AsyncResult<HttpServerResponse>> handler) {
+
+    run(() -> delegate.push(method, path, handler));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse push(HttpMethod method, String host, String path, MultiMap headers,
+                                 Handler<AsyncResult<HttpServerResponse>> handler) {
+
+    run(() -> delegate.push(method, host, path, headers, handler));
+    return this;
+
+  }
+
+  @Override
+  public void reset(long code) {
+
+    run(() -> delegate.reset(code));
+
+  }
+
+  @Override
+  public HttpServerResponse writeCustomFrame(int type, int flags, Buffer payload) {
+
+    run(() -> delegate.writeCustomFrame(type, flags, payload));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse writeCustomFrame(HttpFrame frame) {
+
+    run(() -> delegate.writeCustomFrame(frame));
+    return this;
+
+  }
+
+  @Override
+  public HttpServerResponse setStreamPriority(StreamPriority streamPriority) {
+
+    run(() -> delegate.setStreamPriority(streamPriority));
+    return this;
+
+  }
+}
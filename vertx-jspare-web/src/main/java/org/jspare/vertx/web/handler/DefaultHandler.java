@@ -16,25 +16,26 @@
 package org.jspare.vertx.web.handler;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
-import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerResponse;
-import io.vertx.core.json.Json;
-import io.vertx.core.json.JsonArray;
-import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.RoutingContextDecorator;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang.SerializationException;
-import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.jspare.core.Environment;
-import org.jspare.vertx.web.annotation.handling.*;
+import org.jspare.vertx.concurrent.Deadline;
+import org.jspare.vertx.concurrent.VirtualThreads;
 import org.jspare.vertx.web.builder.HandlerData;
+import org.jspare.vertx.web.builder.HandlerType;
+import org.jspare.vertx.web.metrics.RouteMetrics;
 
 import java.lang.reflect.Parameter;
-import java.lang.reflect.Type;
+import java.util.concurrent.CompletionStage;
 
 /**
  * The Constant log.
@@ -53,8 +54,32 @@ import java.lang.reflect.Type;
 @AllArgsConstructor
 public class DefaultHandler implements Handler<RoutingContext> {
 
+  /**
+   * Key of the {@link HandlerData} of matched route, put by {@link org.jspare.vertx.web.builder.RouteChain}.
+   */
   public static final String HANDLER_DATA = "__HANDLER_DATA_CTX";
 
+  /**
+   * Flag put on contexts of requests matching one {@link org.jspare.vertx.web.annotation.handling.StreamingBody} route.
+   */
+  public static final String STREAMING_BODY = "__STREAMING_BODY_CTX";
+
+  /**
+   * Key of the vertx {@link Context} of requests dispatched out of it, on virtual threads.
+   */
+  public static final String VERTX_CONTEXT = "__VERTX_CONTEXT_CTX";
+
+  /**
+   * Key of the deadline, in epoch millis, of requests matching one
+   * {@link org.jspare.vertx.web.annotation.handling.Timeout} route.
+   */
+  public static final String DEADLINE = "__DEADLINE_CTX";
+
+  /**
+   * Flag put on contexts of requests answered by timeout.
+   */
+  public static final String CANCELLED = "__CANCELLED_CTX";
+
   /**
    * The handler data.
    */
@@ -68,36 +93,260 @@ public class DefaultHandler implements Handler<RoutingContext> {
   @Override
   public void handle(RoutingContext context) {
 
-    try {
+    // Handle unhandled excetion
+    context.vertx().exceptionHandler(t -> {
+
+      if (!context.response().ended()) {
+
+        context.response().setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end(ExceptionUtils.getStackTrace(t));
+      }
+    });
+
+    if (handlerData.timeout() > 0) {
+
+      startTimeout(context);
+    }
+
+    if (handlerData.streamingBody() != null && !context.request().isEnded()) {
 
-      // Put handler data on RoutingContext for future handlers
-      context.put(HANDLER_DATA, handlerData);
+      readStreamingBody(context);
+      return;
+    }
+    if (handlerData.virtualThread()) {
 
-      // Handle unhandled excetion
-      context.vertx().exceptionHandler(t -> {
+      dispatchVirtual(context);
+      return;
+    }
+    dispatch(context);
+  }
 
-        if (!context.response().ended()) {
+  /**
+   * Answer the request with 503 and mark its context cancelled once the timeout of route is over.
+   *
+   * @param context the routing context
+   */
+  protected void startTimeout(RoutingContext context) {
 
-          context.response().setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end(ExceptionUtils.getStackTrace(t));
+    long timeout = handlerData.timeout();
+    context.put(DEADLINE, Deadline.after(timeout));
+
+    HttpServerResponse response = context.response();
+    long timerId = context.vertx().setTimer(timeout, id -> {
+
+      if (!response.ended()) {
+
+        context.put(CANCELLED, true);
+        if (!response.closed()) {
+
+          sendStatus(context, HttpResponseStatus.SERVICE_UNAVAILABLE);
         }
-      });
+      }
+    });
+    context.addBodyEndHandler(v -> context.vertx().cancelTimer(timerId));
+  }
+
+  /**
+   * Checks if one request was answered by timeout, the route method may stop its work.
+   *
+   * @param context the routing context
+   * @return true, if cancelled
+   */
+  public static boolean isCancelled(RoutingContext context) {
+    return Boolean.TRUE.equals(context.get(CANCELLED));
+  }
+
+  /**
+   * Dispatch the request to the route method on one virtual thread, see {@link VirtualThreads}. The results returned
+   * are written on the context of the request, as the response written by the route method itself through one
+   * {@link ContextResponse}.
+   *
+   * @param context the routing context
+   */
+  protected void dispatchVirtual(RoutingContext context) {
+
+    Context vertxContext = context.vertx().getOrCreateContext();
+    context.put(VERTX_CONTEXT, vertxContext);
+    HttpServerResponse recorder = context.get(ResponseCache.RECORDER);
+    if (recorder != null) {
 
-      // Instantiate Handler Class
-      Object newInstance = instantiateHandler();
+      context.put(ResponseCache.RECORDER, new ContextResponse(recorder, vertxContext));
+    }
+    RoutingContext virtualContext = new VirtualRoutingContext(context, new ContextResponse(context.response(), vertxContext));
+    VirtualThreads.<Void>execute(vertxContext, f -> {
+
+      dispatch(virtualContext);
+      f.complete();
+    }, null);
+  }
+
+  /**
+   * Dispatch the request to the route method.
+   *
+   * @param context the routing context
+   */
+  protected void dispatch(RoutingContext context) {
+
+    // Requests answered by timeout while queued are not dispatched
+    if (isCancelled(context)) {
+
+      return;
+    }
+
+    Long previousDeadline = Deadline.enter(context.get(DEADLINE));
+    Object newInstance = null;
+    try {
+
+      // Acquire Handler Class instance according to its scope
+      newInstance = instantiateHandler(context);
+
+      if (handlerData.instanceProvider().exclusive()) {
 
-      setHandlingParameters(context, newInstance);
+        setHandlingParameters(context, newInstance);
+      }
+
+      RouteMetrics metrics = RouteMetrics.of(context);
+      long started = metrics != null ? System.nanoTime() : 0L;
 
       Object[] parameters = collectParameters(context);
 
+      long resolved = metrics != null ? System.nanoTime() : 0L;
+
       // Call method of handler data
-      handlerData.method().invoke(newInstance, parameters);
+      Object result = handlerData.invoker().invoke(newInstance, parameters);
+
+      if (metrics != null) {
+
+        metrics.record(RouteMetrics.Phase.PARAMETERS, resolved - started);
+        metrics.record(RouteMetrics.Phase.INVOCATION, System.nanoTime() - resolved);
+      }
+
+      if (result != null) {
+
+        handleResult(context, result);
+      }
 
     } catch (Throwable t) {
 
       catchInvoke(context, t);
+    } finally {
+
+      if (newInstance != null) {
+
+        handlerData.instanceProvider().returned(context, newInstance);
+      }
+      Deadline.restore(previousDeadline);
+    }
+  }
+
+  /**
+   * Handle the value returned by the route method. Asynchronous results, {@link Future} and
+   * {@link CompletionStage} like {@link org.jspare.vertx.concurrent.VertxCompletableFuture}, are written by
+   * {@link ResponseWriter} on the context of the request once completed and their failures are handled like
+   * exceptions thrown by the method. Any other value is ignored, the method is expected to write the response.
+   *
+   * @param context the routing context
+   * @param result  the result
+   */
+  protected void handleResult(RoutingContext context, Object result) {
+
+    if (result instanceof Future) {
+
+      Context vertxContext = vertxContext(context);
+      ((Future<?>) result).setHandler(ar -> onContext(vertxContext, () -> {
+
+        if (ar.succeeded()) {
+
+          ResponseWriter.write(context, ar.result());
+        } else {
+
+          catchInvoke(context, ar.cause());
+        }
+      }));
+    } else if (result instanceof CompletionStage) {
+
+      Context vertxContext = vertxContext(context);
+      ((CompletionStage<?>) result).whenComplete((value, t) -> onContext(vertxContext, () -> {
+
+        if (t == null) {
+
+          ResponseWriter.write(context, value);
+        } else {
+
+          catchInvoke(context, t);
+        }
+      }));
+    }
+  }
+
+  private Context vertxContext(RoutingContext context) {
+
+    Context vertxContext = context.get(VERTX_CONTEXT);
+    return vertxContext != null ? vertxContext : context.vertx().getOrCreateContext();
+  }
+
+  private void onContext(Context vertxContext, Runnable action) {
+
+    if (Vertx.currentContext() == vertxContext) {
+
+      action.run();
+    } else {
+
+      vertxContext.runOnContext(v -> action.run());
     }
   }
 
+  /**
+   * Read the body while it is received and dispatch once it ends.
+   *
+   * @param context the routing context
+   */
+  protected void readStreamingBody(RoutingContext context) {
+
+    new StreamingBodyReader(handlerData.streamingBody().maxSize()).read(context.request(), ar -> {
+
+      if (ar.failed()) {
+
+        if (ar.cause() instanceof StreamingBodyReader.BodyTooLargeException) {
+
+          sendStatus(context, HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
+        } else if (ar.cause() instanceof StreamingBodyReader.InvalidContentLengthException) {
+
+          sendStatus(context, HttpResponseStatus.BAD_REQUEST);
+        } else {
+
+          catchInvoke(context, ar.cause());
+        }
+        return;
+      }
+      if (ar.result() != null) {
+
+        context.put(BodyDecoder.BODY_TOKENS, ar.result());
+      }
+      if (handlerData.virtualThread()) {
+
+        dispatchVirtual(context);
+      } else if (HandlerType.BLOCKING_HANDLER.equals(handlerData.handlerType())) {
+
+        // The body ends on the event loop, blocking routes are dispatched back to a worker
+        Handler<Future<Void>> blocking = f -> {
+
+          dispatch(context);
+          f.complete();
+        };
+        if (handlerData.workerPool() != null) {
+
+          handlerData.workerPool().executeBlocking(blocking, handlerData.orderedBlocking(), null);
+        } else {
+
+          context.vertx().executeBlocking(blocking, handlerData.orderedBlocking(), null);
+        }
+      } else {
+
+        dispatch(context);
+      }
+    });
+  }
+
   /**
    * Catch invoke.
    *
@@ -105,6 +354,21 @@ public class DefaultHandler implements Handler<RoutingContext> {
    * @param t              the t
    */
   protected void catchInvoke(RoutingContext routingContext, Throwable t) {
+    // Invalid request parameters are client errors
+    for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+
+      if (cause instanceof ParameterConversionException) {
+
+        // The message holds the raw value sent, only the parameter name is answered
+        log.debug("Bad request: {} - {}", handlerData.toStringLine(), cause.getMessage());
+        if (!routingContext.response().ended()) {
+
+          routingContext.response().setStatusCode(HttpResponseStatus.BAD_REQUEST.code())
+            .end(String.format("Invalid parameter [%s]", ((ParameterConversionException) cause).getName()));
+        }
+        return;
+      }
+    }
     // Any server error return impl server error
     while (t.getCause() != null) {
 
@@ -112,24 +376,26 @@ public class DefaultHandler implements Handler<RoutingContext> {
     }
     log.debug("Error: {}", handlerData.toStringLine());
     log.error(t.getMessage(), t);
-    routingContext.response().setStatusCode(500).end(t.toString());
+    if (!routingContext.response().ended()) {
+
+      routingContext.response().setStatusCode(500).end(t.toString());
+    }
   }
 
   /**
    * Collect parameters. This method is responsible to collect all parameters to
-   * send on handler method, resolving parameters and dependencies.
+   * send on handler method, using the resolvers planned for the route.
    *
    * @param routingContext the routing context
    * @return the object[]
    */
   protected Object[] collectParameters(RoutingContext routingContext) {
     // Prepare parameters to call method of route
-    Object[] parameters = new Object[handlerData.method().getParameterCount()];
-    int i = 0;
-    for (Parameter parameter : handlerData.method().getParameters()) {
+    ParameterResolver[] resolvers = handlerData.parameterResolvers();
+    Object[] parameters = new Object[resolvers.length];
+    for (int i = 0; i < resolvers.length; i++) {
 
-      parameters[i] = resolveParameter(parameter, routingContext);
-      i++;
+      parameters[i] = resolvers[i].resolve(routingContext);
     }
     return parameters;
   }
@@ -138,7 +404,10 @@ public class DefaultHandler implements Handler<RoutingContext> {
    * Instantiate handler.
    *
    * @return the object
+   * @deprecated the instance is provided according to the {@link org.jspare.vertx.web.annotation.handler.Scope}
+   *             of the route class, use {@link #instantiateHandler(RoutingContext)}
    */
+  @Deprecated
   @SneakyThrows
   protected Object instantiateHandler() {
     // Inject Request and Response if is Available
@@ -147,92 +416,30 @@ public class DefaultHandler implements Handler<RoutingContext> {
     return newInstance;
   }
 
+  /**
+   * Acquire the instance of the route class from the {@link InstanceProvider} of the route.
+   *
+   * @param routingContext the routing context
+   * @return the object
+   * @throws Exception if the instance cannot be created
+   */
+  protected Object instantiateHandler(RoutingContext routingContext) throws Exception {
+
+    return handlerData.instanceProvider().acquire(routingContext);
+  }
+
   /**
    * Resolve parameter.
    *
+   * <p>Plans the resolver on every call, prefer the resolvers held by {@link HandlerData}.</p>
+   *
    * @param parameter      the parameter
    * @param routingContext the routing context
    * @return the object
    */
   protected Object resolveParameter(Parameter parameter, RoutingContext routingContext) {
 
-    if (parameter.getType().equals(RoutingContext.class)) {
-
-      return routingContext;
-    }
-    if (parameter.getType().equals(HttpServerRequest.class)) {
-
-      return routingContext.request();
-    }
-    if (parameter.getType().equals(HttpServerResponse.class)) {
-
-      return routingContext.response();
-    }
-    if (parameter.getType().equals(JsonObject.class)) {
-      if (StringUtils.isEmpty(routingContext.getBody().toString())) {
-        return null;
-      }
-      return routingContext.getBodyAsJson();
-    }
-    if (parameter.getType().equals(JsonArray.class)) {
-      if (StringUtils.isEmpty(routingContext.getBody().toString())) {
-        return null;
-      }
-      return routingContext.getBodyAsJsonArray();
-    }
-    if (StringUtils.isNotEmpty(routingContext.request().getParam(parameter.getName()))) {
-
-      return routingContext.request().getParam(parameter.getName());
-    }
-    if (parameter.isAnnotationPresent(ArrayModel.class)) {
-
-      ArrayModel am = parameter.getAnnotation(ArrayModel.class);
-      Class<?> clazz = am.value();
-      return ArrayModelParser.toList(routingContext.getBody().toString(), clazz);
-    }
-    if (parameter.isAnnotationPresent(MapModel.class)) {
-
-      MapModel mm = parameter.getAnnotation(MapModel.class);
-      Class<?> value = mm.value();
-      return MapModelParser.toMap(routingContext.getBody().toString(), value);
-    }
-    if (parameter.isAnnotationPresent(org.jspare.vertx.web.annotation.handling.Parameter.class)) {
-
-      String parameterName = parameter.getAnnotation(org.jspare.vertx.web.annotation.handling.Parameter.class).value();
-      // Test types
-      Type typeOfParameter = parameter.getType();
-      if (typeOfParameter.equals(Integer.class)) {
-        return Integer.parseInt(routingContext.request().getParam(parameterName));
-      }
-      if (typeOfParameter.equals(Double.class)) {
-        return Double.parseDouble(routingContext.request().getParam(parameterName));
-      }
-      if (typeOfParameter.equals(Long.class)) {
-        return Long.parseLong(routingContext.request().getParam(parameterName));
-      }
-      return routingContext.request().getParam(parameterName);
-    }
-    if (parameter.isAnnotationPresent(Header.class)) {
-
-      String headerName = parameter.getAnnotation(Header.class).value();
-      return routingContext.request().getHeader(headerName);
-    }
-
-    try {
-      if (routingContext.getBody() == null) {
-
-        return null;
-      }
-
-      return Json.decodeValue(
-        StringUtils.defaultIfEmpty(routingContext.getBody().toString(), new JsonObject().encode()),
-        parameter.getType());
-    } catch (SerializationException e) {
-
-      log.debug("Invalid content of body for class [{}] on parameter [{}]", parameter.getClass(),
-        parameter.getName());
-      return null;
-    }
+    return ParameterResolvers.of(parameter).resolve(routingContext);
   }
 
   /**
@@ -258,8 +465,27 @@ public class DefaultHandler implements Handler<RoutingContext> {
 
       ((APIHandler) newInstance).setVertx(routingContext.vertx());
       ((APIHandler) newInstance).setReq(routingContext.request());
-      ((APIHandler) newInstance).setRes(routingContext.response());
+      ((APIHandler) newInstance).setRes(ResponseCache.response(routingContext));
       ((APIHandler) newInstance).setContext(routingContext);
     }
   }
+
+  /**
+   * Context of one request dispatched on a virtual thread, its response written on the context of the request.
+   */
+  private static class VirtualRoutingContext extends RoutingContextDecorator {
+
+    private final HttpServerResponse response;
+
+    VirtualRoutingContext(RoutingContext context, HttpServerResponse response) {
+
+      super(context.currentRoute(), context);
+      this.response = response;
+    }
+
+    @Override
+    public HttpServerResponse response() {
+      return response;
+    }
+  }
 }
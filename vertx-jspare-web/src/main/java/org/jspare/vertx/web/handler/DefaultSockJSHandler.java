@@ -51,7 +51,7 @@ public class DefaultSockJSHandler {
     Object[] parameters = collectParameters(handlerData, event);
 
     // Call method of handler data
-    handlerData.method().invoke(instance, parameters);
+    handlerData.invoker().invoke(instance, parameters);
   }
 
   /**
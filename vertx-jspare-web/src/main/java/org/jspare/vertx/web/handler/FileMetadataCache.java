@@ -0,0 +1,176 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.file.FileProps;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+import java.io.FileNotFoundException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the metadata of files sent by {@link FileSender}.
+ *
+ * <p>Lookups are made with {@link io.vertx.core.file.FileSystem#props(String, Handler)}, off the event loop, and
+ * kept for a short time so repeated downloads of the same file do not hit the file system on every request.
+ * Expired entries are removed first when the cache is full.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class FileMetadataCache {
+
+  /**
+   * The Constant DEFAULT_TTL, in milliseconds.
+   */
+  public static final long DEFAULT_TTL = 1000;
+
+  /**
+   * The Constant DEFAULT_MAX_ENTRIES.
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+  private final long ttl;
+  private final int maxEntries;
+  private final Map<String, Metadata> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a new file metadata cache.
+   *
+   * @param ttl        the time to live in milliseconds
+   * @param maxEntries the max entries
+   */
+  public FileMetadataCache(long ttl, int maxEntries) {
+
+    this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Get the metadata of one file. The handler fails with {@link FileNotFoundException} when the path is not a
+   * regular file.
+   *
+   * @param vertx   the vertx
+   * @param path    the path
+   * @param handler the handler
+   */
+  public void get(Vertx vertx, String path, Handler<AsyncResult<Metadata>> handler) {
+
+    Metadata metadata = entries.get(path);
+    if (metadata != null && metadata.expiresAt - System.nanoTime() > 0) {
+
+      handler.handle(Future.succeededFuture(metadata));
+      return;
+    }
+    vertx.fileSystem().props(path, ar -> {
+
+      if (ar.failed() || !ar.result().isRegularFile()) {
+
+        entries.remove(path);
+        handler.handle(Future.failedFuture(new FileNotFoundException(path)));
+        return;
+      }
+      Metadata loaded = new Metadata(ar.result(), System.nanoTime() + ttl);
+      if (entries.size() >= maxEntries) {
+
+        evict();
+      }
+      entries.put(path, loaded);
+      handler.handle(Future.succeededFuture(loaded));
+    });
+  }
+
+  /**
+   * Invalidate the metadata of one file.
+   *
+   * @param path the path
+   */
+  public void invalidate(String path) {
+    entries.remove(path);
+  }
+
+  /**
+   * Count the cached entries.
+   *
+   * @return the size
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  private void evict() {
+
+    long now = System.nanoTime();
+    entries.values().removeIf(m -> m.expiresAt - now <= 0);
+    Iterator<String> keys = entries.keySet().iterator();
+    while (entries.size() >= maxEntries && keys.hasNext()) {
+
+      keys.next();
+      keys.remove();
+    }
+  }
+
+  /**
+   * Metadata of one file.
+   */
+  @Getter
+  @Accessors(fluent = true)
+  public static class Metadata {
+
+    /**
+     * The size.
+     */
+    private final long size;
+
+    /**
+     * The last modified time in milliseconds.
+     */
+    private final long lastModified;
+
+    /**
+     * The <code>Last-Modified</code> header.
+     */
+    private final String lastModifiedHeader;
+
+    /**
+     * The strong etag, from size and last modified time.
+     */
+    private final String etag;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final long expiresAt;
+
+    private Metadata(FileProps props, long expiresAt) {
+
+      this.size = props.size();
+      this.lastModified = props.lastModifiedTime();
+      this.lastModifiedHeader = DateTimeFormatter.RFC_1123_DATE_TIME
+        .format(Instant.ofEpochMilli(lastModified).atOffset(ZoneOffset.UTC));
+      this.etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sends files, or one region of a file, to the response.
+ *
+ * <p>Whole responses and single ranges use {@link HttpServerResponse#sendFile(String, long, long)}, the content is
+ * transferred by the operating system without being read into the heap. Requests with several ranges are answered
+ * with one <code>multipart/byteranges</code> response read in chunks of {@link #CHUNK_SIZE} bytes, written as the
+ * connection drains.</p>
+ *
+ * <p>The <code>Last-Modified</code> and <code>ETag</code> headers are taken from the file metadata, kept by
+ * {@link #METADATA}. Conditional requests are answered with 304, <code>If-Range</code> requests whose validator does
+ * not match receive the whole content and unsatisfiable ranges are answered with 416.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Slf4j
+@UtilityClass
+public class FileSender {
+
+  /**
+   * The Constant METADATA, metadata of sent files.
+   */
+  public static final FileMetadataCache METADATA = new FileMetadataCache(FileMetadataCache.DEFAULT_TTL,
+    FileMetadataCache.DEFAULT_MAX_ENTRIES);
+
+  /**
+   * Max ranges of one request, requests with more ranges receive the whole content.
+   */
+  public static final int MAX_RANGES = 16;
+
+  /**
+   * Size in bytes of the chunks of multipart responses.
+   */
+  public static final int CHUNK_SIZE = 64 * 1024;
+
+  private static final String BYTES = "bytes";
+  private static final String OCTET_STREAM = "application/octet-stream";
+
+  /**
+   * Send one region of a file, answering 404 when the path is not a regular file.
+   *
+   * @param vertx    the vertx
+   * @param request  the request
+   * @param response the response
+   * @param path     the path
+   * @param offset   the offset of region
+   * @param length   the length of region, {@link Long#MAX_VALUE} up to the end of file
+   */
+  public void send(Vertx vertx, HttpServerRequest request, HttpServerResponse response, String path, long offset,
+    long length) {
+
+    METADATA.get(vertx, path, ar -> {
+
+      if (response.ended()) {
+
+        return;
+      }
+      if (ar.failed()) {
+
+        response.setStatusCode(HttpResponseStatus.NOT_FOUND.code()).end();
+        return;
+      }
+      send(vertx, request, response, path, ar.result(), offset, length);
+    });
+  }
+
+  private void send(Vertx vertx, HttpServerRequest request, HttpServerResponse response, String path,
+    FileMetadataCache.Metadata metadata, long offset, long length) {
+
+    long start = Math.min(Math.max(offset, 0), metadata.size());
+    long total = Math.min(Math.max(length, 0), metadata.size() - start);
+    boolean whole = start == 0 && total == metadata.size();
+    String etag = whole ? metadata.etag()
+      : metadata.etag().substring(0, metadata.etag().length() - 1) + "-" + Long.toHexString(start) + "-"
+      + Long.toHexString(total) + "\"";
+
+    String contentType = response.headers().get(HttpHeaderNames.CONTENT_TYPE);
+    if (contentType == null) {
+
+      String mimeType = MimeMapping.getMimeTypeForFilename(path);
+      contentType = mimeType != null ? mimeType : OCTET_STREAM;
+    }
+    response.putHeader(HttpHeaderNames.ACCEPT_RANGES, BYTES)
+      .putHeader(HttpHeaderNames.LAST_MODIFIED, metadata.lastModifiedHeader())
+      .putHeader(HttpHeaderNames.ETAG, etag)
+      .putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
+
+    if (isNotModified(request, etag, metadata)) {
+
+      response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+      return;
+    }
+
+    String range = request.getHeader(HttpHeaderNames.RANGE);
+    if (range != null && request.method() == HttpMethod.GET && isRangeValid(request, etag, metadata)) {
+
+      List<long[]> ranges = ranges(range, total);
+      if (ranges != null && ranges.isEmpty()) {
+
+        response.setStatusCode(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE.code())
+          .putHeader(HttpHeaderNames.CONTENT_RANGE, BYTES + " */" + total)
+          .end();
+        return;
+      }
+      if (ranges != null && ranges.size() == 1) {
+
+        long[] single = ranges.get(0);
+        response.setStatusCode(HttpResponseStatus.PARTIAL_CONTENT.code())
+          .putHeader(HttpHeaderNames.CONTENT_RANGE, contentRange(single, total));
+        sendRegion(request, response, path, start + single[0], single[1] - single[0] + 1);
+        return;
+      }
+      if (ranges != null) {
+
+        sendMultipart(vertx, request, response, path, start, total, contentType, ranges);
+        return;
+      }
+    }
+    sendRegion(request, response, path, start, total);
+  }
+
+  /**
+   * Parse the ranges of one <code>Range</code> header, sorted and coalesced.
+   *
+   * @param header the header
+   * @param total  the length of content
+   * @return the ranges as inclusive first and last positions, empty if unsatisfiable or null if the header is
+   *         invalid or has more than {@link #MAX_RANGES} ranges and must be ignored
+   */
+  List<long[]> ranges(String header, long total) {
+
+    if (!header.startsWith(BYTES + "=")) {
+
+      return null;
+    }
+    String[] specs = header.substring(BYTES.length() + 1).split(",");
+    if (specs.length > MAX_RANGES) {
+
+      return null;
+    }
+
+    List<long[]> ranges = new ArrayList<>(specs.length);
+    try {
+
+      for (String spec : specs) {
+
+        spec = spec.trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+
+          return null;
+        }
+        long first;
+        long last;
+        if (dash == 0) {
+
+          // Suffix range, the last bytes of content
+          long suffix = Long.parseLong(spec.substring(1));
+          first = Math.max(0, total - suffix);
+          last = total - 1;
+          if (suffix == 0) {
+
+            continue;
+          }
+        } else {
+
+          first = Long.parseLong(spec.substring(0, dash));
+          last = dash == spec.length() - 1 ? Long.MAX_VALUE : Long.parseLong(spec.substring(dash + 1));
+          if (last < first) {
+
+            return null;
+          }
+          last = Math.min(last, total - 1);
+        }
+        if (first < total) {
+
+          ranges.add(new long[] { first, last });
+        }
+      }
+    } catch (NumberFormatException e) {
+
+      return null;
+    }
+
+    ranges.sort(Comparator.comparingLong(r -> r[0]));
+    List<long[]> coalesced = new ArrayList<>(ranges.size());
+    for (long[] r : ranges) {
+
+      long[] previous = coalesced.isEmpty() ? null : coalesced.get(coalesced.size() - 1);
+      if (previous != null && r[0] <= previous[1] + 1) {
+
+        previous[1] = Math.max(previous[1], r[1]);
+      } else {
+
+        coalesced.add(r);
+      }
+    }
+    return coalesced;
+  }
+
+  private void sendRegion(HttpServerRequest request, HttpServerResponse response, String path, long offset,
+    long length) {
+
+    if (request.method() == HttpMethod.HEAD) {
+
+      response.putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(length)).end();
+      return;
+    }
+    response.sendFile(path, offset, length, ar -> {
+
+      if (ar.failed()) {
+
+        log.debug("Failed to send file {}", path, ar.cause());
+      }
+    });
+  }
+
+  private void sendMultipart(Vertx vertx, HttpServerRequest request, HttpServerResponse response, String path,
+    long start, long total, String contentType, List<long[]> ranges) {
+
+    String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong()) + Long.toHexString(System.nanoTime());
+    List<Buffer> heads = new ArrayList<>(ranges.size());
+    long length = 0;
+    for (long[] range : ranges) {
+
+      Buffer head = Buffer.buffer("\r\n--" + boundary + "\r\nContent-Type: " + contentType
+        + "\r\nContent-Range: " + contentRange(range, total) + "\r\n\r\n");
+      heads.add(head);
+      length += head.length() + range[1] - range[0] + 1;
+    }
+    Buffer tail = Buffer.buffer("\r\n--" + boundary + "--\r\n");
+    length += tail.length();
+
+    response.setStatusCode(HttpResponseStatus.PARTIAL_CONTENT.code())
+      .putHeader(HttpHeaderNames.CONTENT_TYPE, "multipart/byteranges; boundary=" + boundary)
+      .putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(length));
+
+    vertx.fileSystem().open(path, new OpenOptions().setRead(true).setWrite(false).setCreate(false), ar -> {
+
+      if (ar.failed()) {
+
+        response.setStatusCode(HttpResponseStatus.NOT_FOUND.code()).end();
+        return;
+      }
+      new RangeWriter(response, ar.result(), start, ranges, heads, tail).next();
+    });
+  }
+
+  private String contentRange(long[] range, long total) {
+    return BYTES + " " + range[0] + "-" + range[1] + "/" + total;
+  }
+
+  private boolean isNotModified(HttpServerRequest request, String etag, FileMetadataCache.Metadata metadata) {
+
+    if (request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD) {
+
+      return false;
+    }
+    String ifNoneMatch = request.getHeader(HttpHeaderNames.IF_NONE_MATCH);
+    if (ifNoneMatch != null) {
+
+      for (String candidate : ifNoneMatch.split(",")) {
+
+        candidate = candidate.trim();
+        if ("*".equals(candidate) || etag.equals(candidate.startsWith("W/") ? candidate.substring(2) : candidate)) {
+
+          return true;
+        }
+      }
+      return false;
+    }
+    Long since = date(request.getHeader(HttpHeaderNames.IF_MODIFIED_SINCE));
+    return since != null && metadata.lastModified() / 1000 <= since / 1000;
+  }
+
+  private boolean isRangeValid(HttpServerRequest request, String etag, FileMetadataCache.Metadata metadata) {
+
+    String ifRange = request.getHeader(HttpHeaderNames.IF_RANGE);
+    if (ifRange == null) {
+
+      return true;
+    }
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+
+      // Only strong validators match
+      return etag.equals(ifRange);
+    }
+    Long date = date(ifRange);
+    return date != null && metadata.lastModified() / 1000 == date / 1000;
+  }
+
+  private Long date(String value) {
+
+    if (value == null) {
+
+      return null;
+    }
+    try {
+
+      return Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(value)).toEpochMilli();
+    } catch (DateTimeParseException e) {
+
+      return null;
+    }
+  }
+
+  /**
+   * Writes the parts of one multipart response.
+   */
+  private static class RangeWriter {
+
+    private final HttpServerResponse response;
+    private final AsyncFile file;
+    private final long start;
+    private final List<long[]> ranges;
+    private final List<Buffer> heads;
+    private final Buffer tail;
+    private int index = -1;
+    private long position;
+    private long remaining;
+    private boolean waiting;
+    private boolean closed;
+
+    RangeWriter(HttpServerResponse response, AsyncFile file, long start, List<long[]> ranges, List<Buffer> heads,
+      Buffer tail) {
+
+      this.response = response;
+      this.file = file;
+      this.start = start;
+      this.ranges = ranges;
+      this.heads = heads;
+      this.tail = tail;
+      response.closeHandler(v -> close());
+      response.drainHandler(v -> {
+
+        if (waiting) {
+
+          waiting = false;
+          next();
+        }
+      });
+    }
+
+    void next() {
+
+      if (closed) {
+
+        return;
+      }
+      if (remaining == 0) {
+
+        index++;
+        if (index == ranges.size()) {
+
+          response.end(tail);
+          close();
+          return;
+        }
+        long[] range = ranges.get(index);
+        position = start + range[0];
+        remaining = range[1] - range[0] + 1;
+        response.write(heads.get(index));
+      }
+
+      int size = (int) Math.min(CHUNK_SIZE, remaining);
+      file.read(Buffer.buffer(size), 0, position, size, ar -> {
+
+        if (closed) {
+
+          return;
+        }
+        if (ar.failed()) {
+
+          log.debug("Failed to read file range", ar.cause());
+          response.close();
+          close();
+          return;
+        }
+        position += size;
+        remaining -= size;
+        response.write(ar.result());
+        if (response.writeQueueFull()) {
+
+          waiting = true;
+        } else {
+
+          next();
+        }
+      });
+    }
+
+    private void close() {
+
+      if (!closed) {
+
+        closed = true;
+        file.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Provides the instance of one route class that handles a request.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ * @see InstanceProviders
+ */
+public interface InstanceProvider {
+
+  /**
+   * Acquire the instance that handles the request.
+   *
+   * @param context the routing context
+   * @return the instance
+   * @throws Exception if the instance cannot be created
+   */
+  Object acquire(RoutingContext context) throws Exception;
+
+  /**
+   * Returns true when the instance is held by only one request at a time, so request state can be set on it.
+   *
+   * @return true if exclusive
+   */
+  boolean exclusive();
+
+  /**
+   * Called once the route method invoked on one acquired instance has returned, or thrown.
+   *
+   * @param context  the routing context
+   * @param instance the instance
+   */
+  default void returned(RoutingContext context, Object instance) {
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+import lombok.experimental.UtilityClass;
+import org.jspare.core.Environment;
+import org.jspare.vertx.web.annotation.handler.Scope;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the {@link InstanceProvider} of one route class according to its {@link Scope}.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@UtilityClass
+public class InstanceProviders {
+
+  /**
+   * Key of the release of pooled instance, counted down when the route method returns.
+   */
+  private final String POOLED_RELEASE = "__POOLED_RELEASE_CTX";
+
+  /**
+   * Creates the provider of one route class.
+   *
+   * @param clazz the route class
+   * @return the instance provider
+   * @throws IllegalArgumentException if the class extends {@link APIHandler} and has a shared scope
+   */
+  public InstanceProvider of(Class<?> clazz) {
+
+    Scope scope = clazz.getAnnotation(Scope.class);
+    Scope.Type type = scope != null ? scope.value() : Scope.Type.REQUEST;
+    if (APIHandler.class.isAssignableFrom(clazz) && (type == Scope.Type.SINGLETON || type == Scope.Type.EVENT_LOOP)) {
+
+      throw new IllegalArgumentException(String.format(
+        "Route class [%s] extends APIHandler and can not have the shared scope %s, use POOLED or REQUEST",
+        clazz.getName(), type));
+    }
+
+    switch (type) {
+      case SINGLETON:
+        return singleton(clazz);
+      case EVENT_LOOP:
+        return eventLoop(clazz);
+      case POOLED:
+        return pooled(clazz, scope.poolSize());
+      default:
+        return request(clazz);
+    }
+  }
+
+  /**
+   * Provider of one new injected instance per request.
+   *
+   * @param clazz the route class
+   * @return the instance provider
+   */
+  public InstanceProvider request(Class<?> clazz) {
+
+    return new InstanceProvider() {
+
+      @Override
+      public Object acquire(RoutingContext context) throws Exception {
+
+        return newInstance(clazz);
+      }
+
+      @Override
+      public boolean exclusive() {
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Provider of the instance held by {@link Environment}, shared by all requests.
+   *
+   * @param clazz the route class
+   * @return the instance provider
+   */
+  public InstanceProvider singleton(Class<?> clazz) {
+
+    return new InstanceProvider() {
+
+      private volatile Object instance;
+
+      @Override
+      public Object acquire(RoutingContext context) {
+
+        Object result = instance;
+        if (result == null) {
+
+          synchronized (this) {
+            if (instance == null) {
+
+              instance = Environment.my(clazz);
+            }
+            result = instance;
+          }
+        }
+        return result;
+      }
+
+      @Override
+      public boolean exclusive() {
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Provider of one instance per Vert.x context, kept on the context data.
+   *
+   * @param clazz the route class
+   * @return the instance provider
+   */
+  public InstanceProvider eventLoop(Class<?> clazz) {
+
+    String key = "__jspare.scope." + clazz.getName();
+    return new InstanceProvider() {
+
+      @Override
+      public Object acquire(RoutingContext context) throws Exception {
+
+        Context vertxContext = Vertx.currentContext();
+        if (vertxContext == null) {
+
+          return newInstance(clazz);
+        }
+        Object instance = vertxContext.get(key);
+        if (instance == null) {
+
+          instance = newInstance(clazz);
+          vertxContext.put(key, instance);
+        }
+        return instance;
+      }
+
+      @Override
+      public boolean exclusive() {
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Provider of instances reused between requests. The instance returns to the pool once the route method has
+   * returned and the response is ended, whichever happens last, so the method may still use the request state after
+   * ending the response. Instances of responses never ended are left to the garbage collector.
+   *
+   * @param clazz    the route class
+   * @param poolSize the max idle instances
+   * @return the instance provider
+   */
+  public InstanceProvider pooled(Class<?> clazz, int poolSize) {
+
+    Queue<Object> idle = new ConcurrentLinkedQueue<>();
+    AtomicInteger idleCount = new AtomicInteger();
+    return new InstanceProvider() {
+
+      @Override
+      public Object acquire(RoutingContext context) throws Exception {
+
+        Object instance = idle.poll();
+        if (instance != null) {
+
+          idleCount.decrementAndGet();
+        } else {
+
+          instance = newInstance(clazz);
+        }
+
+        Object acquired = instance;
+        AtomicInteger pending = new AtomicInteger(2);
+        Runnable countDown = () -> {
+
+          if (pending.decrementAndGet() == 0) {
+
+            giveBack(acquired);
+          }
+        };
+        context.put(POOLED_RELEASE, countDown);
+        context.addBodyEndHandler(v -> countDown.run());
+        return instance;
+      }
+
+      @Override
+      public boolean exclusive() {
+        return true;
+      }
+
+      @Override
+      public void returned(RoutingContext context, Object instance) {
+
+        Runnable countDown = context.remove(POOLED_RELEASE);
+        if (countDown != null) {
+
+          countDown.run();
+        }
+      }
+
+      private void giveBack(Object instance) {
+
+        if (idleCount.incrementAndGet() <= poolSize) {
+
+          release(instance);
+          idle.offer(instance);
+        } else {
+
+          idleCount.decrementAndGet();
+        }
+      }
+    };
+  }
+
+  private void release(Object instance) {
+
+    if (instance instanceof APIHandler) {
+
+      APIHandler handler = (APIHandler) instance;
+      handler.setVertx(null);
+      handler.setReq(null);
+      handler.setRes(null);
+      handler.setContext(null);
+    }
+  }
+
+  private Object newInstance(Class<?> clazz) throws Exception {
+
+    Object instance = clazz.newInstance();
+    Environment.inject(instance);
+    return instance;
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.Json;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes response values as json straight into one {@link ByteBuf}, without the intermediate {@link String} of
+ * {@link Json#encode(Object)}.
+ *
+ * <p>The buffer is a heap buffer left to the garbage collector: {@link Buffer#buffer(ByteBuf)} wraps it as
+ * unreleasable, so a pooled buffer handed over to the response would never return to its pool. Unicode charsets
+ * are written by the json generator itself, any other charset is written through one {@link OutputStreamWriter}
+ * with non ascii characters escaped so the content stays valid on the requested charset.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@UtilityClass
+public class JsonEncoder {
+
+  /**
+   * The Constant APPLICATION_JSON.
+   */
+  public static final String APPLICATION_JSON = "application/json";
+
+  /**
+   * Encode the value as json.
+   *
+   * @param value   the value
+   * @param charset the charset
+   * @return the buffer
+   * @throws EncodeException if the value cannot be encoded
+   */
+  public Buffer encode(Object value, Charset charset) {
+
+    ByteBuf buf = Unpooled.buffer();
+    try (JsonGenerator generator = createGenerator(new ByteBufOutputStream(buf), charset)) {
+
+      Json.mapper.writeValue(generator, value);
+    } catch (Exception e) {
+
+      throw new EncodeException("Failed to encode as JSON: " + e.getMessage(), e);
+    }
+    return Buffer.buffer(buf);
+  }
+
+  /**
+   * The content type of json encoded with the charset, the charset is omitted for the default UTF-8.
+   *
+   * @param charset the charset
+   * @return the content type
+   */
+  public String contentType(Charset charset) {
+
+    return StandardCharsets.UTF_8.equals(charset) ? APPLICATION_JSON : APPLICATION_JSON + ";charset=" + charset.name();
+  }
+
+  /**
+   * End the response with one encoded buffer, with its exact length and not chunked. Responses already ended are
+   * left untouched.
+   *
+   * @param response the response
+   * @param buffer   the buffer
+   */
+  public void end(HttpServerResponse response, Buffer buffer) {
+
+    if (!response.ended()) {
+
+      response.setChunked(false).end(buffer);
+    }
+  }
+
+  private JsonGenerator createGenerator(OutputStream out, Charset charset) throws IOException {
+
+    for (JsonEncoding encoding : JsonEncoding.values()) {
+
+      if (encoding.getJavaName().equals(charset.name())) {
+
+        return Json.mapper.getFactory().createGenerator(out, encoding);
+      }
+    }
+    return Json.mapper.getFactory().createGenerator(new OutputStreamWriter(out, charset))
+      .enable(JsonGenerator.Feature.ESCAPE_NON_ASCII);
+  }
+}
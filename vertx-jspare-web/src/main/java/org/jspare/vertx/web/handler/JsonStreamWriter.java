@@ -0,0 +1,250 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.core.streams.ReadStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * Writes the elements of one iterator or {@link ReadStream} to a chunked response while they are encoded, without
+ * holding the whole content in memory.
+ *
+ * <p>Elements are encoded into heap buffers of about {@link #BATCH_SIZE} bytes, left to the garbage collector as
+ * Vert.x wraps written buffers as unreleasable. Iterators are pulled one batch at a time, the writing pauses when
+ * {@link HttpServerResponse#writeQueueFull()} and resumes on the drain handler of response, between batches the
+ * event loop is released to other tasks. Read streams are paused and resumed the same way. When the connection
+ * closes the iteration stops; failures before the head is written are answered with 500, after that the connection
+ * is closed as the content is truncated.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Slf4j
+public class JsonStreamWriter {
+
+  /**
+   * Size in bytes of each written chunk.
+   */
+  public static final int BATCH_SIZE = 8 * 1024;
+
+  private final HttpServerResponse response;
+  private final StreamFormat format;
+  private final Runnable onComplete;
+  private final Context context;
+  private ReadStream<?> source;
+  private ByteBuf batch;
+  private long count;
+  private boolean done;
+
+  private JsonStreamWriter(HttpServerResponse response, StreamFormat format, Runnable onComplete) {
+
+    this.response = response;
+    this.format = format;
+    this.onComplete = onComplete;
+    this.context = Vertx.currentContext();
+
+    response.setChunked(true);
+    if (!response.headers().contains(HttpHeaderNames.CONTENT_TYPE)) {
+
+      response.putHeader(HttpHeaderNames.CONTENT_TYPE, format.contentType());
+    }
+    response.closeHandler(v -> abort());
+  }
+
+  /**
+   * Write the elements of iterator and end the response.
+   *
+   * @param response   the response
+   * @param iterator   the iterator
+   * @param format     the format
+   * @param onComplete called once when the writing ends, fails or the connection is closed, may be null
+   */
+  public static void write(HttpServerResponse response, Iterator<?> iterator, StreamFormat format, Runnable onComplete) {
+
+    new JsonStreamWriter(response, format, onComplete).pump(iterator);
+  }
+
+  /**
+   * Write the elements of read stream and end the response once the stream ends.
+   *
+   * @param response   the response
+   * @param readStream the read stream
+   * @param format     the format
+   */
+  public static void pipe(HttpServerResponse response, ReadStream<?> readStream, StreamFormat format) {
+
+    JsonStreamWriter writer = new JsonStreamWriter(response, format, null);
+    writer.source = readStream;
+    readStream.exceptionHandler(writer::fail);
+    readStream.endHandler(v -> writer.finish());
+    readStream.handler(element -> {
+
+      if (writer.done) {
+
+        return;
+      }
+      try {
+
+        // Elements of streams arrive over time, each one is written once encoded
+        writer.append(element);
+        writer.flush();
+        if (response.writeQueueFull()) {
+
+          readStream.pause();
+          response.drainHandler(d -> readStream.resume());
+        }
+      } catch (Throwable t) {
+
+        writer.fail(t);
+      }
+    });
+  }
+
+  private void pump(Iterator<?> iterator) {
+
+    try {
+
+      while (!done) {
+
+        if (!iterator.hasNext()) {
+
+          finish();
+          return;
+        }
+        append(iterator.next());
+        if (batch.readableBytes() >= BATCH_SIZE) {
+
+          flush();
+          if (response.writeQueueFull()) {
+
+            response.drainHandler(v -> pump(iterator));
+            return;
+          }
+          if (context != null) {
+
+            // Release the event loop between batches
+            context.runOnContext(v -> pump(iterator));
+            return;
+          }
+        }
+      }
+    } catch (Throwable t) {
+
+      fail(t);
+    }
+  }
+
+  private void append(Object element) throws IOException {
+
+    if (batch == null) {
+
+      batch = Unpooled.buffer(BATCH_SIZE);
+    }
+    batch.writeBytes(count == 0 ? format.open() : format.delimiter());
+    Json.mapper.writeValue((OutputStream) new ByteBufOutputStream(batch), element);
+    batch.writeBytes(format.terminator());
+    count++;
+  }
+
+  private void flush() {
+
+    if (batch != null) {
+
+      ByteBuf chunk = batch;
+      batch = null;
+      response.write(Buffer.buffer(chunk));
+    }
+  }
+
+  private void finish() {
+
+    if (done) {
+
+      return;
+    }
+    if (batch == null) {
+
+      batch = Unpooled.buffer(format.open().length + format.close().length);
+    }
+    if (count == 0) {
+
+      batch.writeBytes(format.open());
+    }
+    batch.writeBytes(format.close());
+    ByteBuf last = batch;
+    batch = null;
+    complete();
+    response.end(Buffer.buffer(last));
+  }
+
+  private void fail(Throwable t) {
+
+    if (done) {
+
+      return;
+    }
+    log.error("Failed to stream response: {}", t.getMessage(), t);
+    stop();
+    if (!response.headWritten()) {
+
+      response.setChunked(false).setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end();
+    } else if (!response.closed()) {
+
+      response.close();
+    }
+  }
+
+  private void abort() {
+
+    if (!done) {
+
+      log.debug("Connection closed while streaming response, {} elements written", count);
+      stop();
+    }
+  }
+
+  private void stop() {
+
+    if (source != null) {
+
+      source.pause();
+    }
+    complete();
+  }
+
+  private void complete() {
+
+    done = true;
+    batch = null;
+    if (onComplete != null) {
+
+      onComplete.run();
+    }
+  }
+}
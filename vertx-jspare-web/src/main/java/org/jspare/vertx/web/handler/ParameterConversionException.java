@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+/**
+ * Thrown when one request parameter cannot be converted to the type of its route method parameter. The
+ * {@link DefaultHandler} answers it with 400.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class ParameterConversionException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The parameter name.
+   */
+  private final String name;
+
+  /**
+   * Instantiates a new parameter conversion exception.
+   *
+   * @param name  the parameter name
+   * @param value the value
+   * @param type  the type
+   * @param cause the cause
+   */
+  public ParameterConversionException(String name, String value, Class<?> type, Throwable cause) {
+    super(value == null ? String.format("Missing required parameter [%s]", name)
+      : String.format("Invalid value [%s] of parameter [%s], expected %s", value, name, type.getSimpleName()), cause);
+    this.name = name;
+  }
+
+  /**
+   * The parameter name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+/**
+ * Converts the text value of one request parameter to the type of a route method parameter.
+ *
+ * @param <T> the converted type
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ * @see ParameterConverters
+ */
+@FunctionalInterface
+public interface ParameterConverter<T> {
+
+  /**
+   * Convert the value.
+   *
+   * @param value the value, never null
+   * @return the converted value
+   * @throws Exception if the value is not valid for the type
+   */
+  T convert(String value) throws Exception;
+}
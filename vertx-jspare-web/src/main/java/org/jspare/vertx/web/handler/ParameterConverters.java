@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link ParameterConverter} by type.
+ *
+ * <p>Converters are looked up once per route method parameter when the route is collected. Custom types are
+ * supported by {@link #register(Class, ParameterConverter)} before the router is built.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@UtilityClass
+public class ParameterConverters {
+
+  /**
+   * The converters.
+   */
+  private static final Map<Class<?>, ParameterConverter<?>> CONVERTERS = new ConcurrentHashMap<>();
+
+  static {
+
+    register(String.class, value -> value);
+    register(Integer.class, Integer::valueOf);
+    register(int.class, Integer::valueOf);
+    register(Long.class, Long::valueOf);
+    register(long.class, Long::valueOf);
+    register(Double.class, Double::valueOf);
+    register(double.class, Double::valueOf);
+    register(Float.class, Float::valueOf);
+    register(float.class, Float::valueOf);
+    register(Short.class, Short::valueOf);
+    register(short.class, Short::valueOf);
+    register(Byte.class, Byte::valueOf);
+    register(byte.class, Byte::valueOf);
+    register(Boolean.class, ParameterConverters::parseBoolean);
+    register(boolean.class, ParameterConverters::parseBoolean);
+    register(Character.class, ParameterConverters::parseChar);
+    register(char.class, ParameterConverters::parseChar);
+    register(BigDecimal.class, BigDecimal::new);
+    register(BigInteger.class, BigInteger::new);
+    register(UUID.class, UUID::fromString);
+    register(Instant.class, Instant::parse);
+    register(LocalDate.class, LocalDate::parse);
+    register(LocalTime.class, LocalTime::parse);
+    register(LocalDateTime.class, LocalDateTime::parse);
+    register(OffsetDateTime.class, OffsetDateTime::parse);
+    register(ZonedDateTime.class, ZonedDateTime::parse);
+    register(Duration.class, Duration::parse);
+  }
+
+  /**
+   * Register one converter, replacing the converter of the type if present.
+   *
+   * @param <T>       the generic type
+   * @param type      the type
+   * @param converter the converter
+   */
+  public <T> void register(Class<T> type, ParameterConverter<? extends T> converter) {
+
+    CONVERTERS.put(type, converter);
+  }
+
+  /**
+   * Returns the converter of one type. Enums get one converter with a cached lookup of its constants.
+   *
+   * @param type the type
+   * @return the converter, null if the type is not convertible
+   */
+  public ParameterConverter<?> of(Class<?> type) {
+
+    ParameterConverter<?> converter = CONVERTERS.get(type);
+    if (converter == null && type.isEnum()) {
+
+      converter = CONVERTERS.computeIfAbsent(type, ParameterConverters::ofEnum);
+    }
+    return converter;
+  }
+
+  private ParameterConverter<?> ofEnum(Class<?> type) {
+
+    Map<String, Object> constants = new HashMap<>();
+    for (Object constant : type.getEnumConstants()) {
+
+      String name = ((Enum<?>) constant).name();
+      constants.put(name, constant);
+      constants.putIfAbsent(name.toLowerCase(Locale.ROOT), constant);
+    }
+    return value -> {
+
+      Object constant = constants.get(value);
+      if (constant == null) {
+
+        constant = constants.get(value.toLowerCase(Locale.ROOT));
+      }
+      if (constant == null) {
+
+        throw new IllegalArgumentException(String.format("No constant %s of %s", value, type.getName()));
+      }
+      return constant;
+    };
+  }
+
+  private Boolean parseBoolean(String value) {
+
+    if ("true".equalsIgnoreCase(value)) {
+
+      return Boolean.TRUE;
+    }
+    if ("false".equalsIgnoreCase(value)) {
+
+      return Boolean.FALSE;
+    }
+    throw new IllegalArgumentException(value);
+  }
+
+  private Character parseChar(String value) {
+
+    if (value.length() != 1) {
+
+      throw new IllegalArgumentException(value);
+    }
+    return value.charAt(0);
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.SerializationException;
+import org.apache.commons.lang.StringUtils;
+import org.jspare.vertx.web.annotation.handler.SseHandler;
+import org.jspare.vertx.web.annotation.handling.ArrayModel;
+import org.jspare.vertx.web.annotation.handling.Header;
+import org.jspare.vertx.web.annotation.handling.MapModel;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Plans how each parameter of a route method is resolved.
+ *
+ * <p>The type and annotations of every parameter are inspected once, when the route is
+ * collected, resulting in one {@link ParameterResolver} per parameter slot.</p>
+ *
+ * <p>Other than the request and body types, one parameter receives the request parameter named as itself when
+ * present, otherwise the value of its {@link ArrayModel}, {@link MapModel},
+ * {@link org.jspare.vertx.web.annotation.handling.Parameter} or {@link Header} annotation, otherwise the body.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Slf4j
+@UtilityClass
+public class ParameterResolvers {
+
+  /**
+   * The Constant EMPTY_BODY.
+   */
+  private static final String EMPTY_BODY = new JsonObject().encode();
+
+  /**
+   * Plan the resolvers of all parameters of method.
+   *
+   * @param method the method
+   * @return the parameter resolvers
+   */
+  public ParameterResolver[] plan(Method method) {
+
+    Parameter[] parameters = method.getParameters();
+    ParameterResolver[] resolvers = new ParameterResolver[parameters.length];
+    for (int i = 0; i < parameters.length; i++) {
+
+      resolvers[i] = of(parameters[i]);
+    }
+    return resolvers;
+  }
+
+  /**
+   * Plan the resolver of one parameter.
+   *
+   * @param parameter the parameter
+   * @return the parameter resolver
+   */
+  public ParameterResolver of(Parameter parameter) {
+
+    Class<?> type = parameter.getType();
+    if (type.equals(RoutingContext.class)) {
+
+      return context -> context;
+    }
+    if (type.equals(HttpServerRequest.class)) {
+
+      return RoutingContext::request;
+    }
+    if (type.equals(HttpServerResponse.class)) {
+
+      return RoutingContext::response;
+    }
+    if (type.equals(SseEmitter.class)) {
+
+      SseHandler sseHandler = parameter.getDeclaringExecutable().getAnnotation(SseHandler.class);
+      long keepAlive = sseHandler != null ? sseHandler.keepAlive() : 0;
+      int maxPending = sseHandler != null ? sseHandler.maxPending() : Integer.MAX_VALUE;
+      return context -> SseEmitter.of(context, keepAlive, maxPending);
+    }
+    if (type.equals(JsonObject.class)) {
+
+      return BodyDecoder::asJsonObject;
+    }
+    if (type.equals(JsonArray.class)) {
+
+      return BodyDecoder::asJsonArray;
+    }
+
+    // A request parameter named as the method parameter takes precedence over any other source, @Parameter included
+    String name = parameter.getName();
+    ParameterConverter<?> converter = ParameterConverters.of(type);
+    boolean byName = converter != null || !Collection.class.isAssignableFrom(type);
+    ParameterResolver resolver = ofAnnotations(parameter);
+    return context -> {
+
+      String value = byName ? context.request().getParam(name) : null;
+      if (StringUtils.isNotEmpty(value)) {
+
+        return converter != null ? convert(name, value, type, converter) : value;
+      }
+      return resolver.resolve(context);
+    };
+  }
+
+  private ParameterResolver ofParameter(String name, Parameter parameter) {
+
+    Class<?> type = parameter.getType();
+    if (Collection.class.isAssignableFrom(type)) {
+
+      Class<?> elementType = elementType(parameter);
+      ParameterConverter<?> converter = ParameterConverters.of(elementType);
+      if (converter == null) {
+
+        throw new IllegalArgumentException(String.format("No converter of %s for parameter [%s]", elementType, name));
+      }
+      boolean set = Set.class.isAssignableFrom(type);
+      return context -> {
+
+        List<String> values = context.request().params().getAll(name);
+        Collection<Object> result = set ? new LinkedHashSet<>(values.size()) : new ArrayList<>(values.size());
+        for (String value : values) {
+
+          result.add(convert(name, value, elementType, converter));
+        }
+        return result;
+      };
+    }
+
+    ParameterConverter<?> converter = ParameterConverters.of(type);
+    if (converter == null || type.equals(String.class)) {
+
+      // Types without converter receive the raw value
+      return context -> context.request().getParam(name);
+    }
+    boolean required = type.isPrimitive();
+    return context -> {
+
+      String value = context.request().getParam(name);
+      if (StringUtils.isEmpty(value)) {
+
+        if (required) {
+
+          throw new ParameterConversionException(name, null, type, null);
+        }
+        return null;
+      }
+      return convert(name, value, type, converter);
+    };
+  }
+
+  private Class<?> elementType(Parameter parameter) {
+
+    Type type = parameter.getParameterizedType();
+    if (type instanceof ParameterizedType) {
+
+      Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+      if (argument instanceof Class) {
+
+        return (Class<?>) argument;
+      }
+    }
+    return String.class;
+  }
+
+  private Object convert(String name, String value, Class<?> type, ParameterConverter<?> converter) {
+
+    try {
+
+      return converter.convert(value);
+    } catch (Exception e) {
+
+      throw new ParameterConversionException(name, value, type, e);
+    }
+  }
+
+  private ParameterResolver ofAnnotations(Parameter parameter) {
+
+    if (parameter.isAnnotationPresent(ArrayModel.class)) {
+
+      Class<?> clazz = parameter.getAnnotation(ArrayModel.class).value();
+      JavaType listType = Json.mapper.getTypeFactory().constructCollectionType(List.class, clazz);
+      return context -> BodyDecoder.decode(context, listType);
+    }
+    if (parameter.isAnnotationPresent(MapModel.class)) {
+
+      Class<?> value = parameter.getAnnotation(MapModel.class).value();
+      JavaType mapType = Json.mapper.getTypeFactory().constructMapType(HashMap.class, String.class, value);
+      return context -> BodyDecoder.decode(context, mapType);
+    }
+    if (parameter.isAnnotationPresent(org.jspare.vertx.web.annotation.handling.Parameter.class)) {
+
+      return ofParameter(parameter.getAnnotation(org.jspare.vertx.web.annotation.handling.Parameter.class).value(), parameter);
+    }
+    if (parameter.isAnnotationPresent(Header.class)) {
+
+      String headerName = parameter.getAnnotation(Header.class).value();
+      return context -> context.request().getHeader(headerName);
+    }
+    return ofBody(parameter);
+  }
+
+  private ParameterResolver ofBody(Parameter parameter) {
+
+    Class<?> type = parameter.getType();
+    return context -> {
+      try {
+        if (context.getBody() == null && BodyDecoder.isEmpty(context)) {
+
+          return null;
+        }
+
+        if (BodyDecoder.isEmpty(context)) {
+
+          return Json.decodeValue(EMPTY_BODY, type);
+        }
+        return BodyDecoder.decode(context, type);
+      } catch (SerializationException e) {
+
+        log.debug("Invalid content of body for class [{}] on parameter [{}]", type, parameter.getName());
+        return null;
+      }
+    };
+  }
+}
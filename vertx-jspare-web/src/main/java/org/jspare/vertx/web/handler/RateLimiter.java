@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.RoutingContext;
+import org.jspare.vertx.web.annotation.handling.RateLimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate limit of one {@link RateLimit} route, kept by the generic cell rate algorithm.
+ *
+ * <p>Each key holds one theoretical arrival time: a request is accepted while that time is at most the burst
+ * tolerance ahead of now, then the time moves one emission interval forward. Keys are updated by compare and set,
+ * requests never lock. When the tracked keys reach the max, the keys whose time has passed, as good as new, are
+ * dropped, the requests of new keys beyond it share one overflow cell. The sweep dropping them walks every key, so it
+ * runs in batches: again once it has freed room for some new keys or, when it freed too few, after some requests of
+ * new keys, its cost shared by them.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class RateLimiter {
+
+  /**
+   * Arrival time of cells without requests.
+   */
+  private static final long UNSET = Long.MIN_VALUE;
+
+  /**
+   * Ratio of the max keys to the new keys sharing the cost of one sweep.
+   */
+  private static final int SWEEP_RATIO = 16;
+
+  private final RateLimit config;
+  private final long interval;
+  private final long tolerance;
+  private final AtomicLong global = new AtomicLong(UNSET);
+  private final AtomicLong overflow = new AtomicLong(UNSET);
+  private final Map<String, AtomicLong> cells = new ConcurrentHashMap<>();
+  private final AtomicInteger untilSweep = new AtomicInteger();
+  private final int sweepBatch;
+
+  /**
+   * Instantiates a new rate limiter.
+   *
+   * @param config the config
+   */
+  public RateLimiter(RateLimit config) {
+
+    if (config.value() <= 0 || config.period() <= 0) {
+
+      throw new IllegalArgumentException("Rate limit requires positive requests and period");
+    }
+    this.config = config;
+    this.interval = Math.max(1L, config.unit().toNanos(config.period()) / config.value());
+    long burst = config.burst() > 0 ? config.burst() : config.value();
+    this.tolerance = interval * (burst - 1);
+    this.sweepBatch = Math.max(1, config.maxKeys() / SWEEP_RATIO);
+  }
+
+  /**
+   * Acquire one request.
+   *
+   * @param context the routing context
+   * @return the nanos to wait before the request is accepted, 0 when accepted
+   */
+  public long acquire(RoutingContext context) {
+    return acquire(key(context), System.nanoTime());
+  }
+
+  /**
+   * Acquire one request of one key.
+   *
+   * @param key the key, null for the global limit
+   * @param now the time, from {@link System#nanoTime()}
+   * @return the nanos to wait before the request is accepted, 0 when accepted
+   */
+  public long acquire(String key, long now) {
+
+    AtomicLong cell = key == null ? global : cell(key, now);
+    while (true) {
+
+      long arrival = cell.get();
+      long start = arrival != UNSET && arrival - now > 0 ? arrival : now;
+      if (start - now > tolerance) {
+
+        return start - now - tolerance;
+      }
+      if (cell.compareAndSet(arrival, start + interval)) {
+
+        return 0L;
+      }
+    }
+  }
+
+  /**
+   * Count the tracked keys.
+   *
+   * @return the keys
+   */
+  public int keys() {
+    return cells.size();
+  }
+
+  private AtomicLong cell(String key, long now) {
+
+    AtomicLong cell = cells.get(key);
+    if (cell != null) {
+
+      return cell;
+    }
+    if (cells.size() >= config.maxKeys()) {
+
+      if (untilSweep.decrementAndGet() >= 0) {
+
+        return overflow;
+      }
+      int tracked = cells.size();
+      cells.values().removeIf(c -> c.get() == UNSET || c.get() - now <= 0);
+      untilSweep.set(tracked - cells.size() >= sweepBatch ? 0 : sweepBatch);
+      if (cells.size() >= config.maxKeys()) {
+
+        return overflow;
+      }
+    }
+    return cells.computeIfAbsent(key, k -> new AtomicLong(UNSET));
+  }
+
+  private String key(RoutingContext context) {
+
+    switch (config.key()) {
+      case IP:
+
+        SocketAddress address = context.request().remoteAddress();
+        return address != null ? address.host() : "";
+      case HEADER:
+
+        String value = context.request().getHeader(config.header());
+        return value != null ? value : "";
+      default:
+
+        return null;
+    }
+  }
+}
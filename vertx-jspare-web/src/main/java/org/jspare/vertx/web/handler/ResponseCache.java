@@ -0,0 +1,444 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.web.RoutingContext;
+import org.jspare.vertx.web.annotation.handling.CacheResponse;
+import org.jspare.vertx.web.codec.BodyCodec;
+import org.jspare.vertx.web.codec.BodyCodecs;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the encoded responses of one {@link CacheResponse} route.
+ *
+ * <p>Entries are kept on one {@link ConcurrentHashMap}, reads never lock. When the cache is full one sample of
+ * entries is scanned, expired entries are dropped and the least recently used of the sample is evicted, one
+ * approximation of LRU without a shared access order. Hit, miss, not modified and eviction counters are kept per
+ * route.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class ResponseCache {
+
+  /**
+   * Key of {@link RecordingResponse} put on contexts of requests missing the cache.
+   */
+  public static final String RECORDER = "__RESPONSE_CACHE_RECORDER_CTX";
+
+  /**
+   * Entries scanned to evict one entry.
+   */
+  private static final int EVICTION_SAMPLE = 16;
+
+  private final CacheResponse config;
+  private final long ttlNanos;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder notModified = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Instantiates a new response cache.
+   *
+   * @param config the config
+   */
+  public ResponseCache(CacheResponse config) {
+    this.config = config;
+    this.ttlNanos = config.unit().toNanos(config.ttl());
+  }
+
+  /**
+   * The response of one request, the {@link RecordingResponse} when the response is being cached.
+   *
+   * @param context the routing context
+   * @return the response
+   */
+  public static HttpServerResponse response(RoutingContext context) {
+
+    HttpServerResponse recorder = context.get(RECORDER);
+    return recorder != null ? recorder : context.response();
+  }
+
+  /**
+   * The key of one request, its method and path followed by the configured parameters and headers, the negotiated
+   * media type when not json and the authenticated user or credentials, so responses are never shared between users.
+   *
+   * @param context the routing context
+   * @return the key
+   */
+  public String key(RoutingContext context) {
+
+    HttpServerRequest request = context.request();
+    StringBuilder key = new StringBuilder(request.method().name()).append(' ');
+    if (config.params().length == 0) {
+
+      key.append(request.uri());
+    } else {
+
+      key.append(request.path());
+      for (String param : config.params()) {
+
+        key.append('\u0000').append(param).append('=').append(request.params().getAll(param));
+      }
+    }
+    for (String header : config.headers()) {
+
+      key.append('\u0000').append(header).append(':').append(request.headers().getAll(header));
+    }
+    // Responses negotiated to other formats are cached apart
+    BodyCodec codec = BodyCodecs.forResponse(context);
+    if (codec != BodyCodecs.JSON) {
+
+      key.append('\u0000').append(codec.mediaType());
+    }
+    // Responses of authenticated requests are cached per user
+    User user = context.user();
+    if (user != null) {
+
+      key.append('\u0000').append(user.principal().encode());
+    }
+    String authorization = request.getHeader(HttpHeaderNames.AUTHORIZATION);
+    if (authorization != null) {
+
+      key.append('\u0000').append(authorization);
+    }
+    return key.toString();
+  }
+
+  /**
+   * Get the entry of key, expired entries are removed.
+   *
+   * @param key the key
+   * @return the entry or null
+   */
+  public Entry get(String key) {
+
+    Entry entry = entries.get(key);
+    long now = System.nanoTime();
+    if (entry != null && entry.expired(now)) {
+
+      entries.remove(key, entry);
+      entry = null;
+    }
+    if (entry == null) {
+
+      misses.increment();
+      return null;
+    }
+    entry.lastAccess = now;
+    hits.increment();
+    return entry;
+  }
+
+  /**
+   * Whether the response of one request can be cached, responses marked <code>private</code> or
+   * <code>no-store</code> by their <code>Cache-Control</code> are not.
+   *
+   * @param response the response
+   * @return true if cacheable
+   */
+  public boolean isCacheable(HttpServerResponse response) {
+
+    if (response.getStatusCode() != 200 || response.headers().contains(HttpHeaderNames.SET_COOKIE)
+      || response.headWritten()) {
+
+      return false;
+    }
+    String cacheControl = response.headers().get(HttpHeaderNames.CACHE_CONTROL);
+    if (cacheControl != null) {
+
+      String directives = cacheControl.toLowerCase(Locale.ROOT);
+      return !directives.contains("private") && !directives.contains("no-store");
+    }
+    return true;
+  }
+
+  /**
+   * Create and store the entry of one response.
+   *
+   * @param key      the key
+   * @param response the response
+   * @param body     the body
+   * @return the entry
+   */
+  public Entry put(String key, HttpServerResponse response, Buffer body) {
+
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().addAll(response.headers());
+    headers.remove(HttpHeaderNames.CONTENT_LENGTH);
+    headers.remove(HttpHeaderNames.TRANSFER_ENCODING);
+    headers.remove(HttpHeaderNames.DATE);
+    headers.remove(HttpHeaderNames.CONNECTION);
+
+    Entry entry = new Entry(response.getStatusCode(), response.getStatusMessage(), headers, body,
+      System.nanoTime() + ttlNanos);
+    if (entries.put(key, entry) == null && entries.size() > config.maxEntries()) {
+
+      evict();
+    }
+    return entry;
+  }
+
+  /**
+   * Count one request answered with 304.
+   */
+  public void notModified() {
+    notModified.increment();
+  }
+
+  /**
+   * Remove all entries.
+   */
+  public void invalidate() {
+    entries.clear();
+  }
+
+  /**
+   * Remove the entry of key.
+   *
+   * @param key the key
+   */
+  public void invalidate(String key) {
+    entries.remove(key);
+  }
+
+  /**
+   * The config.
+   *
+   * @return the cache response
+   */
+  public CacheResponse config() {
+    return config;
+  }
+
+  /**
+   * The hits.
+   *
+   * @return the long
+   */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * The misses.
+   *
+   * @return the long
+   */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * The requests answered with 304.
+   *
+   * @return the long
+   */
+  public long notModifiedCount() {
+    return notModified.sum();
+  }
+
+  /**
+   * The evictions.
+   *
+   * @return the long
+   */
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * The entries kept.
+   *
+   * @return the int
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * The counters as json.
+   *
+   * @return the json object
+   */
+  public JsonObject stats() {
+
+    return new JsonObject()
+      .put("hits", hits())
+      .put("misses", misses())
+      .put("notModified", notModifiedCount())
+      .put("evictions", evictions())
+      .put("size", size());
+  }
+
+  private void evict() {
+
+    long now = System.nanoTime();
+    Map.Entry<String, Entry> oldest = null;
+    Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+    for (int i = 0; i < EVICTION_SAMPLE && iterator.hasNext(); i++) {
+
+      Map.Entry<String, Entry> candidate = iterator.next();
+      if (candidate.getValue().expired(now)) {
+
+        iterator.remove();
+        evictions.increment();
+        continue;
+      }
+      if (oldest == null || candidate.getValue().lastAccess < oldest.getValue().lastAccess) {
+
+        oldest = candidate;
+      }
+    }
+    if (entries.size() > config.maxEntries() && oldest != null && entries.remove(oldest.getKey(), oldest.getValue())) {
+
+      evictions.increment();
+    }
+  }
+
+  /**
+   * One cached response.
+   */
+  public static class Entry {
+
+    private final int status;
+    private final String statusMessage;
+    private final MultiMap headers;
+    private final Buffer body;
+    private final String etag;
+    private final long expiresAt;
+    private volatile long lastAccess;
+
+    Entry(int status, String statusMessage, MultiMap headers, Buffer body, long expiresAt) {
+      this.status = status;
+      this.statusMessage = statusMessage;
+      this.headers = headers;
+      // Netty releases written buffers, the cached body is one unreleasable copy shared by all responses
+      this.body = Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(body.getBytes())));
+      this.etag = etag(this.body);
+      this.expiresAt = expiresAt;
+      this.lastAccess = System.nanoTime();
+    }
+
+    private static String etag(Buffer body) {
+
+      // Strong validator, a collision would answer 304 for changed content
+      try {
+
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(body.getByteBuf().nioBuffer());
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), 16)) + "\"";
+      } catch (NoSuchAlgorithmException e) {
+
+        throw new IllegalStateException(e);
+      }
+    }
+
+    boolean expired(long now) {
+      return now - expiresAt > 0;
+    }
+
+    /**
+     * The status.
+     *
+     * @return the int
+     */
+    public int status() {
+      return status;
+    }
+
+    /**
+     * The status message.
+     *
+     * @return the string
+     */
+    public String statusMessage() {
+      return statusMessage;
+    }
+
+    /**
+     * The headers.
+     *
+     * @return the multi map
+     */
+    public MultiMap headers() {
+      return headers;
+    }
+
+    /**
+     * The body.
+     *
+     * @return the buffer
+     */
+    public Buffer body() {
+      return body;
+    }
+
+    /**
+     * The ETag.
+     *
+     * @return the string
+     */
+    public String etag() {
+      return etag;
+    }
+
+    /**
+     * Whether the value of <code>If-None-Match</code> matches the ETag.
+     *
+     * @param ifNoneMatch the if none match
+     * @return true if matches
+     */
+    public boolean matches(String ifNoneMatch) {
+
+      if (ifNoneMatch == null) {
+
+        return false;
+      }
+      for (String tag : ifNoneMatch.split(",")) {
+
+        String candidate = tag.trim();
+        if (candidate.startsWith("W/")) {
+
+          candidate = candidate.substring(2);
+        }
+        if ("*".equals(candidate) || etag.equals(candidate)) {
+
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import lombok.AllArgsConstructor;
+
+/**
+ * Answers the requests of one {@link org.jspare.vertx.web.annotation.handling.CacheResponse} route from its
+ * {@link ResponseCache}, routed after the auth handler and before the route method.
+ *
+ * <p>On a hit the cached status, headers and body are written without calling the route, or 304 when
+ * <code>If-None-Match</code> matches the ETag. On a miss one {@link RecordingResponse} is put on the context, the
+ * response written through it is stored once ended.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@AllArgsConstructor
+public class ResponseCacheHandler implements Handler<RoutingContext> {
+
+  /**
+   * The cache.
+   */
+  private final ResponseCache cache;
+
+  @Override
+  public void handle(RoutingContext context) {
+
+    String key = cache.key(context);
+    ResponseCache.Entry entry = cache.get(key);
+    if (entry != null) {
+
+      send(context, entry);
+      return;
+    }
+
+    HttpServerResponse response = context.response();
+    context.put(ResponseCache.RECORDER, new RecordingResponse(response, body -> {
+
+      if (cache.isCacheable(response)) {
+
+        ResponseCache.Entry created = cache.put(key, response, body);
+        response.putHeader(HttpHeaderNames.ETAG, created.etag());
+      }
+    }));
+    context.next();
+  }
+
+  private void send(RoutingContext context, ResponseCache.Entry entry) {
+
+    HttpServerResponse response = context.response();
+    response.putHeader(HttpHeaderNames.ETAG, entry.etag());
+    if (entry.matches(context.request().getHeader(HttpHeaderNames.IF_NONE_MATCH))) {
+
+      cache.notModified();
+      response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+      return;
+    }
+    response.headers().addAll(entry.headers());
+    response.setStatusCode(entry.status()).setStatusMessage(entry.statusMessage()).end(entry.body());
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import lombok.experimental.UtilityClass;
+import org.jspare.vertx.web.codec.BodyCodec;
+import org.jspare.vertx.web.codec.BodyCodecs;
+import org.jspare.vertx.web.metrics.RouteMetrics;
+
+/**
+ * Writes values returned by route methods to the response.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@UtilityClass
+public class ResponseWriter {
+
+  /**
+   * Write the value and end the response. Responses already ended by the route method are left as is, null values
+   * end with 204, {@link Buffer} and {@link String} are written as is and any other value is encoded by the codec
+   * negotiated with the request, json by default. The response is recorded when the route caches its responses.
+   *
+   * @param context the routing context
+   * @param value   the value
+   */
+  public void write(RoutingContext context, Object value) {
+
+    HttpServerResponse response = ResponseCache.response(context);
+    if (response.ended()) {
+
+      return;
+    }
+    if (value == null) {
+
+      response.setStatusCode(HttpResponseStatus.NO_CONTENT.code()).end();
+    } else if (value instanceof Buffer) {
+
+      response.end((Buffer) value);
+    } else if (value instanceof String) {
+
+      response.end((String) value);
+    } else {
+
+      BodyCodec codec = BodyCodecs.forResponse(context);
+      if (!response.headers().contains(HttpHeaderNames.CONTENT_TYPE)) {
+
+        response.putHeader(HttpHeaderNames.CONTENT_TYPE, codec.mediaType());
+      }
+      RouteMetrics metrics = RouteMetrics.of(context);
+      long started = metrics != null ? System.nanoTime() : 0L;
+      Buffer buffer = codec.encode(value);
+      if (metrics != null) {
+
+        metrics.record(RouteMetrics.Phase.SERIALIZATION, System.nanoTime() - started);
+      }
+      JsonEncoder.end(response, buffer);
+    }
+  }
+}
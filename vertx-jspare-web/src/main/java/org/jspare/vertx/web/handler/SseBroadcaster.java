@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Fan-out of event bus messages to Server-Sent Events connections.
+ *
+ * <p>One broadcaster exists per {@link Vertx} instance. Each subscribed address has one event bus consumer, registered
+ * with the first connection and unregistered with the last one; every message is encoded once into a shared buffer
+ * written to all connections of the address. The headers {@link #EVENT_HEADER} and {@link #ID_HEADER} of message set
+ * the name and id of event.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class SseBroadcaster implements Shareable {
+
+  /**
+   * The Constant EVENT_HEADER, message header holding the event name.
+   */
+  public static final String EVENT_HEADER = "sse-event";
+
+  /**
+   * The Constant ID_HEADER, message header holding the event id.
+   */
+  public static final String ID_HEADER = "sse-id";
+
+  private static final String KEY = "broadcaster";
+
+  private final Vertx vertx;
+  private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+
+  private SseBroadcaster(Vertx vertx) {
+    this.vertx = vertx;
+  }
+
+  /**
+   * The broadcaster of one vertx instance.
+   *
+   * @param vertx the vertx
+   * @return the sse broadcaster
+   */
+  public static SseBroadcaster of(Vertx vertx) {
+
+    LocalMap<String, SseBroadcaster> map = vertx.sharedData().getLocalMap(SseBroadcaster.class.getName());
+    SseBroadcaster broadcaster = map.get(KEY);
+    if (broadcaster == null) {
+
+      SseBroadcaster created = new SseBroadcaster(vertx);
+      broadcaster = map.putIfAbsent(KEY, created);
+      if (broadcaster == null) {
+
+        broadcaster = created;
+      }
+    }
+    return broadcaster;
+  }
+
+  /**
+   * Count the connections subscribed to one address.
+   *
+   * @param address the address
+   * @return the subscribers
+   */
+  public int subscribers(String address) {
+
+    Topic topic = topics.get(address);
+    return topic != null ? topic.emitters.size() : 0;
+  }
+
+  /**
+   * Subscribe.
+   *
+   * @param address the address
+   * @param emitter the emitter
+   */
+  void subscribe(String address, SseEmitter emitter) {
+
+    topics.compute(address, (a, topic) -> {
+
+      if (topic == null) {
+
+        topic = new Topic();
+        topic.consumer = vertx.eventBus().consumer(a, message -> publish(a, message));
+      }
+      topic.emitters.add(emitter);
+      return topic;
+    });
+  }
+
+  /**
+   * Unsubscribe.
+   *
+   * @param address the address
+   * @param emitter the emitter
+   */
+  void unsubscribe(String address, SseEmitter emitter) {
+
+    topics.computeIfPresent(address, (a, topic) -> {
+
+      topic.emitters.remove(emitter);
+      if (topic.emitters.isEmpty()) {
+
+        topic.consumer.unregister();
+        return null;
+      }
+      return topic;
+    });
+  }
+
+  private void publish(String address, Message<Object> message) {
+
+    Topic topic = topics.get(address);
+    if (topic == null || topic.emitters.isEmpty()) {
+
+      return;
+    }
+    Buffer event = SseEmitter.shared(SseEmitter.event(message.headers().get(ID_HEADER),
+      message.headers().get(EVENT_HEADER), message.body()));
+    topic.emitters.forEach(emitter -> emitter.write(event));
+  }
+
+  /**
+   * Connections subscribed to one address.
+   */
+  private static class Topic {
+
+    private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+    private MessageConsumer<Object> consumer;
+  }
+}
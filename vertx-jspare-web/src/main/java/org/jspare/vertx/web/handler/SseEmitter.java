@@ -0,0 +1,413 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Emitter of one Server-Sent Events connection.
+ *
+ * <p>The emitter is created when the parameter of one {@link org.jspare.vertx.web.annotation.handler.SseHandler}
+ * method is resolved, it writes the head of the <code>text/event-stream</code> response at once and keeps the
+ * connection open until the client disconnects or {@link #close()} is called. Idle connections receive one comment
+ * every keep-alive interval, so proxies do not drop them.</p>
+ *
+ * <p>Events are written while the write queue of response has room, then queued until the drain handler of
+ * response; a connection with more than <code>maxPending</code> queued events is closed. Every method may be called
+ * from any thread, the writes happen on the context of connection.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Slf4j
+public class SseEmitter {
+
+  /**
+   * The Constant CONTENT_TYPE.
+   */
+  public static final String CONTENT_TYPE = "text/event-stream;charset=UTF-8";
+
+  /**
+   * The Constant LAST_EVENT_ID, header sent by reconnecting clients.
+   */
+  public static final String LAST_EVENT_ID = "Last-Event-ID";
+
+  /**
+   * The Constant EMITTER, key of emitter on routing context.
+   */
+  static final String EMITTER = "__SSE_EMITTER_CTX";
+
+  /**
+   * The Constant KEEP_ALIVE, one empty comment shared by all connections.
+   */
+  private static final Buffer KEEP_ALIVE = shared(Buffer.buffer(":\n\n"));
+
+  private final Vertx vertx;
+  private final Context context;
+  private final RoutingContext routingContext;
+  private final HttpServerResponse response;
+  private final int maxPending;
+  private final Deque<Buffer> pending = new ArrayDeque<>();
+  private final Set<String> addresses = new LinkedHashSet<>();
+  private final long timerId;
+  private Handler<Void> closeHandler;
+  private boolean written;
+  private boolean closed;
+
+  private SseEmitter(RoutingContext routingContext, long keepAlive, int maxPending) {
+
+    this.vertx = routingContext.vertx();
+    this.context = vertx.getOrCreateContext();
+    this.routingContext = routingContext;
+    this.response = routingContext.response();
+    this.maxPending = maxPending;
+
+    response.setStatusCode(HttpResponseStatus.OK.code())
+      .setChunked(true)
+      .putHeader(HttpHeaderNames.CONTENT_TYPE, CONTENT_TYPE)
+      .putHeader(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE)
+      .closeHandler(v -> release())
+      .drainHandler(v -> flush());
+
+    // Send the head at once, clients open the stream on it
+    response.write(KEEP_ALIVE);
+    this.timerId = keepAlive > 0 ? vertx.setPeriodic(keepAlive, id -> keepAlive()) : -1;
+  }
+
+  /**
+   * The emitter of one routing context, created on first access.
+   *
+   * @param routingContext the routing context
+   * @param keepAlive      the keep alive interval in milliseconds, zero disables it
+   * @param maxPending     the max pending events while the write queue is full
+   * @return the sse emitter
+   */
+  public static SseEmitter of(RoutingContext routingContext, long keepAlive, int maxPending) {
+
+    SseEmitter emitter = routingContext.get(EMITTER);
+    if (emitter == null) {
+
+      emitter = new SseEmitter(routingContext, keepAlive, maxPending);
+      routingContext.put(EMITTER, emitter);
+    }
+    return emitter;
+  }
+
+  /**
+   * Send one unnamed event.
+   *
+   * @param data the data, strings are sent as is and other objects as json
+   * @return the sse emitter
+   */
+  public SseEmitter send(Object data) {
+    return send(null, null, data);
+  }
+
+  /**
+   * Send one named event.
+   *
+   * @param event the event name
+   * @param data  the data
+   * @return the sse emitter
+   */
+  public SseEmitter send(String event, Object data) {
+    return send(null, event, data);
+  }
+
+  /**
+   * Send one event.
+   *
+   * @param id    the event id, null to omit
+   * @param event the event name, null to omit
+   * @param data  the data
+   * @return the sse emitter
+   */
+  public SseEmitter send(String id, String event, Object data) {
+
+    write(event(id, event, data));
+    return this;
+  }
+
+  /**
+   * Send one comment, ignored by clients.
+   *
+   * @param comment the comment
+   * @return the sse emitter
+   */
+  public SseEmitter comment(String comment) {
+
+    write(Buffer.buffer(":" + singleLine(comment) + "\n\n"));
+    return this;
+  }
+
+  /**
+   * Set the reconnection delay of client.
+   *
+   * @param millis the delay in milliseconds
+   * @return the sse emitter
+   */
+  public SseEmitter retry(long millis) {
+
+    write(Buffer.buffer("retry: " + millis + "\n\n"));
+    return this;
+  }
+
+  /**
+   * Subscribe the connection to one event bus address, each message is sent as one event until the connection is
+   * closed. Messages are encoded once for all connections subscribed to the address, see {@link SseBroadcaster}.
+   *
+   * @param address the address
+   * @return the sse emitter
+   */
+  public SseEmitter subscribe(String address) {
+
+    execute(() -> {
+
+      if (addresses.add(address)) {
+
+        SseBroadcaster.of(vertx).subscribe(address, this);
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Unsubscribe the connection from one event bus address.
+   *
+   * @param address the address
+   * @return the sse emitter
+   */
+  public SseEmitter unsubscribe(String address) {
+
+    execute(() -> {
+
+      if (addresses.remove(address)) {
+
+        SseBroadcaster.of(vertx).unsubscribe(address, this);
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Set the handler called once the connection is closed.
+   *
+   * @param closeHandler the close handler
+   * @return the sse emitter
+   */
+  public SseEmitter closeHandler(Handler<Void> closeHandler) {
+
+    this.closeHandler = closeHandler;
+    return this;
+  }
+
+  /**
+   * The id of last event received by a reconnecting client.
+   *
+   * @return the last event id, null on first connection
+   */
+  public String lastEventId() {
+    return routingContext.request().getHeader(LAST_EVENT_ID);
+  }
+
+  /**
+   * Checks if the connection is closed.
+   *
+   * @return true, if is closed
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * End the response and close the emitter.
+   */
+  public void close() {
+
+    execute(() -> {
+
+      if (!closed) {
+
+        response.end();
+        release();
+      }
+    });
+  }
+
+  /**
+   * Write one encoded event, shared buffers must be unreleasable as they are written to several connections.
+   *
+   * @param buffer the buffer
+   */
+  void write(Buffer buffer) {
+
+    execute(() -> {
+
+      if (closed) {
+
+        return;
+      }
+      if (!pending.isEmpty() || response.writeQueueFull()) {
+
+        if (pending.size() >= maxPending) {
+
+          log.debug("Closing slow Server-Sent Events connection with {} pending events", pending.size());
+          response.close();
+          release();
+          return;
+        }
+        pending.add(buffer);
+        return;
+      }
+      response.write(buffer);
+      written = true;
+    });
+  }
+
+  /**
+   * Encode one event.
+   *
+   * @param id    the id
+   * @param event the event
+   * @param data  the data
+   * @return the buffer
+   */
+  static Buffer event(String id, String event, Object data) {
+
+    StringBuilder out = new StringBuilder();
+    if (id != null) {
+
+      out.append("id: ").append(singleLine(id)).append('\n');
+    }
+    if (event != null) {
+
+      out.append("event: ").append(singleLine(event)).append('\n');
+    }
+    // Each line of data is one data field, rejoined by clients
+    for (String line : text(data).split("\r\n|\r|\n", -1)) {
+
+      out.append("data: ").append(line).append('\n');
+    }
+    return Buffer.buffer(out.append('\n').toString(), StandardCharsets.UTF_8.name());
+  }
+
+  /**
+   * Wrap one buffer written to several connections, Netty releases written buffers.
+   *
+   * @param buffer the buffer
+   * @return the shared buffer
+   */
+  static Buffer shared(Buffer buffer) {
+    return Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(buffer.getBytes())));
+  }
+
+  private static String text(Object data) {
+
+    if (data == null) {
+
+      return "";
+    }
+    if (data instanceof CharSequence) {
+
+      return data.toString();
+    }
+    if (data instanceof Buffer) {
+
+      return ((Buffer) data).toString(StandardCharsets.UTF_8);
+    }
+    if (data instanceof JsonObject) {
+
+      return ((JsonObject) data).encode();
+    }
+    if (data instanceof JsonArray) {
+
+      return ((JsonArray) data).encode();
+    }
+    return Json.encode(data);
+  }
+
+  private static String singleLine(String value) {
+    return value.replace('\r', ' ').replace('\n', ' ');
+  }
+
+  private void keepAlive() {
+
+    if (!written) {
+
+      write(KEEP_ALIVE);
+    }
+    written = false;
+  }
+
+  private void flush() {
+
+    while (!pending.isEmpty() && !response.writeQueueFull()) {
+
+      response.write(pending.poll());
+      written = true;
+    }
+  }
+
+  private void release() {
+
+    if (closed) {
+
+      return;
+    }
+    closed = true;
+    pending.clear();
+    if (timerId != -1) {
+
+      vertx.cancelTimer(timerId);
+    }
+    SseBroadcaster broadcaster = SseBroadcaster.of(vertx);
+    addresses.forEach(address -> broadcaster.unsubscribe(address, this));
+    addresses.clear();
+    if (closeHandler != null) {
+
+      closeHandler.handle(null);
+    }
+  }
+
+  private void execute(Runnable task) {
+
+    if (Vertx.currentContext() == context) {
+
+      task.run();
+    } else {
+
+      context.runOnContext(v -> task.run());
+    }
+  }
+}
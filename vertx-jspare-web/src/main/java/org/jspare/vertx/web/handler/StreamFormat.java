@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formats of json streamed responses.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public enum StreamFormat {
+
+  /**
+   * One json array, elements separated by comma.
+   */
+  JSON_ARRAY("application/json", "[", ",", "", "]"),
+
+  /**
+   * Newline delimited json, one element per line.
+   */
+  NDJSON("application/x-ndjson", "", "", "\n", "");
+
+  private final String contentType;
+  private final byte[] open;
+  private final byte[] delimiter;
+  private final byte[] terminator;
+  private final byte[] close;
+
+  StreamFormat(String contentType, String open, String delimiter, String terminator, String close) {
+    this.contentType = contentType;
+    this.open = open.getBytes(StandardCharsets.UTF_8);
+    this.delimiter = delimiter.getBytes(StandardCharsets.UTF_8);
+    this.terminator = terminator.getBytes(StandardCharsets.UTF_8);
+    this.close = close.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * The content type.
+   *
+   * @return the string
+   */
+  public String contentType() {
+    return contentType;
+  }
+
+  /**
+   * Bytes written before the first element.
+   *
+   * @return the bytes
+   */
+  byte[] open() {
+    return open;
+  }
+
+  /**
+   * Bytes written between elements.
+   *
+   * @return the bytes
+   */
+  byte[] delimiter() {
+    return delimiter;
+  }
+
+  /**
+   * Bytes written after each element.
+   *
+   * @return the bytes
+   */
+  byte[] terminator() {
+    return terminator;
+  }
+
+  /**
+   * Bytes written after the last element.
+   *
+   * @return the bytes
+   */
+  byte[] close() {
+    return close;
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import lombok.RequiredArgsConstructor;
+import org.jspare.vertx.web.codec.BodyCodec;
+import org.jspare.vertx.web.codec.BodyCodecs;
+
+import java.io.IOException;
+
+/**
+ * Reads the body of one request while it is received.
+ *
+ * <p>Every chunk is fed to the Jackson non-blocking parser and its tokens are appended to a {@link TokenBuffer},
+ * the raw bytes of the body are never kept. The result is the same {@link TokenBuffer} built by
+ * {@link BodyDecoder} for buffered bodies, so parameters bind in the same way. The parser is the one of the codec
+ * of request content type, formats without non-blocking parser, as CBOR, are kept and parsed once received.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RequiredArgsConstructor
+public class StreamingBodyReader {
+
+  /**
+   * The max size.
+   */
+  private final long maxSize;
+
+  /**
+   * The factory of parser.
+   */
+  private JsonFactory factory;
+
+  /**
+   * The parser.
+   */
+  private JsonParser parser;
+
+  /**
+   * The received body, kept when the parser is not non-blocking.
+   */
+  private Buffer received;
+
+  /**
+   * The tokens.
+   */
+  private TokenBuffer tokens;
+
+  /**
+   * The received size.
+   */
+  private long size;
+
+  /**
+   * The completed.
+   */
+  private boolean completed;
+
+  /**
+   * Read the body of request. The handler receives null when the body is empty, fails with
+   * {@link BodyTooLargeException} when the body exceeds the max size, {@link InvalidContentLengthException} when
+   * its declared length is not a number or {@link DecodeException} if it is not valid on its content type.
+   *
+   * @param request the request
+   * @param handler the handler
+   */
+  public void read(HttpServerRequest request, Handler<AsyncResult<TokenBuffer>> handler) {
+
+    String contentLength = request.getHeader(HttpHeaderNames.CONTENT_LENGTH);
+    if (contentLength != null) {
+
+      long length;
+      try {
+
+        length = Long.parseLong(contentLength.trim());
+      } catch (NumberFormatException e) {
+
+        complete(handler, Future.failedFuture(new InvalidContentLengthException()));
+        return;
+      }
+      if (length > maxSize) {
+
+        complete(handler, Future.failedFuture(new BodyTooLargeException(maxSize)));
+        return;
+      }
+    }
+    BodyCodec codec = BodyCodecs.of(request.getHeader(HttpHeaderNames.CONTENT_TYPE));
+    factory = codec != null ? codec.factory() : Json.mapper.getFactory();
+
+    request.handler(chunk -> {
+
+      if (completed) {
+
+        return;
+      }
+      try {
+
+        feed(chunk);
+      } catch (BodyTooLargeException | IOException e) {
+
+        complete(handler, Future.failedFuture(e instanceof IOException ? new DecodeException("Failed to decode:" + e.getMessage()) : e));
+      }
+    });
+    request.exceptionHandler(t -> complete(handler, Future.failedFuture(t)));
+    request.endHandler(v -> {
+
+      if (completed) {
+
+        return;
+      }
+      try {
+
+        complete(handler, Future.succeededFuture(finish()));
+      } catch (IOException e) {
+
+        complete(handler, Future.failedFuture(new DecodeException("Failed to decode:" + e.getMessage())));
+      }
+    });
+    request.resume();
+  }
+
+  private void feed(Buffer chunk) throws IOException {
+
+    size += chunk.length();
+    if (size > maxSize) {
+
+      throw new BodyTooLargeException(maxSize);
+    }
+    if (!factory.canParseAsync()) {
+
+      received = received == null ? chunk.copy() : received.appendBuffer(chunk);
+      return;
+    }
+    if (parser == null) {
+
+      parser = factory.createNonBlockingByteArrayParser();
+      tokens = new TokenBuffer(parser);
+    }
+    ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(chunk.getBytes(), 0, chunk.length());
+    drain();
+  }
+
+  private TokenBuffer finish() throws IOException {
+
+    if (received != null) {
+
+      try (JsonParser bodyParser = factory.createParser(received.getBytes())) {
+
+        TokenBuffer bodyTokens = new TokenBuffer(bodyParser);
+        if (bodyParser.nextToken() == null) {
+
+          return null;
+        }
+        bodyTokens.copyCurrentStructure(bodyParser);
+        return bodyTokens;
+      }
+    }
+    if (parser == null) {
+
+      return null;
+    }
+    ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+    drain();
+    parser.close();
+    return tokens.firstToken() != null ? tokens : null;
+  }
+
+  private void drain() throws IOException {
+
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+
+      tokens.copyCurrentEvent(parser);
+    }
+  }
+
+  private void complete(Handler<AsyncResult<TokenBuffer>> handler, AsyncResult<TokenBuffer> result) {
+
+    if (!completed) {
+
+      completed = true;
+      handler.handle(result);
+    }
+  }
+
+  /**
+   * Thrown when the body exceeds the max size.
+   */
+  public static class BodyTooLargeException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Instantiates a new body too large exception.
+     *
+     * @param maxSize the max size
+     */
+    public BodyTooLargeException(long maxSize) {
+      super(String.format("Request body exceeds %d bytes", maxSize));
+    }
+  }
+
+  /**
+   * Thrown when the declared length of body is not a number.
+   */
+  public static class InvalidContentLengthException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Instantiates a new invalid content length exception.
+     */
+    public InvalidContentLengthException() {
+      super("Invalid Content-Length");
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.RoutingContextDecorator;
+import lombok.AllArgsConstructor;
+import org.jspare.vertx.concurrent.WorkerPool;
+
+/**
+ * Executes one blocking route on its named {@link WorkerPool} instead of the global worker pool, like
+ * {@link io.vertx.ext.web.impl.BlockingHandlerDecorator}.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@AllArgsConstructor
+public class WorkerPoolHandler implements Handler<RoutingContext> {
+
+  /**
+   * The worker pool.
+   */
+  private final WorkerPool pool;
+
+  /**
+   * The decorated handler.
+   */
+  private final Handler<RoutingContext> handler;
+
+  /**
+   * The ordered execution.
+   */
+  private final boolean ordered;
+
+  @Override
+  public void handle(RoutingContext context) {
+
+    Route currentRoute = context.currentRoute();
+    pool.<Void>executeBlocking(f -> {
+
+      handler.handle(new RoutingContextDecorator(currentRoute, context));
+      f.complete();
+    }, ordered, ar -> {
+
+      if (ar.failed()) {
+
+        context.fail(ar.cause());
+      }
+    });
+  }
+}
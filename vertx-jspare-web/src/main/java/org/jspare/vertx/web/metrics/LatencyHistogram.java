@@ -0,0 +1,201 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.metrics;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies in nanoseconds, recorded without locks.
+ *
+ * <p>As HdrHistogram, values are counted in buckets of fixed relative precision: the values below 32 have one bucket
+ * each, every power of two above is split into 16 buckets, so one value is reported with an error below 6.25%.
+ * Values above 2.4 hours are counted in the last bucket. Reading is not synchronized with recording, so one
+ * snapshot can miss the values recorded while it is read.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class LatencyHistogram {
+
+  /**
+   * The Constant LINEAR, number of values counted one by bucket.
+   */
+  private static final int LINEAR = 32;
+
+  /**
+   * The Constant SUB_BUCKET_BITS.
+   */
+  private static final int SUB_BUCKET_BITS = 4;
+
+  /**
+   * The Constant SUB_BUCKETS, buckets by power of two.
+   */
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  /**
+   * The Constant MAX_VALUE, about 2.4 hours in nanoseconds.
+   */
+  static final long MAX_VALUE = (1L << 43) - 1;
+
+  /**
+   * The counts by bucket.
+   */
+  private final AtomicLongArray counts = new AtomicLongArray(index(MAX_VALUE) + 1);
+
+  /**
+   * The count.
+   */
+  private final LongAdder count = new LongAdder();
+
+  /**
+   * The sum.
+   */
+  private final LongAdder sum = new LongAdder();
+
+  /**
+   * The max.
+   */
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+  /**
+   * Record one value.
+   *
+   * @param nanos the value in nanoseconds
+   */
+  public void record(long nanos) {
+
+    long value = Math.max(0L, Math.min(nanos, MAX_VALUE));
+    counts.incrementAndGet(index(value));
+    count.increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Count the recorded values.
+   *
+   * @return the count
+   */
+  public long count() {
+    return count.sum();
+  }
+
+  /**
+   * The highest recorded value.
+   *
+   * @return the max in nanoseconds
+   */
+  public long max() {
+    return max.get();
+  }
+
+  /**
+   * The mean of recorded values.
+   *
+   * @return the mean in nanoseconds
+   */
+  public double mean() {
+
+    long total = count.sum();
+    return total == 0 ? 0 : (double) sum.sum() / total;
+  }
+
+  /**
+   * The value below which one percentage of recorded values fall, as the highest value of its bucket.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the value in nanoseconds
+   */
+  public long percentile(double percentile) {
+
+    long total = 0;
+    long[] snapshot = new long[counts.length()];
+    for (int i = 0; i < snapshot.length; i++) {
+
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+
+      return 0L;
+    }
+
+    long rank = Math.max(1L, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < snapshot.length; i++) {
+
+      seen += snapshot[i];
+      if (seen >= rank) {
+
+        return Math.min(highestEquivalent(i), max());
+      }
+    }
+    return max();
+  }
+
+  /**
+   * Json of count, mean, percentiles and max, in microseconds.
+   *
+   * @return the json object
+   */
+  public JsonObject toJson() {
+
+    return new JsonObject()
+      .put("count", count())
+      .put("mean", mean() / 1000)
+      .put("p50", percentile(50) / 1000d)
+      .put("p90", percentile(90) / 1000d)
+      .put("p99", percentile(99) / 1000d)
+      .put("p999", percentile(99.9) / 1000d)
+      .put("max", max() / 1000d);
+  }
+
+  /**
+   * Index of the bucket of one value.
+   *
+   * @param value the value
+   * @return the index
+   */
+  static int index(long value) {
+
+    if (value < LINEAR) {
+
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return LINEAR + (shift - 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+  }
+
+  /**
+   * Highest value counted by one bucket.
+   *
+   * @param index the index
+   * @return the value
+   */
+  static long highestEquivalent(int index) {
+
+    if (index < LINEAR) {
+
+      return index;
+    }
+    int shift = (index - LINEAR) / SUB_BUCKETS + 1;
+    long top = (index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS;
+    return ((top + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.metrics;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of one route: requests, responses by status class, requests in flight and latency histograms by phase.
+ *
+ * <p>Routes record their metrics when the request went through the handler of
+ * {@link org.jspare.vertx.web.annotation.module.Metrics}, which puts {@link #START} on the context. The total
+ * latency is measured from that handler to the end of the response.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Accessors(fluent = true)
+public class RouteMetrics {
+
+  /**
+   * Key of the time, from {@link System#nanoTime()}, when the request reached the metrics handler.
+   */
+  public static final String START = "__METRICS_START_CTX";
+
+  /**
+   * Key of the metrics of matched route.
+   */
+  public static final String ROUTE_METRICS = "__ROUTE_METRICS_CTX";
+
+  /**
+   * The phases of one request.
+   */
+  public enum Phase {
+
+    /**
+     * From the metrics handler to the route, including the handlers between them, such as the body handler.
+     */
+    ROUTING,
+
+    /**
+     * The auth handler of route.
+     */
+    AUTH,
+
+    /**
+     * Resolution of the parameters of route method.
+     */
+    PARAMETERS,
+
+    /**
+     * Call of route method, including the serialization done by the method itself.
+     */
+    INVOCATION,
+
+    /**
+     * Encoding of the response body.
+     */
+    SERIALIZATION
+  }
+
+  /**
+   * The route, as {@link org.jspare.vertx.web.builder.HandlerData#toStringLine()}.
+   */
+  @Getter
+  private final String route;
+
+  /**
+   * The requests.
+   */
+  private final LongAdder requests = new LongAdder();
+
+  /**
+   * The requests in flight.
+   */
+  private final LongAdder inFlight = new LongAdder();
+
+  /**
+   * The responses by status class, from 1xx to 5xx.
+   */
+  private final LongAdder[] statuses = new LongAdder[5];
+
+  /**
+   * The total latency.
+   */
+  @Getter
+  private final LatencyHistogram latency = new LatencyHistogram();
+
+  /**
+   * The latency by phase.
+   */
+  private final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+
+  /**
+   * Instantiates a new route metrics.
+   *
+   * @param route the route
+   */
+  public RouteMetrics(String route) {
+
+    this.route = route;
+    for (int i = 0; i < statuses.length; i++) {
+
+      statuses[i] = new LongAdder();
+    }
+    for (Phase phase : Phase.values()) {
+
+      phases.put(phase, new LatencyHistogram());
+    }
+  }
+
+  /**
+   * Metrics of the route matched by one request.
+   *
+   * @param context the routing context
+   * @return the route metrics, null when metrics are not recorded
+   */
+  public static RouteMetrics of(RoutingContext context) {
+    return context.get(ROUTE_METRICS);
+  }
+
+  /**
+   * Start recording one request matched by route.
+   *
+   * @param context the routing context
+   */
+  public void begin(RoutingContext context) {
+
+    long now = System.nanoTime();
+    long start = context.<Long>get(START);
+    requests.increment();
+    inFlight.increment();
+    record(Phase.ROUTING, now - start);
+    context.put(ROUTE_METRICS, this);
+    context.addBodyEndHandler(v -> {
+
+      inFlight.decrement();
+      int statusClass = context.response().getStatusCode() / 100;
+      if (statusClass >= 1 && statusClass <= statuses.length) {
+
+        statuses[statusClass - 1].increment();
+      }
+      latency.record(System.nanoTime() - start);
+    });
+  }
+
+  /**
+   * Record the latency of one phase.
+   *
+   * @param phase the phase
+   * @param nanos the latency in nanoseconds
+   */
+  public void record(Phase phase, long nanos) {
+    phases.get(phase).record(nanos);
+  }
+
+  /**
+   * Latency histogram of one phase.
+   *
+   * @param phase the phase
+   * @return the latency histogram
+   */
+  public LatencyHistogram latency(Phase phase) {
+    return phases.get(phase);
+  }
+
+  /**
+   * Count the requests.
+   *
+   * @return the requests
+   */
+  public long requests() {
+    return requests.sum();
+  }
+
+  /**
+   * Count the requests in flight, whose response has not ended.
+   *
+   * @return the requests in flight
+   */
+  public long inFlight() {
+    return inFlight.sum();
+  }
+
+  /**
+   * Count the responses of one status class.
+   *
+   * @param statusClass the status class, from 1 to 5
+   * @return the responses
+   */
+  public long responses(int statusClass) {
+    return statuses[statusClass - 1].sum();
+  }
+
+  /**
+   * Json of metrics, latencies in microseconds.
+   *
+   * @return the json object
+   */
+  public JsonObject toJson() {
+
+    JsonObject status = new JsonObject();
+    for (int i = 0; i < statuses.length; i++) {
+
+      status.put((i + 1) + "xx", statuses[i].sum());
+    }
+    JsonObject phaseLatency = new JsonObject();
+    phases.forEach((phase, histogram) -> phaseLatency.put(phase.name().toLowerCase(Locale.ROOT), histogram.toJson()));
+    return new JsonObject()
+      .put("requests", requests())
+      .put("inFlight", inFlight())
+      .put("status", status)
+      .put("latency", latency.toJson())
+      .put("phases", phaseLatency);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.metrics;
+
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.web.builder.HandlerData;
+import org.jspare.vertx.web.builder.HandlerHolder;
+
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.jspare.core.Environment.my;
+
+/**
+ * Registry of the {@link RouteMetrics} of every route, keyed by {@link HandlerData#toStringLine()}.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Singleton
+public class RouteMetricsRegistry {
+
+  /**
+   * The metrics by route.
+   */
+  private final Map<String, RouteMetrics> metrics = new ConcurrentHashMap<>();
+
+  /**
+   * Metrics of one route, created on first access.
+   *
+   * @param data the handler data
+   * @return the route metrics
+   */
+  public RouteMetrics of(HandlerData data) {
+    return of(data.toStringLine().trim());
+  }
+
+  /**
+   * Metrics of one route, created on first access.
+   *
+   * @param route the route
+   * @return the route metrics
+   */
+  public RouteMetrics of(String route) {
+    return metrics.computeIfAbsent(route, RouteMetrics::new);
+  }
+
+  /**
+   * Json of the metrics of every route kept by {@link HandlerHolder}, by router name.
+   *
+   * @return the json object
+   */
+  public JsonObject toJson() {
+
+    JsonObject json = new JsonObject();
+    my(HandlerHolder.class).getHandlerMap().forEach((name, map) -> {
+
+      JsonObject routes = new JsonObject();
+      map.getHandlerDataList().forEach(data -> {
+
+        String route = data.toStringLine().trim();
+        routes.put(route, of(route).toJson());
+      });
+      json.put(name, routes);
+    });
+    return json;
+  }
+}
@@ -15,8 +15,11 @@
  */
 package org.jspare.vertx.web.module;
 
+import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
@@ -28,13 +31,17 @@ import org.jspare.core.Environment;
 import org.jspare.vertx.AbstractModule;
 import org.jspare.vertx.Modularized;
 import org.jspare.vertx.web.annotation.module.*;
+import org.jspare.vertx.web.builder.HandlerHolder;
 import org.jspare.vertx.web.builder.HttpServerBuilder;
 import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.handler.AdaptiveConcurrencyLimiter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -54,17 +61,16 @@ public class HttpServerModule extends AbstractModule {
   protected void loadAsync(Future<Void> loadFuture) {
 
     final Vertx vertx = getVertx();
+    org.jspare.vertx.web.annotation.module.HttpServer httpServer = getInstance().getClass()
+      .getAnnotation(org.jspare.vertx.web.annotation.module.HttpServer.class);
+    int instances = instances(httpServer);
 
     HttpServerOptions options = getOptions();
-    Router router = Router.router(vertx);
-    setRouter(getInstance(), router);
-
-    HttpServer server = HttpServerBuilder.create(vertx).httpServerOptions(options).router(router).build();
     Optional<Method> oMethod = Arrays.stream(getInstance().getClass().getDeclaredMethods())
       .filter(m -> m.isAnnotationPresent(ListenHandler.class))
       .findFirst();
 
-    server.listen(ar -> {
+    listen(vertx, options, httpServer != null, ar -> {
 
       if (ar.failed()) {
         loadFuture.fail(ar.cause());
@@ -90,10 +96,113 @@ public class HttpServerModule extends AbstractModule {
           return;
         }
       }
-      loadFuture.complete();
+
+      // The other instances listen on the port of the first one, also when it was chosen by the system
+      HttpServerOptions shared = new HttpServerOptions(options).setPort(ar.result().actualPort());
+      List<Future> deployments = new ArrayList<>();
+      if (httpServer != null) {
+
+        Future<String> deployment = Future.future();
+        vertx.deployVerticle(new RoutesRelease(getInstance().getClass().getName()), deployment);
+        deployments.add(deployment);
+      }
+      for (int i = 1; i < instances; i++) {
+
+        Future<String> deployment = Future.future();
+        vertx.deployVerticle(new ServerInstance(shared), deployment);
+        deployments.add(deployment);
+      }
+      CompositeFuture.all(deployments).setHandler(all -> {
+
+        if (all.failed()) {
+
+          loadFuture.fail(all.cause());
+        } else {
+
+          loadFuture.complete();
+        }
+      });
     });
   }
 
+  /**
+   * Count the server instances.
+   *
+   * @param httpServer the http server options, null for one instance
+   * @return the instances
+   */
+  private int instances(org.jspare.vertx.web.annotation.module.HttpServer httpServer) {
+
+    if (httpServer == null) {
+
+      return 1;
+    }
+    return httpServer.instances() == org.jspare.vertx.web.annotation.module.HttpServer.CORES
+      ? Runtime.getRuntime().availableProcessors() : httpServer.instances();
+  }
+
+  /**
+   * Build one router and listen one server on the event loop of caller.
+   *
+   * @param vertx        the vertx
+   * @param options      the options
+   * @param shareRoutes  true to reuse the routes collected by other instances
+   * @param listenHandler the listen handler
+   */
+  private void listen(Vertx vertx, HttpServerOptions options, boolean shareRoutes, Handler<AsyncResult<HttpServer>> listenHandler) {
+
+    Router router = Router.router(vertx);
+    setRouter(getInstance(), router, shareRoutes);
+
+    HttpServer server = HttpServerBuilder.create(vertx).httpServerOptions(options).router(router).build();
+    server.listen(listenHandler);
+  }
+
+  /**
+   * One more instance of server, deployed on its own event loop.
+   */
+  private class ServerInstance extends AbstractVerticle {
+
+    private final HttpServerOptions options;
+
+    ServerInstance(HttpServerOptions options) {
+      this.options = options;
+    }
+
+    @Override
+    public void start(Future<Void> startFuture) {
+
+      listen(vertx, options, true, ar -> {
+
+        if (ar.succeeded()) {
+
+          startFuture.complete();
+        } else {
+
+          startFuture.fail(ar.cause());
+        }
+      });
+    }
+  }
+
+  /**
+   * Child of the verticle sharing its routes, forgetting them once undeployed with it, so a later deployment collects
+   * them again instead of keeping the routes of the classes of a former one.
+   */
+  private static class RoutesRelease extends AbstractVerticle {
+
+    private final String routesKey;
+
+    RoutesRelease(String routesKey) {
+      this.routesKey = routesKey;
+    }
+
+    @Override
+    public void stop() {
+      Environment.my(HandlerHolder.class).release(vertx, routesKey);
+    }
+  }
+
   /**
    * Gets the options.
    *
@@ -115,12 +224,18 @@ public class HttpServerModule extends AbstractModule {
   /**
    * Gets the router.
    *
-   * @param router the router
+   * @param modularized the modularized
+   * @param router      the router
+   * @param shareRoutes true to reuse the routes collected by other routers of the modularized class
    */
   @SneakyThrows
-  private void setRouter(Modularized modularized, Router router) {
+  private void setRouter(Modularized modularized, Router router, boolean shareRoutes) {
 
     final RouterBuilder builder = RouterBuilder.create(modularized.getVertx(), router);
+    if (shareRoutes) {
+
+      builder.routesKey(modularized.getClass().getName());
+    }
 
     getHandlerAwareAnnotations(modularized).forEach(a -> setHandlerAnnotation(modularized, builder, a));
 
@@ -147,10 +262,13 @@ public class HttpServerModule extends AbstractModule {
 
     doHookIfPresent(Routes.class, routes -> {
       builder.scanClasspath(routes.scanClasspath());
+      builder.fastDispatch(routes.fastDispatch());
       Arrays.asList(routes.routes()).forEach(builder::addRoute);
       Arrays.asList(routes.skipRoutes()).forEach(builder::skipRoute);
       Arrays.asList(routes.scanPackages()).forEach(builder::addRoutePackage);
     });
+
+    doHookIfPresent(AdaptiveConcurrency.class, adaptive -> builder.concurrencyLimiter(() -> new AdaptiveConcurrencyLimiter(adaptive)));
   }
 
   private Stream<Annotation> getHandlerAwareAnnotations(Modularized modularized) {
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The Class RegistrationProcessorTest.
+ *
+ * <p>Lives with the web module, the generated registrations are compiled against the real route and consumer
+ * types, which depend on the processor module.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class RegistrationProcessorTest {
+
+  /**
+   * The Constant ROUTES.
+   */
+  private static final JavaFileObject ROUTES = JavaFileObjects.forSourceLines("sample.SampleRoutes",
+    "package sample;",
+    "",
+    "import org.jspare.vertx.web.annotation.handler.Handler;",
+    "import org.jspare.vertx.web.annotation.method.Get;",
+    "import org.jspare.vertx.web.annotation.method.Post;",
+    "import org.jspare.vertx.web.annotation.subrouter.SubRouter;",
+    "",
+    "@SubRouter(\"/api\")",
+    "public class SampleRoutes {",
+    "",
+    "  @Handler(order = 2)",
+    "  @Get(\"/items/:id\")",
+    "  @Post(\"/items/:id\")",
+    "  public String item(String id, int size) {",
+    "    return id;",
+    "  }",
+    "",
+    "  @Handler",
+    "  @Get(\"/private\")",
+    "  private void hidden() {",
+    "  }",
+    "}");
+
+  /**
+   * The Constant CONSUMERS.
+   */
+  private static final JavaFileObject CONSUMERS = JavaFileObjects.forSourceLines("sample.SampleConsumers",
+    "package sample;",
+    "",
+    "import io.vertx.core.eventbus.Message;",
+    "import org.jspare.vertx.annotation.Consumer;",
+    "",
+    "public class SampleConsumers {",
+    "",
+    "  @Consumer(\"sample.address\")",
+    "  public void onMessage(Message<String> message) {",
+    "  }",
+    "}");
+
+  /**
+   * The temporary folder.
+   */
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Route registration test, one route per http method with the prefix of sub router and a direct invoker.
+   */
+  @Test
+  public void routeRegistrationTest() throws IOException {
+
+    Compilation compilation = compile(ROUTES);
+    assertThat(compilation).succeeded();
+
+    String source = compilation.generatedSourceFile("sample.SampleRoutes_RouteRegistration").get()
+      .getCharContent(true).toString();
+    assertTrue(source.contains("public final class SampleRoutes_RouteRegistration implements "
+      + "org.jspare.vertx.web.builder.RouteRegistration"));
+    assertTrue(source.contains(".path(\"/api/items/:id\")"));
+    assertTrue(source.contains(".httpMethod(\"GET\")"));
+    assertTrue(source.contains(".httpMethod(\"POST\")"));
+    assertTrue(source.contains(".order(2)"));
+    assertTrue(source.contains("((sample.SampleRoutes) instance).item((java.lang.String) args[0], (java.lang.Integer) args[1])"));
+
+    // Private methods fall back to reflective linking
+    assertTrue(source.contains("org.jspare.vertx.builder.MethodInvoker invoker1 = null;"));
+    assertTrue(source.contains(".path(\"/api/private\")"));
+  }
+
+  /**
+   * Consumer registration test.
+   */
+  @Test
+  public void consumerRegistrationTest() throws IOException {
+
+    Compilation compilation = compile(CONSUMERS);
+    assertThat(compilation).succeeded();
+
+    String source = compilation.generatedSourceFile("sample.SampleConsumers_ConsumerRegistration").get()
+      .getCharContent(true).toString();
+    assertTrue(source.contains("implements org.jspare.vertx.builder.ConsumerRegistration"));
+    assertTrue(source.contains("registrar.consumer(method0, invoker0, \"sample.address\");"));
+  }
+
+  /**
+   * Index test, the classes declaring routes and consumers are listed by annotation.
+   */
+  @Test
+  public void indexTest() throws IOException {
+
+    Compilation compilation = compile(ROUTES, CONSUMERS);
+    assertThat(compilation).succeeded();
+
+    String index = compilation.generatedFile(StandardLocation.CLASS_OUTPUT, "", RegistrationProcessor.INDEX).get()
+      .getCharContent(true).toString();
+    assertTrue(index.contains("org.jspare.vertx.web.annotation.handler.Handler=sample.SampleRoutes\n"));
+    assertTrue(index.contains("org.jspare.vertx.annotation.Consumer=sample.SampleConsumers\n"));
+  }
+
+  /**
+   * Incremental index test, compiling only some sources keeps the classes indexed by the previous build.
+   */
+  @Test
+  public void incrementalIndexTest() throws IOException {
+
+    File output = folder.newFolder("classes");
+    compileTo(output, ROUTES, CONSUMERS);
+    compileTo(output, CONSUMERS);
+
+    File index = new File(output, RegistrationProcessor.INDEX);
+    assertEquals(Arrays.asList(
+      "# Generated by " + RegistrationProcessor.class.getName() + ", do not edit.",
+      "org.jspare.vertx.web.annotation.handler.Handler=sample.SampleRoutes",
+      "org.jspare.vertx.annotation.Consumer=sample.SampleConsumers"),
+      Files.readAllLines(index.toPath(), StandardCharsets.UTF_8));
+
+    // Classes removed from the output are dropped
+    assertTrue(new File(output, "sample/SampleRoutes.class").delete());
+    compileTo(output, CONSUMERS);
+    assertEquals(Arrays.asList(
+      "# Generated by " + RegistrationProcessor.class.getName() + ", do not edit.",
+      "org.jspare.vertx.annotation.Consumer=sample.SampleConsumers"),
+      Files.readAllLines(index.toPath(), StandardCharsets.UTF_8));
+  }
+
+  private Compilation compile(JavaFileObject... sources) {
+    return Compiler.javac().withProcessors(new RegistrationProcessor()).compile(sources);
+  }
+
+  private void compileTo(File output, JavaFileObject... sources) throws IOException {
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+
+      // The output is on the class path, as on incremental builds
+      List<File> classPath = new ArrayList<>();
+      classPath.add(output);
+      for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+
+        classPath.add(new File(entry));
+      }
+      fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(output));
+      fileManager.setLocation(StandardLocation.CLASS_PATH, classPath);
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, null, null, Arrays.asList(sources));
+      task.setProcessors(Collections.singleton(new RegistrationProcessor()));
+      assertTrue(task.call());
+    }
+  }
+}
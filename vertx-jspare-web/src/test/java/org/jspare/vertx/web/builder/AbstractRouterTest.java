@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+
+import javax.inject.Inject;
+
+/**
+ * The Class AbstractRouterTest, serves one router and requests it over http.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class AbstractRouterTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  protected Vertx vertx;
+
+  /**
+   * The client, created once the router is served.
+   */
+  protected HttpClient client;
+
+  /**
+   * The port of served router.
+   */
+  protected int port;
+
+  /**
+   * Serve the routes of one class.
+   *
+   * @param ctx     the test context
+   * @param clazz   the route class
+   * @param started called once served
+   */
+  protected void listen(TestContext ctx, Class<?> clazz, Runnable started) {
+    listen(ctx, RouterBuilder.create(vertx).addRoute(clazz).build(), started);
+  }
+
+  /**
+   * Serve one router.
+   *
+   * @param ctx     the test context
+   * @param router  the router
+   * @param started called once served
+   */
+  protected void listen(TestContext ctx, Router router, Runnable started) {
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      client = vertx.createHttpClient();
+      port = server.actualPort();
+      started.run();
+    }));
+  }
+
+  /**
+   * Get one uri.
+   *
+   * @param uri the uri
+   * @return the response, completed once its body is received
+   */
+  protected Future<Response> get(String uri) {
+    return request(HttpMethod.GET, uri, MultiMap.caseInsensitiveMultiMap());
+  }
+
+  /**
+   * Get one uri with one header.
+   *
+   * @param uri    the uri
+   * @param header the header name
+   * @param value  the header value, not sent when null
+   * @return the response, completed once its body is received
+   */
+  protected Future<Response> get(String uri, String header, String value) {
+
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+    if (value != null) {
+
+      headers.add(header, value);
+    }
+    return request(HttpMethod.GET, uri, headers);
+  }
+
+  /**
+   * Request one uri.
+   *
+   * @param method  the method
+   * @param uri     the uri
+   * @param headers the headers
+   * @return the response, completed once its body is received
+   */
+  protected Future<Response> request(HttpMethod method, String uri, MultiMap headers) {
+
+    Future<Response> future = Future.future();
+    HttpClientRequest request = client.request(method, port, "localhost", uri,
+      res -> res.bodyHandler(body -> future.complete(new Response(res, body))));
+    request.exceptionHandler(future::tryFail);
+    request.headers().addAll(headers);
+    request.end();
+    return future;
+  }
+
+  /**
+   * The response of one request with its body.
+   */
+  public static class Response {
+
+    private final HttpClientResponse response;
+    private final Buffer body;
+
+    /**
+     * Instantiates a new response.
+     *
+     * @param response the response
+     * @param body     the body
+     */
+    public Response(HttpClientResponse response, Buffer body) {
+      this.response = response;
+      this.body = body;
+    }
+
+    /**
+     * The status code.
+     *
+     * @return the status code
+     */
+    public int statusCode() {
+      return response.statusCode();
+    }
+
+    /**
+     * One header.
+     *
+     * @param name the name
+     * @return the header value
+     */
+    public String header(String name) {
+      return response.getHeader(name);
+    }
+
+    /**
+     * The body.
+     *
+     * @return the body
+     */
+    public Buffer body() {
+      return body;
+    }
+
+    /**
+     * The body as text.
+     *
+     * @return the text
+     */
+    public String text() {
+      return body.toString();
+    }
+
+    /**
+     * The body as json, null when empty.
+     *
+     * @return the json
+     */
+    public JsonObject json() {
+      return body.length() > 0 ? body.toJsonObject() : null;
+    }
+  }
+}
@@ -15,15 +15,25 @@
  */
 package org.jspare.vertx.web.builder;
 
+import io.vertx.core.Vertx;
 import io.vertx.ext.unit.TestContext;
+import org.jspare.core.Environment;
+import org.jspare.vertx.builder.Registrations;
 import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
 import org.jspare.vertx.web.builder.route.MultiHandlers;
 import org.jspare.vertx.web.builder.route.MultiHttpMethods;
 import org.jspare.vertx.web.builder.route.MultiRoutes;
+import org.jspare.vertx.web.builder.route.PooledRoutes;
+import org.jspare.vertx.web.builder.route.SampleSubRouter;
+import org.jspare.vertx.web.builder.route.SharedHandlerRoutes;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * The Class HandlerCollectorTest.
@@ -62,6 +72,25 @@ public class HandlerCollectorTest extends AbstractCollectorTest {
     ctx.assertEquals("text/plain", handler2.produces());
   }
 
+  /**
+   * Equality test, routes collected twice are equal and keep their hash once linked for dispatch.
+   */
+  @Test
+  public void equalityTest(TestContext ctx) {
+
+    HandlerData handler = collect(MultiRoutes.class).get(0);
+    HandlerData same = collect(MultiRoutes.class).get(0);
+    int hash = handler.hashCode();
+
+    handler.invoker();
+    handler.parameterResolvers();
+    handler.instanceProvider();
+
+    ctx.assertEquals(hash, handler.hashCode());
+    ctx.assertEquals(same, handler);
+    ctx.assertEquals(same.hashCode(), handler.hashCode());
+  }
+
   /**
    * Multi handlers test.
    */
@@ -81,4 +110,103 @@ public class HandlerCollectorTest extends AbstractCollectorTest {
     List<HandlerData> handlers = collect(MultiHttpMethods.class);
     ctx.assertEquals(HttpMethodType.values().length * 2, handlers.size());
   }
+
+  /**
+   * Scoped routes test.
+   */
+  @Test
+  public void scopedRoutesTest(TestContext ctx) {
+
+    List<HandlerData> handlers = collect(PooledRoutes.class);
+    ctx.assertEquals(3, handlers.size());
+    ctx.assertTrue(handlers.get(0).instanceProvider() == handlers.get(1).instanceProvider());
+    ctx.assertTrue(handlers.get(0).instanceProvider().exclusive());
+    ctx.assertFalse(collect(MultiRoutes.class).get(0).instanceProvider() == handlers.get(0).instanceProvider());
+  }
+
+  /**
+   * Shared scoped API handler test, subclasses of APIHandler are rejected with a shared scope.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void sharedScopedAPIHandlerTest() {
+
+    collect(SharedHandlerRoutes.class);
+  }
+
+  /**
+   * Registered routes test, generated registrations collect the same routes as reflection.
+   */
+  @Test
+  public void registeredRoutesTest(TestContext ctx) {
+
+    RouteCollector collector = Environment.my(RouteCollector.class);
+    RouterBuilder builder = RouterBuilder.create(Vertx.vertx());
+    for (Class<?> clazz : new Class<?>[] { MultiRoutes.class, MultiHandlers.class, MultiHttpMethods.class, SampleSubRouter.class }) {
+
+      RouteRegistration registration = Registrations.find(clazz, RouteRegistration.SUFFIX, RouteRegistration.class);
+      ctx.assertNotNull(registration);
+      ctx.assertEquals(describe(collector.collectDeclared(clazz, builder)),
+        describe(collector.collectRegistered(clazz, builder, registration)));
+    }
+  }
+
+  /**
+   * Shared routes test, builders with the same routes key collect the routes once.
+   */
+  @Test
+  public void sharedRoutesTest(TestContext ctx) {
+
+    String key = HandlerCollectorTest.class.getName();
+    Vertx vertx = Vertx.vertx();
+    RouterBuilder.create(vertx).routesKey(key).addRoute(MultiRoutes.class).build();
+    RouterBuilder.create(vertx).routesKey(key).addRoute(MultiRoutes.class).build();
+
+    List<HandlerData> shared = Environment.my(HandlerHolder.class).routes(vertx, key, () -> {
+      throw new IllegalStateException("routes collected twice");
+    });
+    ctx.assertEquals(2, shared.size());
+    ctx.assertTrue(shared == Environment.my(HandlerHolder.class).routes(vertx, key, Collections::emptyList));
+
+    // Collected again once released, as on undeploy
+    Environment.my(HandlerHolder.class).release(vertx, key);
+    ctx.assertTrue(Environment.my(HandlerHolder.class).routes(vertx, key, Collections::emptyList).isEmpty());
+    Environment.my(HandlerHolder.class).release(vertx, key);
+    vertx.close();
+  }
+
+  /**
+   * Shared routes of two vertx test, the routes built for one vertx are neither reused nor released by another.
+   */
+  @Test
+  public void sharedRoutesTwoVertxTest(TestContext ctx) {
+
+    String key = HandlerCollectorTest.class.getName();
+    Vertx first = Vertx.vertx();
+    Vertx second = Vertx.vertx();
+    RouterBuilder.create(first).routesKey(key).addRoute(MultiRoutes.class).build();
+    RouterBuilder.create(second).routesKey(key).addRoute(MultiRoutes.class).build();
+
+    HandlerHolder holder = Environment.my(HandlerHolder.class);
+    List<HandlerData> firstRoutes = holder.routes(first, key, Collections::emptyList);
+    List<HandlerData> secondRoutes = holder.routes(second, key, Collections::emptyList);
+    ctx.assertEquals(2, firstRoutes.size());
+    ctx.assertEquals(2, secondRoutes.size());
+    ctx.assertFalse(firstRoutes.get(0) == secondRoutes.get(0));
+
+    // Releasing the routes of the first vertx keeps the ones of the second
+    holder.release(first, key);
+    ctx.assertTrue(holder.routes(first, key, Collections::emptyList).isEmpty());
+    ctx.assertTrue(secondRoutes == holder.routes(second, key, Collections::emptyList));
+    holder.release(first, key);
+    holder.release(second, key);
+    first.close();
+    second.close();
+  }
+
+  private Set<String> describe(Collection<HandlerData> handlers) {
+
+    return handlers.stream()
+      .map(hd -> hd.toStringLine() + hd.order() + hd.pathRegex() + hd.consumes() + hd.produces())
+      .collect(Collectors.toSet());
+  }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.route.StartRoute;
+import org.jspare.vertx.web.handler.DefaultHandler;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The Class RouteChainTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class RouteChainTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Route chain test.
+   */
+  @Test
+  public void routeChainTest(TestContext ctx) {
+
+    Async async = ctx.async(2);
+    HandlerData data = new HandlerData().clazz(StartRoute.class);
+    Handler<RoutingContext> guard = rc -> {
+
+      if (rc.request().getParam("deny") != null) {
+
+        rc.fail(403);
+      } else {
+
+        rc.put("steps", "guard");
+        rc.next();
+      }
+    };
+    Handler<RoutingContext> last = rc -> {
+
+      ctx.assertEquals(data, rc.get(DefaultHandler.HANDLER_DATA));
+      rc.put("steps", rc.get("steps") + ",last");
+      rc.next();
+    };
+    List<Handler<RoutingContext>> steps = Arrays.asList(guard, last);
+    RouteChain chain = new RouteChain(data, steps);
+    ctx.assertEquals(2, chain.size());
+
+    Router router = Router.router(vertx);
+    router.get("/chain").handler(chain);
+    router.get("/chain").handler(rc -> rc.response().end(rc.<String>get("steps")));
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      client.getNow(server.actualPort(), "localhost", "/chain", res -> res.bodyHandler(b -> {
+
+        // The last step continues to the next route of router
+        ctx.assertEquals("guard,last", b.toString());
+        async.countDown();
+      }));
+      client.getNow(server.actualPort(), "localhost", "/chain?deny=true", res -> {
+
+        ctx.assertEquals(403, res.statusCode());
+        async.countDown();
+      });
+    }));
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.route.DispatchedRoutes;
+import org.jspare.vertx.web.builder.route.LimitedRoutes;
+import org.jspare.vertx.web.builder.route.OrderedRoutes;
+import org.jspare.vertx.web.builder.route.StreamingRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+
+/**
+ * The Class RouteDispatcherTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class RouteDispatcherTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Accepts test.
+   */
+  @Test
+  public void acceptsTest(TestContext ctx) {
+
+    ctx.assertTrue(RouteDispatcher.accepts(data("/items/:id/tags/:tag")));
+    ctx.assertTrue(RouteDispatcher.accepts(data("/files/*")));
+    ctx.assertFalse(RouteDispatcher.accepts(data("/items/:id/:id")));
+    ctx.assertFalse(RouteDispatcher.accepts(data("/items/item-:id")));
+    ctx.assertFalse(RouteDispatcher.accepts(data("/items/:id").order(1)));
+    ctx.assertFalse(RouteDispatcher.accepts(data("/items/\\d+").pathRegex(true)));
+    ctx.assertFalse(RouteDispatcher.accepts(data("/items").handlerType(HandlerType.FAILURE_HANDLER)));
+
+    // The steps running before the global handlers ignore the order
+    ctx.assertTrue(RouteDispatcher.matches(data("/items/:id").order(1)));
+    ctx.assertFalse(RouteDispatcher.matches(data("/items/\\d+").pathRegex(true)));
+  }
+
+  /**
+   * Before test, the steps of limited and streaming routes share one route.
+   */
+  @Test
+  public void beforeTest(TestContext ctx) {
+
+    Router router = RouterBuilder.create(vertx)
+      .addRoute(LimitedRoutes.class)
+      .addRoute(StreamingRoutes.class)
+      .build();
+
+    // Four limited routes, one streaming route and the route of their steps
+    ctx.assertEquals(6, router.getRoutes().size());
+  }
+
+  /**
+   * Dispatch test.
+   */
+  @Test
+  public void dispatchTest(TestContext ctx) {
+
+    Async async = ctx.async(9);
+    Router router = RouterBuilder.create(vertx)
+      .fastDispatch(true)
+      .addRoute(DispatchedRoutes.class)
+      .build();
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      int port = server.actualPort();
+
+      // Exact paths ignore the trailing slash
+      expect(ctx, async, client, port, HttpMethod.GET, "/dispatch/items/", null, 200, "items");
+      expect(ctx, async, client, port, HttpMethod.GET, "/dispatch/items/new", null, 200, "new");
+      expect(ctx, async, client, port, HttpMethod.GET, "/dispatch/items/a%20b", null, 200, "item a b");
+      expect(ctx, async, client, port, HttpMethod.GET, "/dispatch/items/7/tags/x", null, 200, "7 x");
+      expect(ctx, async, client, port, HttpMethod.GET, "/dispatch/files/report", null, 200, "files report");
+      expect(ctx, async, client, port, HttpMethod.POST, "/dispatch/items", "application/json", 201, "");
+      expect(ctx, async, client, port, HttpMethod.POST, "/dispatch/items", "text/plain", 404, null);
+      expect(ctx, async, client, port, HttpMethod.DELETE, "/dispatch/items", null, 404, null);
+
+      // Regex routes keep their router route
+      expect(ctx, async, client, port, HttpMethod.GET, "/dispatch/regex/12", null, 200, "regex");
+    }));
+  }
+
+  /**
+   * Order test, compiled routes keep their order relative to the routes left to router.
+   */
+  @Test
+  public void orderTest(TestContext ctx) {
+
+    Async async = ctx.async(2);
+    RouterBuilder builder = RouterBuilder.create(vertx)
+      .fastDispatch(true)
+      .addRoute(OrderedRoutes.class);
+
+    // Routes added to router before the build are matched first
+    builder.route(route -> route.path("/ordered/*").handler(rc -> {
+
+      rc.response().setChunked(true).write("direct ");
+      rc.next();
+    }));
+    Router router = builder.build();
+
+    // The direct route, one dispatcher per run of compiled routes and the regex route between them
+    ctx.assertEquals(4, router.getRoutes().size());
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      expect(ctx, async, client, server.actualPort(), HttpMethod.GET, "/ordered/a", null, 200, "direct first regex last");
+      expect(ctx, async, client, server.actualPort(), HttpMethod.GET, "/ordered/1", null, 200, "direct first last");
+    }));
+  }
+
+  private HandlerData data(String path) {
+
+    return new HandlerData().path(path).httpMethod("GET").handlerType(HandlerType.HANDLER).order(Integer.MIN_VALUE);
+  }
+
+  private void expect(TestContext ctx, Async async, HttpClient client, int port, HttpMethod method, String uri,
+                      String contentType, int status, String body) {
+
+    client.request(method, port, "localhost", uri, res -> {
+
+      ctx.assertEquals(status, res.statusCode());
+      res.bodyHandler(b -> {
+
+        if (body != null) {
+
+          ctx.assertEquals(body, b.toString());
+        }
+        async.countDown();
+      });
+    }).putHeader("Content-Type", contentType == null ? "text/plain" : contentType).end("{}");
+  }
+}
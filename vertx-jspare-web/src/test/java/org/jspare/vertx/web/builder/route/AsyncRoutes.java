@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.handler.Scope;
+import org.jspare.vertx.web.annotation.method.Get;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The Class AsyncRoutes.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Scope(Scope.Type.SINGLETON)
+public class AsyncRoutes {
+
+  /**
+   * Future handler.
+   */
+  @Handler
+  @Get("/async/future")
+  public Future<JsonObject> future() {
+
+    return Future.succeededFuture(new JsonObject().put("async", "future"));
+  }
+
+  /**
+   * Completion stage handler.
+   */
+  @Handler
+  @Get("/async/stage")
+  public CompletionStage<String> stage() {
+
+    return CompletableFuture.supplyAsync(() -> "stage");
+  }
+
+  /**
+   * Empty handler.
+   */
+  @Handler
+  @Get("/async/empty")
+  public Future<Void> empty() {
+
+    return Future.succeededFuture();
+  }
+
+  /**
+   * Failed handler.
+   */
+  @Handler
+  @Get("/async/failed")
+  public Future<Void> failed() {
+
+    return Future.failedFuture(new IllegalStateException("failed"));
+  }
+}
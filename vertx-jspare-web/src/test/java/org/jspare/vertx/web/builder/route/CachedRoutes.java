@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.web.annotation.auth.Auth;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.handling.CacheResponse;
+import org.jspare.vertx.web.annotation.handling.Parameter;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.handler.APIHandler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Class CachedRoutes.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class CachedRoutes extends APIHandler {
+
+  /**
+   * The calls of route methods.
+   */
+  public static final AtomicInteger CALLS = new AtomicInteger();
+
+  /**
+   * Cached handler.
+   */
+  @Handler
+  @Get("/cached/:id")
+  @CacheResponse(params = "id")
+  public void cached(@Parameter("id") String id) {
+
+    ok(new JsonObject().put("id", id).put("call", CALLS.incrementAndGet()));
+  }
+
+  /**
+   * Async handler.
+   */
+  @Handler
+  @Get("/cached-async")
+  @CacheResponse
+  public Future<JsonObject> async() {
+
+    return Future.succeededFuture(new JsonObject().put("call", CALLS.incrementAndGet()));
+  }
+
+  /**
+   * User handler, cached per authenticated user.
+   */
+  @Auth
+  @Handler
+  @Get("/cached-user")
+  @CacheResponse
+  public void user() {
+
+    ok(new JsonObject().put("user", context.user().principal().getString("username")).put("call", CALLS.incrementAndGet()));
+  }
+
+  /**
+   * Missing handler, not found responses are not cached.
+   */
+  @Handler
+  @Get("/cached-missing")
+  @CacheResponse
+  public void missing() {
+
+    CALLS.incrementAndGet();
+    notFound();
+  }
+}
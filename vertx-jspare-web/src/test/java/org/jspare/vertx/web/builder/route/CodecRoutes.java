@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.jspare.vertx.web.annotation.content.Produces;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.handling.StreamingBody;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.annotation.method.Post;
+import org.jspare.vertx.web.handler.APIHandler;
+
+/**
+ * The Class CodecRoutes.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class CodecRoutes extends APIHandler {
+
+  /**
+   * Echo handler.
+   *
+   * @param body the body
+   */
+  @Handler
+  @Post("/codec/echo")
+  public void echo(JsonObject body) {
+
+    success(body);
+  }
+
+  /**
+   * Item handler.
+   *
+   * @param item the item
+   */
+  @Handler
+  @Post("/codec/item")
+  public void item(Item item) {
+
+    success(item.count(item.count() + 1));
+  }
+
+  /**
+   * Streamed item handler.
+   *
+   * @param item the item
+   */
+  @Handler
+  @StreamingBody
+  @Post("/codec/streaming")
+  public void streaming(Item item) {
+
+    success(item);
+  }
+
+  /**
+   * Produces handler.
+   */
+  @Handler
+  @Produces("application/json,application/cbor")
+  @Get("/codec/produces")
+  public void produces() {
+
+    success(new Item().name("produced").count(1));
+  }
+
+  /**
+   * Async handler.
+   *
+   * @return the future
+   */
+  @Handler
+  @Get("/codec/async")
+  public Future<Item> async() {
+
+    return Future.succeededFuture(new Item().name("async").count(2));
+  }
+
+  /**
+   * The Class Item.
+   */
+  @Data
+  @Accessors(fluent = true)
+  public static class Item {
+
+    private String name;
+    private int count;
+  }
+}
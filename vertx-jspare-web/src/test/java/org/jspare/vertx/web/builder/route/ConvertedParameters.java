@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.ext.web.RoutingContext;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.handling.Parameter;
+import org.jspare.vertx.web.annotation.method.Get;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Class ConvertedParameters.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class ConvertedParameters {
+
+  /**
+   * Converted handler.
+   */
+  @Handler
+  @Get("/converted/:id")
+  public void converted(RoutingContext ctx, @Parameter("id") UUID id, @Parameter("size") int size,
+                        @Parameter("unit") TimeUnit unit, @Parameter("day") LocalDate day, @Parameter("tag") List<Long> tags) {
+
+    ctx.response().end(String.join(",", id.toString(), String.valueOf(size), unit.name(), day.toString(), tags.toString()));
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import org.jspare.vertx.web.annotation.content.Consumes;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.handling.Parameter;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.annotation.method.Post;
+import org.jspare.vertx.web.handler.APIHandler;
+
+/**
+ * The Class DispatchedRoutes.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class DispatchedRoutes extends APIHandler {
+
+  /**
+   * Items.
+   */
+  @Handler
+  @Get("/dispatch/items")
+  public void items() {
+
+    res.end("items");
+  }
+
+  /**
+   * New item, declared before the parameter route so it takes precedence.
+   */
+  @Handler
+  @Get("/dispatch/items/new")
+  public void newItem() {
+
+    res.end("new");
+  }
+
+  /**
+   * Item.
+   *
+   * @param id the id
+   */
+  @Handler
+  @Get("/dispatch/items/:id")
+  public void item(@Parameter("id") String id) {
+
+    res.end("item " + id);
+  }
+
+  /**
+   * Tag.
+   *
+   * @param id  the id
+   * @param tag the tag
+   */
+  @Handler
+  @Get("/dispatch/items/:id/tags/:tag")
+  public void tag(@Parameter("id") String id, @Parameter("tag") String tag) {
+
+    res.end(id + " " + tag);
+  }
+
+  /**
+   * Create.
+   */
+  @Handler
+  @Post("/dispatch/items")
+  @Consumes("application/json")
+  public void create() {
+
+    res.setStatusCode(201).end();
+  }
+
+  /**
+   * Files, continuing to the next matched route.
+   */
+  @Handler
+  @Get("/dispatch/files/*")
+  public void files() {
+
+    res.setChunked(true).write("files ");
+    context.next();
+  }
+
+  /**
+   * File.
+   *
+   * @param name the name
+   */
+  @Handler
+  @Get("/dispatch/files/:name")
+  public void file(@Parameter("name") String name) {
+
+    res.end(name);
+  }
+
+  /**
+   * Regex, left to router.
+   */
+  @Handler
+  @Get(value = "/dispatch/regex/\\d+", regex = true)
+  public void regex() {
+
+    res.end("regex");
+  }
+}
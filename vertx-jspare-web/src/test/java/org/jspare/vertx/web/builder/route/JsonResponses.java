@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.handler.APIHandler;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The Class JsonResponses.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class JsonResponses extends APIHandler {
+
+  /**
+   * Utf8 handler.
+   */
+  @Handler
+  @Get("/json/utf8")
+  public void utf8() {
+
+    ok(new JsonObject().put("name", "Ação"));
+  }
+
+  /**
+   * Latin1 handler.
+   */
+  @Handler
+  @Get("/json/latin1")
+  public void latin1() {
+
+    created(new JsonObject().put("name", "Ação"), StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Utf16 handler.
+   */
+  @Handler
+  @Get("/json/utf16")
+  public void utf16() {
+
+    ok(new JsonObject().put("name", "Ação"), StandardCharsets.UTF_16BE);
+  }
+}
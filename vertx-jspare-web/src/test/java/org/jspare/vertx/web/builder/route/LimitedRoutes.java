@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.Future;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.handling.MaxConcurrent;
+import org.jspare.vertx.web.annotation.handling.RateLimit;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.annotation.method.Post;
+import org.jspare.vertx.web.handler.APIHandler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Class LimitedRoutes.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@MaxConcurrent(value = 1, retryAfter = 2)
+public class LimitedRoutes extends APIHandler {
+
+  /**
+   * Rate limited handler.
+   */
+  @Handler
+  @Get("/limited/rate")
+  @RateLimit(value = 2, unit = TimeUnit.HOURS)
+  public void rate() {
+
+    ok("rate");
+  }
+
+  /**
+   * Rate limited handler by header.
+   */
+  @Handler
+  @Get("/limited/header")
+  @RateLimit(value = 1, unit = TimeUnit.HOURS, key = RateLimit.Key.HEADER, header = "X-Client")
+  public void header() {
+
+    ok("header");
+  }
+
+  /**
+   * Slow handler, limited by the class.
+   */
+  @Handler
+  @Get("/limited/slow")
+  public Future<String> slow() {
+
+    Future<String> future = Future.future();
+    vertx.setTimer(500, t -> future.complete("slow"));
+    return future;
+  }
+
+  /**
+   * Abort handler, limited by the class, reading the body with its own end handler on response.
+   */
+  @Handler
+  @Post("/limited/abort")
+  public void abort() {
+
+    res.endHandler(v -> {
+    });
+    req.bodyHandler(b -> ok("abort"));
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.ext.web.RoutingContext;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.handler.Scope;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.annotation.method.Post;
+import org.jspare.vertx.web.handler.APIHandler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Class PooledRoutes.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Scope(value = Scope.Type.POOLED, poolSize = 1)
+public class PooledRoutes extends APIHandler {
+
+  /**
+   * The responses seen ended after writing them.
+   */
+  public static final AtomicInteger ENDED = new AtomicInteger();
+
+  /**
+   * Get handler.
+   */
+  @Handler
+  @Get("/pooled")
+  public void get(RoutingContext ctx) {
+
+    ctx.response().end("get");
+  }
+
+  /**
+   * Post handler.
+   */
+  @Handler
+  @Post("/pooled")
+  public void post(RoutingContext ctx) {
+
+    ctx.response().end("post");
+  }
+
+  /**
+   * Handler reading the response after ending it.
+   */
+  @Handler
+  @Get("/pooled/after")
+  public void after() {
+
+    ok("after");
+    if (res.ended()) {
+
+      ENDED.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.web.annotation.handler.SseHandler;
+import org.jspare.vertx.web.handler.SseEmitter;
+
+/**
+ * The Class SseRoutes.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class SseRoutes {
+
+  /**
+   * The Constant ADDRESS.
+   */
+  public static final String ADDRESS = "sse.routes.topic";
+
+  /**
+   * Events handler.
+   *
+   * @param emitter the emitter
+   */
+  @SseHandler("/sse/events")
+  public void events(SseEmitter emitter) {
+
+    emitter.retry(1000)
+      .send("1", "greeting", "hello")
+      .send(new JsonObject().put("a", 1))
+      .send("first\nsecond")
+      .close();
+  }
+
+  /**
+   * Topic handler.
+   *
+   * @param emitter the emitter
+   */
+  @SseHandler(value = "/sse/topic", keepAlive = 50)
+  public void topic(SseEmitter emitter) {
+
+    emitter.subscribe(ADDRESS);
+  }
+}
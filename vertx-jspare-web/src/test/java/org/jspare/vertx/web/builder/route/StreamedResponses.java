@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.handler.APIHandler;
+import org.jspare.vertx.web.handler.StreamFormat;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * The Class StreamedResponses.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class StreamedResponses extends APIHandler {
+
+  /**
+   * Elements of each streamed response.
+   */
+  public static final int SIZE = 5000;
+
+  /**
+   * Whether the last stream was closed.
+   */
+  public static final AtomicBoolean CLOSED = new AtomicBoolean();
+
+  /**
+   * Array handler.
+   */
+  @Handler
+  @Get("/stream/array")
+  public void array() {
+
+    stream(IntStream.range(0, SIZE).mapToObj(i -> new JsonObject().put("i", i)).iterator());
+  }
+
+  /**
+   * Ndjson handler.
+   */
+  @Handler
+  @Get("/stream/ndjson")
+  public void ndjson() {
+
+    stream(IntStream.range(0, SIZE).boxed().onClose(() -> CLOSED.set(true)), StreamFormat.NDJSON);
+  }
+
+  /**
+   * Empty handler.
+   */
+  @Handler
+  @Get("/stream/empty")
+  public void empty() {
+
+    stream(Collections.emptyIterator());
+  }
+
+  /**
+   * Read stream handler.
+   */
+  @Handler
+  @Get("/stream/read")
+  public void read() {
+
+    stream(new CountingStream(vertx, SIZE));
+  }
+
+  /**
+   * Read stream emitting numbers on the event loop while not paused.
+   */
+  public static class CountingStream implements ReadStream<Integer> {
+
+    private final Vertx vertx;
+    private final int size;
+    private int next;
+    private boolean paused;
+    private io.vertx.core.Handler<Integer> handler;
+    private io.vertx.core.Handler<Void> endHandler;
+
+    CountingStream(Vertx vertx, int size) {
+      this.vertx = vertx;
+      this.size = size;
+    }
+
+    private void emit() {
+
+      while (!paused && next < size) {
+
+        handler.handle(next++);
+        if (next % 100 == 0) {
+
+          vertx.runOnContext(v -> emit());
+          return;
+        }
+      }
+      if (next == size && endHandler != null) {
+
+        next++;
+        endHandler.handle(null);
+      }
+    }
+
+    @Override
+    public ReadStream<Integer> exceptionHandler(io.vertx.core.Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Integer> handler(io.vertx.core.Handler<Integer> handler) {
+      this.handler = handler;
+      vertx.runOnContext(v -> emit());
+      return this;
+    }
+
+    @Override
+    public ReadStream<Integer> pause() {
+      paused = true;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Integer> resume() {
+      paused = false;
+      vertx.runOnContext(v -> emit());
+      return this;
+    }
+
+    @Override
+    public ReadStream<Integer> fetch(long amount) {
+      return resume();
+    }
+
+    @Override
+    public ReadStream<Integer> endHandler(io.vertx.core.Handler<Void> endHandler) {
+      this.endHandler = endHandler;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.handling.StreamingBody;
+import org.jspare.vertx.web.annotation.method.Post;
+
+/**
+ * The Class StreamingRoutes.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class StreamingRoutes {
+
+  /**
+   * Streaming handler.
+   */
+  @Handler
+  @StreamingBody(maxSize = 64)
+  @Post("/streaming")
+  public void streaming(RoutingContext ctx, JsonObject body) {
+
+    ctx.response().end(body.getString("name"));
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.Future;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.handling.Timeout;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.handler.APIHandler;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The Class TimeoutRoutes.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Timeout(100)
+public class TimeoutRoutes extends APIHandler {
+
+  /**
+   * The outcome of the late answers, "answered" or their failure.
+   */
+  public static final AtomicReference<Object> LATE = new AtomicReference<>();
+
+  /**
+   * Handler answering after its timeout.
+   */
+  @Handler
+  @Get("/timeout/slow")
+  public void slow() {
+
+    vertx.setTimer(500, id -> {
+
+      if (!cancelled()) {
+
+        ok("slow");
+      }
+    });
+  }
+
+  /**
+   * Handler answering after its timeout without checking it.
+   */
+  @Handler
+  @Get("/timeout/late")
+  public void late() {
+
+    vertx.setTimer(300, id -> {
+
+      try {
+
+        ok("late");
+        created();
+        LATE.set("answered");
+      } catch (RuntimeException e) {
+
+        LATE.set(e);
+      }
+    });
+  }
+
+  /**
+   * Handler answering with the deadline received by one consumer.
+   *
+   * @return the future
+   */
+  @Handler
+  @Get("/timeout/deadline")
+  public Future<String> deadline() {
+
+    Future<String> future = Future.future();
+    vertx.eventBus().<String>send("timeout.deadline", null, ar -> future.handle(ar.map(m -> m.body())));
+    return future;
+  }
+
+  /**
+   * Handler with its own timeout, answering in time.
+   */
+  @Handler
+  @Timeout(1000)
+  @Get("/timeout/fast")
+  public void fast() {
+
+    vertx.setTimer(200, id -> ok("fast"));
+  }
+}
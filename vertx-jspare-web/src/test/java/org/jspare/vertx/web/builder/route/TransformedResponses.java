@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.handler.APIHandler;
+
+/**
+ * The Class TransformedResponses.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public class TransformedResponses extends APIHandler {
+
+  /**
+   * Transformed handler.
+   */
+  @Handler
+  @Get("/json/transformed")
+  public void transformed() {
+
+    ok(new JsonObject().put("name", "jspare"));
+  }
+
+  @Override
+  protected String transform(Object object) {
+
+    return new JsonObject().put("transformed", object).encode();
+  }
+}
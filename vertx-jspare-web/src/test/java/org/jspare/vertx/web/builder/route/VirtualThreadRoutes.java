@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.builder.route;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.annotation.VirtualThread;
+import org.jspare.vertx.web.annotation.handler.Handler;
+import org.jspare.vertx.web.annotation.method.Get;
+import org.jspare.vertx.web.handler.APIHandler;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The Class VirtualThreadRoutes.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@VirtualThread
+public class VirtualThreadRoutes extends APIHandler {
+
+  /**
+   * The outcome of ending the response twice, see {@link #endTwice()}.
+   */
+  public static final CompletableFuture<String> ENDED_TWICE = new CompletableFuture<>();
+
+  /**
+   * Handler writing the response out of the event loop.
+   */
+  @Handler
+  @Get("/virtual/write")
+  public void write() {
+
+    ok(new JsonObject().put("eventLoop", Context.isOnEventLoopThread()));
+  }
+
+  /**
+   * Handler ending the response out of the event loop, the response is written on the event loop.
+   */
+  @Handler
+  @Get("/virtual/end")
+  public void end() {
+
+    context.addHeadersEndHandler(v -> context.response().putHeader("X-Written-On-Event-Loop",
+      String.valueOf(Context.isOnEventLoopThread())));
+    res.putHeader("X-Handled-On-Event-Loop", String.valueOf(Context.isOnEventLoopThread()));
+    res.end();
+  }
+
+  /**
+   * Handler returning the response, written back on the event loop.
+   */
+  @Handler
+  @Get("/virtual/result")
+  public Future<JsonObject> result() {
+
+    return Future.succeededFuture(new JsonObject().put("eventLoop", Context.isOnEventLoopThread()));
+  }
+
+  /**
+   * Handler ending the response twice out of the event loop, the second end fails on the virtual thread.
+   */
+  @Handler
+  @Get("/virtual/twice")
+  public void endTwice() {
+
+    res.setStatusCode(202).putHeader("X-Status", String.valueOf(res.getStatusCode()));
+    res.headers().add("X-Added", String.valueOf(res.headers().contains("X-Status")));
+    res.end("first");
+    boolean ended = res.ended();
+    try {
+
+      res.end("second");
+      ENDED_TWICE.complete("ended twice");
+    } catch (IllegalStateException e) {
+
+      ENDED_TWICE.complete(ended ? "rejected" : "rejected while not ended");
+    }
+  }
+}
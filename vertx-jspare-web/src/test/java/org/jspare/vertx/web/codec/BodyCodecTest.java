@@ -0,0 +1,198 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.annotation.module.BodyHandler;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.CodecRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * The Class BodyCodecTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@BodyHandler
+@RunWith(VertxJspareUnitRunner.class)
+public class BodyCodecTest {
+
+  private static final ObjectMapper CBOR = new ObjectMapper(new CBORFactory());
+  private static final ObjectMapper SMILE = new ObjectMapper(new SmileFactory());
+  private static final ObjectMapper MSGPACK = new ObjectMapper(new MessagePackFactory());
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Registry test.
+   */
+  @Test
+  public void registryTest(TestContext ctx) {
+
+    ctx.assertEquals(BodyCodecs.JSON, BodyCodecs.of("application/json;charset=UTF-8"));
+    ctx.assertEquals(BodyCodecs.APPLICATION_CBOR, BodyCodecs.of("Application/CBOR").mediaType());
+    ctx.assertNotNull(BodyCodecs.of(BodyCodecs.APPLICATION_SMILE));
+    ctx.assertNotNull(BodyCodecs.of(BodyCodecs.APPLICATION_MSGPACK));
+    ctx.assertNull(BodyCodecs.of("text/plain"));
+  }
+
+  /**
+   * Negotiation test.
+   */
+  @Test
+  public void negotiationTest(TestContext ctx) throws IOException {
+
+    Async async = ctx.async(8);
+    Router router = RouterBuilder.create(vertx)
+      .addHandler(new BodyHandler.BodyHandlerFactory().factory(getClass().getAnnotation(BodyHandler.class), null))
+      .addRoute(CodecRoutes.class)
+      .build();
+    Buffer cborItem = Buffer.buffer(CBOR.writeValueAsBytes(item("cbor", 1)));
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      int port = server.actualPort();
+
+      // CBOR request and response bound to one model
+      client.post(port, "localhost", "/codec/item", res -> {
+
+        ctx.assertEquals(BodyCodecs.APPLICATION_CBOR, res.getHeader("Content-Type"));
+        res.bodyHandler(b -> {
+
+          Map<?, ?> item = read(ctx, CBOR, b);
+          ctx.assertEquals("cbor", item.get("name"));
+          ctx.assertEquals(2, item.get("count"));
+          async.countDown();
+        });
+      }).putHeader("Content-Type", BodyCodecs.APPLICATION_CBOR).putHeader("Accept", BodyCodecs.APPLICATION_CBOR)
+        .end(cborItem);
+
+      // Smile request bound to JsonObject, answered as json by default
+      client.post(port, "localhost", "/codec/echo", res -> {
+
+        ctx.assertEquals("application/json", res.getHeader("Content-Type"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(new JsonObject().put("name", "smile").put("count", 1), b.toJsonObject());
+          async.countDown();
+        });
+      }).putHeader("Content-Type", BodyCodecs.APPLICATION_SMILE).end(write(SMILE, item("smile", 1)));
+
+      // JsonObject answered as MessagePack
+      client.post(port, "localhost", "/codec/echo", res -> {
+
+        ctx.assertEquals(BodyCodecs.APPLICATION_MSGPACK, res.getHeader("Content-Type"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals("msgpack", read(ctx, MSGPACK, b).get("name"));
+          async.countDown();
+        });
+      }).putHeader("Content-Type", "application/json").putHeader("Accept", "text/html;q=0.9, application/x-msgpack")
+        .end(new JsonObject().put("name", "msgpack").encode());
+
+      // Chunked CBOR body of one streaming route
+      HttpClientRequest streaming = client.post(port, "localhost", "/codec/streaming", res -> res.bodyHandler(b -> {
+
+        ctx.assertEquals("cbor", b.toJsonObject().getString("name"));
+        async.countDown();
+      })).putHeader("Content-Type", BodyCodecs.APPLICATION_CBOR).setChunked(true);
+      streaming.write(cborItem.getBuffer(0, 4));
+      vertx.setTimer(50, t -> streaming.end(cborItem.getBuffer(4, cborItem.length())));
+
+      // Produces matched by accept
+      client.get(port, "localhost", "/codec/produces", res -> {
+
+        ctx.assertEquals(BodyCodecs.APPLICATION_CBOR, res.getHeader("Content-Type"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals("produced", read(ctx, CBOR, b).get("name"));
+          async.countDown();
+        });
+      }).putHeader("Accept", BodyCodecs.APPLICATION_CBOR).end();
+      client.get(port, "localhost", "/codec/produces", res -> {
+
+        ctx.assertEquals("application/json", res.getHeader("Content-Type"));
+        async.countDown();
+      }).putHeader("Accept", "application/json").end();
+      client.get(port, "localhost", "/codec/produces", res -> {
+
+        ctx.assertEquals(404, res.statusCode());
+        async.countDown();
+      }).putHeader("Accept", "text/html").end();
+
+      // Async results are negotiated too
+      client.get(port, "localhost", "/codec/async", res -> {
+
+        ctx.assertEquals(BodyCodecs.APPLICATION_SMILE, res.getHeader("Content-Type"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals("async", read(ctx, SMILE, b).get("name"));
+          async.countDown();
+        });
+      }).putHeader("Accept", BodyCodecs.APPLICATION_SMILE).end();
+    }));
+  }
+
+  private static Map<String, Object> item(String name, int count) {
+
+    return new JsonObject().put("name", name).put("count", count).getMap();
+  }
+
+  private static Buffer write(ObjectMapper mapper, Object value) {
+
+    try {
+
+      return Buffer.buffer(mapper.writeValueAsBytes(value));
+    } catch (IOException e) {
+
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Map<?, ?> read(TestContext ctx, ObjectMapper mapper, Buffer buffer) {
+
+    try {
+
+      return mapper.readValue(buffer.getBytes(), Map.class);
+    } catch (IOException e) {
+
+      ctx.fail(e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import org.jspare.core.Environment;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.annotation.module.AdaptiveConcurrency;
+import org.jspare.vertx.web.builder.HandlerData;
+import org.jspare.vertx.web.builder.HandlerHolder;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.LimitedRoutes;
+import org.jspare.vertx.web.builder.route.MultiRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Class AdaptiveConcurrencyLimiterTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class AdaptiveConcurrencyLimiterTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Gradient test.
+   */
+  @Test
+  public void gradientTest(TestContext ctx) {
+
+    assertAdapts(ctx, new AdaptiveConcurrencyLimiter(Gradient.class.getAnnotation(AdaptiveConcurrency.class)));
+  }
+
+  /**
+   * Vegas test.
+   */
+  @Test
+  public void vegasTest(TestContext ctx) {
+
+    assertAdapts(ctx, new AdaptiveConcurrencyLimiter(Vegas.class.getAnnotation(AdaptiveConcurrency.class)));
+  }
+
+  /**
+   * Default limiter test, routes without their own limit share one limiter per method.
+   */
+  @Test
+  public void defaultLimiterTest(TestContext ctx) {
+
+    AdaptiveConcurrency config = Gradient.class.getAnnotation(AdaptiveConcurrency.class);
+    String key = AdaptiveConcurrencyLimiterTest.class.getName();
+    RouterBuilder.create(vertx)
+      .routesKey(key)
+      .concurrencyLimiter(() -> new AdaptiveConcurrencyLimiter(config))
+      .addRoute(MultiRoutes.class)
+      .addRoute(LimitedRoutes.class)
+      .build();
+
+    List<HandlerData> routes = Environment.my(HandlerHolder.class).routes(vertx, key, Collections::emptyList);
+    ctx.assertEquals(6, routes.size());
+    routes.forEach(hd -> {
+
+      ctx.assertNotNull(hd.concurrencyLimiter());
+      ctx.assertEquals(hd.clazz() == MultiRoutes.class, hd.concurrencyLimiter() instanceof AdaptiveConcurrencyLimiter);
+    });
+  }
+
+  private void assertAdapts(TestContext ctx, AdaptiveConcurrencyLimiter limiter) {
+
+    ctx.assertEquals(10, limiter.limit());
+
+    // Steady latency under full load grows the limit
+    load(limiter, TimeUnit.MILLISECONDS.toNanos(1), 50);
+    int grown = limiter.limit();
+    ctx.assertTrue(grown > 10, "limit " + grown);
+
+    // Latency climbing shrinks it
+    load(limiter, TimeUnit.MILLISECONDS.toNanos(20), 5);
+    ctx.assertTrue(limiter.limit() < grown, "limit " + limiter.limit());
+    ctx.assertTrue(limiter.limit() >= 1);
+  }
+
+  private void load(AdaptiveConcurrencyLimiter limiter, long rtt, int rounds) {
+
+    for (int i = 0; i < rounds; i++) {
+
+      int acquired = 0;
+      while (limiter.tryAcquire()) {
+
+        acquired++;
+      }
+      for (int j = 0; j < acquired; j++) {
+
+        limiter.release(rtt);
+      }
+    }
+  }
+
+  @AdaptiveConcurrency(initialLimit = 10, maxLimit = 100)
+  private static class Gradient {
+  }
+
+  @AdaptiveConcurrency(algorithm = AdaptiveConcurrency.Algorithm.VEGAS, initialLimit = 10, maxLimit = 100)
+  private static class Vegas {
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Future;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.jspare.core.Environment;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.annotation.handling.RateLimit;
+import org.jspare.vertx.web.builder.AbstractRouterTest;
+import org.jspare.vertx.web.builder.HandlerHolder;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.LimitedRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Class AdmissionHandlerTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class AdmissionHandlerTest extends AbstractRouterTest {
+
+  /**
+   * Rate limiter test, the burst is accepted at once then one request by interval.
+   */
+  @Test
+  @RateLimit(value = 10, burst = 2)
+  public void rateLimiterTest(TestContext ctx) throws NoSuchMethodException {
+
+    RateLimiter limiter = new RateLimiter(AdmissionHandlerTest.class.getMethod("rateLimiterTest", TestContext.class)
+      .getAnnotation(RateLimit.class));
+    long interval = TimeUnit.MILLISECONDS.toNanos(100);
+    long now = 1000L;
+
+    ctx.assertEquals(0L, limiter.acquire("a", now));
+    ctx.assertEquals(0L, limiter.acquire("a", now));
+    ctx.assertEquals(interval, limiter.acquire("a", now));
+    ctx.assertEquals(0L, limiter.acquire("b", now));
+    ctx.assertEquals(0L, limiter.acquire("a", now + interval));
+    ctx.assertEquals(interval, limiter.acquire("a", now + interval));
+    ctx.assertEquals(0L, limiter.acquire(null, now));
+    ctx.assertEquals(2, limiter.keys());
+  }
+
+  /**
+   * Max keys test, the keys over the max share the overflow cell and the sweep dropping the keys whose time has passed
+   * runs again only after some requests of new keys once it freed too few.
+   */
+  @Test
+  @RateLimit(value = 10, burst = 1, maxKeys = 32)
+  public void maxKeysTest(TestContext ctx) throws NoSuchMethodException {
+
+    RateLimiter limiter = new RateLimiter(AdmissionHandlerTest.class.getMethod("maxKeysTest", TestContext.class)
+      .getAnnotation(RateLimit.class));
+    long interval = TimeUnit.MILLISECONDS.toNanos(100);
+    long now = 1000L;
+
+    for (int i = 0; i < 32; i++) {
+
+      ctx.assertEquals(0L, limiter.acquire("key" + i, now));
+    }
+
+    // Nothing to drop, the new keys share the overflow cell
+    ctx.assertEquals(0L, limiter.acquire("over", now));
+    ctx.assertEquals(interval, limiter.acquire("over", now));
+    ctx.assertEquals(32, limiter.keys());
+
+    // Every time has passed, but the sweep waits for two requests of new keys after the one finding nothing to drop
+    long later = now + interval;
+    ctx.assertEquals(0L, limiter.acquire("next", later));
+    ctx.assertEquals(32, limiter.keys());
+    ctx.assertEquals(0L, limiter.acquire("next", later));
+    ctx.assertEquals(1, limiter.keys());
+  }
+
+  /**
+   * Admission test.
+   */
+  @Test
+  public void admissionTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    listen(ctx, LimitedRoutes.class, () -> get("/limited/rate").compose(r -> get("/limited/rate")).compose(r -> {
+
+      ctx.assertEquals(200, r.statusCode());
+      return get("/limited/rate");
+    }).compose(r -> {
+
+      ctx.assertEquals(429, r.statusCode());
+      ctx.assertTrue(Long.parseLong(r.header("Retry-After")) > 1000);
+      return get("/limited/header", "X-Client", "a");
+    }).compose(r -> {
+
+      ctx.assertEquals(200, r.statusCode());
+      return get("/limited/header", "X-Client", "a");
+    }).compose(r -> {
+
+      ctx.assertEquals(429, r.statusCode());
+      return get("/limited/header", "X-Client", "b");
+    }).compose(r -> {
+
+      ctx.assertEquals(200, r.statusCode());
+      Future<Response> slow = get("/limited/slow");
+      Future<Response> rejected = Future.future();
+      vertx.setTimer(100, t -> get("/limited/slow").setHandler(rejected));
+      return rejected.compose(second -> {
+
+        ctx.assertEquals(503, second.statusCode());
+        ctx.assertEquals("2", second.header("Retry-After"));
+        return slow;
+      });
+    }).compose(r -> {
+
+      ctx.assertEquals(200, r.statusCode());
+      return get("/limited/slow");
+    }).setHandler(ctx.asyncAssertSuccess(r -> {
+
+      // The permit is released once the response ends
+      ctx.assertEquals(200, r.statusCode());
+      async.complete();
+    })));
+  }
+
+  /**
+   * Abort test, the permit is released when the client closes the connection before the end of request, also when
+   * the route sets its own end handler on response.
+   */
+  @Test
+  public void abortTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    String key = AdmissionHandlerTest.class.getName();
+    Router router = RouterBuilder.create(vertx).routesKey(key).addRoute(LimitedRoutes.class).build();
+    ConcurrencyLimiter limiter = Environment.my(HandlerHolder.class).routes(vertx, key, Collections::emptyList).stream()
+      .filter(hd -> "/limited/abort".equals(hd.path()))
+      .findFirst().get().concurrencyLimiter();
+
+    listen(ctx, router, () -> vertx.createNetClient().connect(port, "localhost", ctx.asyncAssertSuccess(socket -> {
+
+      socket.write("POST /limited/abort HTTP/1.1\r\nHost: localhost\r\nContent-Length: 100\r\n\r\n{\"partial\"");
+      vertx.setTimer(100, t -> {
+
+        ctx.assertEquals(1, limiter.inFlight());
+        socket.close();
+        vertx.setTimer(100, c -> {
+
+          ctx.assertEquals(0, limiter.inFlight());
+          Environment.my(HandlerHolder.class).release(vertx, key);
+          async.complete();
+        });
+      });
+    })));
+  }
+}
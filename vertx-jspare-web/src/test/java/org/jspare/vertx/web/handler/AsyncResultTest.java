@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.AsyncRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+
+/**
+ * The Class AsyncResultTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class AsyncResultTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Async result test.
+   */
+  @Test
+  public void asyncResultTest(TestContext ctx) {
+
+    Async async = ctx.async(4);
+    Router router = RouterBuilder.create(vertx).addRoute(AsyncRoutes.class).build();
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      int port = server.actualPort();
+      client.getNow(port, "localhost", "/async/future", res -> {
+
+        ctx.assertEquals(200, res.statusCode());
+        ctx.assertEquals("application/json", res.getHeader("Content-Type"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(new JsonObject().put("async", "future"), b.toJsonObject());
+          async.countDown();
+        });
+      });
+      client.getNow(port, "localhost", "/async/stage", res -> res.bodyHandler(b -> {
+
+        ctx.assertEquals("stage", b.toString());
+        async.countDown();
+      }));
+      client.getNow(port, "localhost", "/async/empty", res -> {
+
+        ctx.assertEquals(204, res.statusCode());
+        async.countDown();
+      });
+      client.getNow(port, "localhost", "/async/failed", res -> {
+
+        ctx.assertEquals(500, res.statusCode());
+        async.countDown();
+      });
+    }));
+  }
+}
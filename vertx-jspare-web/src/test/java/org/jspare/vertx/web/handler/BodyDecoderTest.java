@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.BodyHandler;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Map;
+
+/**
+ * The Class BodyDecoderTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class BodyDecoderTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Decode once test.
+   */
+  @Test
+  public void decodeOnceTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    Router router = Router.router(vertx);
+    router.route().handler(BodyHandler.create());
+    router.post("/body").handler(rc -> {
+
+      ctx.assertFalse(BodyDecoder.isEmpty(rc));
+      TokenBuffer tokens = BodyDecoder.tokens(rc);
+      Map<?, ?> map = BodyDecoder.decode(rc, Map.class);
+      JsonObject json = BodyDecoder.asJsonObject(rc);
+
+      ctx.assertTrue(tokens == BodyDecoder.tokens(rc));
+      ctx.assertEquals("jspare", map.get("name"));
+      ctx.assertEquals(3, json.getJsonArray("values").size());
+      rc.response().end();
+    });
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      vertx.createHttpClient().post(server.actualPort(), "localhost", "/body", res -> {
+
+        ctx.assertEquals(200, res.statusCode());
+        async.complete();
+      }).end(new JsonObject().put("name", "jspare").put("values", new JsonArray().add(1).add(2).add(3)).encode());
+    }));
+  }
+}
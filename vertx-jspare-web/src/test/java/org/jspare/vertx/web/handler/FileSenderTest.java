@@ -0,0 +1,192 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.FileRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * The Class FileSenderTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class FileSenderTest {
+
+  private static final int SIZE = 1000;
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Ranges test.
+   */
+  @Test
+  public void rangesTest(TestContext ctx) {
+
+    List<long[]> ranges = FileSender.ranges("bytes=5-6, 0-1,1-3", 10);
+    ctx.assertEquals(2, ranges.size());
+    ctx.assertEquals(0L, ranges.get(0)[0]);
+    ctx.assertEquals(3L, ranges.get(0)[1]);
+    ctx.assertEquals(6L, ranges.get(1)[1]);
+    ctx.assertEquals(7L, FileSender.ranges("bytes=-3", 10).get(0)[0]);
+    ctx.assertEquals(9L, FileSender.ranges("bytes=4-", 10).get(0)[1]);
+    ctx.assertEquals(9L, FileSender.ranges("bytes=4-100", 10).get(0)[1]);
+    ctx.assertTrue(FileSender.ranges("bytes=10-", 10).isEmpty());
+    ctx.assertNull(FileSender.ranges("bytes=4-1", 10));
+    ctx.assertNull(FileSender.ranges("items=0-1", 10));
+    ctx.assertNull(FileSender.ranges("bytes=a-b", 10));
+  }
+
+  /**
+   * Send file test.
+   */
+  @Test
+  public void sendFileTest(TestContext ctx) throws IOException {
+
+    File file = File.createTempFile("file-sender", ".bin");
+    file.deleteOnExit();
+    byte[] content = new byte[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+
+      content[i] = (byte) (i % 251);
+    }
+    Files.write(file.toPath(), content);
+    FileRoutes.path = file.getAbsolutePath();
+    Buffer expected = Buffer.buffer(content);
+
+    Async async = ctx.async(10);
+    Router router = RouterBuilder.create(vertx).addRoute(FileRoutes.class).build();
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      int port = server.actualPort();
+
+      client.get(port, "localhost", "/file/whole", res -> {
+
+        ctx.assertEquals(200, res.statusCode());
+        ctx.assertEquals("bytes", res.getHeader("Accept-Ranges"));
+        ctx.assertEquals(String.valueOf(SIZE), res.getHeader("Content-Length"));
+        ctx.assertNotNull(res.getHeader("Last-Modified"));
+        String etag = res.getHeader("ETag");
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(expected, b);
+
+          // Validators of the first response
+          client.get(port, "localhost", "/file/whole", notModified -> {
+
+            ctx.assertEquals(304, notModified.statusCode());
+            async.countDown();
+          }).putHeader("If-None-Match", etag).end();
+          client.get(port, "localhost", "/file/whole", changed -> {
+
+            ctx.assertEquals(200, changed.statusCode());
+            async.countDown();
+          }).putHeader("Range", "bytes=0-9").putHeader("If-Range", "\"other\"").end();
+          client.get(port, "localhost", "/file/whole", matched -> {
+
+            ctx.assertEquals(206, matched.statusCode());
+            async.countDown();
+          }).putHeader("Range", "bytes=0-9").putHeader("If-Range", etag).end();
+          async.countDown();
+        });
+      }).end();
+
+      client.head(port, "localhost", "/file/whole", res -> {
+
+        ctx.assertEquals(String.valueOf(SIZE), res.getHeader("Content-Length"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(0, b.length());
+          async.countDown();
+        });
+      }).end();
+
+      client.get(port, "localhost", "/file/whole", res -> {
+
+        ctx.assertEquals(206, res.statusCode());
+        ctx.assertEquals("bytes 990-999/1000", res.getHeader("Content-Range"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(expected.getBuffer(990, SIZE), b);
+          async.countDown();
+        });
+      }).putHeader("Range", "bytes=-10").end();
+
+      client.get(port, "localhost", "/file/whole", res -> {
+
+        ctx.assertEquals(206, res.statusCode());
+        ctx.assertTrue(res.getHeader("Content-Type").startsWith("multipart/byteranges; boundary="));
+        String boundary = res.getHeader("Content-Type").substring(res.getHeader("Content-Type").indexOf('=') + 1);
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(Integer.parseInt(res.getHeader("Content-Length")), b.length());
+          String body = b.toString("ISO-8859-1");
+          ctx.assertTrue(body.contains("Content-Range: bytes 0-1/1000\r\n\r\n"
+            + expected.getBuffer(0, 2).toString("ISO-8859-1") + "\r\n--" + boundary));
+          ctx.assertTrue(body.contains("Content-Range: bytes 500-899/1000\r\n\r\n"
+            + expected.getBuffer(500, 900).toString("ISO-8859-1") + "\r\n--" + boundary + "--\r\n"));
+          async.countDown();
+        });
+      }).putHeader("Range", "bytes=500-899,0-1").end();
+
+      client.get(port, "localhost", "/file/whole", res -> {
+
+        ctx.assertEquals(416, res.statusCode());
+        ctx.assertEquals("bytes */1000", res.getHeader("Content-Range"));
+        async.countDown();
+      }).putHeader("Range", "bytes=2000-").end();
+
+      client.request(HttpMethod.GET, port, "localhost", "/file/region", res -> {
+
+        ctx.assertEquals(206, res.statusCode());
+        ctx.assertEquals("bytes 0-4/100", res.getHeader("Content-Range"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(expected.getBuffer(10, 15), b);
+          async.countDown();
+        });
+      }).putHeader("Range", "bytes=0-4").end();
+
+      client.getNow(port, "localhost", "/file/missing", res -> {
+
+        ctx.assertEquals(404, res.statusCode());
+        async.countDown();
+      });
+    }));
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.AbstractRouterTest;
+import org.jspare.vertx.web.builder.route.PooledRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * The Class InstanceProvidersTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class InstanceProvidersTest extends AbstractRouterTest {
+
+  /**
+   * Pooled test, the pooled instance keeps its request state until the route method returns.
+   */
+  @Test
+  public void pooledTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    PooledRoutes.ENDED.set(0);
+    listen(ctx, PooledRoutes.class, () -> get("/pooled/after").compose(first -> get("/pooled/after"))
+      .setHandler(ctx.asyncAssertSuccess(second -> {
+
+        ctx.assertEquals("after", second.text());
+        ctx.assertEquals(2, PooledRoutes.ENDED.get());
+        async.complete();
+      })));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.JsonResponses;
+import org.jspare.vertx.web.builder.route.TransformedResponses;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The Class JsonResponseTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class JsonResponseTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Json response test.
+   */
+  @Test
+  public void jsonResponseTest(TestContext ctx) {
+
+    Async async = ctx.async(3);
+    Router router = RouterBuilder.create(vertx).addRoute(JsonResponses.class).build();
+    JsonObject expected = new JsonObject().put("name", "Ação");
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      int port = server.actualPort();
+      client.getNow(port, "localhost", "/json/utf8", res -> {
+
+        ctx.assertEquals(200, res.statusCode());
+        ctx.assertEquals("application/json", res.getHeader("Content-Type"));
+        ctx.assertNull(res.getHeader("Transfer-Encoding"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(String.valueOf(b.length()), res.getHeader("Content-Length"));
+          ctx.assertEquals(expected, b.toJsonObject());
+          async.countDown();
+        });
+      });
+      client.getNow(port, "localhost", "/json/latin1", res -> {
+
+        ctx.assertEquals(201, res.statusCode());
+        ctx.assertEquals("application/json;charset=ISO-8859-1", res.getHeader("Content-Type"));
+        ctx.assertNull(res.getHeader("Transfer-Encoding"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(String.valueOf(b.length()), res.getHeader("Content-Length"));
+          ctx.assertEquals("{\"name\":\"A\\u00E7\\u00E3o\"}", b.toString(StandardCharsets.ISO_8859_1));
+          async.countDown();
+        });
+      });
+      client.getNow(port, "localhost", "/json/utf16", res -> {
+
+        ctx.assertEquals("application/json;charset=UTF-16BE", res.getHeader("Content-Type"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(String.valueOf(b.length()), res.getHeader("Content-Length"));
+          ctx.assertEquals(expected, new JsonObject(b.toString(StandardCharsets.UTF_16BE)));
+          async.countDown();
+        });
+      });
+    }));
+  }
+
+  /**
+   * Transform test, routes overriding the transform keep encoding their responses.
+   */
+  @Test
+  public void transformTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    Router router = RouterBuilder.create(vertx).addRoute(TransformedResponses.class).build();
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      vertx.createHttpClient().getNow(server.actualPort(), "localhost", "/json/transformed", res -> res.bodyHandler(b -> {
+
+        ctx.assertEquals(new JsonObject().put("transformed", new JsonObject().put("name", "jspare")), b.toJsonObject());
+        async.complete();
+      }));
+    }));
+  }
+}
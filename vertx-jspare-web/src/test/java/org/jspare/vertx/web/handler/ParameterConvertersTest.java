@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.ConvertedParameters;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.time.DayOfWeek;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * The Class ParameterConvertersTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class ParameterConvertersTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Convert parameters test.
+   */
+  @Test
+  public void convertParametersTest(TestContext ctx) {
+
+    Async async = ctx.async(4);
+    Router router = RouterBuilder.create(vertx).addRoute(ConvertedParameters.class).build();
+    UUID id = UUID.randomUUID();
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      client.getNow(server.actualPort(), "localhost", "/converted/" + id + "?size=3&unit=seconds&day=2017-03-15&tag=1&tag=2", res -> {
+
+        ctx.assertEquals(200, res.statusCode());
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(id + ",3,SECONDS,2017-03-15,[1, 2]", b.toString());
+          async.countDown();
+        });
+      });
+
+      client.getNow(server.actualPort(), "localhost", "/converted/" + id + "?size=three&unit=SECONDS&day=2017-03-15", res -> {
+
+        ctx.assertEquals(400, res.statusCode());
+        async.countDown();
+      });
+
+      client.getNow(server.actualPort(), "localhost", "/converted/" + id + "?unit=SECONDS&day=2017-03-15", res -> {
+
+        ctx.assertEquals(400, res.statusCode());
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals("Invalid parameter [size]", b.toString());
+          async.countDown();
+        });
+      });
+
+      // The request parameter named as the method parameter, compiled without names, takes precedence over @Parameter
+      client.getNow(server.actualPort(), "localhost", "/converted/" + id + "?size=3&arg2=5&unit=seconds&day=2017-03-15&tag=1", res -> {
+
+        ctx.assertEquals(200, res.statusCode());
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(id + ",5,SECONDS,2017-03-15,[1]", b.toString());
+          async.countDown();
+        });
+      });
+    }));
+  }
+
+  /**
+   * Register converter test.
+   */
+  @Test
+  public void registerConverterTest(TestContext ctx) {
+
+    ParameterConverters.register(StringBuilder.class, StringBuilder::new);
+    ctx.assertNotNull(ParameterConverters.of(StringBuilder.class));
+    ctx.assertNull(ParameterConverters.of(Object.class));
+  }
+
+  /**
+   * Enum locale test, constants are matched ignoring case whatever the default locale.
+   */
+  @Test
+  public void enumLocaleTest(TestContext ctx) throws Exception {
+
+    Locale locale = Locale.getDefault();
+    try {
+
+      Locale.setDefault(new Locale("tr", "TR"));
+      ctx.assertEquals(DayOfWeek.FRIDAY, ParameterConverters.of(DayOfWeek.class).convert("friday"));
+    } finally {
+
+      Locale.setDefault(locale);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.AbstractUser;
+import io.vertx.ext.auth.AuthProvider;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.BasicAuthHandler;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.AbstractRouterTest;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.CachedRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * The Class ResponseCacheTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class ResponseCacheTest extends AbstractRouterTest {
+
+  /**
+   * Response cache test.
+   */
+  @Test
+  public void responseCacheTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    CachedRoutes.CALLS.set(0);
+
+    listen(ctx, CachedRoutes.class, () -> get("/cached/1").compose(first -> {
+
+      ctx.assertEquals(200, first.statusCode());
+      // Strong validator from the SHA-256 of body, truncated to 128 bits
+      ctx.assertTrue(first.header("ETag").matches("\"[A-Za-z0-9_-]{22}\""));
+      ctx.assertEquals(new JsonObject().put("id", "1").put("call", 1), first.json());
+      return get("/cached/1").map(second -> {
+
+        // Served from cache, the route is not called again
+        ctx.assertEquals(200, second.statusCode());
+        ctx.assertEquals("application/json", second.header("Content-Type"));
+        ctx.assertEquals(first.header("ETag"), second.header("ETag"));
+        ctx.assertEquals(first.json(), second.json());
+        return first.header("ETag");
+      });
+    }).compose(etag -> get("/cached/1", "If-None-Match", etag).map(notModified -> {
+
+      ctx.assertEquals(304, notModified.statusCode());
+      ctx.assertEquals(etag, notModified.header("ETag"));
+      return etag;
+    })).compose(v -> get("/cached/2").map(other -> {
+
+      ctx.assertEquals(new JsonObject().put("id", "2").put("call", 2), other.json());
+      return other;
+    })).compose(v -> get("/cached-async")).compose(first ->
+      get("/cached-async").map(second -> {
+
+        ctx.assertEquals(new JsonObject().put("call", 3), first.json());
+        ctx.assertEquals(first.json(), second.json());
+        return second;
+      })
+    ).compose(v -> get("/cached-missing")).compose(v -> get("/cached-missing"))
+      .setHandler(ctx.asyncAssertSuccess(missing -> {
+
+        ctx.assertEquals(404, missing.statusCode());
+        ctx.assertEquals(5, CachedRoutes.CALLS.get());
+        async.complete();
+      })));
+  }
+
+  /**
+   * Authenticated test, the responses of one user are not served to another.
+   */
+  @Test
+  public void authenticatedTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    CachedRoutes.CALLS.set(0);
+    AuthProvider provider = (authInfo, handler) -> handler.handle(Future.succeededFuture(new SampleUser(authInfo.getString("username"))));
+    Router router = RouterBuilder.create(vertx)
+      .authHandler(() -> BasicAuthHandler.create(provider))
+      .addRoute(CachedRoutes.class)
+      .build();
+
+    listen(ctx, router, () -> get("/cached-user", "Authorization", basic("a")).compose(a -> {
+
+      ctx.assertEquals(new JsonObject().put("user", "a").put("call", 1), a.json());
+      return get("/cached-user", "Authorization", basic("b"));
+    }).compose(b -> {
+
+      ctx.assertEquals(new JsonObject().put("user", "b").put("call", 2), b.json());
+      return get("/cached-user", "Authorization", basic("a"));
+    }).setHandler(ctx.asyncAssertSuccess(a -> {
+
+      // Served from the cache of the first user
+      ctx.assertEquals(new JsonObject().put("user", "a").put("call", 1), a.json());
+      ctx.assertEquals(2, CachedRoutes.CALLS.get());
+      async.complete();
+    })));
+  }
+
+  private String basic(String username) {
+    return "Basic " + Base64.getEncoder().encodeToString((username + ":secret").getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * The Class SampleUser.
+   */
+  private static class SampleUser extends AbstractUser {
+
+    private final JsonObject principal;
+
+    SampleUser(String username) {
+      this.principal = new JsonObject().put("username", username);
+    }
+
+    @Override
+    protected void doIsPermitted(String permission, Handler<AsyncResult<Boolean>> resultHandler) {
+      resultHandler.handle(Future.succeededFuture(true));
+    }
+
+    @Override
+    public JsonObject principal() {
+      return principal;
+    }
+
+    @Override
+    public void setAuthProvider(AuthProvider authProvider) {
+    }
+  }
+}
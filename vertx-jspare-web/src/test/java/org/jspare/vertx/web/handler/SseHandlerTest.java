@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.SseRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+
+/**
+ * The Class SseHandlerTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class SseHandlerTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Events test.
+   */
+  @Test
+  public void eventsTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    Router router = RouterBuilder.create(vertx).addRoute(SseRoutes.class).build();
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      vertx.createHttpClient().getNow(server.actualPort(), "localhost", "/sse/events", res -> {
+
+        ctx.assertEquals(SseEmitter.CONTENT_TYPE, res.getHeader("Content-Type"));
+        ctx.assertEquals("no-cache", res.getHeader("Cache-Control"));
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals(":\n\n"
+            + "retry: 1000\n\n"
+            + "id: 1\nevent: greeting\ndata: hello\n\n"
+            + "data: {\"a\":1}\n\n"
+            + "data: first\ndata: second\n\n", b.toString());
+          async.complete();
+        });
+      });
+    }));
+  }
+
+  /**
+   * Topic test.
+   */
+  @Test
+  public void topicTest(TestContext ctx) {
+
+    int clients = 3;
+    Async received = ctx.async(clients);
+    Router router = RouterBuilder.create(vertx).addRoute(SseRoutes.class).build();
+    SseBroadcaster broadcaster = SseBroadcaster.of(vertx);
+    String expected = "event: tick\ndata: {\"n\":1}\n\n";
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      for (int i = 0; i < clients; i++) {
+
+        client.getNow(server.actualPort(), "localhost", "/sse/topic", res -> {
+
+          StringBuilder body = new StringBuilder();
+          res.handler(b -> {
+
+            body.append(b.toString());
+            if (body.indexOf(expected) >= 0) {
+
+              body.setLength(0);
+              res.request().connection().close();
+              received.countDown();
+            }
+          });
+        });
+      }
+
+      // Publish once all connections are subscribed
+      vertx.setPeriodic(10, id -> {
+
+        if (broadcaster.subscribers(SseRoutes.ADDRESS) == clients) {
+
+          vertx.cancelTimer(id);
+          vertx.eventBus().publish(SseRoutes.ADDRESS, new JsonObject().put("n", 1),
+            new DeliveryOptions().addHeader(SseBroadcaster.EVENT_HEADER, "tick"));
+        }
+      });
+    }));
+
+    received.await();
+    Async unsubscribed = ctx.async();
+    vertx.setPeriodic(10, id -> {
+
+      if (broadcaster.subscribers(SseRoutes.ADDRESS) == 0) {
+
+        vertx.cancelTimer(id);
+        unsubscribed.complete();
+      }
+    });
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.StreamedResponses;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+
+/**
+ * The Class StreamedResponseTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class StreamedResponseTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Streamed response test.
+   */
+  @Test
+  public void streamedResponseTest(TestContext ctx) {
+
+    Async async = ctx.async(4);
+    Router router = RouterBuilder.create(vertx).addRoute(StreamedResponses.class).build();
+    StreamedResponses.CLOSED.set(false);
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      int port = server.actualPort();
+      client.getNow(port, "localhost", "/stream/array", res -> {
+
+        ctx.assertEquals("chunked", res.getHeader("Transfer-Encoding"));
+        ctx.assertEquals("application/json", res.getHeader("Content-Type"));
+        res.bodyHandler(b -> {
+
+          JsonArray array = b.toJsonArray();
+          ctx.assertEquals(StreamedResponses.SIZE, array.size());
+          ctx.assertEquals(StreamedResponses.SIZE - 1, array.getJsonObject(StreamedResponses.SIZE - 1).getInteger("i"));
+          async.countDown();
+        });
+      });
+      client.getNow(port, "localhost", "/stream/ndjson", res -> {
+
+        ctx.assertEquals("application/x-ndjson", res.getHeader("Content-Type"));
+        res.bodyHandler(b -> {
+
+          String[] lines = b.toString().split("\n");
+          ctx.assertEquals(StreamedResponses.SIZE, lines.length);
+          ctx.assertEquals("4999", lines[StreamedResponses.SIZE - 1]);
+          ctx.assertTrue(b.toString().endsWith("\n"));
+          ctx.assertTrue(StreamedResponses.CLOSED.get());
+          async.countDown();
+        });
+      });
+      client.getNow(port, "localhost", "/stream/empty", res -> res.bodyHandler(b -> {
+
+        ctx.assertEquals("[]", b.toString());
+        async.countDown();
+      }));
+      client.getNow(port, "localhost", "/stream/read", res -> res.bodyHandler(b -> {
+
+        JsonArray array = b.toJsonArray();
+        ctx.assertEquals(StreamedResponses.SIZE, array.size());
+        ctx.assertEquals(StreamedResponses.SIZE - 1, array.getInteger(StreamedResponses.SIZE - 1));
+        async.countDown();
+      }));
+    }));
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.apache.commons.lang.StringUtils;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.annotation.module.BodyHandler;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.StreamingRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+
+/**
+ * The Class StreamingBodyTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@BodyHandler
+@RunWith(VertxJspareUnitRunner.class)
+public class StreamingBodyTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Streaming body test.
+   */
+  @Test
+  public void streamingBodyTest(TestContext ctx) {
+
+    Async async = ctx.async(3);
+    Router router = RouterBuilder.create(vertx)
+      .addHandler(new BodyHandler.BodyHandlerFactory().factory(getClass().getAnnotation(BodyHandler.class), null))
+      .addRoute(StreamingRoutes.class)
+      .build();
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+
+      // Chunked body, decoded while received
+      HttpClientRequest request = client.post(server.actualPort(), "localhost", "/streaming", res -> {
+
+        ctx.assertEquals(200, res.statusCode());
+        res.bodyHandler(b -> {
+
+          ctx.assertEquals("jspare", b.toString());
+          async.countDown();
+        });
+      }).setChunked(true);
+      request.write("{\"na");
+      vertx.setTimer(50, t -> request.end("me\":\"jspare\"}"));
+
+      // Body larger than max size
+      client.post(server.actualPort(), "localhost", "/streaming", res -> {
+
+        ctx.assertEquals(413, res.statusCode());
+        async.countDown();
+      }).end(new JsonObject().put("name", StringUtils.repeat("x", 128)).encode());
+
+      // Malformed length, written raw as the http client validates its headers
+      vertx.createNetClient().connect(server.actualPort(), "localhost", ctx.asyncAssertSuccess(socket -> {
+
+        socket.handler(b -> {
+
+          ctx.assertTrue(b.toString().startsWith("HTTP/1.1 400"));
+          socket.close();
+          async.countDown();
+        });
+        socket.write("POST /streaming HTTP/1.1\r\nHost: localhost\r\nTransfer-Encoding: chunked\r\n"
+          + "Content-Length: jspare\r\n\r\n2\r\n{}\r\n0\r\n\r\n");
+      }));
+    }));
+  }
+}
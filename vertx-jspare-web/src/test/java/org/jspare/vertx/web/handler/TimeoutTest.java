@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.jspare.vertx.concurrent.Deadline;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.AbstractRouterTest;
+import org.jspare.vertx.web.builder.route.TimeoutRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * The Class TimeoutTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class TimeoutTest extends AbstractRouterTest {
+
+  /**
+   * Timeout test, slow routes are answered with 503 and routes with their own timeout answer in time.
+   */
+  @Test
+  public void timeoutTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    listen(ctx, TimeoutRoutes.class, () -> get("/timeout/slow").compose(slow -> {
+
+      ctx.assertEquals(503, slow.statusCode());
+      return get("/timeout/fast");
+    }).setHandler(ctx.asyncAssertSuccess(fast -> {
+
+      ctx.assertEquals(200, fast.statusCode());
+      async.complete();
+    })));
+  }
+
+  /**
+   * Late test, the answers of route after its timeout are ignored.
+   */
+  @Test
+  public void lateTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    TimeoutRoutes.LATE.set(null);
+    listen(ctx, TimeoutRoutes.class, () -> get("/timeout/late").setHandler(ctx.asyncAssertSuccess(late -> {
+
+      ctx.assertEquals(503, late.statusCode());
+      vertx.setTimer(400, id -> {
+
+        ctx.assertEquals("answered", TimeoutRoutes.LATE.get());
+        async.complete();
+      });
+    })));
+  }
+
+  /**
+   * Deadline test, the messages sent by routes with timeout carry the deadline of the request.
+   */
+  @Test
+  public void deadlineTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    vertx.eventBus().<String>consumer("timeout.deadline", message -> {
+
+      Long deadline = Deadline.of(message);
+      message.reply(deadline != null && Deadline.remaining(deadline) <= 100 ? "deadline" : "none");
+    });
+
+    listen(ctx, TimeoutRoutes.class, () -> get("/timeout/deadline").setHandler(ctx.asyncAssertSuccess(res -> {
+
+      ctx.assertEquals(200, res.statusCode());
+      ctx.assertEquals("deadline", res.text());
+      async.complete();
+    })));
+  }
+}
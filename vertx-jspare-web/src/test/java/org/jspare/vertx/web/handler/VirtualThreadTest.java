@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.AbstractRouterTest;
+import org.jspare.vertx.web.builder.route.VirtualThreadRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * The Class VirtualThreadTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class VirtualThreadTest extends AbstractRouterTest {
+
+  /**
+   * Virtual thread test, routes run out of the event loop on virtual threads or, before JDK 21, on workers.
+   */
+  @Test
+  public void virtualThreadTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    listen(ctx, VirtualThreadRoutes.class, () -> get("/virtual/write").compose(write -> {
+
+      ctx.assertEquals(new JsonObject().put("eventLoop", false), write.json());
+      return get("/virtual/end");
+    }).compose(end -> {
+
+      ctx.assertEquals("false", end.header("X-Handled-On-Event-Loop"));
+      ctx.assertEquals("true", end.header("X-Written-On-Event-Loop"));
+      return get("/virtual/result");
+    }).setHandler(ctx.asyncAssertSuccess(result -> {
+
+      ctx.assertEquals(new JsonObject().put("eventLoop", false), result.json());
+      async.complete();
+    })));
+  }
+
+  /**
+   * End twice test, the response reads as ended as soon as ended out of the event loop and the second end fails on
+   * the virtual thread, the status code and headers read as written.
+   */
+  @Test
+  public void endTwiceTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    listen(ctx, VirtualThreadRoutes.class, () -> get("/virtual/twice").setHandler(ctx.asyncAssertSuccess(twice -> {
+
+      ctx.assertEquals(202, twice.statusCode());
+      ctx.assertEquals("202", twice.header("X-Status"));
+      ctx.assertEquals("true", twice.header("X-Added"));
+      ctx.assertEquals("first", twice.text());
+      VirtualThreadRoutes.ENDED_TWICE.whenComplete((outcome, t) -> {
+
+        ctx.assertEquals("rejected", outcome);
+        async.complete();
+      });
+    })));
+  }
+}
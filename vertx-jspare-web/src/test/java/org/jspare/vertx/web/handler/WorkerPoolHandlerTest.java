@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.handler;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.jspare.core.Environment;
+import org.jspare.vertx.concurrent.WorkerPool;
+import org.jspare.vertx.concurrent.WorkerPools;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.builder.AbstractRouterTest;
+import org.jspare.vertx.web.builder.route.WorkerRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * The Class WorkerPoolHandlerTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class WorkerPoolHandlerTest extends AbstractRouterTest {
+
+  /**
+   * Worker pool test.
+   */
+  @Test
+  public void workerPoolTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    listen(ctx, WorkerRoutes.class, () -> get("/worker/named").compose(named -> {
+
+      ctx.assertTrue(named.text().startsWith("worker-routes"), named.text());
+      return get("/worker/global");
+    }).setHandler(ctx.asyncAssertSuccess(global -> {
+
+      ctx.assertTrue(global.text().startsWith("vert.x-worker-thread"), global.text());
+
+      WorkerPool pool = Environment.my(WorkerPools.class).pool(vertx, "worker-routes", 2, 0);
+      ctx.assertEquals(1L, pool.completed());
+      async.complete();
+    })));
+  }
+}
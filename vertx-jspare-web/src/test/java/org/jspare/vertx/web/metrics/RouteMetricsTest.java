@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.web.metrics;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.web.Router;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.web.annotation.module.Metrics;
+import org.jspare.vertx.web.builder.RouterBuilder;
+import org.jspare.vertx.web.builder.route.AsyncRoutes;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+
+/**
+ * The Class RouteMetricsTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Metrics(path = "/admin/metrics")
+@RunWith(VertxJspareUnitRunner.class)
+public class RouteMetricsTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Histogram test.
+   */
+  @Test
+  public void histogramTest(TestContext ctx) {
+
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 10_000; i++) {
+
+      histogram.record(i * 1000);
+    }
+    ctx.assertEquals(10_000L, histogram.count());
+    ctx.assertEquals(10_000_000L, histogram.max());
+    assertNear(ctx, 5_000_000, histogram.percentile(50));
+    assertNear(ctx, 9_900_000, histogram.percentile(99));
+    ctx.assertEquals(10_000_000L, histogram.percentile(100));
+
+    // Every value is below the highest value of its bucket, within the precision
+    for (long value : new long[] { 0, 31, 32, 33, 1000, 123_456_789, LatencyHistogram.MAX_VALUE }) {
+
+      long highest = LatencyHistogram.highestEquivalent(LatencyHistogram.index(value));
+      ctx.assertTrue(highest >= value && highest - value <= value / 16, "Bucket of " + value);
+    }
+  }
+
+  /**
+   * Route metrics test.
+   */
+  @Test
+  public void routeMetricsTest(TestContext ctx) {
+
+    Async async = ctx.async();
+    Router router = RouterBuilder.create(vertx)
+      .name("metrics-test")
+      .addHandler(new Metrics.MetricsFactory().factory(getClass().getAnnotation(Metrics.class), null))
+      .addRoute(AsyncRoutes.class)
+      .build();
+
+    vertx.createHttpServer().requestHandler(router).listen(0, ctx.asyncAssertSuccess(server -> {
+
+      HttpClient client = vertx.createHttpClient();
+      int port = server.actualPort();
+      client.getNow(port, "localhost", "/async/future", r1 -> r1.bodyHandler(b1 ->
+        client.getNow(port, "localhost", "/async/future", r2 -> r2.bodyHandler(b2 ->
+          client.getNow(port, "localhost", "/async/failed", r3 -> r3.bodyHandler(b3 ->
+            client.getNow(port, "localhost", "/admin/metrics", res -> res.bodyHandler(b -> {
+
+              JsonObject routes = b.toJsonObject().getJsonObject("metrics-test");
+              JsonObject future = routes.getJsonObject("[AsyncRoutes.future][HANDLER][GET] [/async/future]");
+              ctx.assertEquals(2L, future.getLong("requests"));
+              ctx.assertEquals(0L, future.getLong("inFlight"));
+              ctx.assertEquals(2L, future.getJsonObject("status").getLong("2xx"));
+              ctx.assertEquals(2L, future.getJsonObject("latency").getLong("count"));
+              JsonObject phases = future.getJsonObject("phases");
+              ctx.assertEquals(2L, phases.getJsonObject("routing").getLong("count"));
+              ctx.assertEquals(2L, phases.getJsonObject("parameters").getLong("count"));
+              ctx.assertEquals(2L, phases.getJsonObject("invocation").getLong("count"));
+              ctx.assertEquals(2L, phases.getJsonObject("serialization").getLong("count"));
+              ctx.assertEquals(0L, phases.getJsonObject("auth").getLong("count"));
+
+              JsonObject failed = routes.getJsonObject("[AsyncRoutes.failed][HANDLER][GET] [/async/failed]");
+              ctx.assertEquals(1L, failed.getJsonObject("status").getLong("5xx"));
+
+              // Routes without requests are listed too
+              ctx.assertEquals(0L, routes.getJsonObject("[AsyncRoutes.empty][HANDLER][GET] [/async/empty]")
+                .getLong("requests"));
+              async.complete();
+            }))))))));
+    }));
+  }
+
+  private void assertNear(TestContext ctx, long expected, long actual) {
+
+    ctx.assertTrue(Math.abs(actual - expected) <= expected / 16, String.format("%d near %d", actual, expected));
+  }
+}
@@ -25,6 +25,10 @@ import java.lang.annotation.Target;
 /**
  * The Interface SharedWorkerExecutor.
  *
+ * <p>Names one pool of worker threads, see {@link org.jspare.vertx.concurrent.WorkerPools}. Fields of type
+ * {@link io.vertx.core.WorkerExecutor} or {@link org.jspare.vertx.concurrent.WorkerPool} are injected with it, the
+ * pools of the same name are shared on one vertx.</p>
+ *
  * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -32,14 +36,14 @@ import java.lang.annotation.Target;
 public @interface SharedWorkerExecutor {
 
   /**
-   * Max init time.
+   * Max execute time of one task in milliseconds, longer tasks are logged as blocking.
    *
    * @return the long
    */
   long maxExecuteTime() default 60000l;
 
   /**
-   * Name.
+   * Name, the name of field when empty.
    *
    * @return the string
    */
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.builder;
+
+import java.lang.reflect.Method;
+
+/**
+ * Registration of the {@link org.jspare.vertx.annotation.Consumer} methods of one class, generated at compile
+ * time. When present it is used by {@link EventBusCollector} instead of scanning the declared methods of the class.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+public interface ConsumerRegistration {
+
+  /**
+   * The Constant SUFFIX.
+   */
+  String SUFFIX = "_ConsumerRegistration";
+
+  /**
+   * Register all consumers.
+   *
+   * @param registrar the registrar
+   * @throws NoSuchMethodException if the class changed after the registration was generated
+   */
+  void register(Registrar registrar) throws NoSuchMethodException;
+
+  /**
+   * Receives each consumer.
+   */
+  @FunctionalInterface
+  interface Registrar {
+
+    /**
+     * Register one consumer.
+     *
+     * @param method  the method
+     * @param invoker the invoker, null if the method cannot be called directly
+     * @param address the address
+     */
+    void consumer(Method method, MethodInvoker invoker, String address);
+  }
+}
@@ -15,7 +15,6 @@
  */
 package org.jspare.vertx.builder;
 
-import io.github.lukehutch.fastclasspathscanner.matchprocessor.MethodAnnotationMatchProcessor;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
 import lombok.EqualsAndHashCode;
@@ -43,10 +42,6 @@ import java.util.List;
 @EqualsAndHashCode(callSuper = false)
 public class EventBusBuilder extends AbstractBuilder<Void> {
 
-  /**
-   * The Constant NUMBER_CLASSPATH_SCANNER_THREADS.
-   */
-  private static final int NUMBER_CLASSPATH_SCANNER_THREADS = 3;
   /**
    * Vertx.
    *
@@ -141,15 +136,9 @@ public class EventBusBuilder extends AbstractBuilder<Void> {
     }
 
     // Iterate eventBusPackages scannig and adding classes to
-    // eventBusClasses
-
-    MethodAnnotationMatchProcessor processor = (c, m) -> classes.add(c);
-    scanSpecs.forEach(scanSpec -> {
-
-      ClasspathScannerUtils.scanner(scanSpec)
-        .matchClassesWithMethodAnnotation(org.jspare.vertx.annotation.Consumer.class, processor)
-        .scan(NUMBER_CLASSPATH_SCANNER_THREADS);
-    });
+    // eventBusClasses, read from the shared scan result or the build time index
+    scanSpecs.forEach(scanSpec ->
+      classes.addAll(ClasspathScannerUtils.classesWithMethodAnnotation(scanSpec, org.jspare.vertx.annotation.Consumer.class)));
 
     List<EventBusData> consumers = new ArrayList<>();
 
@@ -41,6 +41,12 @@ public class EventBusCollector implements Collector<Collection<EventBusData>> {
   @Override
   public Collection<EventBusData> collect(Class<?> clazz, Object... args) {
 
+    ConsumerRegistration registration = Registrations.find(clazz, ConsumerRegistration.SUFFIX, ConsumerRegistration.class);
+    if (registration != null) {
+
+      return collectRegistered(clazz, registration);
+    }
+
     List<EventBusData> handlers = new ArrayList<>();
     List<Method> methodsCollected = new ArrayList<>();
 
@@ -64,6 +70,34 @@ public class EventBusCollector implements Collector<Collection<EventBusData>> {
     return handlers;
   }
 
+  /**
+   * Collect the consumers of one generated registration.
+   *
+   * @param clazz        the clazz
+   * @param registration the registration
+   * @return the collection
+   */
+  protected Collection<EventBusData> collectRegistered(Class<?> clazz, ConsumerRegistration registration) {
+
+    List<EventBusData> handlers = new ArrayList<>();
+    Object[] instance = new Object[1];
+    try {
+
+      registration.register((method, invoker, address) -> {
+
+        if (instance[0] == null) {
+
+          instance[0] = getInstance(clazz);
+        }
+        handlers.add(new EventBusData(instance[0], method, address, invoker));
+      });
+    } catch (NoSuchMethodException e) {
+
+      throw new IllegalStateException(String.format("Registration of [%s] is outdated, recompile it", clazz.getName()), e);
+    }
+    return handlers;
+  }
+
   /**
    * Gets the single instance of EventBusCollector.
    *
@@ -15,12 +15,16 @@
  */
 package org.jspare.vertx.builder;
 
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.Message;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.SneakyThrows;
 import lombok.experimental.Accessors;
+import org.jspare.vertx.concurrent.Deadline;
+import org.jspare.vertx.concurrent.VirtualThreads;
 
 import java.lang.reflect.Method;
 
@@ -39,6 +43,8 @@ import java.lang.reflect.Method;
  *          the method
  * @param name
  *          the name
+ * @param invoker
+ *          the invoker
  */
 @AllArgsConstructor
 public class EventBusData {
@@ -59,28 +65,98 @@ public class EventBusData {
   private String name;
 
   /**
-   * Wrap.
+   * The invoker.
+   */
+  private MethodInvoker invoker;
+
+  /**
+   * Instantiates a new event bus data linking its own invoker.
+   *
+   * @param controller the controller
+   * @param method     the method
+   * @param name       the name
+   */
+  public EventBusData(Object controller, Method method, String name) {
+    this(controller, method, name, null);
+  }
+
+  /**
+   * The invoker, linked on first access when not generated.
+   *
+   * @return the method invoker
+   */
+  public MethodInvoker invoker() {
+    if (invoker == null && method != null) {
+      invoker = MethodInvoker.of(method);
+    }
+    return invoker;
+  }
+
+  /**
+   * Wrap, the consumers annotated with {@link org.jspare.vertx.annotation.VirtualThread} are called on one virtual
+   * thread per message. The messages whose {@link Deadline} is over are failed with {@link Deadline#EXPIRED}
+   * without calling the consumer.
    *
    * @param <T> the generic type
    * @return the handler
    */
   public <T> Handler<Message<T>> wrap() {
 
+    MethodInvoker methodInvoker = invoker();
+    boolean withMessage = method.getParameterCount() == 1;
+    Object[] noArgs = new Object[0];
+    if (VirtualThreads.isAnnotated(method)) {
+
+      return event -> {
+
+        Context context = Vertx.currentContext();
+        VirtualThreads.<Void>execute(context, f -> {
+
+          invoke(methodInvoker, withMessage ? new Object[] { event } : noArgs, event);
+          f.complete();
+        }, ar -> {
+
+          // Handled back on the context, reported like the failures of consumers running on the event loop
+          if (ar.failed()) {
+
+            throw new IllegalStateException(String.format("Consumer [%s] failed", name), ar.cause());
+          }
+        });
+      };
+    }
     return new Handler<Message<T>>() {
 
       @Override
-      @SneakyThrows
       public void handle(Message<T> event) {
 
-        if (method.getParameterCount() == 1) {
-
-          method().invoke(controller, event);
-        } else {
-
-          method.invoke(controller);
-        }
+        invoke(methodInvoker, withMessage ? new Object[] { event } : noArgs, event);
       }
     };
   }
 
+  @SneakyThrows
+  private void invoke(MethodInvoker methodInvoker, Object[] args, Message<?> message) {
+
+    Long deadline = Deadline.of(message);
+    if (deadline == null) {
+
+      methodInvoker.invoke(controller, args);
+      return;
+    }
+    if (Deadline.isExpired(deadline)) {
+
+      // The caller has already timed out, nobody reads the result
+      message.fail(Deadline.EXPIRED, String.format("Deadline of consumer [%s] exceeded", name));
+      return;
+    }
+
+    Long previous = Deadline.enter(deadline);
+    try {
+
+      methodInvoker.invoke(controller, args);
+    } finally {
+
+      Deadline.restore(previous);
+    }
+  }
 }
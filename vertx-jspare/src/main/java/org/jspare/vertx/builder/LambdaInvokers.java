@@ -0,0 +1,274 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.builder;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Spins {@link MethodInvoker}s with {@link LambdaMetafactory}, so the handler method is called
+ * through a generated class instead of a method handle.
+ *
+ * <p>Only public instance methods of public classes visible from this class loader with up to
+ * {@link #MAX_ARITY} parameters can be linked this way.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+final class LambdaInvokers {
+
+  /**
+   * The Constant MAX_ARITY.
+   */
+  static final int MAX_ARITY = 6;
+
+  private LambdaInvokers() {
+  }
+
+  /**
+   * Checks if the method can be linked with {@link LambdaMetafactory}.
+   *
+   * @param method the method
+   * @return true, if is supported
+   */
+  static boolean isSupported(Method method) {
+
+    if (method.getParameterCount() > MAX_ARITY
+      || Modifier.isStatic(method.getModifiers())
+      || !Modifier.isPublic(method.getModifiers())) {
+      return false;
+    }
+    for (Class<?> c = method.getDeclaringClass(); c != null; c = c.getEnclosingClass()) {
+      if (!Modifier.isPublic(c.getModifiers())) {
+        return false;
+      }
+    }
+    return isVisible(method.getDeclaringClass());
+  }
+
+  /**
+   * Creates the invoker.
+   *
+   * @param method the method
+   * @return the method invoker
+   * @throws Throwable when the method cannot be linked
+   */
+  static MethodInvoker create(Method method) throws Throwable {
+
+    boolean isVoid = void.class.equals(method.getReturnType());
+    Class<?> samType = samType(method.getParameterCount(), isVoid);
+    Object target = spin(method, samType, isVoid);
+
+    switch (method.getParameterCount()) {
+      case 0:
+        return isVoid ? voidInvoker0((V0) target) : invoker0((F0) target);
+      case 1:
+        return isVoid ? voidInvoker1((V1) target) : invoker1((F1) target);
+      case 2:
+        return isVoid ? voidInvoker2((V2) target) : invoker2((F2) target);
+      case 3:
+        return isVoid ? voidInvoker3((V3) target) : invoker3((F3) target);
+      case 4:
+        return isVoid ? voidInvoker4((V4) target) : invoker4((F4) target);
+      case 5:
+        return isVoid ? voidInvoker5((V5) target) : invoker5((F5) target);
+      default:
+        return isVoid ? voidInvoker6((V6) target) : invoker6((F6) target);
+    }
+  }
+
+  private static Object spin(Method method, Class<?> samType, boolean isVoid) throws Throwable {
+
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodHandle implementation = lookup.unreflect(method);
+
+    int arity = method.getParameterCount();
+    MethodType erased = MethodType.genericMethodType(arity + 1);
+    MethodType instantiated = implementation.type().wrap();
+    if (isVoid) {
+      erased = erased.changeReturnType(void.class);
+      instantiated = instantiated.changeReturnType(void.class);
+    }
+
+    CallSite site = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(samType),
+      erased, implementation, instantiated);
+    return site.getTarget().invoke();
+  }
+
+  private static boolean isVisible(Class<?> clazz) {
+    try {
+      return Class.forName(clazz.getName(), false, LambdaInvokers.class.getClassLoader()) == clazz;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  private static Class<?> samType(int arity, boolean isVoid) {
+    switch (arity) {
+      case 0:
+        return isVoid ? V0.class : F0.class;
+      case 1:
+        return isVoid ? V1.class : F1.class;
+      case 2:
+        return isVoid ? V2.class : F2.class;
+      case 3:
+        return isVoid ? V3.class : F3.class;
+      case 4:
+        return isVoid ? V4.class : F4.class;
+      case 5:
+        return isVoid ? V5.class : F5.class;
+      default:
+        return isVoid ? V6.class : F6.class;
+    }
+  }
+
+  private static MethodInvoker invoker0(F0 f) {
+    return (i, a) -> f.invoke(i);
+  }
+
+  private static MethodInvoker invoker1(F1 f) {
+    return (i, a) -> f.invoke(i, a[0]);
+  }
+
+  private static MethodInvoker invoker2(F2 f) {
+    return (i, a) -> f.invoke(i, a[0], a[1]);
+  }
+
+  private static MethodInvoker invoker3(F3 f) {
+    return (i, a) -> f.invoke(i, a[0], a[1], a[2]);
+  }
+
+  private static MethodInvoker invoker4(F4 f) {
+    return (i, a) -> f.invoke(i, a[0], a[1], a[2], a[3]);
+  }
+
+  private static MethodInvoker invoker5(F5 f) {
+    return (i, a) -> f.invoke(i, a[0], a[1], a[2], a[3], a[4]);
+  }
+
+  private static MethodInvoker invoker6(F6 f) {
+    return (i, a) -> f.invoke(i, a[0], a[1], a[2], a[3], a[4], a[5]);
+  }
+
+  private static MethodInvoker voidInvoker0(V0 f) {
+    return (i, a) -> {
+      f.invoke(i);
+      return null;
+    };
+  }
+
+  private static MethodInvoker voidInvoker1(V1 f) {
+    return (i, a) -> {
+      f.invoke(i, a[0]);
+      return null;
+    };
+  }
+
+  private static MethodInvoker voidInvoker2(V2 f) {
+    return (i, a) -> {
+      f.invoke(i, a[0], a[1]);
+      return null;
+    };
+  }
+
+  private static MethodInvoker voidInvoker3(V3 f) {
+    return (i, a) -> {
+      f.invoke(i, a[0], a[1], a[2]);
+      return null;
+    };
+  }
+
+  private static MethodInvoker voidInvoker4(V4 f) {
+    return (i, a) -> {
+      f.invoke(i, a[0], a[1], a[2], a[3]);
+      return null;
+    };
+  }
+
+  private static MethodInvoker voidInvoker5(V5 f) {
+    return (i, a) -> {
+      f.invoke(i, a[0], a[1], a[2], a[3], a[4]);
+      return null;
+    };
+  }
+
+  private static MethodInvoker voidInvoker6(V6 f) {
+    return (i, a) -> {
+      f.invoke(i, a[0], a[1], a[2], a[3], a[4], a[5]);
+      return null;
+    };
+  }
+
+  public interface F0 {
+    Object invoke(Object i);
+  }
+
+  public interface F1 {
+    Object invoke(Object i, Object a0);
+  }
+
+  public interface F2 {
+    Object invoke(Object i, Object a0, Object a1);
+  }
+
+  public interface F3 {
+    Object invoke(Object i, Object a0, Object a1, Object a2);
+  }
+
+  public interface F4 {
+    Object invoke(Object i, Object a0, Object a1, Object a2, Object a3);
+  }
+
+  public interface F5 {
+    Object invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4);
+  }
+
+  public interface F6 {
+    Object invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5);
+  }
+
+  public interface V0 {
+    void invoke(Object i);
+  }
+
+  public interface V1 {
+    void invoke(Object i, Object a0);
+  }
+
+  public interface V2 {
+    void invoke(Object i, Object a0, Object a1);
+  }
+
+  public interface V3 {
+    void invoke(Object i, Object a0, Object a1, Object a2);
+  }
+
+  public interface V4 {
+    void invoke(Object i, Object a0, Object a1, Object a2, Object a3);
+  }
+
+  public interface V5 {
+    void invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4);
+  }
+
+  public interface V6 {
+    void invoke(Object i, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5);
+  }
+}
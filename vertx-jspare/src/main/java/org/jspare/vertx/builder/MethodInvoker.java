@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Pre-linked invocation of one handler method.
+ *
+ * <p>Instances are created once when the handlers are built and are called on every
+ * event, avoiding the access checks and {@link java.lang.reflect.InvocationTargetException}
+ * wrapping of {@link Method#invoke(Object, Object...)}. Exceptions thrown by the target method
+ * are propagated as is.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+  /**
+   * Invoke the method.
+   *
+   * @param instance the instance, ignored for static methods
+   * @param args     the arguments
+   * @return the returned value, null for void methods
+   * @throws Throwable any exception thrown by the method
+   */
+  Object invoke(Object instance, Object[] args) throws Throwable;
+
+  /**
+   * Creates the invoker of one method.
+   *
+   * <p>Public methods are linked to a class generated by {@link java.lang.invoke.LambdaMetafactory},
+   * any other method falls back to a {@link MethodHandle} spread over the arguments array.</p>
+   *
+   * @param method the method
+   * @return the method invoker
+   */
+  static MethodInvoker of(Method method) {
+
+    if (LambdaInvokers.isSupported(method)) {
+      try {
+
+        return LambdaInvokers.create(method);
+      } catch (Throwable t) {
+
+        // Linkage is a best effort, the method handle path below is always available
+      }
+    }
+
+    try {
+
+      method.setAccessible(true);
+      MethodHandle handle = MethodHandles.lookup().unreflect(method);
+      if (Modifier.isStatic(method.getModifiers())) {
+
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      }
+
+      int arity = method.getParameterCount();
+      MethodHandle spreader = handle
+        .asType(MethodType.genericMethodType(arity + 1))
+        .asSpreader(Object[].class, arity);
+
+      return (instance, args) -> spreader.invokeExact(instance, args);
+    } catch (IllegalAccessException e) {
+
+      throw new IllegalStateException(String.format("Cannot link method [%s]", method), e);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.builder;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Lookup of registration classes generated at compile time by the jspare annotation processor.
+ *
+ * <p>One registration is named after the class it registers plus one suffix, like
+ * <code>MyRoutes_RouteRegistration</code>, and is loaded from the class loader of that class.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@UtilityClass
+public class Registrations {
+
+  /**
+   * Find the generated registration of one class.
+   *
+   * @param <T>    the generic type
+   * @param clazz  the registered class
+   * @param suffix the suffix of registration
+   * @param type   the type of registration
+   * @return the registration, null if not generated
+   */
+  public <T> T find(Class<?> clazz, String suffix, Class<T> type) {
+
+    String name = clazz.getName() + suffix;
+    try {
+
+      Class<?> registration = Class.forName(name, true, clazz.getClassLoader());
+      return type.cast(registration.newInstance());
+    } catch (ClassNotFoundException e) {
+
+      return null;
+    } catch (ReflectiveOperationException e) {
+
+      throw new IllegalStateException(String.format("Cannot create registration [%s]", name), e);
+    }
+  }
+}
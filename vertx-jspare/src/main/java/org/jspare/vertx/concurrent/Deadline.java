@@ -0,0 +1,193 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.concurrent;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryContext;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import lombok.experimental.UtilityClass;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline of one call carried over the event bus.
+ *
+ * <p>The deadline is the instant, on {@link System#nanoTime()}, after which the caller no longer waits for the result,
+ * see {@link #after(long)}. It is sent on the {@link #HEADER} header of messages as the millis remaining when sent,
+ * rebased on the clock of receiver when read, so the clocks of hosts are never compared, and the consumers skip the
+ * messages whose caller has already timed out. While one route with timeout or one consumer of a message with deadline
+ * is invoked, the deadline is current on the thread and the messages sent by it, as the calls of
+ * {@link org.jspare.vertx.annotation.VertxProxyInject} proxies, carry the same deadline. Messages sent later by asynchronous callbacks carry it when sent with {@link #options(long)}.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@UtilityClass
+public class Deadline {
+
+  /**
+   * The Constant HEADER, the millis remaining until the deadline of messages when sent.
+   */
+  public final String HEADER = "x-jspare-deadline";
+
+  /**
+   * The Constant EXPIRED, failure code of the messages skipped once their deadline is over.
+   */
+  public final int EXPIRED = 504;
+
+  /**
+   * The deadline of the call invoked on the thread.
+   */
+  private final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+  /**
+   * The event buses propagating the current deadline.
+   */
+  private final Set<EventBus> PROPAGATING = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+  /**
+   * The deadline current on the thread.
+   *
+   * @return the deadline, null when none
+   */
+  public Long current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * The deadline some millis from now.
+   *
+   * @param millis the millis
+   * @return the deadline
+   */
+  public long after(long millis) {
+    return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  /**
+   * Make one deadline current on the thread.
+   *
+   * @param deadline the deadline, null for none
+   * @return the previous deadline, to {@link #restore(Long)} once the call ends
+   */
+  public Long enter(Long deadline) {
+
+    Long previous = CURRENT.get();
+    CURRENT.set(deadline);
+    return previous;
+  }
+
+  /**
+   * Restore the deadline current on the thread before {@link #enter(Long)}.
+   *
+   * @param previous the previous deadline
+   */
+  public void restore(Long previous) {
+
+    if (previous == null) {
+
+      CURRENT.remove();
+    } else {
+
+      CURRENT.set(previous);
+    }
+  }
+
+  /**
+   * The deadline of one message, its remaining millis rebased on the clock of receiver.
+   *
+   * @param message the message
+   * @return the deadline, null when the message has none
+   */
+  public Long of(Message<?> message) {
+
+    String value = message.headers().get(HEADER);
+    if (value == null) {
+
+      return null;
+    }
+    try {
+
+      return after(Long.parseLong(value));
+    } catch (NumberFormatException e) {
+
+      return null;
+    }
+  }
+
+  /**
+   * Millis remaining until one deadline, negative once it is over.
+   *
+   * @param deadline the deadline
+   * @return the remaining millis
+   */
+  public long remaining(long deadline) {
+    return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+  }
+
+  /**
+   * Checks if one deadline is over.
+   *
+   * @param deadline the deadline
+   * @return true, if expired
+   */
+  public boolean isExpired(long deadline) {
+    return deadline - System.nanoTime() <= 0;
+  }
+
+  /**
+   * Delivery options of one message sent with a deadline, its reply times out once the deadline is over.
+   *
+   * @param deadline the deadline
+   * @return the delivery options
+   */
+  public DeliveryOptions options(long deadline) {
+
+    long remaining = remaining(deadline);
+    return new DeliveryOptions()
+      .addHeader(HEADER, String.valueOf(remaining))
+      .setSendTimeout(Math.max(1L, remaining));
+  }
+
+  /**
+   * Propagate the current deadline on the messages sent over the event bus of one vertx, the messages sent with a
+   * deadline keep their own. Registered once per event bus.
+   *
+   * @param vertx the vertx
+   */
+  public void propagate(Vertx vertx) {
+
+    EventBus eventBus = vertx.eventBus();
+    if (PROPAGATING.add(eventBus)) {
+
+      eventBus.addOutboundInterceptor(Deadline::intercept);
+    }
+  }
+
+  private void intercept(DeliveryContext<Object> context) {
+
+    Long deadline = CURRENT.get();
+    if (deadline != null && !context.message().headers().contains(HEADER)) {
+
+      context.message().headers().set(HEADER, String.valueOf(remaining(deadline)));
+    }
+    context.next();
+  }
+}
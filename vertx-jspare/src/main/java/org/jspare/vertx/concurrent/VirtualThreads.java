@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.concurrent;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import lombok.experimental.UtilityClass;
+import org.jspare.vertx.annotation.VirtualThread;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Execution of blocking code on virtual threads, see {@link VirtualThread}.
+ *
+ * <p>The executor of virtual threads is looked up by reflection, so this module keeps running on older JDKs: when it
+ * is not available the code runs on the worker pool of the context instead.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@UtilityClass
+public class VirtualThreads {
+
+  /**
+   * The executor, one virtual thread per task, null on runtimes without virtual threads.
+   */
+  private final Executor EXECUTOR = createExecutor();
+
+  /**
+   * Checks if virtual threads are supported by the runtime.
+   *
+   * @return true, if supported
+   */
+  public boolean isSupported() {
+    return EXECUTOR != null;
+  }
+
+  /**
+   * Checks if one method runs on virtual threads, annotated with {@link VirtualThread} on itself or its class.
+   *
+   * @param method the method
+   * @return true, if annotated
+   */
+  public boolean isAnnotated(Method method) {
+    return anyAnnotated(method, method.getDeclaringClass());
+  }
+
+  /**
+   * Execute blocking code on one virtual thread, the result is handled on the context.
+   *
+   * @param <T>           the generic type
+   * @param context       the context
+   * @param code          the blocking code
+   * @param resultHandler the result handler, may be null
+   */
+  public <T> void execute(Context context, Handler<Future<T>> code, Handler<AsyncResult<T>> resultHandler) {
+
+    if (EXECUTOR == null) {
+
+      context.executeBlocking(code, false, resultHandler);
+      return;
+    }
+
+    EXECUTOR.execute(() -> {
+
+      Future<T> future = Future.future();
+      try {
+
+        code.handle(future);
+      } catch (Throwable t) {
+
+        future.tryFail(t);
+      }
+      if (resultHandler != null) {
+
+        future.setHandler(ar -> context.runOnContext(v -> resultHandler.handle(ar)));
+      }
+    });
+  }
+
+  private boolean anyAnnotated(AnnotatedElement... elements) {
+
+    for (AnnotatedElement element : elements) {
+
+      if (element.isAnnotationPresent(VirtualThread.class)) {
+
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Executor createExecutor() {
+
+    try {
+
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+
+      // Runtime before JDK 21
+      return null;
+    }
+  }
+}
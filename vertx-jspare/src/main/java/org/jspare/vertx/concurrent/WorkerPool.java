@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.concurrent;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One named {@link WorkerExecutor} measured by its tasks: queued, active, completed, time waited for a thread and
+ * time executed.
+ *
+ * <p>The pool is shared by every {@link WorkerPools#pool(io.vertx.core.Vertx, String, int, long)} of the same vertx
+ * and name, so one slow kind of blocking task is isolated on its own threads instead of starving the global worker
+ * pool.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Accessors(fluent = true)
+public class WorkerPool {
+
+  /**
+   * The name.
+   */
+  @Getter
+  private final String name;
+
+  /**
+   * The pool size.
+   */
+  @Getter
+  private final int poolSize;
+
+  /**
+   * The executor.
+   */
+  @Getter
+  private final WorkerExecutor executor;
+
+  private final LongAdder queued = new LongAdder();
+  private final LongAdder active = new LongAdder();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final LongAdder executeNanos = new LongAdder();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+
+  /**
+   * Instantiates a new worker pool.
+   *
+   * @param name     the name
+   * @param poolSize the pool size
+   * @param executor the executor
+   */
+  public WorkerPool(String name, int poolSize, WorkerExecutor executor) {
+    this.name = name;
+    this.poolSize = poolSize;
+    this.executor = executor;
+  }
+
+  /**
+   * Execute blocking code on the pool, see {@link WorkerExecutor#executeBlocking(Handler, boolean, Handler)}.
+   *
+   * @param <T>          the generic type
+   * @param code         the blocking code
+   * @param ordered      true to execute the tasks of the same context in order
+   * @param resultHandler the result handler
+   */
+  public <T> void executeBlocking(Handler<Future<T>> code, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+
+    long submitted = System.nanoTime();
+    queued.increment();
+    executor.executeBlocking(future -> {
+
+      long started = System.nanoTime();
+      queued.decrement();
+      active.increment();
+      waited(started - submitted);
+      try {
+
+        code.handle(future);
+      } finally {
+
+        active.decrement();
+        completed.increment();
+        executeNanos.add(System.nanoTime() - started);
+      }
+    }, ordered, resultHandler);
+  }
+
+  /**
+   * The tasks waiting for a thread.
+   *
+   * @return the queued
+   */
+  public long queued() {
+    return queued.sum();
+  }
+
+  /**
+   * The tasks executing.
+   *
+   * @return the active
+   */
+  public long active() {
+    return active.sum();
+  }
+
+  /**
+   * The tasks completed.
+   *
+   * @return the completed
+   */
+  public long completed() {
+    return completed.sum();
+  }
+
+  /**
+   * The longest time one task waited for a thread.
+   *
+   * @return the nanos
+   */
+  public long maxWaitNanos() {
+    return maxWaitNanos.get();
+  }
+
+  /**
+   * To json, times in microseconds.
+   *
+   * @return the json object
+   */
+  public JsonObject toJson() {
+
+    long count = completed();
+    return new JsonObject()
+      .put("poolSize", poolSize)
+      .put("queued", queued())
+      .put("active", active())
+      .put("completed", count)
+      .put("meanWait", count == 0 ? 0L : TimeUnit.NANOSECONDS.toMicros(waitNanos.sum() / count))
+      .put("maxWait", TimeUnit.NANOSECONDS.toMicros(maxWaitNanos()))
+      .put("meanExecute", count == 0 ? 0L : TimeUnit.NANOSECONDS.toMicros(executeNanos.sum() / count));
+  }
+
+  private void waited(long nanos) {
+
+    waitNanos.add(nanos);
+    long max = maxWaitNanos.get();
+    while (nanos > max && !maxWaitNanos.compareAndSet(max, nanos)) {
+
+      max = maxWaitNanos.get();
+    }
+  }
+}
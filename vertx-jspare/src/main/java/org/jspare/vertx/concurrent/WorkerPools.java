@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonObject;
+import org.jspare.vertx.annotation.SharedWorkerExecutor;
+
+import javax.inject.Singleton;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of the named {@link WorkerPool} of each vertx, created by the first request of each name.
+ *
+ * <p>The pools of one vertx are closed and forgotten when the vertx is closed.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Singleton
+public class WorkerPools {
+
+  /**
+   * The pools by vertx and name.
+   */
+  private final Map<Vertx, Map<String, WorkerPool>> pools = new ConcurrentHashMap<>();
+
+  /**
+   * The pool of one {@link SharedWorkerExecutor}.
+   *
+   * @param vertx    the vertx
+   * @param executor the shared worker executor
+   * @return the worker pool
+   */
+  public WorkerPool pool(Vertx vertx, SharedWorkerExecutor executor) {
+    return pool(vertx, executor.name(), executor.poolSize(), executor.maxExecuteTime());
+  }
+
+  /**
+   * The pool of one name on one vertx, the size and max execute time of the first request are kept.
+   *
+   * @param vertx          the vertx
+   * @param name           the name
+   * @param poolSize       the pool size
+   * @param maxExecuteTime the max execute time, in milliseconds
+   * @return the worker pool
+   */
+  public WorkerPool pool(Vertx vertx, String name, int poolSize, long maxExecuteTime) {
+
+    if (name == null || name.isEmpty()) {
+
+      throw new IllegalArgumentException("Worker pool requires a name");
+    }
+    return pools.computeIfAbsent(vertx, this::register).computeIfAbsent(name, n -> new WorkerPool(n, poolSize,
+      vertx.createSharedWorkerExecutor(n, poolSize, maxExecuteTime, TimeUnit.MILLISECONDS)));
+  }
+
+  /**
+   * To json, the metrics of every pool of one vertx by name.
+   *
+   * @param vertx the vertx
+   * @return the json object
+   */
+  public JsonObject toJson(Vertx vertx) {
+
+    JsonObject json = new JsonObject();
+    pools.getOrDefault(vertx, Collections.emptyMap()).forEach((name, pool) -> json.put(name, pool.toJson()));
+    return json;
+  }
+
+  /**
+   * Register the pools of one vertx, closed with it.
+   *
+   * @param vertx the vertx
+   * @return the pools by name
+   */
+  private Map<String, WorkerPool> register(Vertx vertx) {
+
+    if (vertx instanceof VertxInternal) {
+
+      ((VertxInternal) vertx).addCloseHook(completion -> {
+
+        close(vertx);
+        completion.handle(Future.succeededFuture());
+      });
+    }
+    return new ConcurrentHashMap<>();
+  }
+
+  private void close(Vertx vertx) {
+
+    Map<String, WorkerPool> closed = pools.remove(vertx);
+    if (closed != null) {
+
+      closed.values().forEach(pool -> pool.executor().close());
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.injector;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.StringUtils;
+import org.jspare.core.Environment;
+import org.jspare.core.InjectorAdapter;
+import org.jspare.core.MySupport;
+import org.jspare.vertx.annotation.SharedWorkerExecutor;
+import org.jspare.vertx.concurrent.WorkerPool;
+import org.jspare.vertx.concurrent.WorkerPools;
+
+import java.lang.reflect.Field;
+
+/**
+ * The Class SharedWorkerExecutorInjectStrategy.
+ *
+ * <p>Injects the named pool of {@link SharedWorkerExecutor} on fields of type {@link WorkerExecutor} or
+ * {@link WorkerPool}, the field name is used when the annotation has no name.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Slf4j
+public class SharedWorkerExecutorInjectStrategy extends MySupport implements InjectorAdapter {
+
+  @Override
+  public boolean isInjectable(Field field) {
+    return field.isAnnotationPresent(SharedWorkerExecutor.class);
+  }
+
+  @Override
+  public void inject(Object instance, Field field) {
+
+    try {
+      SharedWorkerExecutor executor = field.getAnnotation(SharedWorkerExecutor.class);
+      String name = StringUtils.isNotEmpty(executor.name()) ? executor.name() : field.getName();
+      WorkerPool pool = Environment.my(WorkerPools.class)
+        .pool(Environment.my(Vertx.class), name, executor.poolSize(), executor.maxExecuteTime());
+      field.setAccessible(true);
+      field.set(instance, WorkerPool.class.equals(field.getType()) ? pool : pool.executor());
+    } catch (IllegalAccessException e) {
+
+      log.error("Failed to inject shared worker executor on {}.{}", field.getDeclaringClass().getName(), field.getName(), e);
+    }
+  }
+}
@@ -21,12 +21,15 @@ import org.jspare.core.Environment;
 import org.jspare.core.InjectorAdapter;
 import org.jspare.core.MySupport;
 import org.jspare.vertx.annotation.VertxProxyInject;
+import org.jspare.vertx.concurrent.Deadline;
 
 import java.lang.reflect.Field;
 
 /**
  * The Class VertxProxyInjectStrategy.
  *
+ * <p>The calls of injected proxies carry the {@link Deadline} current on the calling thread.</p>
+ *
  * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
  */
 public class VertxProxyInjectStrategy extends MySupport implements InjectorAdapter {
@@ -42,7 +45,9 @@ public class VertxProxyInjectStrategy extends MySupport implements InjectorAdapt
     try {
       VertxProxyInject proxyHandler = field.getAnnotation(VertxProxyInject.class);
       String address = proxyHandler.value();
-      Object value = ProxyHelper.createProxy(field.getType(), Environment.my(Vertx.class), address);
+      Vertx vertx = Environment.my(Vertx.class);
+      Deadline.propagate(vertx);
+      Object value = ProxyHelper.createProxy(field.getType(), vertx, address);
       field.setAccessible(true);
       field.set(instance, value);
     } catch (IllegalAccessException e) {
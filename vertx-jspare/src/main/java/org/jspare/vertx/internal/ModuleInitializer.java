@@ -15,7 +15,6 @@
  */
 package org.jspare.vertx.internal;
 
-import io.github.lukehutch.fastclasspathscanner.matchprocessor.ClassAnnotationMatchProcessor;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
@@ -39,6 +38,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.jspare.core.Environment.inject;
@@ -51,7 +53,15 @@ import static org.jspare.core.Environment.inject;
 @Slf4j
 public class ModuleInitializer extends MySupport {
 
-  private List<Class<? extends Module>> loadedModules;
+  /**
+   * The persistent modules already loaded, modularized instances may be initialized concurrently.
+   */
+  private final Set<Class<? extends Module>> loadedModules;
+
+  /**
+   * The initializations in progress, the shared scan results are released once none is left.
+   */
+  private final AtomicInteger initializing = new AtomicInteger();
 
   /**
    * The vertx.
@@ -60,7 +70,7 @@ public class ModuleInitializer extends MySupport {
   private Vertx vertx;
 
   public ModuleInitializer() {
-    loadedModules = new ArrayList<>();
+    loadedModules = ConcurrentHashMap.newKeySet();
 
   }
 
@@ -93,16 +103,19 @@ public class ModuleInitializer extends MySupport {
       lookupToClasspathScanner(modularized);
     }
 
+    initializing.incrementAndGet();
     final List<Supplier<Future>> futures = new ArrayList<>();
     try {
       lookupModules(futures, modularized);
 
     } catch (Throwable e) {
 
+      initialized();
       return Future.failedFuture(e);
     }
 
     ReduceFuture.create(futures).reduce().setHandler(ar -> {
+      initialized();
       if (ar.succeeded()) {
 
         initFuture.complete();
@@ -114,6 +127,18 @@ public class ModuleInitializer extends MySupport {
     return initFuture;
   }
 
+  /**
+   * Release the shared scan results once the last initialization in progress completed, the startup is over and the
+   * classes are scanned again only by a later initialization.
+   */
+  private void initialized() {
+
+    if (initializing.decrementAndGet() == 0) {
+
+      ClasspathScannerUtils.reset();
+    }
+  }
+
   private void lookupToClasspathScanner(Modularized modularized) {
     ClasspathScan classpathScan = modularized.getClass().getAnnotation(ClasspathScan.class);
     Arrays.asList(classpathScan.value())
@@ -123,8 +148,7 @@ public class ModuleInitializer extends MySupport {
 
   private void scanClasspath(String pckg2scan) {
 
-    ClasspathScannerUtils.scanner(pckg2scan)
-                         .matchClassesWithAnnotation(Resource.class, BindUtils::bindFromResource);
+    ClasspathScannerUtils.classesWithAnnotation(pckg2scan, Resource.class).forEach(BindUtils::bindFromResource);
   }
 
   private void lookupModules(List<Supplier<Future>> futures, Modularized modularized) throws InitilizationException {
@@ -141,16 +165,13 @@ public class ModuleInitializer extends MySupport {
       Class<? extends Module> mClazz = m.value();
       try {
 
-        if (hasLoaded(mClazz) && m.persistent()) {
+        // Checked and marked at once, so concurrent initializations load one persistent module only once
+        if (m.persistent() && !loadedModules.add(mClazz)) {
 
           futures.add(() -> Future.succeededFuture());
           return;
         }
 
-        if (m.persistent()) {
-          loadedModules.add(mClazz);
-        }
-
         Module mi = Environment.provide(mClazz);
         mi.setConfig(config);
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.utils;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of annotated classes written at build time, read instead of scanning the classpath.
+ *
+ * <p>The index is written on {@link #LOCATION} by <code>vertx-jspare-processor</code>, one
+ * <code>annotation=class</code> entry per line for the classes declaring <code>@Handler</code> like methods,
+ * <code>@Consumer</code> methods or annotated with <code>@Resource</code>. The indexes of every jar of classpath are
+ * merged. As the index only lists the classes compiled with the processor, it is used when the system property
+ * {@link #ENABLED_PROPERTY} is <code>true</code>, otherwise the classpath is scanned.</p>
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@Slf4j
+@UtilityClass
+public class ClasspathIndex {
+
+  /**
+   * The Constant LOCATION.
+   */
+  public static final String LOCATION = "META-INF/jspare/index";
+
+  /**
+   * The Constant ENABLED_PROPERTY.
+   */
+  public static final String ENABLED_PROPERTY = "jspare.classpath.index";
+
+  /**
+   * The entries by annotation, loaded on first access.
+   */
+  private volatile Map<String, List<String>> entries;
+
+  /**
+   * Check if the index replaces the classpath scanning.
+   *
+   * @return true, if enabled
+   */
+  public boolean isEnabled() {
+    return Boolean.getBoolean(ENABLED_PROPERTY);
+  }
+
+  /**
+   * Names of the indexed classes for one annotation.
+   *
+   * @param annotation the qualified name of annotation
+   * @return the class names
+   */
+  public List<String> classesWith(String annotation) {
+    return entries().getOrDefault(annotation, Collections.emptyList());
+  }
+
+  /**
+   * Forget the loaded entries, the index is read again on next access.
+   */
+  public void reset() {
+    entries = null;
+  }
+
+  private Map<String, List<String>> entries() {
+
+    Map<String, List<String>> loaded = entries;
+    if (loaded == null) {
+
+      loaded = load();
+      entries = loaded;
+    }
+    return loaded;
+  }
+
+  private Map<String, List<String>> load() {
+
+    Map<String, Set<String>> index = new LinkedHashMap<>();
+    try {
+
+      Enumeration<URL> resources = classLoader().getResources(LOCATION);
+      while (resources.hasMoreElements()) {
+
+        URL resource = resources.nextElement();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+
+          String line;
+          while ((line = reader.readLine()) != null) {
+
+            line = line.trim();
+            int separator = line.indexOf('=');
+            if (line.isEmpty() || line.startsWith("#") || separator == -1) {
+
+              continue;
+            }
+            index.computeIfAbsent(line.substring(0, separator).trim(), k -> new LinkedHashSet<>())
+              .add(line.substring(separator + 1).trim());
+          }
+        }
+      }
+    } catch (IOException e) {
+
+      log.warn("Failed to read {}", LOCATION, e);
+    }
+
+    Map<String, List<String>> result = new LinkedHashMap<>();
+    index.forEach((annotation, classes) -> result.put(annotation, Collections.unmodifiableList(new ArrayList<>(classes))));
+    return result;
+  }
+
+  /**
+   * The class loader of indexes and indexed classes.
+   *
+   * @return the class loader
+   */
+  ClassLoader classLoader() {
+
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    return classLoader != null ? classLoader : ClasspathIndex.class.getClassLoader();
+  }
+}
@@ -16,13 +16,28 @@
 package org.jspare.vertx.utils;
 
 import io.github.lukehutch.fastclasspathscanner.FastClasspathScanner;
+import io.github.lukehutch.fastclasspathscanner.scanner.ScanResult;
 import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Instantiates a new classpath scanner utils.
  *
+ * <p>The result of scanning one package is shared by every builder of the JVM: the first query scans it, the next
+ * ones read the kept result, and once the whole classpath is scanned every package is read from that result. When
+ * the {@link ClasspathIndex} is enabled the classes are read from the index and the classpath is never scanned. The
+ * results are released by {@link org.jspare.vertx.internal.ModuleInitializer} once the initializations in progress
+ * completed.</p>
+ *
  * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
  */
+@Slf4j
 @UtilityClass
 public class ClasspathScannerUtils {
 
@@ -31,6 +46,16 @@ public class ClasspathScannerUtils {
    */
   public static final String ALL_SCAN_QUOTE = ".*";
 
+  /**
+   * The Constant NUMBER_CLASSPATH_SCANNER_THREADS.
+   */
+  private static final int NUMBER_CLASSPATH_SCANNER_THREADS = 3;
+
+  /**
+   * The scan results by package, the whole classpath kept with an empty package.
+   */
+  private final Map<String, ScanResult> scanResults = new ConcurrentHashMap<>();
+
   /**
    * Resolve package name.
    *
@@ -52,4 +77,83 @@ public class ClasspathScannerUtils {
 
     return new FastClasspathScanner(ClasspathScannerUtils.resolvePackageName(scanSpec));
   }
+
+  /**
+   * The shared scan result covering one scan spec, scanned on first query.
+   *
+   * @param scanSpec the scan spec
+   * @return the scan result
+   */
+  public ScanResult scan(String scanSpec) {
+
+    ScanResult classpath = scanResults.get("");
+    if (classpath != null) {
+
+      return classpath;
+    }
+    return scanResults.computeIfAbsent(resolvePackageName(scanSpec), p -> {
+
+      if (log.isDebugEnabled()) {
+        log.debug("Scanning classpath [{}]", p.isEmpty() ? ALL_SCAN_QUOTE : p);
+      }
+      return scanner(p).enableMethodAnnotationIndexing().scan(NUMBER_CLASSPATH_SCANNER_THREADS);
+    });
+  }
+
+  /**
+   * Classes of one scan spec annotated with one annotation.
+   *
+   * @param scanSpec   the scan spec
+   * @param annotation the annotation
+   * @return the classes
+   */
+  public List<Class<?>> classesWithAnnotation(String scanSpec, Class<? extends Annotation> annotation) {
+
+    List<String> names = ClasspathIndex.isEnabled() ? ClasspathIndex.classesWith(annotation.getName())
+      : scan(scanSpec).getNamesOfClassesWithAnnotation(annotation);
+    return load(scanSpec, names);
+  }
+
+  /**
+   * Classes of one scan spec declaring methods annotated with one annotation.
+   *
+   * @param scanSpec   the scan spec
+   * @param annotation the annotation
+   * @return the classes
+   */
+  public List<Class<?>> classesWithMethodAnnotation(String scanSpec, Class<? extends Annotation> annotation) {
+
+    List<String> names = ClasspathIndex.isEnabled() ? ClasspathIndex.classesWith(annotation.getName())
+      : scan(scanSpec).getNamesOfClassesWithMethodAnnotation(annotation);
+    return load(scanSpec, names);
+  }
+
+  /**
+   * Release the shared scan results.
+   */
+  public void reset() {
+    scanResults.clear();
+  }
+
+  private List<Class<?>> load(String scanSpec, List<String> names) {
+
+    String packageName = resolvePackageName(scanSpec);
+    String prefix = packageName.isEmpty() ? "" : packageName + ".";
+    List<Class<?>> classes = new ArrayList<>();
+    for (String name : names) {
+
+      if (!name.startsWith(prefix)) {
+
+        continue;
+      }
+      try {
+
+        classes.add(Class.forName(name, false, ClasspathIndex.classLoader()));
+      } catch (ClassNotFoundException | LinkageError e) {
+
+        log.warn("Failed to load class {}", name, e);
+      }
+    }
+    return classes;
+  }
 }
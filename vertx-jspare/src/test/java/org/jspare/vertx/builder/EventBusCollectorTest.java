@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.builder;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.jspare.core.Environment;
+import org.jspare.vertx.annotation.Consumer;
+import org.jspare.vertx.annotation.VirtualThread;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Collection;
+
+/**
+ * The Class EventBusCollectorTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class EventBusCollectorTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Registered consumers test.
+   */
+  @Test
+  public void registeredConsumersTest(TestContext ctx) {
+
+    ctx.assertNotNull(Registrations.find(Consumers.class, ConsumerRegistration.SUFFIX, ConsumerRegistration.class));
+
+    Collection<EventBusData> consumers = Environment.my(EventBusCollector.class).collect(Consumers.class);
+    ctx.assertEquals(1, consumers.size());
+
+    EventBusData data = consumers.iterator().next();
+    ctx.assertEquals("collector.echo", data.name());
+    vertx.eventBus().consumer(data.name(), data.wrap());
+
+    Async async = ctx.async();
+    vertx.eventBus().send(data.name(), "jspare", ctx.asyncAssertSuccess(reply -> {
+
+      ctx.assertEquals("jspare", reply.body());
+      async.complete();
+    }));
+  }
+
+  /**
+   * Virtual thread consumers test, the consumer runs out of the event loop.
+   */
+  @Test
+  public void virtualThreadConsumersTest(TestContext ctx) {
+
+    Collection<EventBusData> consumers = Environment.my(EventBusCollector.class).collect(VirtualConsumers.class);
+    EventBusData data = consumers.iterator().next();
+    vertx.eventBus().consumer(data.name(), data.wrap());
+
+    Async async = ctx.async();
+    vertx.eventBus().send(data.name(), "jspare", ctx.asyncAssertSuccess(reply -> {
+
+      ctx.assertEquals(false, reply.body());
+      async.complete();
+    }));
+  }
+
+  /**
+   * The Class Consumers.
+   */
+  public static class Consumers {
+
+    /**
+     * Echo.
+     *
+     * @param message the message
+     */
+    @Consumer("collector.echo")
+    public void echo(Message<String> message) {
+
+      message.reply(message.body());
+    }
+  }
+
+  /**
+   * The Class VirtualConsumers.
+   */
+  @VirtualThread
+  public static class VirtualConsumers {
+
+    /**
+     * Reply whether the consumer runs on one event loop.
+     *
+     * @param message the message
+     */
+    @Consumer("collector.virtual")
+    public void onEventLoop(Message<String> message) {
+
+      message.reply(Context.isOnEventLoopThread());
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.builder;
+
+import io.vertx.ext.unit.TestContext;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * The Class MethodInvokerTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class MethodInvokerTest {
+
+  @Test
+  public void publicMethodTest(TestContext ctx) throws Throwable {
+
+    MethodInvoker invoker = MethodInvoker.of(Target.class.getMethod("sum", int.class, Long.class));
+    ctx.assertEquals(3L, invoker.invoke(new Target(), new Object[]{1, 2L}));
+  }
+
+  @Test
+  public void privateMethodTest(TestContext ctx) throws Throwable {
+
+    MethodInvoker invoker = MethodInvoker.of(Target.class.getDeclaredMethod("concat", String.class, String.class));
+    ctx.assertEquals("ab", invoker.invoke(new Target(), new Object[]{"a", "b"}));
+  }
+
+  @Test
+  public void voidMethodTest(TestContext ctx) throws Throwable {
+
+    Target target = new Target();
+    MethodInvoker invoker = MethodInvoker.of(Target.class.getMethod("touch"));
+    ctx.assertNull(invoker.invoke(target, new Object[0]));
+    ctx.assertTrue(target.touched);
+  }
+
+  @Test
+  public void exceptionTest(TestContext ctx) throws Throwable {
+
+    MethodInvoker invoker = MethodInvoker.of(Target.class.getMethod("fail"));
+    try {
+      invoker.invoke(new Target(), new Object[0]);
+      ctx.fail();
+    } catch (IllegalStateException e) {
+      ctx.assertEquals("fail", e.getMessage());
+    }
+  }
+
+  public static class Target {
+
+    private boolean touched;
+
+    public long sum(int a, Long b) {
+      return a + b;
+    }
+
+    public void touch() {
+      touched = true;
+    }
+
+    public void fail() {
+      throw new IllegalStateException("fail");
+    }
+
+    private String concat(String a, String b) {
+      return a + b;
+    }
+  }
+}
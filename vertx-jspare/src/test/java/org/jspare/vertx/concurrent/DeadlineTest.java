@@ -0,0 +1,129 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.concurrent;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.jspare.vertx.annotation.Consumer;
+import org.jspare.vertx.builder.EventBusData;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Class DeadlineTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class DeadlineTest {
+
+  /**
+   * The vertx.
+   */
+  @Inject
+  private Vertx vertx;
+
+  /**
+   * Expired test, messages whose deadline is over are failed without calling the consumer.
+   */
+  @Test
+  public void expiredTest(TestContext ctx) throws Exception {
+
+    Consumers consumers = new Consumers();
+    register(consumers, "onEcho");
+
+    Async async = ctx.async();
+    DeliveryOptions options = new DeliveryOptions().addHeader(Deadline.HEADER, "-1");
+    vertx.eventBus().send("deadline.echo", "jspare", options, ctx.asyncAssertFailure(t -> {
+
+      ctx.assertEquals(Deadline.EXPIRED, ((ReplyException) t).failureCode());
+      ctx.assertEquals(0, consumers.calls.get());
+      async.complete();
+    }));
+  }
+
+  /**
+   * Propagate test, the messages sent by one consumer carry the deadline of the message it handles, as the millis
+   * remaining when forwarded.
+   */
+  @Test
+  public void propagateTest(TestContext ctx) throws Exception {
+
+    Deadline.propagate(vertx);
+    Consumers consumers = new Consumers();
+    register(consumers, "onEcho");
+    register(consumers, "onForward");
+
+    Async async = ctx.async();
+    long deadline = Deadline.after(10000);
+    vertx.eventBus().<String>send("deadline.forward", "jspare", Deadline.options(deadline), ctx.asyncAssertSuccess(reply -> {
+
+      long remaining = Long.parseLong(reply.body());
+      ctx.assertTrue(remaining > 5000 && remaining < 10000);
+      ctx.assertNull(Deadline.current());
+      async.complete();
+    }));
+  }
+
+  private void register(Object consumers, String method) throws NoSuchMethodException {
+
+    EventBusData data = new EventBusData(consumers, consumers.getClass().getMethod(method, Message.class),
+      consumers.getClass().getMethod(method, Message.class).getAnnotation(Consumer.class).value());
+    vertx.eventBus().consumer(data.name(), data.wrap());
+  }
+
+  /**
+   * The Class Consumers.
+   */
+  public static class Consumers {
+
+    /**
+     * The calls of echo consumer.
+     */
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /**
+     * Reply the deadline of the message.
+     *
+     * @param message the message
+     */
+    @Consumer("deadline.echo")
+    public void onEcho(Message<String> message) {
+
+      calls.incrementAndGet();
+      message.reply(message.headers().get(Deadline.HEADER));
+    }
+
+    /**
+     * Forward the message, without delivery options, to the echo consumer.
+     *
+     * @param message the message
+     */
+    @Consumer("deadline.forward")
+    public void onForward(Message<String> message) {
+
+      Vertx.currentContext().owner().eventBus().<String>send("deadline.echo", message.body(), reply -> message.reply(reply.result().body()));
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.injector;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.jspare.core.Environment;
+import org.jspare.vertx.annotation.SharedWorkerExecutor;
+import org.jspare.vertx.concurrent.WorkerPool;
+import org.jspare.vertx.concurrent.WorkerPools;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * The Class SharedWorkerExecutorInjectTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class SharedWorkerExecutorInjectTest {
+
+  /**
+   * The pool.
+   */
+  @SharedWorkerExecutor(name = "inject-test", poolSize = 2)
+  private WorkerPool pool;
+
+  /**
+   * The executor, named by the field.
+   */
+  @SharedWorkerExecutor(poolSize = 1)
+  private WorkerExecutor reports;
+
+  /**
+   * Shared worker executor test.
+   */
+  @Test
+  public void sharedWorkerExecutorTest(TestContext ctx) {
+
+    ctx.assertNotNull(reports);
+    ctx.assertEquals(2, pool.poolSize());
+    ctx.assertTrue(Environment.my(WorkerPools.class).toJson(Environment.my(Vertx.class)).containsKey("reports"));
+
+    Async async = ctx.async();
+    pool.<String>executeBlocking(f -> f.complete(Thread.currentThread().getName()), false, ctx.asyncAssertSuccess(thread -> {
+
+      ctx.assertTrue(thread.startsWith("inject-test"), thread);
+      ctx.assertEquals(1L, pool.completed());
+      ctx.assertEquals(0L, pool.queued());
+      ctx.assertEquals(0L, pool.active());
+      ctx.assertEquals(1L, pool.toJson().getLong("completed"));
+      async.complete();
+    }));
+  }
+
+  /**
+   * Pools by vertx test, the pools of the same name are not shared between vertx and closed with their vertx.
+   */
+  @Test
+  public void poolsByVertxTest(TestContext ctx) {
+
+    WorkerPools pools = Environment.my(WorkerPools.class);
+    Vertx vertx = Environment.my(Vertx.class);
+    Vertx other = Vertx.vertx();
+    WorkerPool pool = pools.pool(vertx, "by-vertx", 1, 60000);
+    ctx.assertTrue(pool == pools.pool(vertx, "by-vertx", 2, 60000));
+    ctx.assertFalse(pool == pools.pool(other, "by-vertx", 1, 60000));
+
+    other.close(ctx.asyncAssertSuccess(v -> {
+
+      ctx.assertFalse(pools.toJson(other).containsKey("by-vertx"));
+      ctx.assertTrue(pools.toJson(vertx).containsKey("by-vertx"));
+    }));
+  }
+}
@@ -1,5 +1,6 @@
 package org.jspare.vertx.internal;
 
+import io.github.lukehutch.fastclasspathscanner.scanner.ScanResult;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.shareddata.SharedData;
 import io.vertx.ext.unit.TestContext;
@@ -10,6 +11,7 @@ import org.jspare.vertx.AbstractModule;
 import org.jspare.vertx.annotation.Module;
 import org.jspare.vertx.annotation.Modules;
 import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.jspare.vertx.utils.ClasspathScannerUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -46,6 +48,20 @@ public class ModuleInitializerTest {
     });
   }
 
+  @Test
+  public void releaseScanTest(TestContext ctx) {
+
+    ScanResult scanResult = ClasspathScannerUtils.scan("org.jspare.vertx.builder");
+    ModuleOne m1 = new ModuleOne();
+    m1.setConfig(new JsonObject());
+
+    initializer.initialize(m1).setHandler(ctx.asyncAssertSuccess(v -> {
+
+      // Scanned again once the initialization released the shared results
+      ctx.assertNotEquals(scanResult, ClasspathScannerUtils.scan("org.jspare.vertx.builder"));
+    }));
+  }
+
   @Test
   public void testAnnotatedConfigValue(TestContext ctx){
     ModuleOne m1 = new ModuleOne();
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016 Jspare.org.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.jspare.vertx.utils;
+
+import io.github.lukehutch.fastclasspathscanner.scanner.ScanResult;
+import org.jspare.vertx.annotation.Consumer;
+import org.jspare.vertx.builder.EventBusCollectorTest;
+import org.jspare.vertx.unit.ext.junit.VertxJspareUnitRunner;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+/**
+ * The Class ClasspathScannerUtilsTest.
+ *
+ * @author <a href="https://pflima92.github.io/">Paulo Lima</a>
+ */
+@RunWith(VertxJspareUnitRunner.class)
+public class ClasspathScannerUtilsTest {
+
+  /**
+   * Shared scan test.
+   */
+  @Test
+  public void sharedScanTest() {
+
+    ScanResult scanResult = ClasspathScannerUtils.scan("org.jspare.vertx.builder");
+    Assert.assertSame(scanResult, ClasspathScannerUtils.scan("org.jspare.vertx.builder.*"));
+
+    List<Class<?>> classes = ClasspathScannerUtils.classesWithMethodAnnotation("org.jspare.vertx.builder", Consumer.class);
+    Assert.assertTrue(classes.contains(EventBusCollectorTest.Consumers.class));
+  }
+
+  /**
+   * Index test.
+   */
+  @Test
+  public void indexTest() {
+
+    System.setProperty(ClasspathIndex.ENABLED_PROPERTY, "true");
+    try {
+
+      ClasspathIndex.reset();
+      Assert.assertTrue(ClasspathIndex.classesWith(Consumer.class.getName()).contains(EventBusCollectorTest.Consumers.class.getName()));
+
+      List<Class<?>> classes = ClasspathScannerUtils.classesWithMethodAnnotation(".*", Consumer.class);
+      Assert.assertTrue(classes.contains(EventBusCollectorTest.Consumers.class));
+      Assert.assertTrue(ClasspathScannerUtils.classesWithMethodAnnotation("org.other", Consumer.class).isEmpty());
+    } finally {
+
+      System.clearProperty(ClasspathIndex.ENABLED_PROPERTY);
+      ClasspathIndex.reset();
+    }
+  }
+}